@@ -0,0 +1,7 @@
+package org.barghos.api.core.consumer.ints;
+
+@FunctionalInterface
+public interface ICons2I
+{
+	void accept(int v0, int v1);
+}
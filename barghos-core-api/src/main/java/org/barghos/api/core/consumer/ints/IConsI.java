@@ -0,0 +1,7 @@
+package org.barghos.api.core.consumer.ints;
+
+@FunctionalInterface
+public interface IConsI
+{
+	void accept(int v0);
+}
@@ -0,0 +1,7 @@
+package org.barghos.api.core.consumer.ints;
+
+@FunctionalInterface
+public interface IConsIF
+{
+	void accept(int v0, float v1);
+}
@@ -0,0 +1,7 @@
+package org.barghos.api.core.consumer.longs;
+
+@FunctionalInterface
+public interface IConsL
+{
+	void accept(long v0);
+}
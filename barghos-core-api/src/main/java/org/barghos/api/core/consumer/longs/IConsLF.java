@@ -0,0 +1,7 @@
+package org.barghos.api.core.consumer.longs;
+
+@FunctionalInterface
+public interface IConsLF
+{
+	void accept(long v0, float v1);
+}
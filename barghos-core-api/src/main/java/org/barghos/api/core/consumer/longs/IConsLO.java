@@ -0,0 +1,7 @@
+package org.barghos.api.core.consumer.longs;
+
+@FunctionalInterface
+public interface IConsLO<V1>
+{
+	void accept(long v0, V1 v1);
+}
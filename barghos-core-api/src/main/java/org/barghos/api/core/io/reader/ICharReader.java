@@ -5,4 +5,26 @@ public interface ICharReader
 	boolean hasNext();
 	char next();
 	char peek();
+	
+	/**
+	 * Reads up to the given number of chars into the array.
+	 * Implementations with an internal buffer should override this with a bulk copy.
+	 *
+	 * @param res The array receiving the chars.
+	 * @param offset The index of the first char in the array.
+	 * @param length The maximum number of chars to read.
+	 *
+	 * @return The number of chars read or -1 if the reader has no chars left.
+	 */
+	default int read(char[] res, int offset, int length)
+	{
+		if(!hasNext()) return -1;
+		
+		int count = 0;
+		
+		while(count < length && hasNext())
+			res[offset + count++] = next();
+		
+		return count;
+	}
 }
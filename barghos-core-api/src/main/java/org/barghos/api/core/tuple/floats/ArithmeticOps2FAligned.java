@@ -1412,4 +1412,74 @@ public final class ArithmeticOps2FAligned
 		
 		return res;
 	}
+	
+	public static float[] tup_addBulk_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, int count)
+	{
+		return ArithmeticOpsBulkF.add(t1, t1Offset, t2, t2Offset, count * 2);
+	}
+	
+	public static float[] tup_addBulk_2fa(float[] t1, int t1Offset, float value, int count)
+	{
+		return ArithmeticOpsBulkF.add(t1, t1Offset, value, count * 2);
+	}
+	
+	public static float[] tup_addBulkT_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.addT(t1, t1Offset, t2, t2Offset, res, resOffset, count * 2);
+	}
+	
+	public static float[] tup_addBulkT_2fa(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.addT(t1, t1Offset, value, res, resOffset, count * 2);
+	}
+	
+	public static float[] tup_subBulk_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, int count)
+	{
+		return ArithmeticOpsBulkF.sub(t1, t1Offset, t2, t2Offset, count * 2);
+	}
+	
+	public static float[] tup_subBulk_2fa(float[] t1, int t1Offset, float value, int count)
+	{
+		return ArithmeticOpsBulkF.sub(t1, t1Offset, value, count * 2);
+	}
+	
+	public static float[] tup_subBulkT_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.subT(t1, t1Offset, t2, t2Offset, res, resOffset, count * 2);
+	}
+	
+	public static float[] tup_subBulkT_2fa(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.subT(t1, t1Offset, value, res, resOffset, count * 2);
+	}
+	
+	public static float[] tup_mulBulk_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, int count)
+	{
+		return ArithmeticOpsBulkF.mul(t1, t1Offset, t2, t2Offset, count * 2);
+	}
+	
+	public static float[] tup_mulBulk_2fa(float[] t1, int t1Offset, float value, int count)
+	{
+		return ArithmeticOpsBulkF.mul(t1, t1Offset, value, count * 2);
+	}
+	
+	public static float[] tup_mulBulkT_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.mulT(t1, t1Offset, t2, t2Offset, res, resOffset, count * 2);
+	}
+	
+	public static float[] tup_mulBulkT_2fa(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.mulT(t1, t1Offset, value, res, resOffset, count * 2);
+	}
+	
+	public static float[] tup_fmaBulk_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, int count)
+	{
+		return ArithmeticOpsBulkF.fma(t1, t1Offset, t2, t2Offset, factor, count * 2);
+	}
+	
+	public static float[] tup_fmaBulkT_2fa(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.fmaT(t1, t1Offset, t2, t2Offset, factor, res, resOffset, count * 2);
+	}
 }
@@ -1604,4 +1604,74 @@ public final class ArithmeticOps3FAligned
 		
 		return res;
 	}
+	
+	public static float[] tup_addBulk_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, int count)
+	{
+		return ArithmeticOpsBulkF.add(t1, t1Offset, t2, t2Offset, count * 3);
+	}
+	
+	public static float[] tup_addBulk_3fa(float[] t1, int t1Offset, float value, int count)
+	{
+		return ArithmeticOpsBulkF.add(t1, t1Offset, value, count * 3);
+	}
+	
+	public static float[] tup_addBulkT_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.addT(t1, t1Offset, t2, t2Offset, res, resOffset, count * 3);
+	}
+	
+	public static float[] tup_addBulkT_3fa(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.addT(t1, t1Offset, value, res, resOffset, count * 3);
+	}
+	
+	public static float[] tup_subBulk_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, int count)
+	{
+		return ArithmeticOpsBulkF.sub(t1, t1Offset, t2, t2Offset, count * 3);
+	}
+	
+	public static float[] tup_subBulk_3fa(float[] t1, int t1Offset, float value, int count)
+	{
+		return ArithmeticOpsBulkF.sub(t1, t1Offset, value, count * 3);
+	}
+	
+	public static float[] tup_subBulkT_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.subT(t1, t1Offset, t2, t2Offset, res, resOffset, count * 3);
+	}
+	
+	public static float[] tup_subBulkT_3fa(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.subT(t1, t1Offset, value, res, resOffset, count * 3);
+	}
+	
+	public static float[] tup_mulBulk_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, int count)
+	{
+		return ArithmeticOpsBulkF.mul(t1, t1Offset, t2, t2Offset, count * 3);
+	}
+	
+	public static float[] tup_mulBulk_3fa(float[] t1, int t1Offset, float value, int count)
+	{
+		return ArithmeticOpsBulkF.mul(t1, t1Offset, value, count * 3);
+	}
+	
+	public static float[] tup_mulBulkT_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.mulT(t1, t1Offset, t2, t2Offset, res, resOffset, count * 3);
+	}
+	
+	public static float[] tup_mulBulkT_3fa(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.mulT(t1, t1Offset, value, res, resOffset, count * 3);
+	}
+	
+	public static float[] tup_fmaBulk_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, int count)
+	{
+		return ArithmeticOpsBulkF.fma(t1, t1Offset, t2, t2Offset, factor, count * 3);
+	}
+	
+	public static float[] tup_fmaBulkT_3fa(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, @ExtractionParam float[] res, int resOffset, int count)
+	{
+		return ArithmeticOpsBulkF.fmaT(t1, t1Offset, t2, t2Offset, factor, res, resOffset, count * 3);
+	}
 }
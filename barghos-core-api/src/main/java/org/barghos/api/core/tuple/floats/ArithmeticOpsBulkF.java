@@ -0,0 +1,203 @@
+package org.barghos.api.core.tuple.floats;
+
+import org.barghos.annotation.ExtractionParam;
+
+/**
+ * This class provides component-wise arithmetic operations over contiguous ranges of float values.
+ * It is the backend of the bulk operations in {@link ArithmeticOps2FAligned},
+ * {@link ArithmeticOps3FAligned} and {@link ArithmeticOps4FAligned}.
+ *
+ * <p>
+ * If the module {@code jdk.incubator.vector} is present in the boot layer, the operations run on
+ * the preferred {@code FloatVector} species of the platform. Otherwise they fall back to scalar
+ * loops. The vector backend can be disabled by setting the system property {@code barghos.simd}
+ * to {@code false}. Use {@link #isVectorized()} and {@link #backend()} to find out which path
+ * is active.
+ */
+public final class ArithmeticOpsBulkF
+{
+	private static final boolean VECTORIZED = probe();
+	
+	private ArithmeticOpsBulkF() { }
+	
+	private static boolean probe()
+	{
+		if(!Boolean.parseBoolean(System.getProperty("barghos.simd", "true"))) return false;
+		
+		if(ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+		
+		try
+		{
+			return ArithmeticOpsVectorF.laneCount() > 1;
+		}
+		catch(LinkageError e)
+		{
+			return false;
+		}
+	}
+	
+	/**
+	 * Returns whether the bulk operations run on the vector API.
+	 *
+	 * @return True if the vector backend is active, false if the scalar backend is active.
+	 */
+	public static boolean isVectorized()
+	{
+		return VECTORIZED;
+	}
+	
+	/**
+	 * Returns a human readable description of the active backend for logging purposes.
+	 *
+	 * @return The description of the active backend.
+	 */
+	public static String backend()
+	{
+		if(VECTORIZED) return "vector(" + ArithmeticOpsVectorF.laneCount() + " lanes)";
+		
+		return "scalar";
+	}
+	
+	public static float[] add(float[] t1, int t1Offset, float[] t2, int t2Offset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.addT(t1, t1Offset, t2, t2Offset, t1, t1Offset, length);
+		
+		for(int i = 0; i < length; i++)
+			t1[t1Offset + i] += t2[t2Offset + i];
+		
+		return t1;
+	}
+	
+	public static float[] add(float[] t1, int t1Offset, float value, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.addT(t1, t1Offset, value, t1, t1Offset, length);
+		
+		for(int i = 0; i < length; i++)
+			t1[t1Offset + i] += value;
+		
+		return t1;
+	}
+	
+	public static float[] addT(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.addT(t1, t1Offset, t2, t2Offset, res, resOffset, length);
+		
+		for(int i = 0; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] + t2[t2Offset + i];
+		
+		return res;
+	}
+	
+	public static float[] addT(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.addT(t1, t1Offset, value, res, resOffset, length);
+		
+		for(int i = 0; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] + value;
+		
+		return res;
+	}
+	
+	public static float[] sub(float[] t1, int t1Offset, float[] t2, int t2Offset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.subT(t1, t1Offset, t2, t2Offset, t1, t1Offset, length);
+		
+		for(int i = 0; i < length; i++)
+			t1[t1Offset + i] -= t2[t2Offset + i];
+		
+		return t1;
+	}
+	
+	public static float[] sub(float[] t1, int t1Offset, float value, int length)
+	{
+		return add(t1, t1Offset, -value, length);
+	}
+	
+	public static float[] subT(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.subT(t1, t1Offset, t2, t2Offset, res, resOffset, length);
+		
+		for(int i = 0; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] - t2[t2Offset + i];
+		
+		return res;
+	}
+	
+	public static float[] subT(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		return addT(t1, t1Offset, -value, res, resOffset, length);
+	}
+	
+	public static float[] mul(float[] t1, int t1Offset, float[] t2, int t2Offset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.mulT(t1, t1Offset, t2, t2Offset, t1, t1Offset, length);
+		
+		for(int i = 0; i < length; i++)
+			t1[t1Offset + i] *= t2[t2Offset + i];
+		
+		return t1;
+	}
+	
+	public static float[] mul(float[] t1, int t1Offset, float value, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.mulT(t1, t1Offset, value, t1, t1Offset, length);
+		
+		for(int i = 0; i < length; i++)
+			t1[t1Offset + i] *= value;
+		
+		return t1;
+	}
+	
+	public static float[] mulT(float[] t1, int t1Offset, float[] t2, int t2Offset, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.mulT(t1, t1Offset, t2, t2Offset, res, resOffset, length);
+		
+		for(int i = 0; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] * t2[t2Offset + i];
+		
+		return res;
+	}
+	
+	public static float[] mulT(float[] t1, int t1Offset, float value, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.mulT(t1, t1Offset, value, res, resOffset, length);
+		
+		for(int i = 0; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] * value;
+		
+		return res;
+	}
+	
+	/**
+	 * Adds the values of the second range multiplied by the factor to the values of the first range.
+	 * This is the typical integration step {@code position += velocity * dt}.
+	 *
+	 * @param t1 The array of the first range.
+	 * @param t1Offset The offset of the first range.
+	 * @param t2 The array of the second range.
+	 * @param t2Offset The offset of the second range.
+	 * @param factor The factor to multiply the values of the second range with.
+	 * @param length The number of values.
+	 *
+	 * @return The array of the first range.
+	 */
+	public static float[] fma(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.fmaT(t1, t1Offset, t2, t2Offset, factor, t1, t1Offset, length);
+		
+		for(int i = 0; i < length; i++)
+			t1[t1Offset + i] += t2[t2Offset + i] * factor;
+		
+		return t1;
+	}
+	
+	public static float[] fmaT(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, @ExtractionParam float[] res, int resOffset, int length)
+	{
+		if(VECTORIZED) return ArithmeticOpsVectorF.fmaT(t1, t1Offset, t2, t2Offset, factor, res, resOffset, length);
+		
+		for(int i = 0; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] + t2[t2Offset + i] * factor;
+		
+		return res;
+	}
+}
@@ -0,0 +1,139 @@
+package org.barghos.api.core.tuple.floats;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class contains the vector API kernels of {@link ArithmeticOpsBulkF}.
+ * It must only be loaded after {@link ArithmeticOpsBulkF} verified that the module
+ * {@code jdk.incubator.vector} is present.
+ */
+final class ArithmeticOpsVectorF
+{
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+	
+	private ArithmeticOpsVectorF() { }
+	
+	static int laneCount()
+	{
+		return SPECIES.length();
+	}
+	
+	static float[] addT(float[] t1, int t1Offset, float[] t2, int t2Offset, float[] res, int resOffset, int length)
+	{
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		
+		for(; i < bound; i += SPECIES.length())
+		{
+			FloatVector a = FloatVector.fromArray(SPECIES, t1, t1Offset + i);
+			FloatVector b = FloatVector.fromArray(SPECIES, t2, t2Offset + i);
+			
+			a.add(b).intoArray(res, resOffset + i);
+		}
+		
+		for(; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] + t2[t2Offset + i];
+		
+		return res;
+	}
+	
+	static float[] addT(float[] t1, int t1Offset, float value, float[] res, int resOffset, int length)
+	{
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		
+		FloatVector b = FloatVector.broadcast(SPECIES, value);
+		
+		for(; i < bound; i += SPECIES.length())
+		{
+			FloatVector a = FloatVector.fromArray(SPECIES, t1, t1Offset + i);
+			
+			a.add(b).intoArray(res, resOffset + i);
+		}
+		
+		for(; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] + value;
+		
+		return res;
+	}
+	
+	static float[] subT(float[] t1, int t1Offset, float[] t2, int t2Offset, float[] res, int resOffset, int length)
+	{
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		
+		for(; i < bound; i += SPECIES.length())
+		{
+			FloatVector a = FloatVector.fromArray(SPECIES, t1, t1Offset + i);
+			FloatVector b = FloatVector.fromArray(SPECIES, t2, t2Offset + i);
+			
+			a.sub(b).intoArray(res, resOffset + i);
+		}
+		
+		for(; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] - t2[t2Offset + i];
+		
+		return res;
+	}
+	
+	static float[] mulT(float[] t1, int t1Offset, float[] t2, int t2Offset, float[] res, int resOffset, int length)
+	{
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		
+		for(; i < bound; i += SPECIES.length())
+		{
+			FloatVector a = FloatVector.fromArray(SPECIES, t1, t1Offset + i);
+			FloatVector b = FloatVector.fromArray(SPECIES, t2, t2Offset + i);
+			
+			a.mul(b).intoArray(res, resOffset + i);
+		}
+		
+		for(; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] * t2[t2Offset + i];
+		
+		return res;
+	}
+	
+	static float[] mulT(float[] t1, int t1Offset, float value, float[] res, int resOffset, int length)
+	{
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		
+		FloatVector b = FloatVector.broadcast(SPECIES, value);
+		
+		for(; i < bound; i += SPECIES.length())
+		{
+			FloatVector a = FloatVector.fromArray(SPECIES, t1, t1Offset + i);
+			
+			a.mul(b).intoArray(res, resOffset + i);
+		}
+		
+		for(; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] * value;
+		
+		return res;
+	}
+	
+	static float[] fmaT(float[] t1, int t1Offset, float[] t2, int t2Offset, float factor, float[] res, int resOffset, int length)
+	{
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		
+		FloatVector f = FloatVector.broadcast(SPECIES, factor);
+		
+		for(; i < bound; i += SPECIES.length())
+		{
+			FloatVector a = FloatVector.fromArray(SPECIES, t1, t1Offset + i);
+			FloatVector b = FloatVector.fromArray(SPECIES, t2, t2Offset + i);
+			
+			b.mul(f).add(a).intoArray(res, resOffset + i);
+		}
+		
+		for(; i < length; i++)
+			res[resOffset + i] = t1[t1Offset + i] + t2[t2Offset + i] * factor;
+		
+		return res;
+	}
+}
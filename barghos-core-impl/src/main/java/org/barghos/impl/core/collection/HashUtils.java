@@ -0,0 +1,58 @@
+package org.barghos.impl.core.collection;
+
+/**
+ * This class provides the hashing used by the open addressing hash maps and sets.
+ */
+public class HashUtils
+{
+	public static final int MAX_TABLE_SIZE = 1 << 30;
+	
+	private static final int INT_PHI = 0x9E3779B9;
+	private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+	
+	private HashUtils() { }
+	
+	/**
+	 * Returns the home slot of the key in a table with 2^(32 - shift) slots.
+	 * The key is spread by fibonacci hashing, so sequential keys like ids are distributed evenly.
+	 *
+	 * @param key The key.
+	 * @param shift The shift of the table.
+	 *
+	 * @return The slot.
+	 */
+	public static int hash(int key, int shift)
+	{
+		return (key * INT_PHI) >>> shift;
+	}
+	
+	/**
+	 * Returns the home slot of the key in a table with 2^(32 - shift) slots.
+	 *
+	 * @param key The key.
+	 * @param shift The shift of the table.
+	 *
+	 * @return The slot.
+	 */
+	public static int hash(long key, int shift)
+	{
+		return (int)((key * LONG_PHI) >>> (shift + 32));
+	}
+	
+	/**
+	 * Returns the power of two table size that holds the expected number of entries within the load factor.
+	 *
+	 * @param expectedSize The expected number of entries.
+	 * @param loadFactor The load factor.
+	 *
+	 * @return The table size.
+	 */
+	public static int tableSize(int expectedSize, float loadFactor)
+	{
+		long minSize = (long)Math.ceil(expectedSize / (double)loadFactor) + 1;
+		
+		if(minSize > MAX_TABLE_SIZE) throw new IllegalArgumentException("The table exceeds the maximum size.");
+		
+		return Math.max(2, Integer.highestOneBit((int)minSize - 1) << 1);
+	}
+}
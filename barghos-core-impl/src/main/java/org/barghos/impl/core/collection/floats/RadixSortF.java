@@ -0,0 +1,513 @@
+package org.barghos.impl.core.collection.floats;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.function.IntConsumer;
+
+import org.barghos.api.core.collection.IndexValuePairF;
+
+/**
+ * This class sorts floats with a least significant digit radix sort in four passes of 8 bits.
+ *
+ * <p>
+ * The floats are not moved. Instead the sort produces the permutation of their indices, so other arrays like particle
+ * attributes can be reordered or drawn in sorted order. The float bits are mapped to ints with the same unsigned order
+ * by {@link #toSortableBits(float)}, so negative values, zeros and infinities are ordered like by {@link Float#compare(float, float)}.
+ * The sort is stable and passes in which all keys share the same digit are skipped.
+ *
+ * <p>
+ * An instance keeps its scratch arrays between sorts, so sorting the same amount of floats every frame does not allocate
+ * after the first sort. An instance must not be used by multiple threads at the same time.
+ */
+public class RadixSortF
+{
+	/**
+	 * The number of floats from which {@link #sortParallel(float[], int, int, boolean, int[])} splits the work.
+	 */
+	public static final int PARALLEL_THRESHOLD = 1 << 16;
+	
+	private static final int RADIX = 256;
+	private static final int PASSES = 4;
+	
+	private int[] keys = new int[0];
+	private int[] tmpKeys = new int[0];
+	private int[] tmpIndices = new int[0];
+	
+	private final int[] histograms = new int[PASSES * RADIX];
+	
+	/**
+	 * The digit counts and offsets per chunk of the parallel sort.
+	 */
+	private int[][] chunkCounts = new int[0][];
+	
+	/**
+	 * Maps the float to an int whose unsigned order matches the order of the floats.
+	 *
+	 * @param value The float.
+	 *
+	 * @return The sortable bits.
+	 */
+	public static int toSortableBits(float value)
+	{
+		int bits = Float.floatToRawIntBits(value);
+		
+		return bits ^ ((bits >> 31) | 0x80000000);
+	}
+	
+	/**
+	 * Maps the sortable bits back to the float.
+	 *
+	 * @param bits The sortable bits.
+	 *
+	 * @return The float.
+	 */
+	public static float fromSortableBits(int bits)
+	{
+		return Float.intBitsToFloat(bits ^ ((~bits >> 31) | 0x80000000));
+	}
+	
+	/**
+	 * Returns the indices of the floats in ascending order.
+	 *
+	 * @param values The floats.
+	 *
+	 * @return The permutation of the indices.
+	 */
+	public int[] sort(float[] values)
+	{
+		return sort(values, 0, values.length, false, new int[values.length]);
+	}
+	
+	/**
+	 * Writes the indices of the floats in the given range in sorted order to the result array.
+	 * The indices refer to the whole array, so they start at the offset.
+	 *
+	 * @param values The floats.
+	 * @param offset The index of the first float.
+	 * @param length The number of floats.
+	 * @param descending True to sort in descending order, for example back to front by depth.
+	 * @param res The array receiving the indices. It must have at least the given length.
+	 *
+	 * @return The result array.
+	 */
+	public int[] sort(float[] values, int offset, int length, boolean descending, int[] res)
+	{
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(0, length, res.length);
+		
+		ensureCapacity(length);
+		
+		if(length == 0) return res;
+		
+		int[] keys = this.keys;
+		int[] histograms = this.histograms;
+		int flip = descending ? -1 : 0;
+		
+		Arrays.fill(histograms, 0);
+		
+		for(int i = 0; i < length; i++)
+		{
+			int key = toSortableBits(values[offset + i]) ^ flip;
+			
+			keys[i] = key;
+			res[i] = offset + i;
+			
+			histograms[key & 0xFF]++;
+			histograms[RADIX + ((key >>> 8) & 0xFF)]++;
+			histograms[2 * RADIX + ((key >>> 16) & 0xFF)]++;
+			histograms[3 * RADIX + (key >>> 24)]++;
+		}
+		
+		int[] indices = res;
+		int[] tmpKeys = this.tmpKeys;
+		int[] tmpIndices = this.tmpIndices;
+		
+		for(int pass = 0; pass < PASSES; pass++)
+		{
+			int shift = pass << 3;
+			int base = pass * RADIX;
+			
+			if(histograms[base + ((keys[0] >>> shift) & 0xFF)] == length) continue;
+			
+			int sum = 0;
+			
+			for(int d = 0; d < RADIX; d++)
+			{
+				int count = histograms[base + d];
+				
+				histograms[base + d] = sum;
+				sum += count;
+			}
+			
+			for(int i = 0; i < length; i++)
+			{
+				int key = keys[i];
+				int target = histograms[base + ((key >>> shift) & 0xFF)]++;
+				
+				tmpKeys[target] = key;
+				tmpIndices[target] = indices[i];
+			}
+			
+			int[] swap = keys;
+			keys = tmpKeys;
+			tmpKeys = swap;
+			
+			swap = indices;
+			indices = tmpIndices;
+			tmpIndices = swap;
+		}
+		
+		if(indices != res) System.arraycopy(indices, 0, res, 0, length);
+		
+		return res;
+	}
+	
+	/**
+	 * Sorts like {@link #sort(float[], int, int, boolean, int[])} and splits the passes over the common fork join pool
+	 * if the range holds at least {@link #PARALLEL_THRESHOLD} floats.
+	 *
+	 * @param values The floats.
+	 * @param offset The index of the first float.
+	 * @param length The number of floats.
+	 * @param descending True to sort in descending order.
+	 * @param res The array receiving the indices. It must have at least the given length.
+	 *
+	 * @return The result array.
+	 */
+	public int[] sortParallel(float[] values, int offset, int length, boolean descending, int[] res)
+	{
+		return sortParallel(values, offset, length, descending, res, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism() + 1);
+	}
+	
+	/**
+	 * Sorts like {@link #sort(float[], int, int, boolean, int[])} and splits every pass into chunks that are
+	 * counted and scattered on the executor. The calling thread takes part in the work.
+	 *
+	 * @param values The floats.
+	 * @param offset The index of the first float.
+	 * @param length The number of floats.
+	 * @param descending True to sort in descending order.
+	 * @param res The array receiving the indices. It must have at least the given length.
+	 * @param executor The executor running the chunks.
+	 * @param parallelism The maximum number of chunks.
+	 *
+	 * @return The result array.
+	 *
+	 * @throws CompletionException If a chunk failed.
+	 */
+	public int[] sortParallel(float[] values, int offset, int length, boolean descending, int[] res, Executor executor, int parallelism)
+	{
+		Objects.checkFromIndexSize(offset, length, values.length);
+		Objects.checkFromIndexSize(0, length, res.length);
+		
+		if(parallelism < 1) throw new IllegalArgumentException();
+		
+		int chunks = Math.min(parallelism, length / (PARALLEL_THRESHOLD / 4));
+		
+		if(length < PARALLEL_THRESHOLD || chunks < 2) return sort(values, offset, length, descending, res);
+		
+		ensureCapacity(length);
+		
+		if(this.chunkCounts.length < chunks)
+		{
+			this.chunkCounts = new int[chunks][];
+			
+			for(int c = 0; c < chunks; c++)
+				this.chunkCounts[c] = new int[PASSES * RADIX];
+		}
+		
+		int[][] counts = this.chunkCounts;
+		int chunkSize = (length + chunks - 1) / chunks;
+		int flip = descending ? -1 : 0;
+		
+		int[][] buffers = { this.keys, res, this.tmpKeys, this.tmpIndices };
+		
+		runParallel(chunks, executor, c -> {
+			int[] keys = buffers[0];
+			int[] indices = buffers[1];
+			int[] histograms = counts[c];
+			
+			Arrays.fill(histograms, 0);
+			
+			int end = Math.min(length, (c + 1) * chunkSize);
+			
+			for(int i = c * chunkSize; i < end; i++)
+			{
+				int key = toSortableBits(values[offset + i]) ^ flip;
+				
+				keys[i] = key;
+				indices[i] = offset + i;
+				
+				histograms[key & 0xFF]++;
+				histograms[RADIX + ((key >>> 8) & 0xFF)]++;
+				histograms[2 * RADIX + ((key >>> 16) & 0xFF)]++;
+				histograms[3 * RADIX + (key >>> 24)]++;
+			}
+		});
+		
+		int[] totals = this.histograms;
+		
+		Arrays.fill(totals, 0);
+		
+		for(int c = 0; c < chunks; c++)
+			for(int i = 0; i < totals.length; i++)
+				totals[i] += counts[c][i];
+		
+		for(int pass = 0; pass < PASSES; pass++)
+		{
+			int shift = pass << 3;
+			int base = pass * RADIX;
+			
+			if(totals[base + ((buffers[0][0] >>> shift) & 0xFF)] == length) continue;
+			
+			// The counts of the first pass are already known, the later passes count the reordered keys again.
+			if(pass > 0)
+			{
+				runParallel(chunks, executor, c -> {
+					int[] keys = buffers[0];
+					int[] histograms = counts[c];
+					
+					Arrays.fill(histograms, base, base + RADIX, 0);
+					
+					int end = Math.min(length, (c + 1) * chunkSize);
+					
+					for(int i = c * chunkSize; i < end; i++)
+						histograms[base + ((keys[i] >>> shift) & 0xFF)]++;
+				});
+			}
+			
+			int sum = 0;
+			
+			for(int d = 0; d < RADIX; d++)
+			{
+				for(int c = 0; c < chunks; c++)
+				{
+					int count = counts[c][base + d];
+					
+					counts[c][base + d] = sum;
+					sum += count;
+				}
+			}
+			
+			runParallel(chunks, executor, c -> {
+				int[] keys = buffers[0];
+				int[] indices = buffers[1];
+				int[] tmpKeys = buffers[2];
+				int[] tmpIndices = buffers[3];
+				int[] offsets = counts[c];
+				
+				int end = Math.min(length, (c + 1) * chunkSize);
+				
+				for(int i = c * chunkSize; i < end; i++)
+				{
+					int key = keys[i];
+					int target = offsets[base + ((key >>> shift) & 0xFF)]++;
+					
+					tmpKeys[target] = key;
+					tmpIndices[target] = indices[i];
+				}
+			});
+			
+			int[] swap = buffers[0];
+			buffers[0] = buffers[2];
+			buffers[2] = swap;
+			
+			swap = buffers[1];
+			buffers[1] = buffers[3];
+			buffers[3] = swap;
+		}
+		
+		if(buffers[1] != res) System.arraycopy(buffers[1], 0, res, 0, length);
+		
+		return res;
+	}
+	
+	/**
+	 * Returns the k largest or smallest floats with their indices, ordered from the largest or smallest on.
+	 * Equal floats are ordered by their index.
+	 *
+	 * @param values The floats.
+	 * @param k The number of floats to select.
+	 * @param largest True to select the largest floats, false to select the smallest.
+	 *
+	 * @return The selected pairs. There are fewer than k pairs if there are fewer floats.
+	 */
+	public static IndexValuePairF[] topK(float[] values, int k, boolean largest)
+	{
+		IndexValuePairF[] res = new IndexValuePairF[Math.min(k, values.length)];
+		
+		topK(values, 0, values.length, k, largest, res);
+		
+		return res;
+	}
+	
+	/**
+	 * Selects the k largest or smallest floats of the range with a bounded heap without sorting the whole range.
+	 * The pairs are ordered from the largest or smallest on, equal floats by their index. Existing pairs in the result
+	 * array are reused, missing pairs are created.
+	 *
+	 * @param values The floats.
+	 * @param offset The index of the first float.
+	 * @param length The number of floats.
+	 * @param k The number of floats to select.
+	 * @param largest True to select the largest floats, false to select the smallest.
+	 * @param res The array receiving the pairs. It must hold at least the number of selected pairs.
+	 *
+	 * @return The number of selected pairs, which is the smaller of k and the length.
+	 */
+	public static int topK(float[] values, int offset, int length, int k, boolean largest, IndexValuePairF[] res)
+	{
+		Objects.checkFromIndexSize(offset, length, values.length);
+		
+		if(k < 0) throw new IllegalArgumentException();
+		
+		int count = Math.min(k, length);
+		
+		Objects.checkFromIndexSize(0, count, res.length);
+		
+		if(count == 0) return 0;
+		
+		// The entries combine the signed sortable bits and the inverted index, so a bigger entry is a better one.
+		long[] heap = new long[count];
+		int flip = largest ? 0 : -1;
+		
+		for(int i = 0; i < count; i++)
+		{
+			heap[i] = entry(values[offset + i], offset + i, flip);
+			
+			siftUp(heap, i);
+		}
+		
+		for(int i = count; i < length; i++)
+		{
+			long entry = entry(values[offset + i], offset + i, flip);
+			
+			if(entry > heap[0])
+			{
+				heap[0] = entry;
+				
+				siftDown(heap, count);
+			}
+		}
+		
+		Arrays.sort(heap);
+		
+		for(int i = 0; i < count; i++)
+		{
+			long entry = heap[count - 1 - i];
+			int index = (int)~entry;
+			
+			IndexValuePairF pair = res[i];
+			
+			if(pair == null)
+			{
+				pair = new IndexValuePairF();
+				
+				res[i] = pair;
+			}
+			
+			pair.set(values[index], index);
+		}
+		
+		return count;
+	}
+	
+	private static long entry(float value, int index, int flip)
+	{
+		int bits = Float.floatToRawIntBits(value);
+		int signed = (bits ^ ((bits >> 31) & 0x7FFFFFFF)) ^ flip;
+		
+		return ((long)signed << 32) | (~index & 0xFFFFFFFFL);
+	}
+	
+	private static void siftUp(long[] heap, int i)
+	{
+		long entry = heap[i];
+		
+		while(i > 0)
+		{
+			int parent = (i - 1) >>> 1;
+			
+			if(heap[parent] <= entry) break;
+			
+			heap[i] = heap[parent];
+			i = parent;
+		}
+		
+		heap[i] = entry;
+	}
+	
+	private static void siftDown(long[] heap, int size)
+	{
+		long entry = heap[0];
+		int i = 0;
+		
+		while(true)
+		{
+			int child = (i << 1) + 1;
+			
+			if(child >= size) break;
+			
+			if(child + 1 < size && heap[child + 1] < heap[child]) child++;
+			
+			if(heap[child] >= entry) break;
+			
+			heap[i] = heap[child];
+			i = child;
+		}
+		
+		heap[i] = entry;
+	}
+	
+	private void ensureCapacity(int length)
+	{
+		if(this.keys.length >= length) return;
+		
+		this.keys = new int[length];
+		this.tmpKeys = new int[length];
+		this.tmpIndices = new int[length];
+	}
+	
+	private static void runParallel(int chunks, Executor executor, IntConsumer task)
+	{
+		@SuppressWarnings("unchecked")
+		FutureTask<Void>[] tasks = new FutureTask[chunks - 1];
+		
+		for(int c = 1; c < chunks; c++)
+		{
+			int chunk = c;
+			
+			tasks[c - 1] = new FutureTask<>(() -> task.accept(chunk), null);
+			
+			executor.execute(tasks[c - 1]);
+		}
+		
+		task.accept(0);
+		
+		for(FutureTask<Void> t : tasks)
+		{
+			// Running a task that was not started yet avoids waiting on a saturated executor.
+			t.run();
+			
+			try
+			{
+				t.get();
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				
+				throw new CompletionException(e);
+			}
+			catch(ExecutionException e)
+			{
+				throw new CompletionException(e.getCause());
+			}
+		}
+	}
+}
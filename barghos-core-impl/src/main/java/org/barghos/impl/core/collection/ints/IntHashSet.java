@@ -0,0 +1,281 @@
+package org.barghos.impl.core.collection.ints;
+
+import java.util.Arrays;
+
+import org.barghos.api.core.consumer.ints.IConsI;
+import org.barghos.impl.core.collection.HashUtils;
+
+/**
+ * This class is a hash set of ints without boxing.
+ *
+ * <p>
+ * The values are stored with open addressing and linear probing like in {@link IntFloatHashMap}. The value 0 marks
+ * free slots and is tracked separately.
+ *
+ * <p>
+ * Iterating with {@link #forEach(IConsI)} does not allocate. The set must not be modified during the iteration.
+ */
+public class IntHashSet
+{
+	public static final int DEFAULT_CAPACITY = 16;
+	public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+	
+	private final float loadFactor;
+	
+	private int[] keys;
+	
+	private int mask;
+	private int shift;
+	private int threshold;
+	
+	/**
+	 * The number of values in the array without the value 0.
+	 */
+	private int count;
+	
+	private boolean hasZeroKey;
+	
+	public IntHashSet()
+	{
+		this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+	}
+	
+	public IntHashSet(int expectedSize)
+	{
+		this(expectedSize, DEFAULT_LOAD_FACTOR);
+	}
+	
+	/**
+	 * Creates a new set.
+	 *
+	 * @param expectedSize The number of values the set can hold without growing.
+	 * @param loadFactor The maximum ratio of values to slots, between 0 and 1 exclusive. Lower values reduce the probe lengths.
+	 */
+	public IntHashSet(int expectedSize, float loadFactor)
+	{
+		if(expectedSize < 0) throw new IllegalArgumentException();
+		if(!(loadFactor > 0.0f && loadFactor < 1.0f)) throw new IllegalArgumentException();
+		
+		this.loadFactor = loadFactor;
+		
+		allocate(HashUtils.tableSize(expectedSize, loadFactor));
+	}
+	
+	public boolean contains(int key)
+	{
+		if(key == 0) return this.hasZeroKey;
+		
+		int[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			int k = keys[i];
+			
+			if(k == key) return true;
+			if(k == 0) return false;
+		}
+	}
+	
+	/**
+	 * Adds the value.
+	 *
+	 * @param key The value.
+	 *
+	 * @return True if the value was not present before.
+	 */
+	public boolean add(int key)
+	{
+		if(key == 0)
+		{
+			boolean added = !this.hasZeroKey;
+			
+			this.hasZeroKey = true;
+			
+			return added;
+		}
+		
+		int[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			int k = keys[i];
+			
+			if(k == key) return false;
+			
+			if(k == 0)
+			{
+				keys[i] = key;
+				
+				if(++this.count > this.threshold) rehash(this.keys.length << 1);
+				
+				return true;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the value.
+	 *
+	 * @param key The value.
+	 *
+	 * @return True if the value was present.
+	 */
+	public boolean remove(int key)
+	{
+		if(key == 0)
+		{
+			boolean removed = this.hasZeroKey;
+			
+			this.hasZeroKey = false;
+			
+			return removed;
+		}
+		
+		int[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			int k = keys[i];
+			
+			if(k == key)
+			{
+				shiftBack(i);
+				
+				return true;
+			}
+			
+			if(k == 0) return false;
+		}
+	}
+	
+	public int size()
+	{
+		return this.count + (this.hasZeroKey ? 1 : 0);
+	}
+	
+	public boolean isEmpty()
+	{
+		return size() == 0;
+	}
+	
+	public void clear()
+	{
+		if(this.count > 0) Arrays.fill(this.keys, 0);
+		
+		this.count = 0;
+		this.hasZeroKey = false;
+	}
+	
+	/**
+	 * Grows the table so the set can hold the given number of values without growing again.
+	 *
+	 * @param expectedSize The number of values.
+	 */
+	public void ensureCapacity(int expectedSize)
+	{
+		int length = HashUtils.tableSize(expectedSize, this.loadFactor);
+		
+		if(length > this.keys.length) rehash(length);
+	}
+	
+	public void forEach(IConsI consumer)
+	{
+		if(this.hasZeroKey) consumer.accept(0);
+		
+		int[] keys = this.keys;
+		
+		for(int i = 0; i < keys.length; i++)
+		{
+			int k = keys[i];
+			
+			if(k != 0) consumer.accept(k);
+		}
+	}
+	
+	public int[] toArray()
+	{
+		int[] res = new int[size()];
+		int index = 0;
+		
+		if(this.hasZeroKey) index++;
+		
+		int[] keys = this.keys;
+		
+		for(int i = 0; i < keys.length; i++)
+		{
+			int k = keys[i];
+			
+			if(k != 0) res[index++] = k;
+		}
+		
+		return res;
+	}
+	
+	private void shiftBack(int gap)
+	{
+		int[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = (gap + 1) & mask;; i = (i + 1) & mask)
+		{
+			int k = keys[i];
+			
+			if(k == 0) break;
+			
+			int home = HashUtils.hash(k, this.shift);
+			
+			// The value can fill the gap if the gap lies between its home slot and its current slot.
+			if(((i - home) & mask) >= ((i - gap) & mask))
+			{
+				keys[gap] = k;
+				
+				gap = i;
+			}
+		}
+		
+		keys[gap] = 0;
+		
+		this.count--;
+	}
+	
+	private void allocate(int length)
+	{
+		this.keys = new int[length];
+		this.mask = length - 1;
+		this.shift = Integer.numberOfLeadingZeros(length) + 1;
+		this.threshold = Math.min((int)(length * this.loadFactor), length - 1);
+	}
+	
+	private void rehash(int length)
+	{
+		int[] oldKeys = this.keys;
+		
+		allocate(length);
+		
+		int[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int j = 0; j < oldKeys.length; j++)
+		{
+			int k = oldKeys[j];
+			
+			if(k == 0) continue;
+			
+			int i = HashUtils.hash(k, this.shift);
+			
+			while(keys[i] != 0)
+				i = (i + 1) & mask;
+			
+			keys[i] = k;
+		}
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "inthashset(size=" + size() + ", capacity=" + this.keys.length + ")";
+	}
+}
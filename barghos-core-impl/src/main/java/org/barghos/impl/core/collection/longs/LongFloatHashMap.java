@@ -0,0 +1,370 @@
+package org.barghos.impl.core.collection.longs;
+
+import java.util.Arrays;
+
+import org.barghos.api.core.consumer.longs.IConsL;
+import org.barghos.api.core.consumer.longs.IConsLF;
+import org.barghos.impl.core.collection.HashUtils;
+
+/**
+ * This class is a hash map from long keys to float values without boxing.
+ *
+ * <p>
+ * The entries are stored in parallel key and value arrays with open addressing and linear probing. The key 0 marks
+ * free slots, so an entry with the key 0 is stored separately. Removed entries are closed by shifting the following
+ * entries back, so no tombstones accumulate. The table doubles when the number of entries exceeds the load factor.
+ *
+ * <p>
+ * Iterating with {@link #forEach(IConsLF)} does not allocate. The map must not be modified during the iteration.
+ */
+public class LongFloatHashMap
+{
+	public static final int DEFAULT_CAPACITY = 16;
+	public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+	
+	private final float loadFactor;
+	
+	/**
+	 * The value returned for missing keys.
+	 */
+	private final float noValue;
+	
+	private long[] keys;
+	private float[] values;
+	
+	private int mask;
+	private int shift;
+	private int threshold;
+	
+	/**
+	 * The number of entries in the arrays without the entry with the key 0.
+	 */
+	private int count;
+	
+	private boolean hasZeroKey;
+	private float zeroValue;
+	
+	public LongFloatHashMap()
+	{
+		this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, 0.0f);
+	}
+	
+	public LongFloatHashMap(int expectedSize)
+	{
+		this(expectedSize, DEFAULT_LOAD_FACTOR, 0.0f);
+	}
+	
+	/**
+	 * Creates a new map.
+	 *
+	 * @param expectedSize The number of entries the map can hold without growing.
+	 * @param loadFactor The maximum ratio of entries to slots, between 0 and 1 exclusive. Lower values reduce the probe lengths.
+	 * @param noValue The value returned by {@link #get(long)} for missing keys.
+	 */
+	public LongFloatHashMap(int expectedSize, float loadFactor, float noValue)
+	{
+		if(expectedSize < 0) throw new IllegalArgumentException();
+		if(!(loadFactor > 0.0f && loadFactor < 1.0f)) throw new IllegalArgumentException();
+		
+		this.loadFactor = loadFactor;
+		this.noValue = noValue;
+		
+		allocate(HashUtils.tableSize(expectedSize, loadFactor));
+	}
+	
+	public float get(long key)
+	{
+		return getOrDefault(key, this.noValue);
+	}
+	
+	public float getOrDefault(long key, float defaultValue)
+	{
+		if(key == 0) return this.hasZeroKey ? this.zeroValue : defaultValue;
+		
+		long[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			long k = keys[i];
+			
+			if(k == key) return this.values[i];
+			if(k == 0) return defaultValue;
+		}
+	}
+	
+	public boolean containsKey(long key)
+	{
+		return slot(key) != -1;
+	}
+	
+	/**
+	 * Puts the value for the key.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 *
+	 * @return The previous value or the no-value of the map if the key was not present.
+	 */
+	public float put(long key, float value)
+	{
+		if(key == 0)
+		{
+			float old = this.hasZeroKey ? this.zeroValue : this.noValue;
+			
+			this.hasZeroKey = true;
+			this.zeroValue = value;
+			
+			return old;
+		}
+		
+		long[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			long k = keys[i];
+			
+			if(k == key)
+			{
+				float old = this.values[i];
+				
+				this.values[i] = value;
+				
+				return old;
+			}
+			
+			if(k == 0)
+			{
+				keys[i] = key;
+				this.values[i] = value;
+				
+				if(++this.count > this.threshold) rehash(this.keys.length << 1);
+				
+				return this.noValue;
+			}
+		}
+	}
+	
+	/**
+	 * Adds the delta to the value of the key. If the key is not present, it is put with the no-value plus the delta.
+	 *
+	 * @param key The key.
+	 * @param delta The delta.
+	 *
+	 * @return The new value.
+	 */
+	public float addTo(long key, float delta)
+	{
+		if(key == 0)
+		{
+			this.zeroValue = (this.hasZeroKey ? this.zeroValue : this.noValue) + delta;
+			this.hasZeroKey = true;
+			
+			return this.zeroValue;
+		}
+		
+		long[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			long k = keys[i];
+			
+			if(k == key) return this.values[i] += delta;
+			
+			if(k == 0)
+			{
+				float value = this.noValue + delta;
+				
+				keys[i] = key;
+				this.values[i] = value;
+				
+				if(++this.count > this.threshold) rehash(this.keys.length << 1);
+				
+				return value;
+			}
+		}
+	}
+	
+	/**
+	 * Removes the entry of the key.
+	 *
+	 * @param key The key.
+	 *
+	 * @return The removed value or the no-value of the map if the key was not present.
+	 */
+	public float remove(long key)
+	{
+		int slot = slot(key);
+		
+		if(slot == -1) return this.noValue;
+		
+		if(slot == -2)
+		{
+			this.hasZeroKey = false;
+			
+			return this.zeroValue;
+		}
+		
+		float old = this.values[slot];
+		
+		shiftBack(slot);
+		
+		return old;
+	}
+	
+	public int size()
+	{
+		return this.count + (this.hasZeroKey ? 1 : 0);
+	}
+	
+	public boolean isEmpty()
+	{
+		return size() == 0;
+	}
+	
+	public void clear()
+	{
+		if(this.count > 0) Arrays.fill(this.keys, 0);
+		
+		this.count = 0;
+		this.hasZeroKey = false;
+	}
+	
+	/**
+	 * Grows the table so the map can hold the given number of entries without growing again.
+	 *
+	 * @param expectedSize The number of entries.
+	 */
+	public void ensureCapacity(int expectedSize)
+	{
+		int length = HashUtils.tableSize(expectedSize, this.loadFactor);
+		
+		if(length > this.keys.length) rehash(length);
+	}
+	
+	public void forEach(IConsLF consumer)
+	{
+		if(this.hasZeroKey) consumer.accept(0, this.zeroValue);
+		
+		long[] keys = this.keys;
+		float[] values = this.values;
+		
+		for(int i = 0; i < keys.length; i++)
+		{
+			long k = keys[i];
+			
+			if(k != 0) consumer.accept(k, values[i]);
+		}
+	}
+	
+	public void forEachKey(IConsL consumer)
+	{
+		if(this.hasZeroKey) consumer.accept(0);
+		
+		long[] keys = this.keys;
+		
+		for(int i = 0; i < keys.length; i++)
+		{
+			long k = keys[i];
+			
+			if(k != 0) consumer.accept(k);
+		}
+	}
+	
+	public float getNoValue()
+	{
+		return this.noValue;
+	}
+	
+	/**
+	 * Returns the slot of the key, -2 for the key 0 if present or -1 if the key is not present.
+	 */
+	private int slot(long key)
+	{
+		if(key == 0) return this.hasZeroKey ? -2 : -1;
+		
+		long[] keys = this.keys;
+		int mask = this.mask;
+		
+		for(int i = HashUtils.hash(key, this.shift);; i = (i + 1) & mask)
+		{
+			long k = keys[i];
+			
+			if(k == key) return i;
+			if(k == 0) return -1;
+		}
+	}
+	
+	private void shiftBack(int gap)
+	{
+		long[] keys = this.keys;
+		float[] values = this.values;
+		int mask = this.mask;
+		
+		for(int i = (gap + 1) & mask;; i = (i + 1) & mask)
+		{
+			long k = keys[i];
+			
+			if(k == 0) break;
+			
+			int home = HashUtils.hash(k, this.shift);
+			
+			// The entry can fill the gap if the gap lies between its home slot and its current slot.
+			if(((i - home) & mask) >= ((i - gap) & mask))
+			{
+				keys[gap] = k;
+				values[gap] = values[i];
+				
+				gap = i;
+			}
+		}
+		
+		keys[gap] = 0;
+		
+		this.count--;
+	}
+	
+	private void allocate(int length)
+	{
+		this.keys = new long[length];
+		this.values = new float[length];
+		this.mask = length - 1;
+		this.shift = Integer.numberOfLeadingZeros(length) + 1;
+		this.threshold = Math.min((int)(length * this.loadFactor), length - 1);
+	}
+	
+	private void rehash(int length)
+	{
+		long[] oldKeys = this.keys;
+		float[] oldValues = this.values;
+		
+		allocate(length);
+		
+		long[] keys = this.keys;
+		float[] values = this.values;
+		int mask = this.mask;
+		
+		for(int j = 0; j < oldKeys.length; j++)
+		{
+			long k = oldKeys[j];
+			
+			if(k == 0) continue;
+			
+			int i = HashUtils.hash(k, this.shift);
+			
+			while(keys[i] != 0)
+				i = (i + 1) & mask;
+			
+			keys[i] = k;
+			values[i] = oldValues[j];
+		}
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "longfloathashmap(size=" + size() + ", capacity=" + this.keys.length + ")";
+	}
+}
@@ -0,0 +1,260 @@
+package org.barghos.impl.core.io.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.barghos.api.core.io.reader.ICharReader;
+import org.barghos.validation.exception.argument.ArgumentNullException;
+import org.barghos.validation.exception.argument.ArgumentTooSmallException;
+
+/**
+ * This class is a char reader over a {@link Reader} that reads the chars in blocks into a reusable window
+ * instead of calling {@link Reader#read()} for every single char.
+ *
+ * <p>
+ * A position can be marked with {@link #mark(int)} and returned to with {@link #reset()}. The window grows if
+ * the marked chars do not fit into it, up to the given read limit.
+ *
+ * <p>
+ * Like {@link DefaultCharReader} over a {@link JavaReaderWrapper}, {@link #next()} and {@link #peek()} return
+ * {@code (char)-1} if the reader has no chars left.
+ */
+public class BufferedCharReader implements ICharReader
+{
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+	
+	private final Reader reader;
+	
+	private char[] buffer;
+	private int position;
+	private int limit;
+	
+	private int mark = -1;
+	private int markLimit;
+	
+	/**
+	 * The number of chars that were discarded from the start of the window.
+	 */
+	private long offset;
+	
+	private boolean eof;
+	
+	public BufferedCharReader(Reader reader)
+	{
+		this(reader, DEFAULT_BUFFER_SIZE);
+	}
+	
+	public BufferedCharReader(Reader reader, int bufferSize)
+	{
+		if(reader == null) throw new ArgumentNullException("reader");
+		if(bufferSize < 1) throw new ArgumentTooSmallException("bufferSize", bufferSize, 1);
+		
+		this.reader = reader;
+		this.buffer = new char[bufferSize];
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		return this.position < this.limit || fill();
+	}
+	
+	@Override
+	public char next()
+	{
+		if(this.position >= this.limit && !fill()) return (char)-1;
+		
+		return this.buffer[this.position++];
+	}
+	
+	@Override
+	public char peek()
+	{
+		if(this.position >= this.limit && !fill()) return (char)-1;
+		
+		return this.buffer[this.position];
+	}
+	
+	@Override
+	public int read(char[] res, int offset, int length)
+	{
+		if(length == 0) return 0;
+		
+		int count = 0;
+		
+		while(count < length)
+		{
+			int available = this.limit - this.position;
+			
+			if(available == 0)
+			{
+				// Large reads without mark bypass the window.
+				if(this.mark < 0 && length - count >= this.buffer.length && !this.eof)
+				{
+					int read = readDirect(res, offset + count, length - count);
+					
+					if(read < 0) break;
+					
+					count += read;
+					
+					continue;
+				}
+				
+				if(!fill()) break;
+				
+				available = this.limit - this.position;
+			}
+			
+			int n = Math.min(available, length - count);
+			
+			System.arraycopy(this.buffer, this.position, res, offset + count, n);
+			
+			this.position += n;
+			count += n;
+		}
+		
+		return count == 0 ? -1 : count;
+	}
+	
+	/**
+	 * Skips up to the given number of chars.
+	 *
+	 * @param count The number of chars to skip.
+	 *
+	 * @return The number of skipped chars.
+	 */
+	public long skip(long count)
+	{
+		long skipped = 0;
+		
+		while(skipped < count && hasNext())
+		{
+			int n = (int)Math.min(this.limit - this.position, count - skipped);
+			
+			this.position += n;
+			skipped += n;
+		}
+		
+		return skipped;
+	}
+	
+	/**
+	 * Marks the current position. A following call to {@link #reset()} returns to this position as long as not
+	 * more than the given number of chars were read after the mark.
+	 *
+	 * @param readLimit The number of chars that can be read before the mark becomes invalid.
+	 */
+	public void mark(int readLimit)
+	{
+		if(readLimit < 0) throw new ArgumentTooSmallException("readLimit", readLimit, 0);
+		
+		this.mark = this.position;
+		this.markLimit = readLimit;
+	}
+	
+	/**
+	 * Returns to the marked position.
+	 *
+	 * @throws IllegalStateException If no position is marked or the mark became invalid.
+	 */
+	public void reset()
+	{
+		if(this.mark < 0) throw new IllegalStateException("The reader has no valid mark.");
+		
+		this.position = this.mark;
+	}
+	
+	/**
+	 * Returns the number of chars read from the start of the reader.
+	 *
+	 * @return The position.
+	 */
+	public long position()
+	{
+		return this.offset + this.position;
+	}
+	
+	public Reader getReader()
+	{
+		return this.reader;
+	}
+	
+	/**
+	 * Reads the next block into the window. Chars from the mark on are kept in the window.
+	 *
+	 * @return True if at least one char was read.
+	 */
+	private boolean fill()
+	{
+		if(this.eof) return false;
+		
+		int keep = this.position;
+		
+		if(this.mark >= 0)
+		{
+			if(this.position - this.mark <= this.markLimit)
+			{
+				keep = this.mark;
+			}
+			else
+			{
+				this.mark = -1;
+			}
+		}
+		
+		if(keep > 0)
+		{
+			int remaining = this.limit - keep;
+			
+			System.arraycopy(this.buffer, keep, this.buffer, 0, remaining);
+			
+			this.offset += keep;
+			this.position -= keep;
+			this.limit = remaining;
+			
+			if(this.mark >= 0) this.mark -= keep;
+		}
+		
+		if(this.limit == this.buffer.length)
+		{
+			char[] buffer = new char[Math.max(this.buffer.length << 1, this.markLimit)];
+			
+			System.arraycopy(this.buffer, 0, buffer, 0, this.limit);
+			
+			this.buffer = buffer;
+		}
+		
+		int read;
+		
+		do
+		{
+			read = readDirect(this.buffer, this.limit, this.buffer.length - this.limit);
+		}
+		while(read == 0);
+		
+		if(read < 0) return false;
+		
+		this.limit += read;
+		
+		return true;
+	}
+	
+	private int readDirect(char[] res, int offset, int length)
+	{
+		int read;
+		
+		try
+		{
+			read = this.reader.read(res, offset, length);
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException(e);
+		}
+		
+		if(read < 0) this.eof = true;
+		else if(res != this.buffer) this.offset += read;
+		
+		return read;
+	}
+}
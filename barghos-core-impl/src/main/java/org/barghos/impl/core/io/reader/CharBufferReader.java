@@ -0,0 +1,222 @@
+package org.barghos.impl.core.io.reader;
+
+import java.nio.CharBuffer;
+
+import org.barghos.api.core.io.reader.ICharReader;
+import org.barghos.validation.exception.argument.ArgumentNullException;
+
+/**
+ * This class is a char reader over an in-memory {@link CharBuffer} or {@link CharSequence}.
+ * The chars are read in place without copying them. If the buffer is backed by an accessible array,
+ * the reader accesses the array directly.
+ *
+ * <p>
+ * The reader uses absolute indices and never changes the position of the buffer.
+ * Any position can be marked with {@link #mark()} and returned to with {@link #reset()}.
+ *
+ * <p>
+ * Like {@link DefaultCharReader} over a {@link JavaReaderWrapper}, {@link #next()} and {@link #peek()} return
+ * {@code (char)-1} if the reader has no chars left.
+ */
+public class CharBufferReader implements ICharReader
+{
+	private final CharBuffer buffer;
+	private final char[] array;
+	private final int arrayOffset;
+	
+	private final int start;
+	private final int end;
+	
+	private int position;
+	private int mark = -1;
+	
+	/**
+	 * Creates a new reader over the remaining chars of the buffer.
+	 *
+	 * @param buffer The buffer.
+	 */
+	public CharBufferReader(CharBuffer buffer)
+	{
+		this(buffer, buffer.position(), buffer.limit());
+	}
+	
+	/**
+	 * Creates a new reader over the chars of the sequence. The sequence is wrapped and not copied.
+	 *
+	 * @param sequence The sequence.
+	 */
+	public CharBufferReader(CharSequence sequence)
+	{
+		this(CharBuffer.wrap(sequence));
+	}
+	
+	/**
+	 * Creates a new reader over the chars of the sequence from start inclusive to end exclusive.
+	 * The sequence is wrapped and not copied.
+	 *
+	 * @param sequence The sequence.
+	 * @param start The index of the first char.
+	 * @param end The index after the last char.
+	 */
+	public CharBufferReader(CharSequence sequence, int start, int end)
+	{
+		this(CharBuffer.wrap(sequence), start, end);
+	}
+	
+	/**
+	 * Creates a new reader over the chars of the buffer from the absolute index start inclusive to end exclusive.
+	 *
+	 * @param buffer The buffer.
+	 * @param start The absolute index of the first char.
+	 * @param end The absolute index after the last char.
+	 */
+	public CharBufferReader(CharBuffer buffer, int start, int end)
+	{
+		if(buffer == null) throw new ArgumentNullException("buffer");
+		if(start < 0 || end < start || end > buffer.limit()) throw new IndexOutOfBoundsException();
+		
+		this.buffer = buffer;
+		this.start = start;
+		this.end = end;
+		this.position = start;
+		
+		if(buffer.hasArray())
+		{
+			this.array = buffer.array();
+			this.arrayOffset = buffer.arrayOffset();
+		}
+		else
+		{
+			this.array = null;
+			this.arrayOffset = 0;
+		}
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		return this.position < this.end;
+	}
+	
+	@Override
+	public char next()
+	{
+		if(this.position >= this.end) return (char)-1;
+		
+		return charAt(this.position++);
+	}
+	
+	@Override
+	public char peek()
+	{
+		if(this.position >= this.end) return (char)-1;
+		
+		return charAt(this.position);
+	}
+	
+	@Override
+	public int read(char[] res, int offset, int length)
+	{
+		if(length == 0) return 0;
+		
+		int count = Math.min(length, this.end - this.position);
+		
+		if(count == 0) return -1;
+		
+		if(this.array != null)
+		{
+			System.arraycopy(this.array, this.arrayOffset + this.position, res, offset, count);
+		}
+		else
+		{
+			this.buffer.get(this.position, res, offset, count);
+		}
+		
+		this.position += count;
+		
+		return count;
+	}
+	
+	/**
+	 * Returns the char at the absolute index of the buffer without moving the reader.
+	 *
+	 * @param index The absolute index.
+	 *
+	 * @return The char.
+	 */
+	public char charAt(int index)
+	{
+		if(this.array != null) return this.array[this.arrayOffset + index];
+		
+		return this.buffer.get(index);
+	}
+	
+	/**
+	 * Skips up to the given number of chars.
+	 *
+	 * @param count The number of chars to skip.
+	 *
+	 * @return The number of skipped chars.
+	 */
+	public int skip(int count)
+	{
+		int skipped = Math.min(count, this.end - this.position);
+		
+		this.position += skipped;
+		
+		return skipped;
+	}
+	
+	/**
+	 * Marks the current position for {@link #reset()}.
+	 */
+	public void mark()
+	{
+		this.mark = this.position;
+	}
+	
+	/**
+	 * Returns to the marked position or to the start if no position is marked.
+	 */
+	public void reset()
+	{
+		this.position = this.mark < 0 ? this.start : this.mark;
+	}
+	
+	/**
+	 * Returns the current absolute index in the buffer.
+	 *
+	 * @return The position.
+	 */
+	public int position()
+	{
+		return this.position;
+	}
+	
+	/**
+	 * Sets the current absolute index in the buffer.
+	 *
+	 * @param position The position between the start and the end of the reader.
+	 */
+	public void position(int position)
+	{
+		if(position < this.start || position > this.end) throw new IndexOutOfBoundsException();
+		
+		this.position = position;
+	}
+	
+	public int getStart()
+	{
+		return this.start;
+	}
+	
+	public int getEnd()
+	{
+		return this.end;
+	}
+	
+	public CharBuffer getBuffer()
+	{
+		return this.buffer;
+	}
+}
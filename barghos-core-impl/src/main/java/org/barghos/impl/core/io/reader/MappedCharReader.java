@@ -0,0 +1,233 @@
+package org.barghos.impl.core.io.reader;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import org.barghos.api.core.io.reader.ICharReader;
+import org.barghos.validation.exception.argument.ArgumentNullException;
+
+/**
+ * This class is a char reader over a range of bytes of a memory segment, usually a memory-mapped file
+ * opened with {@link MappedTextFile}. The bytes are decoded as UTF-8 while they are read, with a fast path
+ * for ASCII. Code points outside of the basic multilingual plane are returned as two surrogate chars.
+ * Malformed sequences are returned as {@code U+FFFD}.
+ *
+ * <p>
+ * Like {@link DefaultCharReader} over a {@link JavaReaderWrapper}, {@link #next()} and {@link #peek()} return
+ * {@code (char)-1} if the reader has no chars left.
+ */
+public class MappedCharReader implements ICharReader
+{
+	private static final char REPLACEMENT = '\uFFFD';
+	
+	private final MemorySegment segment;
+	private final long start;
+	private final long end;
+	
+	private long position;
+	
+	/**
+	 * The low surrogate of a supplementary code point whose high surrogate was already returned, or 0.
+	 */
+	private char pendingLow;
+	
+	/**
+	 * The number of bytes of the code point decoded last by {@link #decode(long)}.
+	 */
+	private int decodedLength;
+	
+	/**
+	 * Creates a new reader over the bytes of the segment from start inclusive to end exclusive.
+	 * The range should start and end at boundaries of UTF-8 sequences.
+	 *
+	 * @param segment The segment.
+	 * @param start The offset of the first byte.
+	 * @param end The offset after the last byte.
+	 */
+	public MappedCharReader(MemorySegment segment, long start, long end)
+	{
+		if(segment == null) throw new ArgumentNullException("segment");
+		if(start < 0 || end < start || end > segment.byteSize()) throw new IndexOutOfBoundsException();
+		
+		this.segment = segment;
+		this.start = start;
+		this.end = end;
+		this.position = start;
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		return this.pendingLow != 0 || this.position < this.end;
+	}
+	
+	@Override
+	public char next()
+	{
+		if(this.pendingLow != 0)
+		{
+			char c = this.pendingLow;
+			this.pendingLow = 0;
+			
+			return c;
+		}
+		
+		if(this.position >= this.end) return (char)-1;
+		
+		byte b = this.segment.get(ValueLayout.JAVA_BYTE, this.position);
+		
+		if(b >= 0)
+		{
+			this.position++;
+			
+			return (char)b;
+		}
+		
+		int codePoint = decode(this.position);
+		
+		this.position += this.decodedLength;
+		
+		if(codePoint > Character.MAX_VALUE)
+		{
+			this.pendingLow = Character.lowSurrogate(codePoint);
+			
+			return Character.highSurrogate(codePoint);
+		}
+		
+		return (char)codePoint;
+	}
+	
+	@Override
+	public char peek()
+	{
+		if(this.pendingLow != 0) return this.pendingLow;
+		
+		if(this.position >= this.end) return (char)-1;
+		
+		byte b = this.segment.get(ValueLayout.JAVA_BYTE, this.position);
+		
+		if(b >= 0) return (char)b;
+		
+		int codePoint = decode(this.position);
+		
+		if(codePoint > Character.MAX_VALUE) return Character.highSurrogate(codePoint);
+		
+		return (char)codePoint;
+	}
+	
+	@Override
+	public int read(char[] res, int offset, int length)
+	{
+		if(length == 0) return 0;
+		if(!hasNext()) return -1;
+		
+		int count = 0;
+		
+		while(count < length && this.position < this.end && this.pendingLow == 0)
+		{
+			byte b = this.segment.get(ValueLayout.JAVA_BYTE, this.position);
+			
+			if(b < 0) break;
+			
+			res[offset + count++] = (char)b;
+			this.position++;
+		}
+		
+		while(count < length && hasNext())
+			res[offset + count++] = next();
+		
+		return count;
+	}
+	
+	/**
+	 * Returns the offset of the next byte in the segment.
+	 *
+	 * @return The position.
+	 */
+	public long position()
+	{
+		return this.position;
+	}
+	
+	public long getStart()
+	{
+		return this.start;
+	}
+	
+	public long getEnd()
+	{
+		return this.end;
+	}
+	
+	public MemorySegment getSegment()
+	{
+		return this.segment;
+	}
+	
+	/**
+	 * Decodes the multi-byte sequence at the offset. The number of bytes of the sequence is stored
+	 * in {@link #decodedLength}.
+	 *
+	 * @return The code point or {@link #REPLACEMENT} if the sequence is malformed.
+	 */
+	private int decode(long offset)
+	{
+		int b0 = this.segment.get(ValueLayout.JAVA_BYTE, offset) & 0xFF;
+		
+		int length;
+		int codePoint;
+		int min;
+		
+		if((b0 & 0xE0) == 0xC0)
+		{
+			length = 2;
+			codePoint = b0 & 0x1F;
+			min = 0x80;
+		}
+		else if((b0 & 0xF0) == 0xE0)
+		{
+			length = 3;
+			codePoint = b0 & 0x0F;
+			min = 0x800;
+		}
+		else if((b0 & 0xF8) == 0xF0)
+		{
+			length = 4;
+			codePoint = b0 & 0x07;
+			min = 0x10000;
+		}
+		else
+		{
+			this.decodedLength = 1;
+			
+			return REPLACEMENT;
+		}
+		
+		if(offset + length > this.end)
+		{
+			this.decodedLength = 1;
+			
+			return REPLACEMENT;
+		}
+		
+		for(int i = 1; i < length; i++)
+		{
+			int b = this.segment.get(ValueLayout.JAVA_BYTE, offset + i) & 0xFF;
+			
+			if((b & 0xC0) != 0x80)
+			{
+				this.decodedLength = i;
+				
+				return REPLACEMENT;
+			}
+			
+			codePoint = (codePoint << 6) | (b & 0x3F);
+		}
+		
+		this.decodedLength = length;
+		
+		if(codePoint < min || codePoint > Character.MAX_CODE_POINT || codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) return REPLACEMENT;
+		
+		return codePoint;
+	}
+}
@@ -0,0 +1,215 @@
+package org.barghos.impl.core.io.reader;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.barghos.validation.exception.argument.ArgumentNullException;
+import org.barghos.validation.exception.argument.ArgumentTooSmallException;
+
+/**
+ * This class maps a UTF-8 or ASCII text file into memory. The file is read through {@link MappedCharReader}s
+ * directly from the mapping, so there is no copy on the heap and no read call per block.
+ * Files larger than 2 GB are supported.
+ *
+ * <p>
+ * {@link #split(int)} cuts the file at line boundaries into ranges that can be read and tokenized
+ * by several threads in parallel. The mapping is shared between threads and stays valid until the file is closed.
+ *
+ * <pre>
+ * try(MappedTextFile file = MappedTextFile.open(path))
+ * {
+ *     for(MappedCharReader reader : file.readers(threads))
+ *         ...
+ * }
+ * </pre>
+ */
+public class MappedTextFile implements AutoCloseable
+{
+	private static final byte LINE_FEED = '\n';
+	
+	private final Arena arena;
+	private final MemorySegment segment;
+	
+	/**
+	 * The offset of the first byte after the byte order mark if there is one.
+	 */
+	private final long textStart;
+	
+	private MappedTextFile(Arena arena, MemorySegment segment)
+	{
+		this.arena = arena;
+		this.segment = segment;
+		
+		long size = segment.byteSize();
+		
+		if(size >= 3 && (segment.get(ValueLayout.JAVA_BYTE, 0) & 0xFF) == 0xEF && (segment.get(ValueLayout.JAVA_BYTE, 1) & 0xFF) == 0xBB && (segment.get(ValueLayout.JAVA_BYTE, 2) & 0xFF) == 0xBF)
+		{
+			this.textStart = 3;
+		}
+		else
+		{
+			this.textStart = 0;
+		}
+	}
+	
+	/**
+	 * Maps the file read-only into memory.
+	 *
+	 * @param path The path of the file.
+	 *
+	 * @return The mapped file.
+	 *
+	 * @throws IOException If the file could not be opened or mapped.
+	 */
+	public static MappedTextFile open(Path path) throws IOException
+	{
+		if(path == null) throw new ArgumentNullException("path");
+		
+		Arena arena = Arena.ofShared();
+		
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			
+			MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0l, size, arena);
+			
+			return new MappedTextFile(arena, segment);
+		}
+		catch(IOException | RuntimeException e)
+		{
+			arena.close();
+			
+			throw e;
+		}
+	}
+	
+	/**
+	 * Returns the size of the file in bytes.
+	 *
+	 * @return The size.
+	 */
+	public long size()
+	{
+		return this.segment.byteSize();
+	}
+	
+	public MemorySegment getSegment()
+	{
+		return this.segment;
+	}
+	
+	/**
+	 * Creates a reader over the whole text of the file.
+	 *
+	 * @return The new reader.
+	 */
+	public MappedCharReader reader()
+	{
+		return new MappedCharReader(this.segment, this.textStart, this.segment.byteSize());
+	}
+	
+	/**
+	 * Creates a reader over the bytes of the file from start inclusive to end exclusive.
+	 *
+	 * @param start The offset of the first byte.
+	 * @param end The offset after the last byte.
+	 *
+	 * @return The new reader.
+	 */
+	public MappedCharReader reader(long start, long end)
+	{
+		return new MappedCharReader(this.segment, Math.max(start, this.textStart), end);
+	}
+	
+	/**
+	 * Splits the text of the file into at most the given number of ranges of about equal size.
+	 * Every range except the last one ends directly after a line feed, so no line and no UTF-8 sequence
+	 * is cut. Ranges that would be empty because of very long lines are left out.
+	 *
+	 * @param parts The maximum number of ranges.
+	 *
+	 * @return The boundaries of the ranges. Range i goes from boundary i inclusive to boundary i + 1 exclusive.
+	 */
+	public long[] split(int parts)
+	{
+		if(parts < 1) throw new ArgumentTooSmallException("parts", parts, 1);
+		
+		long start = this.textStart;
+		long size = this.segment.byteSize();
+		long length = size - start;
+		
+		long[] boundaries = new long[parts + 1];
+		boundaries[0] = start;
+		
+		int count = 0;
+		
+		for(int i = 1; i < parts; i++)
+		{
+			long target = start + length * i / parts;
+			
+			if(target <= boundaries[count]) continue;
+			
+			long boundary = nextLineStart(target - 1);
+			
+			if(boundary >= size) break;
+			if(boundary <= boundaries[count]) continue;
+			
+			boundaries[++count] = boundary;
+		}
+		
+		boundaries[++count] = size;
+		
+		if(count == parts) return boundaries;
+		
+		long[] res = new long[count + 1];
+		System.arraycopy(boundaries, 0, res, 0, count + 1);
+		
+		return res;
+	}
+	
+	/**
+	 * Creates one reader for every range returned by {@link #split(int)}.
+	 *
+	 * @param parts The maximum number of readers.
+	 *
+	 * @return The new readers.
+	 */
+	public MappedCharReader[] readers(int parts)
+	{
+		long[] boundaries = split(parts);
+		
+		MappedCharReader[] readers = new MappedCharReader[boundaries.length - 1];
+		
+		for(int i = 0; i < readers.length; i++)
+			readers[i] = new MappedCharReader(this.segment, boundaries[i], boundaries[i + 1]);
+		
+		return readers;
+	}
+	
+	/**
+	 * Returns the offset after the first line feed at or after the given offset or the size of the file.
+	 */
+	private long nextLineStart(long offset)
+	{
+		long size = this.segment.byteSize();
+		
+		for(long i = offset; i < size; i++)
+			if(this.segment.get(ValueLayout.JAVA_BYTE, i) == LINE_FEED) return i + 1;
+		
+		return size;
+	}
+	
+	/**
+	 * Unmaps the file. The readers of the file must not be used anymore.
+	 */
+	@Override
+	public void close()
+	{
+		this.arena.close();
+	}
+}
@@ -0,0 +1,294 @@
+package org.barghos.impl.core.list.floats;
+
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.barghos.api.core.list.floats.ListWF;
+
+/**
+ * This class is a growable list of floats backed by a heap array.
+ *
+ * <p>
+ * The capacity grows by half of the current capacity if an add exceeds it. The backing array can be accessed
+ * directly by {@link #getArray()} or wrapped by {@link #asBuffer()} without copying, as long as the list does not grow.
+ *
+ * <p>
+ * The indices are checked against the size of the list unless the system property {@code barghos.lists.unchecked}
+ * is set to {@code true}. Without the checks indices between the size and the capacity are not detected.
+ */
+public class ListF implements ListWF
+{
+	public static final int DEFAULT_CAPACITY = 16;
+	
+	/**
+	 * The maximum length of an array that is supported by all virtual machines.
+	 */
+	static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+	
+	static final boolean CHECK_BOUNDS = !Boolean.getBoolean("barghos.lists.unchecked");
+	
+	private float[] array;
+	private int size;
+	
+	public ListF()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+	
+	public ListF(int capacity)
+	{
+		if(capacity < 0) throw new IllegalArgumentException();
+		
+		this.array = new float[capacity];
+	}
+	
+	public ListF(float... values)
+	{
+		this.array = values.clone();
+		this.size = values.length;
+	}
+	
+	public ListF(ListF list)
+	{
+		this.array = Arrays.copyOf(list.array, list.size);
+		this.size = list.size;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float at(int index)
+	{
+		if(CHECK_BOUNDS) Objects.checkIndex(index, this.size);
+		
+		return this.array[index];
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void at(int index, float value)
+	{
+		if(CHECK_BOUNDS) Objects.checkIndex(index, this.size);
+		
+		this.array[index] = value;
+	}
+	
+	public int size()
+	{
+		return this.size;
+	}
+	
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+	
+	public int capacity()
+	{
+		return this.array.length;
+	}
+	
+	public ListF add(float value)
+	{
+		int size = this.size;
+		
+		if(size == this.array.length) grow(size + 1);
+		
+		this.array[size] = value;
+		this.size = size + 1;
+		
+		return this;
+	}
+	
+	public ListF add(float... values)
+	{
+		return add(values, 0, values.length);
+	}
+	
+	public ListF add(float[] values, int offset, int length)
+	{
+		Objects.checkFromIndexSize(offset, length, values.length);
+		
+		int size = this.size;
+		
+		ensureCapacity(size + length);
+		
+		System.arraycopy(values, offset, this.array, size, length);
+		
+		this.size = size + length;
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the remaining floats of the buffer. The position of the buffer is moved to its limit.
+	 *
+	 * @param buffer The buffer to read from.
+	 *
+	 * @return The current list.
+	 */
+	public ListF add(FloatBuffer buffer)
+	{
+		int size = this.size;
+		int length = buffer.remaining();
+		
+		ensureCapacity(size + length);
+		
+		buffer.get(this.array, size, length);
+		
+		this.size = size + length;
+		
+		return this;
+	}
+	
+	public ListF addAll(ListF list)
+	{
+		return add(list.array, 0, list.size);
+	}
+	
+	/**
+	 * Appends the given number of floats and returns the index of the first one. The values of the new floats are undefined
+	 * and are meant to be written directly into the array returned by {@link #getArray()}.
+	 *
+	 * @param length The number of floats.
+	 *
+	 * @return The index of the first appended float.
+	 */
+	public int append(int length)
+	{
+		if(length < 0) throw new IllegalArgumentException();
+		
+		int size = this.size;
+		
+		ensureCapacity(size + length);
+		
+		this.size = size + length;
+		
+		return size;
+	}
+	
+	public float removeLast()
+	{
+		if(this.size == 0) throw new IllegalStateException("The list is empty.");
+		
+		return this.array[--this.size];
+	}
+	
+	/**
+	 * Sets the size of the list. New floats between the old and the new size are undefined.
+	 *
+	 * @param size The new size.
+	 */
+	public void setSize(int size)
+	{
+		if(size < 0) throw new IllegalArgumentException();
+		
+		ensureCapacity(size);
+		
+		this.size = size;
+	}
+	
+	public void clear()
+	{
+		this.size = 0;
+	}
+	
+	public void ensureCapacity(int capacity)
+	{
+		if(capacity > this.array.length) grow(capacity);
+	}
+	
+	public void trimToSize()
+	{
+		if(this.size < this.array.length) this.array = Arrays.copyOf(this.array, this.size);
+	}
+	
+	/**
+	 * Copies the floats of the given range into the array.
+	 *
+	 * @param index The index of the first float in the list.
+	 * @param res The array to copy into.
+	 * @param offset The index in the array to copy to.
+	 * @param length The number of floats.
+	 *
+	 * @return The array.
+	 */
+	public float[] copy(int index, float[] res, int offset, int length)
+	{
+		Objects.checkFromIndexSize(index, length, this.size);
+		
+		System.arraycopy(this.array, index, res, offset, length);
+		
+		return res;
+	}
+	
+	public float[] toArray()
+	{
+		return Arrays.copyOf(this.array, this.size);
+	}
+	
+	/**
+	 * Writes all floats of the list to the buffer at its position and moves the position behind them.
+	 *
+	 * @param buffer The buffer to write to.
+	 *
+	 * @return The buffer.
+	 */
+	public FloatBuffer writeTo(FloatBuffer buffer)
+	{
+		return buffer.put(this.array, 0, this.size);
+	}
+	
+	public ListF copy()
+	{
+		return new ListF(this);
+	}
+	
+	/**
+	 * Returns the backing array. Only the first {@link #size()} floats are part of the list.
+	 * The array is replaced if the list grows.
+	 *
+	 * @return The backing array.
+	 */
+	public float[] getArray()
+	{
+		return this.array;
+	}
+	
+	/**
+	 * Returns a buffer over the floats of the list that shares the backing array.
+	 * The buffer is not updated if the list grows.
+	 *
+	 * @return The buffer.
+	 */
+	public FloatBuffer asBuffer()
+	{
+		return FloatBuffer.wrap(this.array, 0, this.size).slice();
+	}
+	
+	private void grow(int minCapacity)
+	{
+		if(minCapacity < 0 || minCapacity > MAX_ARRAY_LENGTH) throw new OutOfMemoryError("The list exceeds the maximum array length.");
+		
+		int capacity = this.array.length;
+		
+		int newCapacity = (int)Math.min(Math.max(capacity + ((long)capacity >> 1), minCapacity), MAX_ARRAY_LENGTH);
+		
+		this.array = Arrays.copyOf(this.array, Math.max(newCapacity, DEFAULT_CAPACITY));
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder("listf(size=").append(this.size).append(", [");
+		
+		for(int i = 0; i < this.size; i++)
+		{
+			if(i > 0) builder.append(", ");
+			
+			builder.append(this.array[i]);
+		}
+		
+		return builder.append("])").toString();
+	}
+}
@@ -0,0 +1,415 @@
+package org.barghos.impl.core.list.floats;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.Objects;
+
+import org.barghos.api.core.list.floats.LongListWF;
+
+/**
+ * This class is a growable list of floats in native memory with long indices. It can hold more than
+ * {@link Integer#MAX_VALUE} floats.
+ *
+ * <p>
+ * The capacity grows by half of the current capacity if an add exceeds it. Growing allocates a new segment, copies the floats
+ * and frees the old segment, so the segment returned by {@link #asSegment()} and the buffers returned by {@link #asBuffer()}
+ * are only valid until the list grows or is closed. The floats are stored in native byte order and the segment is aligned to
+ * {@link #ALIGNMENT} bytes, so it can be uploaded or mapped without copying.
+ *
+ * <p>
+ * The indices are checked against the size of the list unless the system property {@code barghos.lists.unchecked}
+ * is set to {@code true}. Accesses beyond the capacity are always detected by the segment.
+ *
+ * <p>
+ * The native memory is freed by {@link #close()}. The list can be read from multiple threads,
+ * but it must not be modified concurrently.
+ */
+public class LongListF implements LongListWF, AutoCloseable
+{
+	public static final long DEFAULT_CAPACITY = 16;
+	public static final long ALIGNMENT = 64;
+	
+	private Arena arena;
+	private MemorySegment segment;
+	
+	private long capacity;
+	private long size;
+	
+	public LongListF()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+	
+	public LongListF(long capacity)
+	{
+		if(capacity < 0) throw new IllegalArgumentException();
+		
+		this.arena = Arena.ofShared();
+		this.segment = this.arena.allocate(capacity * Float.BYTES, ALIGNMENT);
+		this.capacity = capacity;
+	}
+	
+	public LongListF(LongListF list)
+	{
+		this(list.size);
+		
+		MemorySegment.copy(list.segment, 0, this.segment, 0, list.size * Float.BYTES);
+		
+		this.size = list.size;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float get(long index)
+	{
+		if(ListF.CHECK_BOUNDS) Objects.checkIndex(index, this.size);
+		
+		return this.segment.getAtIndex(JAVA_FLOAT, index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void at(long index, float value)
+	{
+		if(ListF.CHECK_BOUNDS) Objects.checkIndex(index, this.size);
+		
+		this.segment.setAtIndex(JAVA_FLOAT, index, value);
+	}
+	
+	public long size()
+	{
+		return this.size;
+	}
+	
+	public boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+	
+	public long capacity()
+	{
+		return this.capacity;
+	}
+	
+	public LongListF add(float value)
+	{
+		long size = this.size;
+		
+		if(size == this.capacity) grow(size + 1);
+		
+		this.segment.setAtIndex(JAVA_FLOAT, size, value);
+		this.size = size + 1;
+		
+		return this;
+	}
+	
+	public LongListF add(float... values)
+	{
+		return add(values, 0, values.length);
+	}
+	
+	public LongListF add(float[] values, int offset, int length)
+	{
+		Objects.checkFromIndexSize(offset, length, values.length);
+		
+		long size = this.size;
+		
+		ensureCapacity(size + length);
+		
+		MemorySegment.copy(values, offset, this.segment, JAVA_FLOAT, size * Float.BYTES, length);
+		
+		this.size = size + length;
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the remaining floats of the buffer. The position of the buffer is moved to its limit.
+	 *
+	 * @param buffer The buffer to read from.
+	 *
+	 * @return The current list.
+	 */
+	public LongListF add(FloatBuffer buffer)
+	{
+		int length = buffer.remaining();
+		
+		if(buffer.order() == ByteOrder.nativeOrder() || buffer.hasArray())
+		{
+			addSegment(MemorySegment.ofBuffer(buffer), length);
+			
+			buffer.position(buffer.limit());
+		}
+		else
+		{
+			ensureCapacity(this.size + length);
+			
+			while(buffer.hasRemaining())
+				this.segment.setAtIndex(JAVA_FLOAT, this.size++, buffer.get());
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Adds the floats stored in native byte order in the segment.
+	 *
+	 * @param segment The segment to read from. Its size must be a multiple of {@link Float#BYTES}.
+	 *
+	 * @return The current list.
+	 */
+	public LongListF add(MemorySegment segment)
+	{
+		if(segment.byteSize() % Float.BYTES != 0) throw new IllegalArgumentException();
+		
+		addSegment(segment, segment.byteSize() / Float.BYTES);
+		
+		return this;
+	}
+	
+	public LongListF addAll(LongListF list)
+	{
+		addSegment(list.segment, list.size);
+		
+		return this;
+	}
+	
+	public LongListF addAll(ListF list)
+	{
+		return add(list.getArray(), 0, list.size());
+	}
+	
+	/**
+	 * Appends the given number of floats and returns the index of the first one. The values of the new floats are undefined
+	 * and are meant to be written directly into the segment returned by {@link #asSegment()}.
+	 *
+	 * @param length The number of floats.
+	 *
+	 * @return The index of the first appended float.
+	 */
+	public long append(long length)
+	{
+		if(length < 0) throw new IllegalArgumentException();
+		
+		long size = this.size;
+		
+		ensureCapacity(size + length);
+		
+		this.size = size + length;
+		
+		return size;
+	}
+	
+	public float removeLast()
+	{
+		if(this.size == 0) throw new IllegalStateException("The list is empty.");
+		
+		return this.segment.getAtIndex(JAVA_FLOAT, --this.size);
+	}
+	
+	/**
+	 * Sets the size of the list. New floats between the old and the new size are undefined.
+	 *
+	 * @param size The new size.
+	 */
+	public void setSize(long size)
+	{
+		if(size < 0) throw new IllegalArgumentException();
+		
+		ensureCapacity(size);
+		
+		this.size = size;
+	}
+	
+	public void clear()
+	{
+		this.size = 0;
+	}
+	
+	public void ensureCapacity(long capacity)
+	{
+		if(capacity > this.capacity) grow(capacity);
+	}
+	
+	public void trimToSize()
+	{
+		if(this.size < this.capacity) reallocate(this.size);
+	}
+	
+	/**
+	 * Copies the floats of the given range into the array.
+	 *
+	 * @param index The index of the first float in the list.
+	 * @param res The array to copy into.
+	 * @param offset The index in the array to copy to.
+	 * @param length The number of floats.
+	 *
+	 * @return The array.
+	 */
+	public float[] copy(long index, float[] res, int offset, int length)
+	{
+		Objects.checkFromIndexSize(index, length, this.size);
+		
+		MemorySegment.copy(this.segment, JAVA_FLOAT, index * Float.BYTES, res, offset, length);
+		
+		return res;
+	}
+	
+	public float[] toArray()
+	{
+		if(this.size > ListF.MAX_ARRAY_LENGTH) throw new IllegalStateException("The list is too big for an array.");
+		
+		return copy(0, new float[(int)this.size], 0, (int)this.size);
+	}
+	
+	/**
+	 * Writes all floats of the list to the buffer at its position and moves the position behind them.
+	 *
+	 * @param buffer The buffer to write to.
+	 *
+	 * @return The buffer.
+	 *
+	 * @throws IllegalStateException If the list is too big for a buffer.
+	 * @throws IllegalArgumentException If the list does not fit into the remaining floats of the buffer.
+	 */
+	public FloatBuffer writeTo(FloatBuffer buffer)
+	{
+		long size = this.size;
+		
+		if(size > Integer.MAX_VALUE) throw new IllegalStateException("The list is too big for a buffer. Use asBuffer(long, int) instead.");
+		if(size > buffer.remaining()) throw new IllegalArgumentException("The list does not fit into the buffer.");
+		
+		int length = (int)size;
+		
+		if(buffer.order() == ByteOrder.nativeOrder() || buffer.hasArray())
+		{
+			MemorySegment.copy(this.segment, 0, MemorySegment.ofBuffer(buffer), 0, length * (long)Float.BYTES);
+			
+			buffer.position(buffer.position() + length);
+		}
+		else
+		{
+			for(int i = 0; i < length; i++)
+				buffer.put(this.segment.getAtIndex(JAVA_FLOAT, i));
+		}
+		
+		return buffer;
+	}
+	
+	public LongListF copy()
+	{
+		return new LongListF(this);
+	}
+	
+	/**
+	 * Returns a segment over the floats of the list without copying.
+	 *
+	 * @return The segment.
+	 */
+	public MemorySegment asSegment()
+	{
+		return this.segment.asSlice(0, this.size * Float.BYTES);
+	}
+	
+	/**
+	 * Returns a buffer over the floats of the list without copying.
+	 *
+	 * @return The buffer.
+	 *
+	 * @throws IllegalStateException If the list is too big for a buffer.
+	 */
+	public FloatBuffer asBuffer()
+	{
+		if(this.size > Integer.MAX_VALUE / Float.BYTES) throw new IllegalStateException("The list is too big for a buffer. Use asBuffer(long, int) instead.");
+		
+		return asBuffer(0, (int)this.size);
+	}
+	
+	/**
+	 * Returns a buffer over the given range of the list without copying.
+	 *
+	 * @param index The index of the first float.
+	 * @param length The number of floats.
+	 *
+	 * @return The buffer.
+	 */
+	public FloatBuffer asBuffer(long index, int length)
+	{
+		Objects.checkFromIndexSize(index, length, this.size);
+		
+		return this.segment.asSlice(index * Float.BYTES, length * (long)Float.BYTES).asByteBuffer().order(ByteOrder.nativeOrder()).asFloatBuffer();
+	}
+	
+	/**
+	 * Frees the native memory. The list must not be used afterwards.
+	 */
+	@Override
+	public void close()
+	{
+		if(this.arena == null) return;
+		
+		this.arena.close();
+		this.arena = null;
+		this.segment = MemorySegment.NULL;
+		this.capacity = 0;
+		this.size = 0;
+	}
+	
+	/**
+	 * Appends the floats of the source. The source may be a slice of this list, for example from {@link #asSegment()}.
+	 * Growing frees the old segment, so such a source is re-read from the new segment afterwards.
+	 */
+	private void addSegment(MemorySegment source, long length)
+	{
+		long size = this.size;
+		long bytes = length * Float.BYTES;
+		
+		if(size + length > this.capacity)
+		{
+			long offset = this.segment.asOverlappingSlice(source).isPresent() ? this.segment.segmentOffset(source) : -1;
+			
+			grow(size + length);
+			
+			if(offset >= 0) source = this.segment.asSlice(offset, bytes);
+		}
+		
+		MemorySegment.copy(source, 0, this.segment, size * Float.BYTES, bytes);
+		
+		this.size = size + length;
+	}
+	
+	private void grow(long minCapacity)
+	{
+		if(minCapacity < 0 || minCapacity > Long.MAX_VALUE / Float.BYTES) throw new OutOfMemoryError("The list exceeds the maximum size.");
+		
+		long capacity = this.capacity;
+		
+		reallocate(Math.max(Math.max(capacity + (capacity >> 1), minCapacity), DEFAULT_CAPACITY));
+	}
+	
+	private void reallocate(long capacity)
+	{
+		if(this.arena == null) throw new IllegalStateException("The list is closed.");
+		
+		Arena arena = Arena.ofShared();
+		MemorySegment segment = arena.allocate(capacity * Float.BYTES, ALIGNMENT);
+		
+		MemorySegment.copy(this.segment, 0, segment, 0, Math.min(this.size, capacity) * Float.BYTES);
+		
+		this.arena.close();
+		
+		this.arena = arena;
+		this.segment = segment;
+		this.capacity = capacity;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "longlistf(size=" + this.size + ", capacity=" + this.capacity + ")";
+	}
+}
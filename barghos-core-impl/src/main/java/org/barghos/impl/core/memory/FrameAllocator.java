@@ -0,0 +1,386 @@
+package org.barghos.impl.core.memory;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.barghos.impl.core.collection.ints.IntIntHashMap;
+
+/**
+ * This class is a per-thread frame allocator for temporary objects and float arrays in hot loops.
+ *
+ * <p>
+ * Temporaries are handed out from the allocator of the current thread returned by {@link #current()}
+ * and are all released at once by {@link #reset()}, typically at the end of a frame. Nested scopes can
+ * release only their own temporaries with {@link #mark()} and {@link #reset(long)}.
+ *
+ * <pre>
+ * FrameAllocator frame = FrameAllocator.current();
+ * long mark = frame.mark();
+ *
+ * float[] tmp = frame.floats(3);
+ * Vec3F v = frame.object(VEC3);
+ * ...
+ *
+ * frame.reset(mark);
+ * </pre>
+ *
+ * <p>
+ * Objects and exact-length float arrays are kept in stacks per {@link FrameType}. The instances are created once
+ * by the supplier of the type and reused in every following frame, so after warm up no garbage is created.
+ * Float arrays longer than 32 floats are kept in stacks per length that belong to the allocator only.
+ * Float slices of any length are bumped from a big heap slab with {@link #allocateFloats(int)}.
+ *
+ * <p>
+ * The contents of the temporaries are not cleared. A temporary must not be used after the mark or reset
+ * that released it, and must not be passed to other threads.
+ */
+public final class FrameAllocator
+{
+	public static final int DEFAULT_SLAB_SIZE = 1 << 16;
+	
+	/**
+	 * The longest float array that is handed out by {@link #floats(int)} through the preregistered types.
+	 */
+	private static final int SMALL_ARRAY_LENGTH = 32;
+	
+	private static final AtomicInteger NEXT_TYPE_ID = new AtomicInteger();
+	
+	@SuppressWarnings("unchecked")
+	private static final FrameType<float[]>[] SMALL_ARRAYS = new FrameType[SMALL_ARRAY_LENGTH + 1];
+	
+	private static final ThreadLocal<FrameAllocator> CURRENT = ThreadLocal.withInitial(FrameAllocator::new);
+	
+	static
+	{
+		for(int i = 0; i <= SMALL_ARRAY_LENGTH; i++)
+		{
+			int length = i;
+			
+			SMALL_ARRAYS[i] = FrameType.of(() -> new float[length]);
+		}
+	}
+	
+	private Stack[] stacks = new Stack[16];
+	
+	/**
+	 * The stacks of the float arrays longer than {@link #SMALL_ARRAY_LENGTH}, indexed by the values of {@link #largeArrayIndices}.
+	 */
+	private Stack[] largeArrays = new Stack[4];
+	private int largeArrayCount;
+	
+	/**
+	 * Maps the lengths of the large float arrays to the indices of their stacks.
+	 */
+	private final IntIntHashMap largeArrayIndices = new IntIntHashMap(4, IntIntHashMap.DEFAULT_LOAD_FACTOR, -1);
+	
+	/**
+	 * The type ids of the objects in the order they were handed out. It is used to release objects back to a mark.
+	 * Large float arrays are recorded as the complement of the index of their stack.
+	 */
+	private int[] journal = new int[256];
+	private int journalSize;
+	
+	private float[] slab;
+	
+	/**
+	 * The slabs that were filled in the current frame. They stay valid until the frame is reset.
+	 */
+	private float[][] retiredSlabs = new float[4][];
+	private int retiredCount;
+	
+	/**
+	 * The number of floats in the retired slabs.
+	 */
+	private int retiredFloats;
+	private int slabTop;
+	
+	public FrameAllocator()
+	{
+		this(DEFAULT_SLAB_SIZE);
+	}
+	
+	/**
+	 * Creates a new frame allocator that is not bound to a thread.
+	 *
+	 * @param slabSize The initial number of floats in the slab.
+	 */
+	public FrameAllocator(int slabSize)
+	{
+		if(slabSize < 1) throw new IllegalArgumentException();
+		
+		this.slab = new float[slabSize];
+	}
+	
+	/**
+	 * Returns the frame allocator of the current thread.
+	 *
+	 * @return The frame allocator.
+	 */
+	public static FrameAllocator current()
+	{
+		return CURRENT.get();
+	}
+	
+	/**
+	 * Returns a temporary instance of the type. The state of the instance is left from its last use.
+	 *
+	 * @param <T> The type of the instance.
+	 *
+	 * @param type The type.
+	 *
+	 * @return The instance.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T object(FrameType<T> type)
+	{
+		int id = type.id;
+		
+		if(id >= this.stacks.length) this.stacks = Arrays.copyOf(this.stacks, Math.max(id + 1, this.stacks.length << 1));
+		
+		Stack stack = this.stacks[id];
+		
+		if(stack == null)
+		{
+			stack = new Stack();
+			
+			this.stacks[id] = stack;
+		}
+		
+		Object item = push(stack, id);
+		
+		if(item == null)
+		{
+			item = type.supplier.get();
+			
+			stack.items[stack.top - 1] = item;
+		}
+		
+		return (T)item;
+	}
+	
+	/**
+	 * Returns a temporary float array of exactly the given length. The values are left from its last use.
+	 *
+	 * @param length The length of the array.
+	 *
+	 * @return The array.
+	 */
+	public float[] floats(int length)
+	{
+		if(length < 0) throw new IllegalArgumentException();
+		
+		if(length <= SMALL_ARRAY_LENGTH) return object(SMALL_ARRAYS[length]);
+		
+		int index = this.largeArrayIndices.get(length);
+		
+		if(index == -1)
+		{
+			index = this.largeArrayCount++;
+			
+			if(index == this.largeArrays.length) this.largeArrays = Arrays.copyOf(this.largeArrays, index << 1);
+			
+			this.largeArrays[index] = new Stack();
+			this.largeArrayIndices.put(length, index);
+		}
+		
+		Stack stack = this.largeArrays[index];
+		
+		float[] array = (float[])push(stack, ~index);
+		
+		if(array == null)
+		{
+			array = new float[length];
+			
+			stack.items[stack.top - 1] = array;
+		}
+		
+		return array;
+	}
+	
+	/**
+	 * Bumps a slice of the given number of floats from the slab. The slice starts at the returned offset
+	 * in the array returned by {@link #getSlab()} directly afterwards. If the slab is full, a bigger slab
+	 * replaces it for the following slices, while the slices in the full slab stay valid until the frame is reset.
+	 *
+	 * @param count The number of floats.
+	 *
+	 * @return The offset of the slice in the current slab.
+	 */
+	public int allocateFloats(int count)
+	{
+		if(count < 0) throw new IllegalArgumentException();
+		
+		if(this.slabTop + count > this.slab.length)
+		{
+			if(this.retiredCount == this.retiredSlabs.length) this.retiredSlabs = Arrays.copyOf(this.retiredSlabs, this.retiredCount << 1);
+			
+			this.retiredSlabs[this.retiredCount++] = this.slab;
+			this.retiredFloats += this.slabTop;
+			
+			this.slab = new float[Math.max(this.slab.length << 1, count)];
+			this.slabTop = 0;
+		}
+		
+		int offset = this.slabTop;
+		
+		this.slabTop += count;
+		
+		return offset;
+	}
+	
+	/**
+	 * Returns the slab of the last slice bumped by {@link #allocateFloats(int)}.
+	 *
+	 * @return The current slab.
+	 */
+	public float[] getSlab()
+	{
+		return this.slab;
+	}
+	
+	/**
+	 * Returns the current state of the allocator. Passing it to {@link #reset(long)} releases all temporaries
+	 * handed out after this call.
+	 *
+	 * @return The mark.
+	 */
+	public long mark()
+	{
+		return ((long)this.journalSize << 32) | (this.retiredFloats + this.slabTop);
+	}
+	
+	/**
+	 * Releases all temporaries handed out after the mark was taken.
+	 *
+	 * @param mark The mark returned by {@link #mark()}.
+	 */
+	public void reset(long mark)
+	{
+		int journalSize = (int)(mark >>> 32);
+		int floats = (int)mark;
+		
+		if(journalSize > this.journalSize) throw new IllegalStateException("The mark is not valid anymore.");
+		
+		for(int i = this.journalSize - 1; i >= journalSize; i--)
+			stack(this.journal[i]).top--;
+		
+		this.journalSize = journalSize;
+		
+		if(floats >= this.retiredFloats)
+		{
+			this.slabTop = floats - this.retiredFloats;
+		}
+		else
+		{
+			// Slices of a retired slab stay valid, the bump position just continues in the current slab.
+			this.slabTop = 0;
+		}
+	}
+	
+	/**
+	 * Releases all temporaries. If the slab overflowed during the frame, the retired slabs are dropped and
+	 * the current slab is already big enough for all slices of the frame.
+	 */
+	public void reset()
+	{
+		for(int i = 0; i < this.journalSize; i++)
+			stack(this.journal[i]).top = 0;
+		
+		this.journalSize = 0;
+		
+		if(this.retiredCount > 0)
+		{
+			int needed = this.retiredFloats + this.slabTop;
+			
+			if(this.slab.length < needed) this.slab = new float[needed];
+			
+			Arrays.fill(this.retiredSlabs, 0, this.retiredCount, null);
+			
+			this.retiredCount = 0;
+			this.retiredFloats = 0;
+		}
+		
+		this.slabTop = 0;
+	}
+	
+	/**
+	 * Returns the number of objects and arrays currently handed out.
+	 *
+	 * @return The number of temporaries.
+	 */
+	public int getObjectCount()
+	{
+		return this.journalSize;
+	}
+	
+	/**
+	 * Records the journal entry and moves the top of the stack up by one.
+	 *
+	 * @return The instance at the previous top of the stack or null if it still has to be created.
+	 */
+	private Object push(Stack stack, int entry)
+	{
+		if(this.journalSize == this.journal.length) this.journal = Arrays.copyOf(this.journal, this.journalSize << 1);
+		
+		this.journal[this.journalSize++] = entry;
+		
+		if(stack.top == stack.items.length) stack.items = Arrays.copyOf(stack.items, stack.top << 1);
+		
+		return stack.items[stack.top++];
+	}
+	
+	private Stack stack(int entry)
+	{
+		return entry >= 0 ? this.stacks[entry] : this.largeArrays[~entry];
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "frameallocator(objects=" + this.journalSize + ", floats=" + (this.retiredFloats + this.slabTop) + ", slabSize=" + this.slab.length + ")";
+	}
+	
+	/**
+	 * The stack of the instances of one type.
+	 */
+	private static final class Stack
+	{
+		private Object[] items = new Object[16];
+		private int top;
+	}
+	
+	/**
+	 * This class identifies a type of temporaries and holds the supplier that creates its instances.
+	 * Types should be created once and stored in constants.
+	 *
+	 * @param <T> The type of the instances.
+	 */
+	public static final class FrameType<T>
+	{
+		private final int id;
+		private final Supplier<? extends T> supplier;
+		
+		private FrameType(int id, Supplier<? extends T> supplier)
+		{
+			this.id = id;
+			this.supplier = supplier;
+		}
+		
+		/**
+		 * Creates a new type of temporaries.
+		 *
+		 * @param <T> The type of the instances.
+		 *
+		 * @param supplier The supplier of new instances.
+		 *
+		 * @return The new type.
+		 */
+		public static <T> FrameType<T> of(Supplier<? extends T> supplier)
+		{
+			if(supplier == null) throw new IllegalArgumentException();
+			
+			return new FrameType<>(NEXT_TYPE_ID.getAndIncrement(), supplier);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package org.barghos.impl.core.mesh;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.barghos.impl.core.nio.buffer.FloatBufferUtils;
+import org.barghos.impl.core.nio.buffer.IntBufferUtils;
+
+/**
+ * This class holds the packed vertex and index buffers of a triangle mesh.
+ *
+ * <p>
+ * The vertices are interleaved. Every vertex consists of the position (x, y, z), followed by the
+ * texture coordinates (u, v) if the mesh has texture coordinates, followed by the normal (x, y, z)
+ * if the mesh has normals. The indices describe triangles with three indices each.
+ *
+ * <p>
+ * Both buffers are direct buffers ready to be read from position 0 and are released by {@link #destroy()}.
+ */
+public class Mesh
+{
+	private final FloatBuffer vertices;
+	private final IntBuffer indices;
+	
+	private final int vertexCount;
+	private final int indexCount;
+	
+	private final boolean hasTexCoords;
+	private final boolean hasNormals;
+	
+	public Mesh(FloatBuffer vertices, int vertexCount, IntBuffer indices, int indexCount, boolean hasTexCoords, boolean hasNormals)
+	{
+		this.vertices = vertices;
+		this.vertexCount = vertexCount;
+		this.indices = indices;
+		this.indexCount = indexCount;
+		this.hasTexCoords = hasTexCoords;
+		this.hasNormals = hasNormals;
+	}
+	
+	public FloatBuffer getVertices()
+	{
+		return this.vertices;
+	}
+	
+	public IntBuffer getIndices()
+	{
+		return this.indices;
+	}
+	
+	public int getVertexCount()
+	{
+		return this.vertexCount;
+	}
+	
+	public int getIndexCount()
+	{
+		return this.indexCount;
+	}
+	
+	public int getTriangleCount()
+	{
+		return this.indexCount / 3;
+	}
+	
+	public boolean hasTexCoords()
+	{
+		return this.hasTexCoords;
+	}
+	
+	public boolean hasNormals()
+	{
+		return this.hasNormals;
+	}
+	
+	/**
+	 * Returns the number of floats per vertex.
+	 *
+	 * @return The stride in floats.
+	 */
+	public int getStride()
+	{
+		return stride(this.hasTexCoords, this.hasNormals);
+	}
+	
+	/**
+	 * Returns the offset of the texture coordinates within a vertex.
+	 *
+	 * @return The offset in floats or -1 if the mesh has no texture coordinates.
+	 */
+	public int getTexCoordOffset()
+	{
+		return this.hasTexCoords ? 3 : -1;
+	}
+	
+	/**
+	 * Returns the offset of the normal within a vertex.
+	 *
+	 * @return The offset in floats or -1 if the mesh has no normals.
+	 */
+	public int getNormalOffset()
+	{
+		return this.hasNormals ? (this.hasTexCoords ? 5 : 3) : -1;
+	}
+	
+	/**
+	 * Releases the buffers through the buffer factory.
+	 */
+	public void destroy()
+	{
+		FloatBufferUtils.destroy(this.vertices);
+		IntBufferUtils.destroy(this.indices);
+	}
+	
+	static int stride(boolean hasTexCoords, boolean hasNormals)
+	{
+		return 3 + (hasTexCoords ? 2 : 0) + (hasNormals ? 3 : 0);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "mesh(vertices=" + this.vertexCount + ", triangles=" + getTriangleCount() + ", texCoords=" + this.hasTexCoords + ", normals=" + this.hasNormals + ")";
+	}
+}
@@ -0,0 +1,710 @@
+package org.barghos.impl.core.mesh;
+
+import java.io.IOException;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.barghos.api.core.io.reader.ICharReader;
+import org.barghos.impl.core.io.reader.MappedTextFile;
+import org.barghos.impl.core.nio.buffer.FloatBufferUtils;
+import org.barghos.impl.core.nio.buffer.IntBufferUtils;
+
+/**
+ * This class loads Wavefront OBJ files into a {@link Mesh} with packed, interleaved vertices and an index buffer.
+ *
+ * <p>
+ * The text is read in blocks through {@link ICharReader#read(char[], int, int)} and parsed line by line
+ * without tokens, Strings or tuple objects. Positions ({@code v}), texture coordinates ({@code vt}),
+ * normals ({@code vn}) and faces ({@code f}) are supported. Faces with more than three vertices are
+ * triangulated as fans. All other statements are ignored.
+ *
+ * <p>
+ * Every distinct combination of position, texture coordinate and normal index becomes one vertex.
+ * The combinations are deduplicated with an open addressing hash table of primitive ints.
+ * The indices are written directly into a growing direct buffer and the vertices into a direct buffer
+ * of the exact size.
+ *
+ * <p>
+ * A loader can be reused for several files to reuse its internal arrays. It is not thread safe.
+ */
+public class ObjMeshLoader
+{
+	private static final int BLOCK_SIZE = 1 << 16;
+	
+	private static final double[] POWERS_OF_TEN = new double[23];
+	
+	static
+	{
+		POWERS_OF_TEN[0] = 1.0;
+		
+		for(int i = 1; i < POWERS_OF_TEN.length; i++)
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+	}
+	
+	private boolean flipV;
+	
+	private ICharReader reader;
+	private char[] block = new char[BLOCK_SIZE];
+	private int blockStart;
+	private int blockLimit;
+	private boolean eof;
+	
+	private char[] line;
+	private int pos;
+	private int end;
+	private int lineNumber;
+	
+	private float[] positions = new float[3 * 1024];
+	private int positionCount;
+	
+	private float[] texCoords = new float[2 * 1024];
+	private int texCoordCount;
+	
+	private float[] normals = new float[3 * 1024];
+	private int normalCount;
+	
+	private boolean usesTexCoords;
+	private boolean usesNormals;
+	
+	/**
+	 * The position, texture coordinate and normal index of every vertex. Missing indices are -1.
+	 */
+	private int[] vertexKeys = new int[3 * 1024];
+	private int vertexCount;
+	
+	/**
+	 * The hash table of the vertices. Every slot contains the vertex index plus one or 0 if it is empty.
+	 */
+	private int[] table = new int[2048];
+	
+	private IntBuffer indices;
+	private int indexCount;
+	
+	private int[] faceVertices = new int[16];
+	
+	/**
+	 * Sets whether the v texture coordinate is flipped to 1 - v while loading.
+	 *
+	 * @param flipV True if the v coordinate should be flipped.
+	 *
+	 * @return The current loader.
+	 */
+	public ObjMeshLoader setFlipV(boolean flipV)
+	{
+		this.flipV = flipV;
+		
+		return this;
+	}
+	
+	public boolean isFlipV()
+	{
+		return this.flipV;
+	}
+	
+	/**
+	 * Maps the file into memory and loads the mesh from it.
+	 *
+	 * @param path The path of the file.
+	 *
+	 * @return The new mesh.
+	 *
+	 * @throws IOException If the file could not be read.
+	 */
+	public Mesh load(Path path) throws IOException
+	{
+		try(MappedTextFile file = MappedTextFile.open(path))
+		{
+			return load(file.reader());
+		}
+	}
+	
+	/**
+	 * Loads the mesh from the reader.
+	 *
+	 * @param reader The reader.
+	 *
+	 * @return The new mesh.
+	 *
+	 * @throws IllegalArgumentException If the text contains a malformed number or an index out of range.
+	 */
+	public Mesh load(ICharReader reader)
+	{
+		if(reader == null) throw new IllegalArgumentException();
+		
+		begin(reader);
+		
+		try
+		{
+			while(nextLine())
+				parseLine();
+			
+			return build();
+		}
+		catch(RuntimeException e)
+		{
+			IntBufferUtils.destroy(this.indices);
+			
+			throw e;
+		}
+		finally
+		{
+			this.reader = null;
+			this.indices = null;
+		}
+	}
+	
+	private void begin(ICharReader reader)
+	{
+		this.reader = reader;
+		this.blockStart = 0;
+		this.blockLimit = 0;
+		this.eof = false;
+		this.lineNumber = 0;
+		
+		this.positionCount = 0;
+		this.texCoordCount = 0;
+		this.normalCount = 0;
+		this.usesTexCoords = false;
+		this.usesNormals = false;
+		
+		this.vertexCount = 0;
+		Arrays.fill(this.table, 0);
+		
+		this.indices = IntBufferUtils.direct(3 * 1024);
+		this.indexCount = 0;
+	}
+	
+	/**
+	 * Sets the line fields to the next line of the text without the line separator.
+	 *
+	 * @return False if the text has no lines left.
+	 */
+	private boolean nextLine()
+	{
+		int scan = this.blockStart;
+		
+		while(true)
+		{
+			char[] block = this.block;
+			int limit = this.blockLimit;
+			
+			for(int i = scan; i < limit; i++)
+			{
+				if(block[i] == '\n')
+				{
+					setLine(this.blockStart, i);
+					
+					this.blockStart = i + 1;
+					
+					return true;
+				}
+			}
+			
+			if(this.eof)
+			{
+				if(this.blockStart == limit) return false;
+				
+				setLine(this.blockStart, limit);
+				
+				this.blockStart = limit;
+				
+				return true;
+			}
+			
+			int remaining = limit - this.blockStart;
+			
+			if(this.blockStart > 0)
+			{
+				System.arraycopy(block, this.blockStart, block, 0, remaining);
+				
+				this.blockStart = 0;
+				this.blockLimit = remaining;
+			}
+			else if(remaining == block.length)
+			{
+				this.block = Arrays.copyOf(block, block.length << 1);
+			}
+			
+			scan = remaining;
+			
+			int read = this.reader.read(this.block, this.blockLimit, this.block.length - this.blockLimit);
+			
+			if(read < 0) this.eof = true;
+			else this.blockLimit += read;
+		}
+	}
+	
+	private void setLine(int start, int end)
+	{
+		if(end > start && this.block[end - 1] == '\r') end--;
+		
+		this.line = this.block;
+		this.pos = start;
+		this.end = end;
+		this.lineNumber++;
+	}
+	
+	private void parseLine()
+	{
+		skipSpaces();
+		
+		if(this.pos + 1 >= this.end) return;
+		
+		char c0 = this.line[this.pos];
+		char c1 = this.line[this.pos + 1];
+		
+		if(c0 == 'v')
+		{
+			if(isSpace(c1))
+			{
+				this.pos += 1;
+				
+				parsePosition();
+			}
+			else if(c1 == 't' && this.pos + 2 < this.end && isSpace(this.line[this.pos + 2]))
+			{
+				this.pos += 2;
+				
+				parseTexCoord();
+			}
+			else if(c1 == 'n' && this.pos + 2 < this.end && isSpace(this.line[this.pos + 2]))
+			{
+				this.pos += 2;
+				
+				parseNormal();
+			}
+		}
+		else if(c0 == 'f' && isSpace(c1))
+		{
+			this.pos += 1;
+			
+			parseFace();
+		}
+	}
+	
+	private void parsePosition()
+	{
+		if(this.positionCount * 3 + 3 > this.positions.length) this.positions = Arrays.copyOf(this.positions, this.positions.length << 1);
+		
+		int i = this.positionCount * 3;
+		
+		this.positions[i] = parseFloat();
+		this.positions[i + 1] = parseFloat();
+		this.positions[i + 2] = parseFloat();
+		
+		this.positionCount++;
+	}
+	
+	private void parseTexCoord()
+	{
+		if(this.texCoordCount * 2 + 2 > this.texCoords.length) this.texCoords = Arrays.copyOf(this.texCoords, this.texCoords.length << 1);
+		
+		int i = this.texCoordCount * 2;
+		
+		float u = parseFloat();
+		float v = hasMore() ? parseFloat() : 0.0f;
+		
+		this.texCoords[i] = u;
+		this.texCoords[i + 1] = this.flipV ? 1.0f - v : v;
+		
+		this.texCoordCount++;
+	}
+	
+	private void parseNormal()
+	{
+		if(this.normalCount * 3 + 3 > this.normals.length) this.normals = Arrays.copyOf(this.normals, this.normals.length << 1);
+		
+		int i = this.normalCount * 3;
+		
+		this.normals[i] = parseFloat();
+		this.normals[i + 1] = parseFloat();
+		this.normals[i + 2] = parseFloat();
+		
+		this.normalCount++;
+	}
+	
+	private void parseFace()
+	{
+		int count = 0;
+		
+		while(hasMore())
+		{
+			int position = resolve(parseInt(), this.positionCount, "position");
+			int texCoord = -1;
+			int normal = -1;
+			
+			if(this.pos < this.end && this.line[this.pos] == '/')
+			{
+				this.pos++;
+				
+				if(this.pos < this.end && this.line[this.pos] != '/')
+				{
+					texCoord = resolve(parseInt(), this.texCoordCount, "texture coordinate");
+					
+					this.usesTexCoords = true;
+				}
+				
+				if(this.pos < this.end && this.line[this.pos] == '/')
+				{
+					this.pos++;
+					
+					normal = resolve(parseInt(), this.normalCount, "normal");
+					
+					this.usesNormals = true;
+				}
+			}
+			
+			if(count == this.faceVertices.length) this.faceVertices = Arrays.copyOf(this.faceVertices, count << 1);
+			
+			this.faceVertices[count++] = vertex(position, texCoord, normal);
+		}
+		
+		if(count < 3) throw error("A face needs at least three vertices");
+		
+		for(int i = 2; i < count; i++)
+		{
+			addIndex(this.faceVertices[0]);
+			addIndex(this.faceVertices[i - 1]);
+			addIndex(this.faceVertices[i]);
+		}
+	}
+	
+	/**
+	 * Converts a one-based or negative relative OBJ index into a zero-based index.
+	 */
+	private int resolve(int index, int count, String name)
+	{
+		int res = index < 0 ? count + index : index - 1;
+		
+		if(index == 0 || res < 0 || res >= count) throw error("The " + name + " index " + index + " is out of range");
+		
+		return res;
+	}
+	
+	/**
+	 * Returns the index of the vertex with the given attribute indices and adds it if it does not exist yet.
+	 */
+	private int vertex(int position, int texCoord, int normal)
+	{
+		int[] table = this.table;
+		int mask = table.length - 1;
+		
+		int slot = hash(position, texCoord, normal) & mask;
+		
+		int entry;
+		
+		while((entry = table[slot]) != 0)
+		{
+			int k = (entry - 1) * 3;
+			
+			if(this.vertexKeys[k] == position && this.vertexKeys[k + 1] == texCoord && this.vertexKeys[k + 2] == normal) return entry - 1;
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		int index = this.vertexCount++;
+		
+		if(index * 3 + 3 > this.vertexKeys.length) this.vertexKeys = Arrays.copyOf(this.vertexKeys, this.vertexKeys.length << 1);
+		
+		int k = index * 3;
+		
+		this.vertexKeys[k] = position;
+		this.vertexKeys[k + 1] = texCoord;
+		this.vertexKeys[k + 2] = normal;
+		
+		table[slot] = index + 1;
+		
+		if(this.vertexCount << 1 > table.length) rehash(table.length << 1);
+		
+		return index;
+	}
+	
+	private void rehash(int capacity)
+	{
+		int[] table = new int[capacity];
+		int mask = capacity - 1;
+		
+		for(int index = 0; index < this.vertexCount; index++)
+		{
+			int k = index * 3;
+			
+			int slot = hash(this.vertexKeys[k], this.vertexKeys[k + 1], this.vertexKeys[k + 2]) & mask;
+			
+			while(table[slot] != 0) slot = (slot + 1) & mask;
+			
+			table[slot] = index + 1;
+		}
+		
+		this.table = table;
+	}
+	
+	private static int hash(int position, int texCoord, int normal)
+	{
+		int h = position * 0x9E3779B1 ^ texCoord * 0x85EBCA77 ^ normal * 0xC2B2AE3D;
+		
+		return h ^ (h >>> 16);
+	}
+	
+	private void addIndex(int index)
+	{
+		if(!this.indices.hasRemaining())
+		{
+			IntBuffer indices = IntBufferUtils.direct(this.indices.capacity() << 1);
+			
+			this.indices.flip();
+			indices.put(this.indices);
+			
+			IntBufferUtils.destroy(this.indices);
+			
+			this.indices = indices;
+		}
+		
+		this.indices.put(index);
+		this.indexCount++;
+	}
+	
+	private Mesh build()
+	{
+		boolean hasTexCoords = this.usesTexCoords;
+		boolean hasNormals = this.usesNormals;
+		
+		FloatBuffer vertices = FloatBufferUtils.direct(Math.max(1, this.vertexCount * Mesh.stride(hasTexCoords, hasNormals)));
+		
+		for(int index = 0; index < this.vertexCount; index++)
+		{
+			int k = index * 3;
+			
+			int p = this.vertexKeys[k] * 3;
+			
+			vertices.put(this.positions[p]).put(this.positions[p + 1]).put(this.positions[p + 2]);
+			
+			if(hasTexCoords)
+			{
+				int t = this.vertexKeys[k + 1];
+				
+				if(t < 0) vertices.put(0.0f).put(0.0f);
+				else vertices.put(this.texCoords[t * 2]).put(this.texCoords[t * 2 + 1]);
+			}
+			
+			if(hasNormals)
+			{
+				int n = this.vertexKeys[k + 2];
+				
+				if(n < 0) vertices.put(0.0f).put(0.0f).put(0.0f);
+				else vertices.put(this.normals[n * 3]).put(this.normals[n * 3 + 1]).put(this.normals[n * 3 + 2]);
+			}
+		}
+		
+		vertices.flip();
+		this.indices.flip();
+		
+		return new Mesh(vertices, this.vertexCount, this.indices, this.indexCount, hasTexCoords, hasNormals);
+	}
+	
+	private static boolean isSpace(char c)
+	{
+		return c == ' ' || c == '\t';
+	}
+	
+	private void skipSpaces()
+	{
+		while(this.pos < this.end && isSpace(this.line[this.pos])) this.pos++;
+	}
+	
+	/**
+	 * Skips spaces and returns true if the line has more chars that are not a comment.
+	 */
+	private boolean hasMore()
+	{
+		skipSpaces();
+		
+		return this.pos < this.end && this.line[this.pos] != '#';
+	}
+	
+	private int parseInt()
+	{
+		skipSpaces();
+		
+		char[] line = this.line;
+		int pos = this.pos;
+		int end = this.end;
+		
+		boolean negative = false;
+		
+		if(pos < end && (line[pos] == '-' || line[pos] == '+'))
+		{
+			negative = line[pos] == '-';
+			pos++;
+		}
+		
+		int start = pos;
+		int value = 0;
+		
+		while(pos < end)
+		{
+			char c = line[pos];
+			
+			if(c < '0' || c > '9') break;
+			
+			value = value * 10 + (c - '0');
+			pos++;
+		}
+		
+		if(pos == start) throw error("Expected an index");
+		
+		this.pos = pos;
+		
+		return negative ? -value : value;
+	}
+	
+	/**
+	 * Parses a decimal float with optional sign, fraction and exponent. Other forms like {@code NaN}
+	 * and numbers with a decimal exponent beyond the exact powers of ten are parsed by {@link Float#parseFloat(String)}.
+	 */
+	private float parseFloat()
+	{
+		skipSpaces();
+		
+		char[] line = this.line;
+		int start = this.pos;
+		int pos = start;
+		int end = this.end;
+		
+		boolean negative = false;
+		
+		if(pos < end && (line[pos] == '-' || line[pos] == '+'))
+		{
+			negative = line[pos] == '-';
+			pos++;
+		}
+		
+		long mantissa = 0l;
+		int digits = 0;
+		int exponent = 0;
+		boolean any = false;
+		
+		while(pos < end)
+		{
+			char c = line[pos];
+			
+			if(c < '0' || c > '9') break;
+			
+			if(digits < 18)
+			{
+				mantissa = mantissa * 10 + (c - '0');
+				
+				if(mantissa != 0) digits++;
+			}
+			else
+			{
+				exponent++;
+			}
+			
+			any = true;
+			pos++;
+		}
+		
+		if(pos < end && line[pos] == '.')
+		{
+			pos++;
+			
+			while(pos < end)
+			{
+				char c = line[pos];
+				
+				if(c < '0' || c > '9') break;
+				
+				if(digits < 18)
+				{
+					mantissa = mantissa * 10 + (c - '0');
+					
+					if(mantissa != 0) digits++;
+					
+					exponent--;
+				}
+				
+				any = true;
+				pos++;
+			}
+		}
+		
+		if(any && pos < end && (line[pos] == 'e' || line[pos] == 'E'))
+		{
+			pos++;
+			
+			boolean negativeExponent = false;
+			
+			if(pos < end && (line[pos] == '-' || line[pos] == '+'))
+			{
+				negativeExponent = line[pos] == '-';
+				pos++;
+			}
+			
+			int exponentStart = pos;
+			int value = 0;
+			
+			while(pos < end)
+			{
+				char c = line[pos];
+				
+				if(c < '0' || c > '9') break;
+				
+				if(value < 10000) value = value * 10 + (c - '0');
+				
+				pos++;
+			}
+			
+			if(pos == exponentStart) any = false;
+			
+			exponent += negativeExponent ? -value : value;
+		}
+		
+		if(!any || pos < end && !isSpace(line[pos])) return parseFloatSlow(start);
+		
+		if(mantissa == 0)
+		{
+			this.pos = pos;
+			
+			return negative ? -0.0f : 0.0f;
+		}
+		
+		// Outside of the table the power is not exact and can overflow, so such numbers are left to the slow path.
+		if(exponent <= -POWERS_OF_TEN.length || exponent >= POWERS_OF_TEN.length) return parseFloatSlow(start);
+		
+		this.pos = pos;
+		
+		double value = mantissa;
+		
+		if(exponent < 0) value = value / POWERS_OF_TEN[-exponent];
+		else if(exponent > 0) value = value * POWERS_OF_TEN[exponent];
+		
+		return (float)(negative ? -value : value);
+	}
+	
+	private float parseFloatSlow(int start)
+	{
+		int pos = start;
+		
+		while(pos < this.end && !isSpace(this.line[pos])) pos++;
+		
+		this.pos = pos;
+		
+		if(pos == start) throw error("Expected a number");
+		
+		try
+		{
+			return Float.parseFloat(new String(this.line, start, pos - start));
+		}
+		catch(NumberFormatException e)
+		{
+			throw error("Malformed number \"" + new String(this.line, start, pos - start) + "\"");
+		}
+	}
+	
+	private IllegalArgumentException error(String message)
+	{
+		return new IllegalArgumentException(message + " in line " + this.lineNumber + ".");
+	}
+}
@@ -0,0 +1,249 @@
+package org.barghos.impl.core.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.barghos.annotation.AllowNull;
+import org.barghos.annotation.ExtractionParam;
+import org.barghos.impl.core.metrics.Stopwatch.Resolution;
+
+/**
+ * This class is the thread safe recorder variant of {@link LatencyHistogram}.
+ * Several threads can record samples at the same time without locking and without allocation.
+ * Queries are done on snapshots taken with {@link #snapshot()} or {@link #snapshotThenReset()}.
+ * 
+ * <p>
+ * The samples are recorded into one of two buffers. {@link #snapshotThenReset()} switches the recording threads
+ * to the other buffer and waits until all samples that were started on the previous buffer are complete, so every
+ * sample ends up in exactly one interval and each interval is a consistent view. A snapshot taken with
+ * {@link #snapshot()} while other threads are recording is not an atomic view.
+ */
+public class ConcurrentLatencyHistogram
+{
+	private final HistogramLayout layout;
+	private final Resolution timeResolution;
+	
+	/**
+	 * The counters of the recording threads. The sign tells which of the end counters belongs to the current phase.
+	 */
+	private final AtomicLong startEpoch = new AtomicLong();
+	private final AtomicLong evenEndEpoch = new AtomicLong();
+	private final AtomicLong oddEndEpoch = new AtomicLong(Long.MIN_VALUE);
+	
+	private volatile Buffer active;
+	private Buffer inactive;
+	
+	/**
+	 * Creates a new histogram for nanosecond samples of up to one minute with the default precision.
+	 */
+	public ConcurrentLatencyHistogram()
+	{
+		this(LatencyHistogram.DEFAULT_HIGHEST_TRACKABLE_VALUE, LatencyHistogram.DEFAULT_PRECISION_BITS, Stopwatch.DEFAULT_TIME_RESOLUTION);
+	}
+	
+	/**
+	 * Creates a new histogram.
+	 * 
+	 * @param highestTrackableValue The highest value that can be told apart. Higher values are counted in the last bucket.
+	 * @param precisionBits The number of bits of precision of each bucket between 1 and 16.
+	 * @param timeResolution The unit of the recorded values or null for nanoseconds.
+	 */
+	public ConcurrentLatencyHistogram(long highestTrackableValue, int precisionBits, @AllowNull Resolution timeResolution)
+	{
+		this.layout = new HistogramLayout(highestTrackableValue, precisionBits);
+		this.timeResolution = Objects.requireNonNullElse(timeResolution, Stopwatch.DEFAULT_TIME_RESOLUTION);
+		
+		this.active = new Buffer(this.layout.bucketCount);
+		this.inactive = new Buffer(this.layout.bucketCount);
+	}
+	
+	public ConcurrentLatencyHistogram record(long value)
+	{
+		long epoch = this.startEpoch.getAndIncrement();
+		
+		try
+		{
+			this.active.record(this.layout.indexOf(value), value);
+		}
+		finally
+		{
+			if(epoch < 0) this.oddEndEpoch.getAndIncrement();
+			else this.evenEndEpoch.getAndIncrement();
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Records the delta of the stopwatch converted to the resolution of the histogram.
+	 * 
+	 * @param stopwatch The stopwatch.
+	 * 
+	 * @return The current histogram.
+	 */
+	public ConcurrentLatencyHistogram record(Stopwatch stopwatch)
+	{
+		return record(LatencyHistogram.convert(stopwatch.getDelta(), stopwatch.getResolution().unitsPerSecond(), this.timeResolution.unitsPerSecond()));
+	}
+	
+	public Resolution getResolution()
+	{
+		return this.timeResolution;
+	}
+	
+	/**
+	 * Returns a new histogram containing the samples recorded so far.
+	 * 
+	 * @return The snapshot.
+	 */
+	public LatencyHistogram snapshot()
+	{
+		return snapshot(new LatencyHistogram(this.layout.highestTrackableValue, this.layout.precisionBits, this.timeResolution));
+	}
+	
+	/**
+	 * Writes the samples recorded so far into the given histogram, replacing its samples.
+	 * This allows polling without allocation.
+	 * 
+	 * @param res The extraction histogram. It needs the same highest trackable value, precision and resolution.
+	 * 
+	 * @return The extraction histogram.
+	 */
+	public LatencyHistogram snapshot(@ExtractionParam LatencyHistogram res)
+	{
+		return collect(res, false);
+	}
+	
+	/**
+	 * Returns a new histogram containing the samples recorded since the last reset and resets the recorder.
+	 * 
+	 * @return The snapshot.
+	 */
+	public LatencyHistogram snapshotThenReset()
+	{
+		return snapshotThenReset(new LatencyHistogram(this.layout.highestTrackableValue, this.layout.precisionBits, this.timeResolution));
+	}
+	
+	/**
+	 * Writes the samples recorded since the last reset into the given histogram, replacing its samples,
+	 * and resets the recorder.
+	 * 
+	 * @param res The extraction histogram. It needs the same highest trackable value, precision and resolution.
+	 * 
+	 * @return The extraction histogram.
+	 */
+	public LatencyHistogram snapshotThenReset(@ExtractionParam LatencyHistogram res)
+	{
+		return collect(res, true);
+	}
+	
+	private synchronized LatencyHistogram collect(LatencyHistogram res, boolean reset)
+	{
+		if(!this.layout.isCompatible(res.layout) || this.timeResolution != res.getResolution()) throw new IllegalArgumentException();
+		
+		if(!reset) return this.active.copyTo(res);
+		
+		Buffer buffer = this.active;
+		
+		this.active = this.inactive;
+		this.inactive = buffer;
+		
+		flipPhase();
+		
+		buffer.copyTo(res);
+		buffer.reset();
+		
+		return res;
+	}
+	
+	/**
+	 * Starts a new phase of the recording threads and waits until all threads that started recording in
+	 * the previous phase are done.
+	 */
+	private void flipPhase()
+	{
+		boolean nextPhaseIsEven = this.startEpoch.get() < 0;
+		
+		long initialEpoch;
+		
+		if(nextPhaseIsEven)
+		{
+			initialEpoch = 0;
+			this.evenEndEpoch.set(initialEpoch);
+		}
+		else
+		{
+			initialEpoch = Long.MIN_VALUE;
+			this.oddEndEpoch.set(initialEpoch);
+		}
+		
+		long epochAtFlip = this.startEpoch.getAndSet(initialEpoch);
+		
+		AtomicLong previousEndEpoch = nextPhaseIsEven ? this.oddEndEpoch : this.evenEndEpoch;
+		
+		while(previousEndEpoch.get() != epochAtFlip)
+			Thread.yield();
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "concurrentlatencyhistogram(resolution=" + this.timeResolution.name() + ")";
+	}
+	
+	/**
+	 * The samples of one interval.
+	 */
+	private static final class Buffer
+	{
+		private final AtomicLongArray counts;
+		
+		private final LongAdder sum = new LongAdder();
+		private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+		private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+		
+		private Buffer(int bucketCount)
+		{
+			this.counts = new AtomicLongArray(bucketCount);
+		}
+		
+		private void record(int index, long value)
+		{
+			this.counts.getAndIncrement(index);
+			this.sum.add(value);
+			
+			if(value < this.min.get()) this.min.accumulateAndGet(value, Math::min);
+			if(value > this.max.get()) this.max.accumulateAndGet(value, Math::max);
+		}
+		
+		private LatencyHistogram copyTo(LatencyHistogram res)
+		{
+			res.reset();
+			
+			long total = 0;
+			for(int i = 0; i < res.counts.length; i++)
+			{
+				long count = this.counts.get(i);
+				
+				res.counts[i] = count;
+				total += count;
+			}
+			
+			if(total > 0) res.merge(total, this.sum.sum(), this.min.get(), this.max.get());
+			
+			return res;
+		}
+		
+		private void reset()
+		{
+			for(int i = 0; i < this.counts.length(); i++)
+				this.counts.set(i, 0l);
+			
+			this.sum.reset();
+			this.min.set(Long.MAX_VALUE);
+			this.max.set(Long.MIN_VALUE);
+		}
+	}
+}
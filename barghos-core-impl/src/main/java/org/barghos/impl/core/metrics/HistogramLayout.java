@@ -0,0 +1,69 @@
+package org.barghos.impl.core.metrics;
+
+/**
+ * This class maps values to the buckets of a log-linear histogram.
+ * Values below {@code 2^precisionBits} get one bucket each. Every following power of two range is split
+ * into {@code 2^precisionBits} buckets of equal width, so the relative error of a bucket is at most
+ * {@code 2^-precisionBits}.
+ */
+final class HistogramLayout
+{
+	final int precisionBits;
+	final long highestTrackableValue;
+	final int bucketCount;
+	
+	private final int subBucketCount;
+	
+	HistogramLayout(long highestTrackableValue, int precisionBits)
+	{
+		if(precisionBits < 1 || precisionBits > 16) throw new IllegalArgumentException();
+		if(highestTrackableValue < 1) throw new IllegalArgumentException();
+		
+		this.precisionBits = precisionBits;
+		this.highestTrackableValue = highestTrackableValue;
+		this.subBucketCount = 1 << precisionBits;
+		this.bucketCount = indexOfUnclamped(highestTrackableValue) + 1;
+	}
+	
+	int indexOf(long value)
+	{
+		if(value <= 0) return 0;
+		if(value >= this.highestTrackableValue) return this.bucketCount - 1;
+		
+		return indexOfUnclamped(value);
+	}
+	
+	private int indexOfUnclamped(long value)
+	{
+		if(value < this.subBucketCount) return (int)value;
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int shift = exponent - this.precisionBits;
+		
+		return ((shift + 1) << this.precisionBits) + (int)((value >>> shift) - this.subBucketCount);
+	}
+	
+	long lowestValueAt(int index)
+	{
+		if(index < this.subBucketCount) return index;
+		
+		int shift = (index >>> this.precisionBits) - 1;
+		long sub = (index & (this.subBucketCount - 1)) + this.subBucketCount;
+		
+		return sub << shift;
+	}
+	
+	long highestValueAt(int index)
+	{
+		if(index < this.subBucketCount) return index;
+		
+		int shift = (index >>> this.precisionBits) - 1;
+		
+		return lowestValueAt(index) + (1l << shift) - 1;
+	}
+	
+	boolean isCompatible(HistogramLayout other)
+	{
+		return this.precisionBits == other.precisionBits && this.bucketCount == other.bucketCount;
+	}
+}
@@ -0,0 +1,365 @@
+package org.barghos.impl.core.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import org.barghos.annotation.AllowNull;
+import org.barghos.annotation.ExtractionParam;
+import org.barghos.impl.core.metrics.Stopwatch.Resolution;
+
+/**
+ * This class is a fixed-memory histogram of latency samples with log-linear buckets.
+ * All buckets are allocated on construction, so recording a sample is O(1) and never allocates.
+ * The relative error of the reported values is at most {@code 2^-precisionBits}.
+ * 
+ * <p>
+ * Samples are recorded in the unit of the {@link Resolution} of the histogram. The histogram can time
+ * samples itself with {@link #start()} and {@link #stop()} using the same kind of time supplier as
+ * {@link Stopwatch}, or take the delta of a {@link Stopwatch} or {@link CumulativeStopwatch}.
+ * 
+ * <p>
+ * Histograms with the same configuration can be merged with {@link #add(LatencyHistogram)}.
+ * This class is not thread safe. Use {@link ConcurrentLatencyHistogram} to record from several threads.
+ */
+public class LatencyHistogram
+{
+	public static final int DEFAULT_PRECISION_BITS = 7;
+	public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = 60l * 1000 * 1000 * 1000;
+	
+	final HistogramLayout layout;
+	final long[] counts;
+	
+	private final Resolution timeResolution;
+	
+	private transient LongSupplier timeSupplier = Stopwatch.DEFAULT_TIME_SUPPLIER;
+	private transient long startTime;
+	
+	private long totalCount;
+	private long sum;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+	
+	/**
+	 * Creates a new histogram for nanosecond samples of up to one minute with the default precision.
+	 */
+	public LatencyHistogram()
+	{
+		this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_PRECISION_BITS, Stopwatch.DEFAULT_TIME_RESOLUTION);
+	}
+	
+	/**
+	 * Creates a new histogram.
+	 * 
+	 * @param highestTrackableValue The highest value that can be told apart. Higher values are counted in the last bucket.
+	 * @param precisionBits The number of bits of precision of each bucket between 1 and 16.
+	 * @param timeResolution The unit of the recorded values or null for nanoseconds.
+	 */
+	public LatencyHistogram(long highestTrackableValue, int precisionBits, @AllowNull Resolution timeResolution)
+	{
+		this.layout = new HistogramLayout(highestTrackableValue, precisionBits);
+		this.counts = new long[this.layout.bucketCount];
+		this.timeResolution = Objects.requireNonNullElse(timeResolution, Stopwatch.DEFAULT_TIME_RESOLUTION);
+	}
+	
+	/**
+	 * Sets the time supplier used by {@link #start()} and {@link #stop()}.
+	 * The time supplier has to return values in the resolution of the histogram.
+	 * 
+	 * @param timeSupplier The time supplier.
+	 * 
+	 * @return The current histogram.
+	 */
+	public LatencyHistogram setTimeSupplier(LongSupplier timeSupplier)
+	{
+		this.timeSupplier = Objects.requireNonNull(timeSupplier);
+		
+		return this;
+	}
+	
+	public LatencyHistogram start()
+	{
+		this.startTime = this.timeSupplier.getAsLong();
+		
+		return this;
+	}
+	
+	/**
+	 * Records the time passed since the last call to {@link #start()}.
+	 * 
+	 * @return The recorded time.
+	 */
+	public long stop()
+	{
+		long delta = this.timeSupplier.getAsLong() - this.startTime;
+		
+		record(delta);
+		
+		return delta;
+	}
+	
+	public LatencyHistogram record(long value)
+	{
+		this.counts[this.layout.indexOf(value)]++;
+		
+		this.totalCount++;
+		this.sum += value;
+		
+		if(value < this.min) this.min = value;
+		if(value > this.max) this.max = value;
+		
+		return this;
+	}
+	
+	public LatencyHistogram record(long value, long count)
+	{
+		if(count <= 0) return this;
+		
+		this.counts[this.layout.indexOf(value)] += count;
+		
+		this.totalCount += count;
+		this.sum += value * count;
+		
+		if(value < this.min) this.min = value;
+		if(value > this.max) this.max = value;
+		
+		return this;
+	}
+	
+	/**
+	 * Records the delta of the stopwatch converted to the resolution of the histogram.
+	 * 
+	 * @param stopwatch The stopwatch.
+	 * 
+	 * @return The current histogram.
+	 */
+	public LatencyHistogram record(Stopwatch stopwatch)
+	{
+		return record(convert(stopwatch.getDelta(), stopwatch.getResolution().unitsPerSecond(), this.timeResolution.unitsPerSecond()));
+	}
+	
+	/**
+	 * Records the accumulated delta of the stopwatch converted to the resolution of the histogram.
+	 * 
+	 * @param stopwatch The stopwatch.
+	 * 
+	 * @return The current histogram.
+	 */
+	public LatencyHistogram record(CumulativeStopwatch stopwatch)
+	{
+		return record(convert(stopwatch.getDelta(), stopwatch.getResolution().unitsPerSecond(), this.timeResolution.unitsPerSecond()));
+	}
+	
+	/**
+	 * Adds all samples of the other histogram to this histogram.
+	 * 
+	 * @param other The other histogram. It needs the same highest trackable value, precision and resolution.
+	 * 
+	 * @return The current histogram.
+	 */
+	public LatencyHistogram add(LatencyHistogram other)
+	{
+		if(!this.layout.isCompatible(other.layout) || this.timeResolution != other.timeResolution) throw new IllegalArgumentException();
+		
+		for(int i = 0; i < this.counts.length; i++)
+			this.counts[i] += other.counts[i];
+		
+		this.totalCount += other.totalCount;
+		this.sum += other.sum;
+		this.min = Math.min(this.min, other.min);
+		this.max = Math.max(this.max, other.max);
+		
+		return this;
+	}
+	
+	public LatencyHistogram set(LatencyHistogram other)
+	{
+		if(!this.layout.isCompatible(other.layout) || this.timeResolution != other.timeResolution) throw new IllegalArgumentException();
+		
+		System.arraycopy(other.counts, 0, this.counts, 0, this.counts.length);
+		
+		this.totalCount = other.totalCount;
+		this.sum = other.sum;
+		this.min = other.min;
+		this.max = other.max;
+		
+		return this;
+	}
+	
+	public LatencyHistogram copy()
+	{
+		LatencyHistogram copy = new LatencyHistogram(this.layout.highestTrackableValue, this.layout.precisionBits, this.timeResolution);
+		copy.timeSupplier = this.timeSupplier;
+		
+		return copy.set(this);
+	}
+	
+	public LatencyHistogram reset()
+	{
+		Arrays.fill(this.counts, 0l);
+		
+		this.totalCount = 0l;
+		this.sum = 0l;
+		this.min = Long.MAX_VALUE;
+		this.max = Long.MIN_VALUE;
+		
+		return this;
+	}
+	
+	public long getTotalCount()
+	{
+		return this.totalCount;
+	}
+	
+	public long getMin()
+	{
+		return this.totalCount == 0 ? 0l : this.min;
+	}
+	
+	public long getMax()
+	{
+		return this.totalCount == 0 ? 0l : this.max;
+	}
+	
+	public double getMean()
+	{
+		return this.totalCount == 0 ? 0.0 : (double)this.sum / this.totalCount;
+	}
+	
+	public long getSum()
+	{
+		return this.sum;
+	}
+	
+	public Resolution getResolution()
+	{
+		return this.timeResolution;
+	}
+	
+	/**
+	 * Returns the value below or at which the given percentage of all samples lie.
+	 * The result is the highest value of the matching bucket, clamped to the recorded minimum and maximum.
+	 * 
+	 * @param percentile The percentile between 0 and 100, for example 99.9.
+	 * 
+	 * @return The value at the percentile or 0 if the histogram is empty.
+	 */
+	public long getValueAtPercentile(double percentile)
+	{
+		if(this.totalCount == 0) return 0l;
+		
+		long target = rank(percentile, this.totalCount);
+		
+		long count = 0;
+		for(int i = 0; i < this.counts.length; i++)
+		{
+			count += this.counts[i];
+			
+			if(count >= target) return clamp(this.layout.highestValueAt(i));
+		}
+		
+		return this.max;
+	}
+	
+	/**
+	 * Calculates the values at several percentiles in one pass over the buckets.
+	 * 
+	 * @param percentiles The percentiles between 0 and 100 in ascending order.
+	 * @param res The extraction array for the values.
+	 * 
+	 * @return The extraction array.
+	 */
+	public long[] getValuesAtPercentiles(double[] percentiles, @ExtractionParam long[] res)
+	{
+		if(this.totalCount == 0)
+		{
+			Arrays.fill(res, 0, percentiles.length, 0l);
+			
+			return res;
+		}
+		
+		int p = 0;
+		long count = 0;
+		for(int i = 0; i < this.counts.length && p < percentiles.length; i++)
+		{
+			count += this.counts[i];
+			
+			while(p < percentiles.length && count >= rank(percentiles[p], this.totalCount))
+			{
+				res[p++] = clamp(this.layout.highestValueAt(i));
+			}
+		}
+		
+		while(p < percentiles.length)
+			res[p++] = this.max;
+		
+		return res;
+	}
+	
+	/**
+	 * Returns the number of samples in the bucket of the given value.
+	 * 
+	 * @param value The value.
+	 * 
+	 * @return The number of samples.
+	 */
+	public long getCountAtValue(long value)
+	{
+		return this.counts[this.layout.indexOf(value)];
+	}
+	
+	public int getBucketCount()
+	{
+		return this.counts.length;
+	}
+	
+	public long getBucketCount(int index)
+	{
+		return this.counts[index];
+	}
+	
+	public long getBucketLowestValue(int index)
+	{
+		return this.layout.lowestValueAt(index);
+	}
+	
+	public long getBucketHighestValue(int index)
+	{
+		return this.layout.highestValueAt(index);
+	}
+	
+	void merge(long totalCount, long sum, long min, long max)
+	{
+		this.totalCount += totalCount;
+		this.sum += sum;
+		this.min = Math.min(this.min, min);
+		this.max = Math.max(this.max, max);
+	}
+	
+	private long clamp(long value)
+	{
+		return Math.max(this.min, Math.min(this.max, value));
+	}
+	
+	private static long rank(double percentile, long totalCount)
+	{
+		double p = Math.max(0.0, Math.min(100.0, percentile));
+		
+		return Math.max(1l, (long)Math.ceil(p / 100.0 * totalCount));
+	}
+	
+	static long convert(long value, long fromUnitsPerSecond, long toUnitsPerSecond)
+	{
+		if(fromUnitsPerSecond == toUnitsPerSecond) return value;
+		
+		if(fromUnitsPerSecond < toUnitsPerSecond) return value * (toUnitsPerSecond / fromUnitsPerSecond);
+		
+		return value / (fromUnitsPerSecond / toUnitsPerSecond);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "latencyhistogram(resolution=" + this.timeResolution.name() + ", count=" + this.totalCount + ", min=" + getMin() + ", p50=" + getValueAtPercentile(50.0) + ", p99=" + getValueAtPercentile(99.0) + ", p99.9=" + getValueAtPercentile(99.9) + ", max=" + getMax() + ")";
+	}
+}
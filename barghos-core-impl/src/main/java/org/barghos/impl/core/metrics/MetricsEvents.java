@@ -0,0 +1,104 @@
+package org.barghos.impl.core.metrics;
+
+import org.barghos.annotation.AllowNull;
+
+/**
+ * This class emits the flight recorder events {@link ScopeEvent} and {@link TickEvent}.
+ * The events are begun at the start of the measured interval and committed at its end, so their start time
+ * and duration in the recording cover the interval. Events are only emitted if they are enabled here and in
+ * the running recording. When they are disabled here, beginning an event costs a single volatile read.
+ */
+public final class MetricsEvents
+{
+	private static volatile boolean enabled = true;
+	
+	private MetricsEvents() { }
+	
+	public static void setEnabled(boolean enabled)
+	{
+		MetricsEvents.enabled = enabled;
+	}
+	
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+	
+	/**
+	 * Begins a {@link ScopeEvent} at the start of a scope.
+	 * 
+	 * @return The begun event or null if the event is disabled.
+	 */
+	public static ScopeEvent beginScope()
+	{
+		if(!enabled) return null;
+		
+		ScopeEvent event = new ScopeEvent();
+		
+		if(!event.isEnabled()) return null;
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	/**
+	 * Ends and commits a {@link ScopeEvent} begun by {@link #beginScope()}.
+	 * 
+	 * @param event The event or null to emit nothing.
+	 * @param phase The name of the scope.
+	 * @param tick The tick or frame number or -1.
+	 * @param durationNanos The duration in nanoseconds.
+	 */
+	public static void endScope(@AllowNull ScopeEvent event, String phase, long tick, long durationNanos)
+	{
+		if(event == null) return;
+		
+		event.end();
+		
+		event.phase = phase;
+		event.tick = tick;
+		event.elapsed = durationNanos;
+		event.commit();
+	}
+	
+	/**
+	 * Begins a {@link TickEvent} at the previous tick.
+	 * 
+	 * @return The begun event or null if the event is disabled.
+	 */
+	public static TickEvent beginTick()
+	{
+		if(!enabled) return null;
+		
+		TickEvent event = new TickEvent();
+		
+		if(!event.isEnabled()) return null;
+		
+		event.begin();
+		
+		return event;
+	}
+	
+	/**
+	 * Ends and commits a {@link TickEvent} begun by {@link #beginTick()}.
+	 * 
+	 * @param event The event or null to emit nothing.
+	 * @param phase The name of the tick timer.
+	 * @param tick The tick number.
+	 * @param passedTicks The number of ticks passed at once.
+	 * @param durationNanos The time since the previous tick in nanoseconds.
+	 */
+	public static void endTick(@AllowNull TickEvent event, String phase, long tick, int passedTicks, long durationNanos)
+	{
+		if(event == null) return;
+		
+		event.end();
+		
+		event.phase = phase;
+		event.tick = tick;
+		event.passedTicks = passedTicks;
+		event.elapsed = durationNanos;
+		event.commit();
+	}
+}
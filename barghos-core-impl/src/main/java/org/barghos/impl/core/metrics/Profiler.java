@@ -0,0 +1,354 @@
+package org.barghos.impl.core.metrics;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+import org.barghos.annotation.AllowNull;
+import org.barghos.api.core.consumer.ICons;
+import org.barghos.impl.core.metrics.Stopwatch.Resolution;
+
+/**
+ * This class is a hierarchical scoped profiler. Each thread builds its own call tree of named scopes
+ * opened with {@link #begin(String)} and closed with {@link #end()}, or opened with {@link #scope(String)}
+ * in a try-with-resources statement.
+ * 
+ * <pre>
+ * try(Profiler.Scope s = profiler.scope("physics"))
+ * {
+ *     try(Profiler.Scope s2 = profiler.scope("broadphase")) { ... }
+ * }
+ * 
+ * profiler.frame();
+ * </pre>
+ * 
+ * <p>
+ * The nodes of the call tree are created the first time a scope is entered under a parent and are reused
+ * in all following frames, so a profiler in steady state does not allocate. Scope names are compared by
+ * identity first, which makes string constants the cheapest names.
+ * 
+ * <p>
+ * {@link #frame()} closes a frame on the calling thread. Every {@code exportInterval} frames the tree of that
+ * thread is aggregated into a {@link ProfilerReport} that is passed to the listener and can be polled with
+ * {@link #getLastReport()}.
+ */
+public class Profiler
+{
+	private final LongSupplier timeSupplier;
+	private final Resolution timeResolution;
+	
+	private final int exportInterval;
+	
+	private final ThreadLocal<ThreadTree> trees;
+	
+	private volatile boolean enabled = true;
+	private volatile ICons<ProfilerReport> listener;
+	private volatile ProfilerReport lastReport;
+	
+	/**
+	 * Creates a new profiler that measures nanoseconds with {@link Stopwatch#DEFAULT_TIME_SUPPLIER}.
+	 * 
+	 * @param exportInterval The number of frames aggregated into one report.
+	 */
+	public Profiler(int exportInterval)
+	{
+		this(exportInterval, Stopwatch.DEFAULT_TIME_SUPPLIER, Stopwatch.DEFAULT_TIME_RESOLUTION);
+	}
+	
+	/**
+	 * Creates a new profiler.
+	 * 
+	 * @param exportInterval The number of frames aggregated into one report.
+	 * @param timeSupplier The time supplier.
+	 * @param timeResolution The resolution of the time supplier or null for nanoseconds.
+	 */
+	public Profiler(int exportInterval, LongSupplier timeSupplier, @AllowNull Resolution timeResolution)
+	{
+		if(exportInterval < 1) throw new IllegalArgumentException();
+		
+		this.exportInterval = exportInterval;
+		this.timeSupplier = Objects.requireNonNull(timeSupplier);
+		this.timeResolution = Objects.requireNonNullElse(timeResolution, Stopwatch.DEFAULT_TIME_RESOLUTION);
+		this.trees = ThreadLocal.withInitial(() -> new ThreadTree(this.timeSupplier, this.timeResolution, this.exportInterval, this.enabled));
+	}
+	
+	/**
+	 * Enables or disables the profiler. The change takes effect on each thread with its next call to {@link #frame()},
+	 * so scopes that are open at the time of the call are still closed correctly.
+	 * 
+	 * @param enabled True to enable the profiler.
+	 * 
+	 * @return The current profiler.
+	 */
+	public Profiler setEnabled(boolean enabled)
+	{
+		this.enabled = enabled;
+		
+		return this;
+	}
+	
+	public boolean isEnabled()
+	{
+		return this.enabled;
+	}
+	
+	/**
+	 * Sets the listener that receives the reports. The listener is called on the thread that finished the
+	 * export interval.
+	 * 
+	 * @param listener The listener or null.
+	 * 
+	 * @return The current profiler.
+	 */
+	public Profiler setListener(@AllowNull ICons<ProfilerReport> listener)
+	{
+		this.listener = listener;
+		
+		return this;
+	}
+	
+	/**
+	 * Returns the last report created by any thread.
+	 * 
+	 * @return The last report or null if there is none yet.
+	 */
+	public ProfilerReport getLastReport()
+	{
+		return this.lastReport;
+	}
+	
+	public Resolution getResolution()
+	{
+		return this.timeResolution;
+	}
+	
+	public void begin(String name)
+	{
+		this.trees.get().begin(name);
+	}
+	
+	public void end()
+	{
+		this.trees.get().end();
+	}
+	
+	/**
+	 * Opens a scope that is closed by the returned object. The returned object is reused by all scopes
+	 * of the calling thread and must not be stored.
+	 * 
+	 * @param name The name of the scope.
+	 * 
+	 * @return The closeable scope.
+	 */
+	public Scope scope(String name)
+	{
+		ThreadTree tree = this.trees.get();
+		
+		tree.begin(name);
+		
+		return tree.scope;
+	}
+	
+	/**
+	 * Closes the current frame of the calling thread. All scopes of the thread have to be closed.
+	 */
+	public void frame()
+	{
+		ProfilerReport report = this.trees.get().frame(this.enabled);
+		
+		if(report == null) return;
+		
+		this.lastReport = report;
+		
+		ICons<ProfilerReport> listener = this.listener;
+		if(listener != null) listener.accept(report);
+	}
+	
+	/**
+	 * Discards the call tree of the calling thread.
+	 */
+	public void clear()
+	{
+		this.trees.remove();
+	}
+	
+	/**
+	 * The closeable handle of a scope. It is reused for all scopes of a thread.
+	 */
+	public static final class Scope implements AutoCloseable
+	{
+		private final ThreadTree tree;
+		
+		private Scope(ThreadTree tree)
+		{
+			this.tree = tree;
+		}
+		
+		@Override
+		public void close()
+		{
+			this.tree.end();
+		}
+	}
+	
+	private static final class Node
+	{
+		private final String name;
+		private final Node parent;
+		
+		private Node[] children = new Node[4];
+		private int childCount;
+		
+		private long start;
+		private long frameTime;
+		private long frameCalls;
+		
+		private long totalTime;
+		private long totalCalls;
+		private long maxFrameTime;
+		
+		private Node(String name, Node parent)
+		{
+			this.name = name;
+			this.parent = parent;
+		}
+		
+		private Node child(String name)
+		{
+			Node[] children = this.children;
+			int count = this.childCount;
+			
+			for(int i = 0; i < count; i++)
+				if(children[i].name == name) return children[i];
+			
+			for(int i = 0; i < count; i++)
+				if(children[i].name.equals(name)) return children[i];
+			
+			if(count == children.length) this.children = children = Arrays.copyOf(children, count << 1);
+			
+			Node child = new Node(name, this);
+			children[count] = child;
+			this.childCount = count + 1;
+			
+			return child;
+		}
+		
+		private void accumulate()
+		{
+			this.totalTime += this.frameTime;
+			this.totalCalls += this.frameCalls;
+			
+			if(this.frameTime > this.maxFrameTime) this.maxFrameTime = this.frameTime;
+			
+			this.frameTime = 0l;
+			this.frameCalls = 0l;
+			
+			for(int i = 0; i < this.childCount; i++)
+				this.children[i].accumulate();
+		}
+		
+		private ProfilerReport.Node export(int frames)
+		{
+			ProfilerReport.Node[] children = new ProfilerReport.Node[this.childCount];
+			
+			for(int i = 0; i < this.childCount; i++)
+				children[i] = this.children[i].export(frames);
+			
+			ProfilerReport.Node node = new ProfilerReport.Node(this.name, this.totalCalls, this.totalTime, this.maxFrameTime, frames, children);
+			
+			this.totalTime = 0l;
+			this.totalCalls = 0l;
+			this.maxFrameTime = 0l;
+			
+			return node;
+		}
+	}
+	
+	/**
+	 * The call tree of one thread. It gets the settings of the profiler passed in and doesn't reference
+	 * the profiler, so the thread local value doesn't keep a discarded profiler reachable.
+	 */
+	private static final class ThreadTree
+	{
+		private final LongSupplier timeSupplier;
+		private final Resolution timeResolution;
+		private final int exportInterval;
+		
+		private final Node root = new Node(Thread.currentThread().getName(), null);
+		private final Scope scope = new Scope(this);
+		
+		private Node current = this.root;
+		private boolean active;
+		private int frames;
+		
+		private ThreadTree(LongSupplier timeSupplier, Resolution timeResolution, int exportInterval, boolean active)
+		{
+			this.timeSupplier = timeSupplier;
+			this.timeResolution = timeResolution;
+			this.exportInterval = exportInterval;
+			this.active = active;
+			
+			this.root.start = timeSupplier.getAsLong();
+		}
+		
+		private void begin(String name)
+		{
+			if(!this.active) return;
+			
+			Node node = this.current.child(name);
+			
+			this.current = node;
+			
+			node.start = this.timeSupplier.getAsLong();
+		}
+		
+		private void end()
+		{
+			if(!this.active) return;
+			
+			long time = this.timeSupplier.getAsLong();
+			
+			Node node = this.current;
+			
+			if(node == this.root) throw new IllegalStateException("end() without matching begin().");
+			
+			node.frameTime += time - node.start;
+			node.frameCalls++;
+			
+			this.current = node.parent;
+		}
+		
+		/**
+		 * Closes the current frame and returns the report if the frame finished the export interval.
+		 */
+		private ProfilerReport frame(boolean enabled)
+		{
+			if(this.current != this.root) throw new IllegalStateException("Scope \"" + this.current.name + "\" is still open at the end of the frame.");
+			
+			long time = this.timeSupplier.getAsLong();
+			
+			ProfilerReport report = null;
+			
+			if(this.active)
+			{
+				this.root.frameTime = time - this.root.start;
+				this.root.frameCalls = 1;
+				this.root.accumulate();
+				
+				this.frames++;
+				
+				if(this.frames == this.exportInterval)
+				{
+					report = new ProfilerReport(this.timeResolution, this.frames, this.root.export(this.frames));
+					
+					this.frames = 0;
+				}
+			}
+			
+			this.root.start = time;
+			this.active = enabled;
+			
+			return report;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package org.barghos.impl.core.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.barghos.impl.core.metrics.Stopwatch.Resolution;
+
+/**
+ * This class is an immutable aggregated call tree exported by a {@link Profiler}.
+ * The root node represents the whole frames of the exporting thread and is named after it.
+ */
+public final class ProfilerReport
+{
+	private final Resolution timeResolution;
+	private final int frames;
+	private final Node root;
+	
+	public ProfilerReport(Resolution timeResolution, int frames, Node root)
+	{
+		this.timeResolution = timeResolution;
+		this.frames = frames;
+		this.root = root;
+	}
+	
+	public Resolution getResolution()
+	{
+		return this.timeResolution;
+	}
+	
+	public int getFrames()
+	{
+		return this.frames;
+	}
+	
+	public Node getRoot()
+	{
+		return this.root;
+	}
+	
+	/**
+	 * Returns the node at the given path of scope names below the root.
+	 * 
+	 * @param path The scope names.
+	 * 
+	 * @return The node or null if there is no node at the path.
+	 */
+	public Node find(String... path)
+	{
+		Node node = this.root;
+		
+		for(int i = 0; i < path.length && node != null; i++)
+			node = node.getChild(path[i]);
+		
+		return node;
+	}
+	
+	@Override
+	public String toString()
+	{
+		StringBuilder builder = new StringBuilder();
+		
+		builder.append("profilerreport(resolution=").append(this.timeResolution.name()).append(", frames=").append(this.frames).append(")\n");
+		
+		this.root.append(builder, 0);
+		
+		return builder.toString();
+	}
+	
+	public static final class Node
+	{
+		private final String name;
+		private final long calls;
+		private final long totalTime;
+		private final long maxFrameTime;
+		private final int frames;
+		private final List<Node> children;
+		
+		public Node(String name, long calls, long totalTime, long maxFrameTime, int frames, Node[] children)
+		{
+			this.name = name;
+			this.calls = calls;
+			this.totalTime = totalTime;
+			this.maxFrameTime = maxFrameTime;
+			this.frames = frames;
+			this.children = Collections.unmodifiableList(Arrays.asList(children));
+		}
+		
+		public String getName()
+		{
+			return this.name;
+		}
+		
+		public long getCalls()
+		{
+			return this.calls;
+		}
+		
+		public long getTotalTime()
+		{
+			return this.totalTime;
+		}
+		
+		public long getMaxFrameTime()
+		{
+			return this.maxFrameTime;
+		}
+		
+		public double getAverageFrameTime()
+		{
+			return (double)this.totalTime / this.frames;
+		}
+		
+		public double getAverageCallsPerFrame()
+		{
+			return (double)this.calls / this.frames;
+		}
+		
+		/**
+		 * Returns the time spent in this scope that is not covered by its children.
+		 * 
+		 * @return The exclusive time.
+		 */
+		public long getSelfTime()
+		{
+			long time = this.totalTime;
+			
+			for(Node child : this.children)
+				time -= child.totalTime;
+			
+			return time;
+		}
+		
+		public List<Node> getChildren()
+		{
+			return this.children;
+		}
+		
+		public Node getChild(String name)
+		{
+			for(Node child : this.children)
+				if(child.name.equals(name)) return child;
+			
+			return null;
+		}
+		
+		private void append(StringBuilder builder, int depth)
+		{
+			for(int i = 0; i < depth; i++)
+				builder.append("  ");
+			
+			builder.append(this.name).append(": avg=").append((long)getAverageFrameTime()).append(", max=").append(this.maxFrameTime).append(", calls/frame=").append(getAverageCallsPerFrame()).append('\n');
+			
+			for(Node child : this.children)
+				child.append(builder, depth + 1);
+		}
+		
+		@Override
+		public String toString()
+		{
+			return "node(name=" + this.name + ", calls=" + this.calls + ", totalTime=" + this.totalTime + ", maxFrameTime=" + this.maxFrameTime + ")";
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package org.barghos.impl.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * This class is the flight recorder event of a measured scope, for example the delta of a {@link Stopwatch}
+ * or a {@link CumulativeStopwatch}. The start time and duration of the event cover the scope.
+ * Use {@link MetricsEvents} to emit it.
+ */
+@Name("org.barghos.Scope")
+@Label("Scope")
+@Category({ "Barghos", "Metrics" })
+@Description("A measured scope of a frame or tick")
+@StackTrace(false)
+public class ScopeEvent extends Event
+{
+	@Label("Phase")
+	public String phase;
+	
+	@Label("Tick")
+	@Description("The tick or frame number the scope belongs to or -1")
+	public long tick;
+	
+	@Label("Elapsed")
+	@Timespan(Timespan.NANOSECONDS)
+	public long elapsed;
+}
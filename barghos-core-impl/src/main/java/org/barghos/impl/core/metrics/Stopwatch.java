@@ -17,6 +17,10 @@ public class Stopwatch
 	private transient long endTime;
 	private long delta;
 	
+	private transient String eventPhase;
+	private transient long eventTick = -1l;
+	private transient ScopeEvent event;
+	
 	public Stopwatch() { }
 	
 	public Stopwatch(LongSupplier timeSupplier, Resolution timeResolution)
@@ -32,8 +36,38 @@ public class Stopwatch
 		return this;
 	}
 	
+	/**
+	 * Sets the phase name under which every scope from {@link #start()} to {@link #stop()} is emitted as a {@link ScopeEvent} to the flight recorder.
+	 * 
+	 * @param phase The phase name or null to emit no events.
+	 * 
+	 * @return The current stopwatch.
+	 */
+	public Stopwatch setEventPhase(@AllowNull String phase)
+	{
+		this.eventPhase = phase;
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the tick or frame number attached to the emitted {@link ScopeEvent ScopeEvents}.
+	 * 
+	 * @param tick The tick number or -1.
+	 * 
+	 * @return The current stopwatch.
+	 */
+	public Stopwatch setEventTick(long tick)
+	{
+		this.eventTick = tick;
+		
+		return this;
+	}
+	
 	public Stopwatch start()
 	{
+		if(this.eventPhase != null) this.event = MetricsEvents.beginScope();
+		
 		this.startTime = this.timeSupplier.getAsLong();
 		
 		return this;
@@ -44,6 +78,13 @@ public class Stopwatch
 		this.endTime = this.timeSupplier.getAsLong();
 		this.delta = this.endTime - this.startTime;
 		
+		if(this.event != null)
+		{
+			MetricsEvents.endScope(this.event, this.eventPhase, this.eventTick, LatencyHistogram.convert(this.delta, this.timeResolution.unitsPerSecond(), Resolution.NANOSECONDS.unitsPerSecond()));
+			
+			this.event = null;
+		}
+		
 		return this;
 	}
 	
@@ -0,0 +1,38 @@
+package org.barghos.impl.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * This class is the flight recorder event of a tick of a {@link org.barghos.impl.core.timer.TickTimer TickTimer}.
+ * The start time and duration of the event cover the time from the previous tick to the tick.
+ * Use {@link MetricsEvents} to emit it.
+ */
+@Name("org.barghos.Tick")
+@Label("Tick")
+@Category({ "Barghos", "Metrics" })
+@Description("A tick of a tick timer")
+@StackTrace(false)
+public class TickEvent extends Event
+{
+	@Label("Phase")
+	@Description("The name of the tick timer")
+	public String phase;
+	
+	@Label("Tick")
+	public long tick;
+	
+	@Label("Passed Ticks")
+	@Description("The number of ticks passed at once")
+	public int passedTicks;
+	
+	@Label("Elapsed")
+	@Description("The time since the previous tick")
+	@Timespan(Timespan.NANOSECONDS)
+	public long elapsed;
+}
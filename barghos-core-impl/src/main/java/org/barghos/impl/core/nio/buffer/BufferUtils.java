@@ -16,8 +16,10 @@ public class BufferUtils
 {	
 	/**
 	 * Contains the factory that should be used for creating and destroying buffers.
+	 * It is a {@link PooledNioBufferFactory} if the system property {@code barghos.buffers.pooled} is set to
+	 * {@code true} and a {@link JavaNioBufferFactory} otherwise.
 	 */
-	public static NioBufferFactory BUFFER_FACTORY = new JavaNioBufferFactory();
+	public static NioBufferFactory BUFFER_FACTORY = Boolean.getBoolean("barghos.buffers.pooled") ? new PooledNioBufferFactory() : new JavaNioBufferFactory();
 	
 	/**
 	 * This class contains only static functions. Therefore it should not be instanciated.
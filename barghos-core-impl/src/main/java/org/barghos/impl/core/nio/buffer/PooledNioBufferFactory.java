@@ -0,0 +1,561 @@
+package org.barghos.impl.core.nio.buffer;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.ref.Cleaner;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This implementation of the interface {@link NioBufferFactory} hands out direct buffers from pooled memory
+ * and takes them back in {@link #destroy(ByteBuffer)}.
+ *
+ * <p>
+ * Requests are rounded up to power of two size classes from {@link #MIN_BLOCK_SIZE} to {@link #MAX_BLOCK_SIZE}
+ * bytes. The blocks of a size class are carved from slabs of {@link #SLAB_SIZE} bytes that are allocated in a shared
+ * {@link Arena} and live as long as the factory. Every platform thread keeps a small cache of free blocks per size class,
+ * so most requests and destroys do not touch shared state. A thread only keeps as many destroyed blocks in its cache
+ * as it requested itself, so blocks destroyed by a consumer thread go back to the shared free blocks and can be reused
+ * by the producer thread. The cache of a thread is returned to the shared free blocks after the thread died.
+ * Virtual threads are short-lived and numerous, so they bypass the caches and use the shared free blocks directly.
+ * Requests bigger than the biggest size class get their own memory that is freed immediately when the buffer is destroyed.
+ *
+ * <p>
+ * Unlike {@link ByteBuffer#allocateDirect(int)} the memory of a buffer is not zeroed and a buffer that is not destroyed
+ * is never returned to the pool. Every buffer must be destroyed exactly once and must not be used afterwards.
+ * Buffers that were not created by this factory are ignored by the destroy methods.
+ *
+ * <p>
+ * The factory is thread safe. {@link BufferUtils#BUFFER_FACTORY} uses it if the system property
+ * {@code barghos.buffers.pooled} is set to {@code true}.
+ */
+public class PooledNioBufferFactory implements NioBufferFactory, AutoCloseable
+{
+	/**
+	 * Contains the byte order used in creating buffers.
+	 */
+	public static final ByteOrder BYTE_ORDER = ByteOrder.nativeOrder();
+	
+	public static final int MIN_BLOCK_SIZE = 1 << 6;
+	public static final int MAX_BLOCK_SIZE = 1 << 20;
+	public static final int SLAB_SIZE = 1 << 22;
+	
+	/**
+	 * The default number of free blocks per size class in the cache of a thread.
+	 */
+	public static final int DEFAULT_LOCAL_CAPACITY = 16;
+	
+	private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+	private static final int CLASS_COUNT = Integer.numberOfTrailingZeros(MAX_BLOCK_SIZE) - MIN_SHIFT + 1;
+	
+	private static final int ALIGNMENT = 64;
+	
+	/**
+	 * Returns the caches of dead threads to the shared free blocks.
+	 */
+	private static final Cleaner CLEANER = Cleaner.create();
+	
+	private final Arena arena = Arena.ofShared();
+	
+	private final SizeClass[] classes = new SizeClass[CLASS_COUNT];
+	
+	private final ThreadLocal<LocalCache> local;
+	private final int localCapacity;
+	
+	/**
+	 * The start addresses of the slabs in ascending order and the slabs at the same indices.
+	 * Both arrays are replaced as a whole when a slab is added, so they can be read without locking.
+	 */
+	private volatile SlabTable slabTable = new SlabTable(new long[0], new Slab[0]);
+	
+	/**
+	 * The arenas of the buffers bigger than the biggest size class by address.
+	 */
+	private final Map<Long, Arena> large = new HashMap<>();
+	
+	private final AtomicLong reservedBytes = new AtomicLong();
+	
+	private volatile boolean closed;
+	
+	public PooledNioBufferFactory()
+	{
+		this(DEFAULT_LOCAL_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new factory.
+	 *
+	 * @param localCapacity The number of free blocks per size class in the cache of a thread.
+	 */
+	public PooledNioBufferFactory(int localCapacity)
+	{
+		if(localCapacity < 2) throw new IllegalArgumentException();
+		
+		this.localCapacity = localCapacity;
+		this.local = ThreadLocal.withInitial(() -> {
+			LocalCache cache = new LocalCache(this.classes, localCapacity);
+			
+			CLEANER.register(Thread.currentThread(), cache);
+			
+			return cache;
+		});
+		
+		for(int i = 0; i < CLASS_COUNT; i++)
+			this.classes[i] = new SizeClass(MIN_BLOCK_SIZE << i);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public ByteBuffer directByteBuffer(int capacity)
+	{
+		return allocate(capacity);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public ShortBuffer directShortBuffer(int capacity)
+	{
+		return allocate(capacity << 1).asShortBuffer();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public IntBuffer directIntBuffer(int capacity)
+	{
+		return allocate(capacity << 2).asIntBuffer();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public LongBuffer directLongBuffer(int capacity)
+	{
+		return allocate(capacity << 3).asLongBuffer();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public FloatBuffer directFloatBuffer(int capacity)
+	{
+		return allocate(capacity << 2).asFloatBuffer();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public DoubleBuffer directDoubleBuffer(int capacity)
+	{
+		return allocate(capacity << 3).asDoubleBuffer();
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void destroy(ByteBuffer buffer)
+	{
+		release(buffer, 0);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void destroy(ShortBuffer buffer)
+	{
+		release(buffer, 1);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void destroy(IntBuffer buffer)
+	{
+		release(buffer, 2);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void destroy(LongBuffer buffer)
+	{
+		release(buffer, 3);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void destroy(FloatBuffer buffer)
+	{
+		release(buffer, 2);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public void destroy(DoubleBuffer buffer)
+	{
+		release(buffer, 3);
+	}
+	
+	/**
+	 * Returns the number of bytes of native memory currently reserved by the factory, including the free blocks.
+	 *
+	 * @return The number of reserved bytes.
+	 */
+	public long getReservedBytes()
+	{
+		return this.reservedBytes.get();
+	}
+	
+	public int getLocalCapacity()
+	{
+		return this.localCapacity;
+	}
+	
+	/**
+	 * Frees all memory of the factory. All buffers created by the factory become invalid.
+	 */
+	@Override
+	public void close()
+	{
+		this.closed = true;
+		
+		synchronized(this.large)
+		{
+			for(Arena arena : this.large.values())
+				arena.close();
+			
+			this.large.clear();
+		}
+		
+		this.arena.close();
+	}
+	
+	private ByteBuffer allocate(int bytes)
+	{
+		if(bytes < 0) throw new IllegalArgumentException();
+		if(this.closed) throw new IllegalStateException("The factory is closed.");
+		
+		if(bytes > MAX_BLOCK_SIZE) return allocateLarge(bytes);
+		
+		int index = classIndex(bytes);
+		
+		ByteBuffer block = Thread.currentThread().isVirtual() ? null : this.local.get().take(index);
+		
+		if(block == null)
+		{
+			SizeClass sizeClass = this.classes[index];
+			
+			synchronized(sizeClass)
+			{
+				block = sizeClass.free.poll();
+			}
+			
+			if(block == null) block = allocateSlab(sizeClass);
+		}
+		
+		return block.slice(0, bytes).order(BYTE_ORDER);
+	}
+	
+	private ByteBuffer allocateLarge(int bytes)
+	{
+		Arena arena = Arena.ofShared();
+		
+		MemorySegment segment = arena.allocate(bytes, ALIGNMENT);
+		
+		synchronized(this.large)
+		{
+			this.large.put(segment.address(), arena);
+		}
+		
+		this.reservedBytes.addAndGet(bytes);
+		
+		return segment.asByteBuffer().order(BYTE_ORDER);
+	}
+	
+	/**
+	 * Returns the block of the buffer to the pool.
+	 *
+	 * @param shift The binary logarithm of the size of an element of the buffer.
+	 */
+	private void release(Buffer buffer, int shift)
+	{
+		if(buffer == null || !buffer.isDirect() || this.closed) return;
+		
+		long bytes = (long)buffer.capacity() << shift;
+		long address = MemorySegment.ofBuffer(buffer).address() - ((long)buffer.position() << shift);
+		
+		if(bytes > MAX_BLOCK_SIZE)
+		{
+			Arena arena;
+			
+			synchronized(this.large)
+			{
+				arena = this.large.remove(address);
+			}
+			
+			if(arena == null) return;
+			
+			arena.close();
+			
+			this.reservedBytes.addAndGet(-bytes);
+			
+			return;
+		}
+		
+		SlabTable table = this.slabTable;
+		
+		int i = Arrays.binarySearch(table.starts, address);
+		
+		if(i < 0) i = -i - 2;
+		if(i < 0) return;
+		
+		Slab slab = table.slabs[i];
+		
+		long offset = address - slab.start;
+		
+		if(offset >= SLAB_SIZE || offset % slab.sizeClass.blockSize != 0) return;
+		
+		int index = classIndex((int)bytes);
+		
+		if(slab.sizeClass != this.classes[index]) return;
+		
+		ByteBuffer block = slab.blocks[(int)(offset / slab.sizeClass.blockSize)];
+		
+		if(!Thread.currentThread().isVirtual() && this.local.get().put(index, block)) return;
+		
+		synchronized(slab.sizeClass)
+		{
+			slab.sizeClass.free.push(block);
+		}
+	}
+	
+	private static int classIndex(int bytes)
+	{
+		if(bytes <= MIN_BLOCK_SIZE) return 0;
+		
+		return 32 - Integer.numberOfLeadingZeros(bytes - 1) - MIN_SHIFT;
+	}
+	
+	/**
+	 * Allocates a new slab for the size class and adds all of its blocks except the returned one to the free blocks.
+	 */
+	private ByteBuffer allocateSlab(SizeClass sizeClass)
+	{
+		MemorySegment segment = this.arena.allocate(SLAB_SIZE, ALIGNMENT);
+		
+		int count = SLAB_SIZE / sizeClass.blockSize;
+		
+		ByteBuffer[] blocks = new ByteBuffer[count];
+		
+		for(int i = 0; i < count; i++)
+			blocks[i] = segment.asSlice((long)i * sizeClass.blockSize, sizeClass.blockSize).asByteBuffer();
+		
+		Slab slab = new Slab(segment.address(), sizeClass, blocks);
+		
+		synchronized(this)
+		{
+			SlabTable table = this.slabTable;
+			
+			int n = table.starts.length;
+			
+			int i = -Arrays.binarySearch(table.starts, slab.start) - 1;
+			
+			long[] starts = new long[n + 1];
+			Slab[] slabs = new Slab[n + 1];
+			
+			System.arraycopy(table.starts, 0, starts, 0, i);
+			System.arraycopy(table.slabs, 0, slabs, 0, i);
+			
+			starts[i] = slab.start;
+			slabs[i] = slab;
+			
+			System.arraycopy(table.starts, i, starts, i + 1, n - i);
+			System.arraycopy(table.slabs, i, slabs, i + 1, n - i);
+			
+			this.slabTable = new SlabTable(starts, slabs);
+		}
+		
+		this.reservedBytes.addAndGet(SLAB_SIZE);
+		
+		synchronized(sizeClass)
+		{
+			for(int i = 1; i < count; i++)
+				sizeClass.free.push(blocks[i]);
+		}
+		
+		return blocks[0];
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "pooledniobufferfactory(slabs=" + this.slabTable.starts.length + ", reservedBytes=" + this.reservedBytes.get() + ", localCapacity=" + this.localCapacity + ")";
+	}
+	
+	private static final class SlabTable
+	{
+		private final long[] starts;
+		private final Slab[] slabs;
+		
+		private SlabTable(long[] starts, Slab[] slabs)
+		{
+			this.starts = starts;
+			this.slabs = slabs;
+		}
+	}
+	
+	private static final class Slab
+	{
+		private final long start;
+		private final SizeClass sizeClass;
+		
+		/**
+		 * The blocks of the slab. They are created once and reused for every allocation.
+		 */
+		private final ByteBuffer[] blocks;
+		
+		private Slab(long start, SizeClass sizeClass, ByteBuffer[] blocks)
+		{
+			this.start = start;
+			this.sizeClass = sizeClass;
+			this.blocks = blocks;
+		}
+	}
+	
+	/**
+	 * The shared free blocks of one size class. Access is guarded by the size class itself.
+	 */
+	private static final class SizeClass
+	{
+		private final int blockSize;
+		private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+		
+		private SizeClass(int blockSize)
+		{
+			this.blockSize = blockSize;
+		}
+	}
+	
+	/**
+	 * The cache of free blocks of one thread. It is only accessed by its owning thread and
+	 * returned to the shared free blocks by {@link #run()} after the owning thread died.
+	 */
+	private static final class LocalCache implements Runnable
+	{
+		private final SizeClass[] classes;
+		private final ByteBuffer[][] blocks;
+		private final int[] sizes = new int[CLASS_COUNT];
+		
+		/**
+		 * The number of blocks per size class that the thread requested and did not destroy yet.
+		 */
+		private final int[] outstanding = new int[CLASS_COUNT];
+		
+		private LocalCache(SizeClass[] classes, int capacity)
+		{
+			this.classes = classes;
+			this.blocks = new ByteBuffer[CLASS_COUNT][capacity];
+		}
+		
+		/**
+		 * Takes a free block from the cache and refills the cache from the shared free blocks if it is empty.
+		 *
+		 * @return The block or null if there are no free blocks.
+		 */
+		private ByteBuffer take(int index)
+		{
+			this.outstanding[index]++;
+			
+			ByteBuffer[] blocks = this.blocks[index];
+			
+			if(this.sizes[index] == 0)
+			{
+				SizeClass sizeClass = this.classes[index];
+				
+				int count = 0;
+				
+				synchronized(sizeClass)
+				{
+					ByteBuffer block;
+					
+					while(count < (blocks.length >> 1) && (block = sizeClass.free.poll()) != null)
+						blocks[count++] = block;
+				}
+				
+				if(count == 0) return null;
+				
+				this.sizes[index] = count;
+			}
+			
+			int size = --this.sizes[index];
+			
+			ByteBuffer block = blocks[size];
+			blocks[size] = null;
+			
+			return block;
+		}
+		
+		/**
+		 * Puts a destroyed block into the cache if the thread requested more blocks of the size class than it destroyed.
+		 *
+		 * @return True if the block was put into the cache.
+		 */
+		private boolean put(int index, ByteBuffer block)
+		{
+			if(this.outstanding[index] <= 0) return false;
+			
+			this.outstanding[index]--;
+			
+			ByteBuffer[] blocks = this.blocks[index];
+			
+			if(this.sizes[index] == blocks.length)
+			{
+				SizeClass sizeClass = this.classes[index];
+				
+				int half = blocks.length >> 1;
+				
+				synchronized(sizeClass)
+				{
+					for(int i = blocks.length - half; i < blocks.length; i++)
+					{
+						sizeClass.free.push(blocks[i]);
+						blocks[i] = null;
+					}
+				}
+				
+				this.sizes[index] -= half;
+			}
+			
+			blocks[this.sizes[index]++] = block;
+			
+			return true;
+		}
+		
+		/**
+		 * Returns all blocks of the cache to the shared free blocks.
+		 */
+		@Override
+		public void run()
+		{
+			for(int index = 0; index < CLASS_COUNT; index++)
+			{
+				ByteBuffer[] blocks = this.blocks[index];
+				SizeClass sizeClass = this.classes[index];
+				
+				synchronized(sizeClass)
+				{
+					for(int i = 0; i < this.sizes[index]; i++)
+					{
+						sizeClass.free.push(blocks[i]);
+						blocks[i] = null;
+					}
+				}
+				
+				this.sizes[index] = 0;
+			}
+		}
+	}
+}
@@ -2,7 +2,7 @@ package org.barghos.impl.core.parse;
 
 public class ClassAwareTextTokenConsolidator
 {
-	public TextToken getNextToken(TextTokenStream stream)
+	public TextToken getNextToken(ITextTokenStream stream)
 	{
 		return null;
 	}
@@ -2,18 +2,51 @@ package org.barghos.impl.core.parse;
 
 import org.barghos.api.core.io.reader.ICharReader;
 
+/**
+ * This class splits text into tokens of chars with the same classification.
+ *
+ * <p>
+ * {@link #getNextToken(ICharReader)} creates a new {@link TextToken} with a String for every token.
+ * The zero-allocation mode with {@link #nextToken(TextTokenCursor)} and {@link #nextToken(ICharReader, TextTokenCursor)}
+ * reports the tokens as slices in a reusable {@link TextTokenCursor} instead and classifies the chars
+ * through a {@link TableCharClassifier}. The table is built on the first use of the zero-allocation mode, so
+ * tokenizers that only use {@link #getNextToken(ICharReader)} never pay for it. Concurrent first uses may build the
+ * table more than once, but a tokenizer can still be shared between threads.
+ */
 public class ClassAwareTextTokenizer implements ITextTokenizer
 {
 	private final ICharClassifier classifier;
 	
+	/**
+	 * The lookup table of the zero-allocation mode. It is null until the first use of that mode.
+	 * The table classifier only has final fields, so it is safely published without synchronization.
+	 */
+	private TableCharClassifier table;
+	
 	public ClassAwareTextTokenizer()
 	{
-		this.classifier = new DefaultCharClassifier();
+		this(new DefaultCharClassifier());
 	}
 	
+	/**
+	 * Creates a new tokenizer. Unless the classifier is a {@link TableCharClassifier} or the {@link DefaultCharClassifier},
+	 * which share their tables, the lookup table for the zero-allocation mode is built on its first use by calling the
+	 * classifier once for every char.
+	 *
+	 * @param classifier The classifier.
+	 */
 	public ClassAwareTextTokenizer(ICharClassifier classifier)
 	{
 		this.classifier = classifier;
+		
+		if(classifier instanceof TableCharClassifier table)
+		{
+			this.table = table;
+		}
+		else if(classifier != null && classifier.getClass() == DefaultCharClassifier.class)
+		{
+			this.table = DefaultCharClassifier.TABLE_CLASSIFIER;
+		}
 	}
 	
 	public TextToken getNextToken(ICharReader reader)
@@ -51,12 +84,162 @@ public class ClassAwareTextTokenizer implements ITextTokenizer
 		return token;
 	}
 	
+	/**
+	 * Moves the cursor to the next token of its in-memory input.
+	 * The token is a slice of the input and no objects are allocated.
+	 *
+	 * @param cursor The cursor with the input set by one of its reset methods.
+	 *
+	 * @return False if the input has no tokens left.
+	 *
+	 * @throws IllegalArgumentException If the classifier returns a classification outside of 0 to 127.
+	 */
+	public boolean nextToken(TextTokenCursor cursor)
+	{
+		int start = cursor.position;
+		int end = cursor.end;
+		
+		if(start >= end) return false;
+		
+		byte[] table = table().table;
+		
+		int i = start;
+		byte classification;
+		
+		if(cursor.array != null)
+		{
+			char[] array = cursor.array;
+			
+			classification = table[array[i++]];
+			
+			while(i < end && table[array[i]] == classification) i++;
+		}
+		else
+		{
+			CharSequence sequence = cursor.sequence;
+			
+			classification = table[sequence.charAt(i++)];
+			
+			while(i < end && table[sequence.charAt(i)] == classification) i++;
+		}
+		
+		cursor.position = i;
+		cursor.setSlice(start, i - start, classification);
+		
+		return true;
+	}
+	
+	/**
+	 * Reads the next token from the reader into the reusable buffer of the cursor.
+	 * No objects are allocated as long as the buffer of the cursor is big enough for the token.
+	 * The same cursor should be used for all tokens of the reader, as it counts the chars for the start
+	 * of the tokens.
+	 *
+	 * @param reader The reader.
+	 * @param cursor The cursor.
+	 *
+	 * @return False if the reader has no chars left.
+	 *
+	 * @throws IllegalArgumentException If the classifier returns a classification outside of 0 to 127.
+	 */
+	public boolean nextToken(ICharReader reader, TextTokenCursor cursor)
+	{
+		if(!reader.hasNext()) return false;
+		
+		TableCharClassifier table = table();
+		
+		char c = reader.next();
+		int classification = table.classify(c);
+		
+		cursor.beginCopy(classification);
+		cursor.append(c);
+		
+		while(reader.hasNext())
+		{
+			c = reader.peek();
+			
+			if(table.classify(c) != classification) break;
+			
+			cursor.append(c);
+			
+			reader.next();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Returns the lookup table of the zero-allocation mode and builds it on the first call.
+	 */
+	private TableCharClassifier table()
+	{
+		TableCharClassifier table = this.table;
+		
+		if(table == null)
+		{
+			table = new TableCharClassifier(this.classifier);
+			
+			this.table = table;
+		}
+		
+		return table;
+	}
+	
+	public ICharClassifier getClassifier()
+	{
+		return this.classifier;
+	}
+	
 	@FunctionalInterface
 	public static interface ICharClassifier
 	{
 		int classify(char c);
 	}
 	
+	/**
+	 * This classifier looks up the classification of every char in a precomputed table with 64K entries.
+	 * The classifications must be between 0 and 127.
+	 */
+	public static class TableCharClassifier implements ICharClassifier
+	{
+		private final byte[] table;
+		
+		/**
+		 * Creates a new table from the classifications of the given classifier.
+		 *
+		 * @param classifier The classifier. It is called once for every char.
+		 */
+		public TableCharClassifier(ICharClassifier classifier)
+		{
+			if(classifier == null) throw new IllegalArgumentException();
+			
+			this.table = new byte[Character.MAX_VALUE + 1];
+			
+			for(int c = 0; c <= Character.MAX_VALUE; c++)
+			{
+				int classification = classifier.classify((char)c);
+				
+				if(classification < 0 || classification > Byte.MAX_VALUE) throw new IllegalArgumentException("The classification " + classification + " of char " + c + " is out of range.");
+				
+				this.table[c] = (byte)classification;
+			}
+		}
+		
+		/**
+		 * Creates a new classifier over a finished table that is not copied.
+		 */
+		private TableCharClassifier(byte[] table)
+		{
+			this.table = table;
+		}
+		
+		@Override
+		public int classify(char c)
+		{
+			return this.table[c];
+		}
+	}
+	
 	public static class DefaultCharClassifier implements ICharClassifier
 	{
 		public static final int CLASS_ALPHABETICAL = 1;
@@ -69,16 +252,35 @@ public class ClassAwareTextTokenizer implements ITextTokenizer
 		private static final String CHARSET_SPECIAL = ",;.:-_+*~#'!\"²§³$%&/{([)]=}?\\`´^°<>|@€µ";
 		private static final String CHARSET_PADDING = " \n\t";
 		
+		/**
+		 * The classifications of all chars, indexed by char.
+		 */
+		private static final byte[] TABLE = new byte[Character.MAX_VALUE + 1];
+		
+		static
+		{
+			fill(CHARSET_PADDING, CLASS_PADDING);
+			fill(CHARSET_SPECIAL, CLASS_SPECIAL);
+			fill(CHARSET_NUMERAL, CLASS_NUMERAL);
+			fill(CHARSET_ALPHABETICAL, CLASS_ALPHABETICAL);
+		}
+		
+		/**
+		 * The table classifier over {@link #TABLE} shared by all tokenizers with the default classifier.
+		 */
+		private static final TableCharClassifier TABLE_CLASSIFIER = new TableCharClassifier(TABLE);
+		
+		private static void fill(String charset, int classification)
+		{
+			for(int i = 0; i < charset.length(); i++)
+				TABLE[charset.charAt(i)] = (byte)classification;
+		}
+		
 		@Override
 		public int classify(char c)
 		{
-			if(CHARSET_ALPHABETICAL.indexOf(c) > -1) return CLASS_ALPHABETICAL;
-			if(CHARSET_NUMERAL.indexOf(c) > -1) return CLASS_NUMERAL;
-			if(CHARSET_SPECIAL.indexOf(c) > -1) return CLASS_SPECIAL;
-			if(CHARSET_PADDING.indexOf(c) > -1) return CLASS_PADDING;
-			
-			return 0;
+			return TABLE[c];
 		}
-
+		
 	}
 }
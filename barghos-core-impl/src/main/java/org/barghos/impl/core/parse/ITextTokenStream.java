@@ -0,0 +1,8 @@
+package org.barghos.impl.core.parse;
+
+public interface ITextTokenStream
+{
+	boolean hasNext();
+	TextToken next();
+	TextToken peek();
+}
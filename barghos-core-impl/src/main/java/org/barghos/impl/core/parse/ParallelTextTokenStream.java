@@ -0,0 +1,301 @@
+package org.barghos.impl.core.parse;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+
+import org.barghos.api.core.io.reader.ICharReader;
+import org.barghos.impl.core.io.reader.CharBufferReader;
+import org.barghos.validation.exception.argument.ArgumentNullException;
+import org.barghos.validation.exception.argument.ArgumentTooSmallException;
+
+/**
+ * This class is a token stream that tokenizes its input in chunks on several threads.
+ *
+ * <p>
+ * The input is given as list of readers over consecutive chunks, for example the readers of
+ * {@link org.barghos.impl.core.io.reader.MappedTextFile#readers(int)}, or as char sequence that is split
+ * at line boundaries. The chunks are tokenized by the executor, with at most a fixed number of chunks
+ * in flight. The tokens are delivered in input order with the same semantics as {@link TextTokenStream}.
+ *
+ * <p>
+ * A token can straddle the boundary of two chunks. Then the last token of the first chunk and the first token
+ * of the second chunk have the same classification and are stitched together into one token.
+ *
+ * <p>
+ * A {@link org.barghos.impl.core.thread.JobSystem} can be used as executor with {@code jobSystem::schedule}.
+ * The stream itself is meant to be consumed by a single thread. If the consumer needs a chunk that the executor
+ * has not started yet, the consumer tokenizes it itself. It only blocks while another thread is tokenizing the chunk,
+ * so consuming the stream from a worker of the executor can not deadlock, but the worker is blocked meanwhile.
+ */
+public class ParallelTextTokenStream implements ITextTokenStream, AutoCloseable
+{
+	/**
+	 * The default number of chunks that are tokenized ahead of the consumer.
+	 */
+	public static final int DEFAULT_MAX_CHUNKS_IN_FLIGHT = 2 * Runtime.getRuntime().availableProcessors();
+	
+	private final ITextTokenizer tokenizer;
+	private final List<? extends ICharReader> chunks;
+	private final Executor executor;
+	private final int maxChunksInFlight;
+	
+	private final ArrayDeque<FutureTask<List<TextToken>>> inFlight = new ArrayDeque<>();
+	private int nextChunk;
+	
+	private List<TextToken> current = Collections.emptyList();
+	private int index;
+	
+	private TextToken lookahead;
+	private boolean initialized;
+	
+	private final StringBuilder stitched = new StringBuilder();
+	
+	/**
+	 * Creates a new stream over the chunks that uses the common fork join pool.
+	 *
+	 * @param tokenizer The tokenizer. It is called by several threads at the same time.
+	 * @param chunks The readers over the consecutive chunks of the input.
+	 */
+	public ParallelTextTokenStream(ITextTokenizer tokenizer, List<? extends ICharReader> chunks)
+	{
+		this(tokenizer, chunks, ForkJoinPool.commonPool(), DEFAULT_MAX_CHUNKS_IN_FLIGHT);
+	}
+	
+	/**
+	 * Creates a new stream over the chunks.
+	 *
+	 * @param tokenizer The tokenizer. It is called by several threads at the same time.
+	 * @param chunks The readers over the consecutive chunks of the input.
+	 * @param executor The executor that tokenizes the chunks.
+	 * @param maxChunksInFlight The maximum number of chunks that are tokenized ahead of the consumer.
+	 */
+	public ParallelTextTokenStream(ITextTokenizer tokenizer, List<? extends ICharReader> chunks, Executor executor, int maxChunksInFlight)
+	{
+		if(tokenizer == null) throw new ArgumentNullException("tokenizer");
+		if(chunks == null) throw new ArgumentNullException("chunks");
+		if(executor == null) throw new ArgumentNullException("executor");
+		if(maxChunksInFlight < 1) throw new ArgumentTooSmallException("maxChunksInFlight", maxChunksInFlight, 1);
+		
+		this.tokenizer = tokenizer;
+		this.chunks = chunks;
+		this.executor = executor;
+		this.maxChunksInFlight = maxChunksInFlight;
+	}
+	
+	/**
+	 * Creates a new stream over the input that is split at line boundaries into chunks of about the given size.
+	 *
+	 * @param tokenizer The tokenizer. It is called by several threads at the same time.
+	 * @param input The input. It is not copied.
+	 * @param chunkSize The number of chars per chunk.
+	 * @param executor The executor that tokenizes the chunks.
+	 *
+	 * @return The new stream.
+	 */
+	public static ParallelTextTokenStream of(ITextTokenizer tokenizer, CharSequence input, int chunkSize, Executor executor)
+	{
+		if(tokenizer == null) throw new ArgumentNullException("tokenizer");
+		if(input == null) throw new ArgumentNullException("input");
+		if(chunkSize < 1) throw new ArgumentTooSmallException("chunkSize", chunkSize, 1);
+		
+		List<CharBufferReader> chunks = new ArrayList<>();
+		
+		int length = input.length();
+		int start = 0;
+		
+		while(start < length)
+		{
+			int end = Math.min(length, start + chunkSize);
+			
+			while(end < length && input.charAt(end - 1) != '\n') end++;
+			
+			chunks.add(new CharBufferReader(input, start, end));
+			
+			start = end;
+		}
+		
+		return new ParallelTextTokenStream(tokenizer, chunks, executor, DEFAULT_MAX_CHUNKS_IN_FLIGHT);
+	}
+	
+	@Override
+	public boolean hasNext()
+	{
+		if(!this.initialized)
+		{
+			this.lookahead = fetch();
+			this.initialized = true;
+		}
+		
+		return this.lookahead != null;
+	}
+	
+	/**
+	 * Returns the next token.
+	 *
+	 * @return The next token or null if the stream has no tokens left.
+	 *
+	 * @throws CompletionException If the tokenization of a chunk failed.
+	 */
+	@Override
+	public TextToken next()
+	{
+		if(!this.initialized)
+		{
+			this.lookahead = fetch();
+			this.initialized = true;
+		}
+		
+		TextToken current = this.lookahead;
+		if(current == null) return null;
+		
+		this.lookahead = fetch();
+		
+		return current;
+	}
+	
+	@Override
+	public TextToken peek()
+	{
+		if(!this.initialized)
+		{
+			this.lookahead = fetch();
+			this.initialized = true;
+		}
+		
+		return this.lookahead;
+	}
+	
+	/**
+	 * Cancels the chunks that are still in flight.
+	 */
+	@Override
+	public void close()
+	{
+		FutureTask<List<TextToken>> task;
+		
+		while((task = this.inFlight.poll()) != null)
+			task.cancel(false);
+		
+		this.nextChunk = this.chunks.size();
+		this.current = Collections.emptyList();
+		this.lookahead = null;
+		this.initialized = true;
+	}
+	
+	/**
+	 * Takes the next token from the tokenized chunks and stitches it with the first tokens
+	 * of the following chunks if it is the last token of its chunk.
+	 */
+	private TextToken fetch()
+	{
+		while(this.index == this.current.size())
+		{
+			List<TextToken> chunk = takeChunk();
+			
+			if(chunk == null) return null;
+			
+			this.current = chunk;
+			this.index = 0;
+		}
+		
+		TextToken token = this.current.get(this.index++);
+		
+		this.stitched.setLength(0);
+		
+		while(this.index == this.current.size())
+		{
+			List<TextToken> chunk = takeChunk();
+			
+			if(chunk == null) break;
+			
+			this.current = chunk;
+			this.index = 0;
+			
+			if(chunk.isEmpty()) continue;
+			
+			TextToken first = chunk.get(0);
+			
+			if(first.classification != token.classification) break;
+			
+			if(this.stitched.length() == 0) this.stitched.append(token.text);
+			
+			this.stitched.append(first.text);
+			
+			this.index = 1;
+		}
+		
+		if(this.stitched.length() > 0) token.text = this.stitched.toString();
+		
+		return token;
+	}
+	
+	/**
+	 * Waits for the tokens of the next chunk and submits further chunks up to the maximum number in flight.
+	 * The chunk is tokenized by the calling thread if the executor has not started it yet.
+	 *
+	 * @return The tokens or null if all chunks were taken.
+	 */
+	private List<TextToken> takeChunk()
+	{
+		while(this.inFlight.size() < this.maxChunksInFlight && this.nextChunk < this.chunks.size())
+		{
+			ICharReader reader = this.chunks.get(this.nextChunk++);
+			
+			FutureTask<List<TextToken>> task = new FutureTask<>(() -> tokenize(reader));
+			
+			this.inFlight.add(task);
+			this.executor.execute(task);
+		}
+		
+		FutureTask<List<TextToken>> task = this.inFlight.poll();
+		
+		if(task == null) return null;
+		
+		// Does nothing if the executor already started the task.
+		task.run();
+		
+		try
+		{
+			return task.get();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			
+			throw new CompletionException(e);
+		}
+		catch(ExecutionException e)
+		{
+			throw new CompletionException(e.getCause());
+		}
+	}
+	
+	private List<TextToken> tokenize(ICharReader reader)
+	{
+		List<TextToken> tokens = new ArrayList<>();
+		
+		if(this.tokenizer instanceof ClassAwareTextTokenizer classAware)
+		{
+			TextTokenCursor cursor = new TextTokenCursor();
+			
+			while(classAware.nextToken(reader, cursor))
+				tokens.add(cursor.toToken());
+			
+			return tokens;
+		}
+		
+		TextToken token;
+		
+		while((token = this.tokenizer.getNextToken(reader)) != null)
+			tokens.add(token);
+		
+		return tokens;
+	}
+}
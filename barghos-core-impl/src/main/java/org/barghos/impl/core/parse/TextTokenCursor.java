@@ -0,0 +1,289 @@
+package org.barghos.impl.core.parse;
+
+import java.util.Arrays;
+
+/**
+ * This class is a reusable cursor for the zero-allocation mode of {@link ClassAwareTextTokenizer}.
+ * It holds the input and the current token as slice with start, length and classification.
+ *
+ * <p>
+ * For in-memory input set with {@link #reset(char[], int, int)} or {@link #reset(CharSequence, int, int)}
+ * the slice refers directly to the input. For input from a reader the chars of the current token are copied
+ * into a buffer of the cursor that is reused for the following tokens.
+ *
+ * <p>
+ * The cursor is a {@link CharSequence} over the chars of the current token, so the token can be compared
+ * and parsed without creating a String. {@link #getText()} creates the String on demand.
+ */
+public class TextTokenCursor implements CharSequence
+{
+	char[] array;
+	CharSequence sequence;
+	int position;
+	int end;
+	
+	/**
+	 * The number of chars read from the reader before the current token.
+	 */
+	long readerPosition;
+	
+	/**
+	 * The buffer for the chars of tokens read from a reader.
+	 */
+	private char[] buffer = new char[64];
+	
+	private char[] chars;
+	private int charsOffset;
+	private CharSequence charsSequence;
+	
+	long start;
+	int length;
+	int classification;
+	
+	/**
+	 * Sets the input of the cursor to the chars of the array from start inclusive to end exclusive.
+	 *
+	 * @param input The input.
+	 * @param start The index of the first char.
+	 * @param end The index after the last char.
+	 *
+	 * @return The current cursor.
+	 */
+	public TextTokenCursor reset(char[] input, int start, int end)
+	{
+		if(start < 0 || end < start || end > input.length) throw new IndexOutOfBoundsException();
+		
+		this.array = input;
+		this.sequence = null;
+		this.position = start;
+		this.end = end;
+		
+		clearToken();
+		
+		return this;
+	}
+	
+	/**
+	 * Sets the input of the cursor to the chars of the sequence from start inclusive to end exclusive.
+	 *
+	 * @param input The input.
+	 * @param start The index of the first char.
+	 * @param end The index after the last char.
+	 *
+	 * @return The current cursor.
+	 */
+	public TextTokenCursor reset(CharSequence input, int start, int end)
+	{
+		if(start < 0 || end < start || end > input.length()) throw new IndexOutOfBoundsException();
+		
+		this.array = null;
+		this.sequence = input;
+		this.position = start;
+		this.end = end;
+		
+		clearToken();
+		
+		return this;
+	}
+	
+	/**
+	 * Clears the input and the current token. This is used before the cursor is passed
+	 * to {@link ClassAwareTextTokenizer#nextToken(org.barghos.api.core.io.reader.ICharReader, TextTokenCursor)}
+	 * with a new reader.
+	 *
+	 * @return The current cursor.
+	 */
+	public TextTokenCursor reset()
+	{
+		this.array = null;
+		this.sequence = null;
+		this.position = 0;
+		this.end = 0;
+		this.readerPosition = 0l;
+		
+		clearToken();
+		
+		return this;
+	}
+	
+	private void clearToken()
+	{
+		this.chars = this.buffer;
+		this.charsSequence = null;
+		this.charsOffset = 0;
+		this.start = 0l;
+		this.length = 0;
+		this.classification = 0;
+	}
+	
+	/**
+	 * Returns the index of the first char of the current token in the input.
+	 * For input from a reader this is the number of chars read from the reader before the token.
+	 *
+	 * @return The start of the current token.
+	 */
+	public long getStart()
+	{
+		return this.start;
+	}
+	
+	/**
+	 * Returns the index after the last char of the current token in the input.
+	 *
+	 * @return The end of the current token.
+	 */
+	public long getEnd()
+	{
+		return this.start + this.length;
+	}
+	
+	public int getLength()
+	{
+		return this.length;
+	}
+	
+	public int getClassification()
+	{
+		return this.classification;
+	}
+	
+	@Override
+	public int length()
+	{
+		return this.length;
+	}
+	
+	@Override
+	public char charAt(int index)
+	{
+		if(index < 0 || index >= this.length) throw new IndexOutOfBoundsException(index);
+		
+		if(this.charsSequence != null) return this.charsSequence.charAt(this.charsOffset + index);
+		
+		return this.chars[this.charsOffset + index];
+	}
+	
+	@Override
+	public CharSequence subSequence(int start, int end)
+	{
+		return getText().substring(start, end);
+	}
+	
+	/**
+	 * Returns true if the chars of the current token are equal to the chars of the sequence.
+	 *
+	 * @param sequence The sequence.
+	 *
+	 * @return True if the chars are equal.
+	 */
+	public boolean contentEquals(CharSequence sequence)
+	{
+		if(sequence.length() != this.length) return false;
+		
+		for(int i = 0; i < this.length; i++)
+			if(charAt(i) != sequence.charAt(i)) return false;
+		
+		return true;
+	}
+	
+	/**
+	 * Copies the chars of the current token into the array.
+	 *
+	 * @param res The array receiving the chars.
+	 * @param offset The index of the first char in the array.
+	 *
+	 * @return The number of copied chars.
+	 */
+	public int getChars(char[] res, int offset)
+	{
+		if(this.charsSequence == null)
+		{
+			System.arraycopy(this.chars, this.charsOffset, res, offset, this.length);
+		}
+		else
+		{
+			for(int i = 0; i < this.length; i++)
+				res[offset + i] = this.charsSequence.charAt(this.charsOffset + i);
+		}
+		
+		return this.length;
+	}
+	
+	/**
+	 * Creates a String with the chars of the current token.
+	 *
+	 * @return The text of the current token.
+	 */
+	public String getText()
+	{
+		if(this.charsSequence == null) return new String(this.chars, this.charsOffset, this.length);
+		
+		return this.charsSequence.subSequence(this.charsOffset, this.charsOffset + this.length).toString();
+	}
+	
+	/**
+	 * Creates a {@link TextToken} from the current token.
+	 *
+	 * @return The new token.
+	 */
+	public TextToken toToken()
+	{
+		TextToken token = new TextToken();
+		token.text = getText();
+		token.classification = this.classification;
+		
+		return token;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return getText();
+	}
+	
+	/**
+	 * Sets the current token to a slice of the input.
+	 */
+	void setSlice(int start, int length, int classification)
+	{
+		if(this.array != null)
+		{
+			this.chars = this.array;
+			this.charsSequence = null;
+		}
+		else
+		{
+			this.charsSequence = this.sequence;
+		}
+		
+		this.charsOffset = start;
+		this.start = start;
+		this.length = length;
+		this.classification = classification;
+	}
+	
+	/**
+	 * Starts a new token in the buffer of the cursor with the chars read from a reader.
+	 */
+	void beginCopy(int classification)
+	{
+		this.chars = this.buffer;
+		this.charsSequence = null;
+		this.charsOffset = 0;
+		this.start = this.readerPosition;
+		this.length = 0;
+		this.classification = classification;
+	}
+	
+	void append(char c)
+	{
+		if(this.length == this.buffer.length)
+		{
+			this.buffer = Arrays.copyOf(this.buffer, this.length << 1);
+			this.chars = this.buffer;
+		}
+		
+		this.buffer[this.length++] = c;
+		this.readerPosition++;
+	}
+}
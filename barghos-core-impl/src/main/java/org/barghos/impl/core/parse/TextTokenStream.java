@@ -2,7 +2,7 @@ package org.barghos.impl.core.parse;
 
 import org.barghos.api.core.io.reader.ICharReader;
 
-public class TextTokenStream
+public class TextTokenStream implements ITextTokenStream
 {
 	private final ICharReader reader;
 	private final ITextTokenizer tokenizer;
@@ -16,6 +16,7 @@ public class TextTokenStream
 		this.reader = reader;
 	}
 	
+	@Override
 	public boolean hasNext()
 	{
 		if(!this.initialized)
@@ -27,6 +28,7 @@ public class TextTokenStream
 		return this.lookahead != null;
 	}
 	
+	@Override
 	public TextToken next()
 	{
 		if(!this.initialized)
@@ -43,6 +45,7 @@ public class TextTokenStream
 		return current;
 	}
 	
+	@Override
 	public TextToken peek()
 	{
 		if(!this.initialized)
@@ -0,0 +1,136 @@
+package org.barghos.impl.core.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class represents a job of a {@link JobSystem}.
+ * A job is finished when its task and all of its child jobs are finished.
+ * Jobs that depend on it are scheduled as soon as it is finished.
+ */
+public final class Job
+{
+	private final Runnable task;
+	private final Job parent;
+	
+	/**
+	 * The number of unfinished parts of this job: the task itself and the children.
+	 */
+	final AtomicInteger unfinished = new AtomicInteger(1);
+	
+	/**
+	 * The number of unfinished dependencies plus one while the job is being registered.
+	 */
+	final AtomicInteger dependencies = new AtomicInteger(1);
+	
+	private List<Job> dependents;
+	
+	private volatile boolean finished;
+	private volatile Throwable exception;
+	
+	Job(Runnable task, Job parent)
+	{
+		this.task = task;
+		this.parent = parent;
+	}
+	
+	/**
+	 * Returns whether the job and all of its children are finished.
+	 * 
+	 * @return True if the job is finished.
+	 */
+	public boolean isFinished()
+	{
+		return this.finished;
+	}
+	
+	/**
+	 * Returns the first exception thrown by the task of this job or one of its children.
+	 * 
+	 * @return The exception or null.
+	 */
+	public Throwable getException()
+	{
+		return this.exception;
+	}
+	
+	Job getParent()
+	{
+		return this.parent;
+	}
+	
+	void execute()
+	{
+		try
+		{
+			this.task.run();
+		}
+		catch(Throwable e)
+		{
+			fail(e);
+		}
+	}
+	
+	void fail(Throwable e)
+	{
+		for(Job job = this; job != null; job = job.parent)
+		{
+			if(job.exception == null) job.exception = e;
+		}
+	}
+	
+	/**
+	 * Registers a child. This fails if the job is already finished.
+	 */
+	boolean addChild()
+	{
+		int count;
+		do
+		{
+			count = this.unfinished.get();
+			
+			if(count == 0) return false;
+		}
+		while(!this.unfinished.compareAndSet(count, count + 1));
+		
+		return true;
+	}
+	
+	/**
+	 * Registers a job that depends on this job.
+	 * 
+	 * @return False if this job is already finished and the dependent does not have to wait for it.
+	 */
+	synchronized boolean addDependent(Job job)
+	{
+		if(this.finished) return false;
+		
+		if(this.dependents == null) this.dependents = new ArrayList<>(2);
+		
+		this.dependents.add(job);
+		
+		return true;
+	}
+	
+	/**
+	 * Marks the job as finished.
+	 * 
+	 * @return The jobs that depended on this job or null.
+	 */
+	synchronized List<Job> finish()
+	{
+		this.finished = true;
+		
+		List<Job> dependents = this.dependents;
+		this.dependents = null;
+		
+		return dependents;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "job(finished=" + this.finished + ", unfinished=" + this.unfinished.get() + ", dependencies=" + this.dependencies.get() + ")";
+	}
+}
@@ -0,0 +1,428 @@
+package org.barghos.impl.core.thread;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.barghos.validation.exception.argument.ArgumentNullException;
+import org.barghos.validation.exception.argument.ArgumentTooSmallException;
+
+/**
+ * This class is a work stealing job system for spreading the work of a frame or tick over all cores.
+ *
+ * <p>
+ * Every worker owns a deque of jobs. Jobs scheduled from a worker are pushed to its own deque and executed
+ * in last-in-first-out order, while idle workers steal the oldest jobs from the deques of other workers.
+ * Jobs scheduled from other threads go through a shared queue.
+ *
+ * <p>
+ * Jobs can depend on other jobs and are only executed after all of their dependencies are finished, which allows
+ * building job graphs. Jobs can also have child jobs, in which case they are only finished after all children are
+ * finished. {@link #parallelFor(int, int, int, RangeTask, Job...)} splits an index range recursively into child jobs.
+ *
+ * <p>
+ * {@link #waitFor(Job)} does not block the calling thread but executes other jobs until the job is finished.
+ */
+public class JobSystem
+{
+	private static final int DEQUE_CAPACITY = 4096;
+	private static final int SPINS_BEFORE_PARK = 64;
+	
+	private final Worker[] workers;
+	private final ConcurrentLinkedQueue<Job> injected = new ConcurrentLinkedQueue<>();
+	private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+	private final AtomicInteger idleWorkers = new AtomicInteger();
+	
+	private volatile boolean running = true;
+	
+	/**
+	 * Creates a new job system with one worker per available processor except one for the calling thread.
+	 */
+	public JobSystem()
+	{
+		this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+	}
+	
+	/**
+	 * Creates a new job system with the given number of workers.
+	 *
+	 * @param workerCount The number of workers.
+	 */
+	public JobSystem(int workerCount)
+	{
+		this(workerCount, new SimpleDaemonThreadFactory());
+	}
+	
+	/**
+	 * Creates a new job system with the given number of workers created by the given thread factory.
+	 *
+	 * @param workerCount The number of workers.
+	 * @param threadFactory The factory for the worker threads.
+	 */
+	public JobSystem(int workerCount, ThreadFactory threadFactory)
+	{
+		if(workerCount < 1) throw new ArgumentTooSmallException("workerCount", workerCount, 1);
+		if(threadFactory == null) throw new ArgumentNullException("threadFactory");
+		
+		this.workers = new Worker[workerCount];
+		
+		for(int i = 0; i < workerCount; i++)
+		{
+			Worker worker = new Worker();
+			worker.thread = threadFactory.newThread(worker);
+			worker.thread.setName("barghos-job-worker-" + i);
+			
+			this.workers[i] = worker;
+		}
+		
+		for(Worker worker : this.workers)
+			worker.thread.start();
+	}
+	
+	public int getWorkerCount()
+	{
+		return this.workers.length;
+	}
+	
+	/**
+	 * Schedules the task as a new job. The job is executed after all of the given dependencies are finished.
+	 *
+	 * @param task The task.
+	 * @param dependencies The jobs that have to be finished before the task can be executed.
+	 *
+	 * @return The job.
+	 */
+	public Job schedule(Runnable task, Job... dependencies)
+	{
+		if(task == null) throw new ArgumentNullException("task");
+		
+		Job job = new Job(task, null);
+		
+		register(job, dependencies);
+		
+		return job;
+	}
+	
+	/**
+	 * Schedules the task as a child job of the parent. The parent is not finished before the child is finished.
+	 * This is typically called from within the task of the parent.
+	 *
+	 * @param parent The parent job. It must not be finished yet.
+	 * @param task The task.
+	 * @param dependencies The jobs that have to be finished before the task can be executed.
+	 *
+	 * @return The job.
+	 */
+	public Job scheduleChild(Job parent, Runnable task, Job... dependencies)
+	{
+		if(parent == null) throw new ArgumentNullException("parent");
+		if(task == null) throw new ArgumentNullException("task");
+		
+		if(!parent.addChild()) throw new IllegalStateException("The parent job is already finished.");
+		
+		Job job = new Job(task, parent);
+		
+		register(job, dependencies);
+		
+		return job;
+	}
+	
+	/**
+	 * Schedules a job that runs the task over the index range from start inclusive to end exclusive.
+	 * The range is split in halves into child jobs until the parts are not bigger than the chunk size.
+	 * The chunk size is the given minimum or a fraction of the range that gives every worker several parts.
+	 *
+	 * @param start The first index.
+	 * @param end The index after the last index. It must not be less than the first index.
+	 * @param minChunkSize The minimum number of indices processed by one call of the task.
+	 * @param task The task.
+	 * @param dependencies The jobs that have to be finished before the task can be executed.
+	 *
+	 * @return The job that is finished when the whole range is processed.
+	 */
+	public Job parallelFor(int start, int end, int minChunkSize, RangeTask task, Job... dependencies)
+	{
+		if(task == null) throw new ArgumentNullException("task");
+		if(minChunkSize < 1) throw new ArgumentTooSmallException("minChunkSize", minChunkSize, 1);
+		if(end < start) throw new ArgumentTooSmallException("end", end, start);
+		
+		long count = (long)end - start;
+		int chunkSize = (int)Math.max(minChunkSize, count / (this.workers.length * 4));
+		
+		RangeSplitter splitter = new RangeSplitter(start, end, chunkSize, task);
+		
+		Job job = new Job(splitter, null);
+		splitter.job = job;
+		
+		register(job, dependencies);
+		
+		return job;
+	}
+	
+	/**
+	 * Executes other jobs until the job is finished.
+	 *
+	 * @param job The job.
+	 *
+	 * @throws CompletionException If the task of the job or one of its children threw an exception.
+	 */
+	public void waitFor(Job job)
+	{
+		Worker self = this.currentWorker.get();
+		
+		int idle = 0;
+		
+		while(!job.isFinished())
+		{
+			Job other = find(self);
+			
+			if(other != null)
+			{
+				execute(other);
+				
+				idle = 0;
+				
+				continue;
+			}
+			
+			idle++;
+			
+			if(idle < SPINS_BEFORE_PARK) Thread.onSpinWait();
+			else if(idle < SPINS_BEFORE_PARK * 2) Thread.yield();
+			else LockSupport.parkNanos(50_000l);
+		}
+		
+		Throwable e = job.getException();
+		
+		if(e != null) throw new CompletionException(e);
+	}
+	
+	/**
+	 * Stops all workers after they finished their current job. Jobs that are not executed yet are dropped.
+	 */
+	public void shutdown()
+	{
+		this.running = false;
+		
+		for(Worker worker : this.workers)
+			LockSupport.unpark(worker.thread);
+	}
+	
+	public boolean isRunning()
+	{
+		return this.running;
+	}
+	
+	private void register(Job job, Job[] dependencies)
+	{
+		for(Job dependency : dependencies)
+		{
+			job.dependencies.incrementAndGet();
+			
+			if(!dependency.addDependent(job)) job.dependencies.decrementAndGet();
+		}
+		
+		release(job);
+	}
+	
+	/**
+	 * Resolves one dependency of the job and pushes it if it has none left.
+	 */
+	private void release(Job job)
+	{
+		if(job.dependencies.decrementAndGet() != 0) return;
+		
+		Worker self = this.currentWorker.get();
+		
+		if(self == null || !self.deque.push(job)) this.injected.offer(job);
+		
+		signal();
+	}
+	
+	private void execute(Job job)
+	{
+		job.execute();
+		
+		complete(job);
+	}
+	
+	private void complete(Job job)
+	{
+		while(job != null && job.unfinished.decrementAndGet() == 0)
+		{
+			List<Job> dependents = job.finish();
+			
+			if(dependents != null)
+			{
+				for(int i = 0; i < dependents.size(); i++)
+					release(dependents.get(i));
+			}
+			
+			job = job.getParent();
+		}
+	}
+	
+	private Job find(Worker self)
+	{
+		Job job;
+		
+		if(self != null && (job = self.deque.pop()) != null) return job;
+		
+		if((job = this.injected.poll()) != null) return job;
+		
+		int count = this.workers.length;
+		int offset = ThreadLocalRandom.current().nextInt(count);
+		
+		for(int i = 0; i < count; i++)
+		{
+			Worker victim = this.workers[(offset + i) % count];
+			
+			if(victim == self) continue;
+			
+			if((job = victim.deque.steal()) != null) return job;
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Wakes up one idle worker if there is any.
+	 */
+	private void signal()
+	{
+		if(this.idleWorkers.get() == 0) return;
+		
+		for(Worker worker : this.workers)
+		{
+			if(worker.idle)
+			{
+				worker.idle = false;
+				
+				LockSupport.unpark(worker.thread);
+				
+				return;
+			}
+		}
+	}
+	
+	private boolean hasWork()
+	{
+		if(!this.injected.isEmpty()) return true;
+		
+		for(Worker worker : this.workers)
+			if(!worker.deque.isEmpty()) return true;
+		
+		return false;
+	}
+	
+	/**
+	 * A task over a part of an index range.
+	 */
+	@FunctionalInterface
+	public static interface RangeTask
+	{
+		/**
+		 * Processes the indices from start inclusive to end exclusive.
+		 *
+		 * @param start The first index.
+		 * @param end The index after the last index.
+		 */
+		void run(int start, int end);
+	}
+	
+	private final class RangeSplitter implements Runnable
+	{
+		private final int start;
+		private final int end;
+		private final int chunkSize;
+		private final RangeTask task;
+		
+		private Job job;
+		
+		private RangeSplitter(int start, int end, int chunkSize, RangeTask task)
+		{
+			this.start = start;
+			this.end = end;
+			this.chunkSize = chunkSize;
+			this.task = task;
+		}
+		
+		@Override
+		public void run()
+		{
+			int start = this.start;
+			int end = this.end;
+			
+			while((long)end - start > this.chunkSize)
+			{
+				int middle = start + ((end - start) >>> 1);
+				
+				RangeSplitter splitter = new RangeSplitter(middle, end, this.chunkSize, this.task);
+				
+				this.job.addChild();
+				
+				Job child = new Job(splitter, this.job);
+				splitter.job = child;
+				
+				release(child);
+				
+				end = middle;
+			}
+			
+			if(end > start) this.task.run(start, end);
+		}
+	}
+	
+	private final class Worker implements Runnable
+	{
+		private final WorkStealingDeque<Job> deque = new WorkStealingDeque<>(DEQUE_CAPACITY);
+		
+		private Thread thread;
+		private volatile boolean idle;
+		
+		@Override
+		public void run()
+		{
+			JobSystem.this.currentWorker.set(this);
+			
+			int spins = 0;
+			
+			while(JobSystem.this.running)
+			{
+				Job job = find(this);
+				
+				if(job != null)
+				{
+					execute(job);
+					
+					spins = 0;
+					
+					continue;
+				}
+				
+				if(++spins < SPINS_BEFORE_PARK)
+				{
+					Thread.onSpinWait();
+					
+					continue;
+				}
+				
+				this.idle = true;
+				JobSystem.this.idleWorkers.incrementAndGet();
+				
+				if(JobSystem.this.running && !hasWork()) LockSupport.park(this);
+				
+				JobSystem.this.idleWorkers.decrementAndGet();
+				this.idle = false;
+				
+				if(hasWork()) signal();
+				
+				spins = 0;
+			}
+		}
+	}
+}
@@ -0,0 +1,417 @@
+package org.barghos.impl.core.thread;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.barghos.validation.exception.argument.ArgumentNullException;
+import org.barghos.validation.exception.argument.ArgumentTooSmallException;
+
+/**
+ * This class is an executor for blocking, I/O-bound loads like reading assets and levels.
+ *
+ * <p>
+ * In {@link Mode#VIRTUAL} every load runs on its own virtual thread, so thousands of small reads can overlap
+ * without a platform thread per file. In {@link Mode#PLATFORM} the loads run on a fixed pool of daemon threads.
+ * The default mode is virtual and can be switched to platform with the system property
+ * {@code barghos.loader.virtual=false}.
+ *
+ * <p>
+ * In both modes the number of loads running at the same time is bounded by a semaphore, so that a burst
+ * of loads does not open more files at once than the given maximum concurrency.
+ *
+ * <p>
+ * Loads that belong together can be forked in a {@link Group}. A group waits for all of its loads with
+ * {@link Group#join()} and cancels the remaining loads as soon as one of them fails.
+ */
+public class LoaderExecutor implements AutoCloseable
+{
+	/**
+	 * The mode used by the constructors without explicit mode.
+	 */
+	public static final Mode DEFAULT_MODE = Boolean.parseBoolean(System.getProperty("barghos.loader.virtual", "true")) ? Mode.VIRTUAL : Mode.PLATFORM;
+	
+	private final Mode mode;
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final int maxConcurrency;
+	
+	/**
+	 * Creates a new executor in the default mode.
+	 *
+	 * @param maxConcurrency The maximum number of loads running at the same time.
+	 */
+	public LoaderExecutor(int maxConcurrency)
+	{
+		this(DEFAULT_MODE, maxConcurrency);
+	}
+	
+	/**
+	 * Creates a new executor in the given mode. In {@link Mode#PLATFORM} the pool has one thread per available processor,
+	 * but not more threads than the maximum concurrency.
+	 *
+	 * @param mode The mode.
+	 * @param maxConcurrency The maximum number of loads running at the same time.
+	 */
+	public LoaderExecutor(Mode mode, int maxConcurrency)
+	{
+		this(mode, maxConcurrency, Math.min(maxConcurrency, Runtime.getRuntime().availableProcessors()));
+	}
+	
+	/**
+	 * Creates a new executor in the given mode.
+	 *
+	 * @param mode The mode.
+	 * @param maxConcurrency The maximum number of loads running at the same time.
+	 * @param platformThreads The number of threads of the pool in {@link Mode#PLATFORM}. It is ignored in {@link Mode#VIRTUAL}.
+	 */
+	public LoaderExecutor(Mode mode, int maxConcurrency, int platformThreads)
+	{
+		if(mode == null) throw new ArgumentNullException("mode");
+		if(maxConcurrency < 1) throw new ArgumentTooSmallException("maxConcurrency", maxConcurrency, 1);
+		if(platformThreads < 1) throw new ArgumentTooSmallException("platformThreads", platformThreads, 1);
+		
+		this.mode = mode;
+		this.maxConcurrency = maxConcurrency;
+		this.permits = new Semaphore(maxConcurrency);
+		
+		this.executor = switch(mode) {
+			case VIRTUAL -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("barghos-loader-", 0).factory());
+			case PLATFORM -> Executors.newFixedThreadPool(platformThreads, new SimpleDaemonThreadFactory());
+		};
+	}
+	
+	public Mode getMode()
+	{
+		return this.mode;
+	}
+	
+	public int getMaxConcurrency()
+	{
+		return this.maxConcurrency;
+	}
+	
+	/**
+	 * Returns the number of loads that are currently running.
+	 *
+	 * @return The number of running loads.
+	 */
+	public int getActiveLoads()
+	{
+		return this.maxConcurrency - this.permits.availablePermits();
+	}
+	
+	/**
+	 * Submits a single load.
+	 *
+	 * @param <T> The type of the loaded value.
+	 *
+	 * @param load The load.
+	 *
+	 * @return The future of the loaded value.
+	 */
+	public <T> Future<T> submit(Callable<T> load)
+	{
+		if(load == null) throw new ArgumentNullException("load");
+		
+		return this.executor.submit(() -> runBounded(load));
+	}
+	
+	/**
+	 * Opens a new group for loads that belong together.
+	 * The group should be used in a try-with-resources statement.
+	 *
+	 * @return The new group.
+	 */
+	public Group group()
+	{
+		return new Group();
+	}
+	
+	/**
+	 * Stops accepting loads and waits until all submitted loads are finished.
+	 */
+	@Override
+	public void close()
+	{
+		this.executor.close();
+	}
+	
+	/**
+	 * Stops accepting loads and interrupts the running loads.
+	 */
+	public void shutdownNow()
+	{
+		this.executor.shutdownNow();
+	}
+	
+	private <T> T runBounded(Callable<T> load) throws Exception
+	{
+		this.permits.acquire();
+		
+		try
+		{
+			return load.call();
+		}
+		finally
+		{
+			this.permits.release();
+		}
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "loaderexecutor(mode=" + this.mode.name() + ", maxConcurrency=" + this.maxConcurrency + ", activeLoads=" + getActiveLoads() + ")";
+	}
+	
+	public static enum Mode
+	{
+		/**
+		 * Every load runs on its own virtual thread.
+		 */
+		VIRTUAL,
+		
+		/**
+		 * The loads run on a fixed pool of platform daemon threads.
+		 */
+		PLATFORM
+		;
+	}
+	
+	/**
+	 * This class groups loads that belong together, for example all assets of a level.
+	 * Loads are forked and joined by the thread that opened the group. If one load fails, the other
+	 * loads of the group are cancelled and {@link #join()} reports the first failure.
+	 * Closing the group cancels all loads that are not finished yet and waits until they stopped running,
+	 * so no load outlives the scope of the group.
+	 *
+	 * <p>
+	 * This follows the shutdown-on-failure policy of structured concurrency without depending on the
+	 * preview API.
+	 */
+	public final class Group implements AutoCloseable
+	{
+		private final Set<Task<?>> tasks = ConcurrentHashMap.newKeySet();
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
+		
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition finished = this.lock.newCondition();
+		private int pending;
+		
+		private boolean closed;
+		
+		private Group() { }
+		
+		/**
+		 * Forks a load in this group.
+		 *
+		 * @param <T> The type of the loaded value.
+		 *
+		 * @param load The load.
+		 *
+		 * @return The future of the loaded value.
+		 */
+		public <T> Future<T> fork(Callable<T> load)
+		{
+			if(load == null) throw new ArgumentNullException("load");
+			if(this.closed) throw new IllegalStateException("The group is closed.");
+			
+			Task<T> task = new Task<>(load);
+			
+			this.lock.lock();
+			
+			try
+			{
+				this.pending++;
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			this.tasks.add(task);
+			
+			if(this.failure.get() != null)
+			{
+				task.cancel(false);
+				
+				return task;
+			}
+			
+			LoaderExecutor.this.executor.execute(task);
+			
+			return task;
+		}
+		
+		/**
+		 * Waits until all forked loads are finished or cancelled. A cancelled load counts as finished
+		 * as soon as it stopped running.
+		 *
+		 * @return The current group.
+		 *
+		 * @throws InterruptedException If the waiting thread was interrupted.
+		 * @throws ExecutionException If a load failed. The cause is the first failure of the group.
+		 */
+		public Group join() throws InterruptedException, ExecutionException
+		{
+			this.lock.lockInterruptibly();
+			
+			try
+			{
+				while(this.pending > 0)
+					this.finished.await();
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+			
+			Throwable e = this.failure.get();
+			
+			if(e != null) throw new ExecutionException(e);
+			
+			return this;
+		}
+		
+		/**
+		 * Cancels all loads of the group that are not finished yet.
+		 */
+		public void cancel()
+		{
+			for(Task<?> task : this.tasks)
+				task.cancel(true);
+		}
+		
+		/**
+		 * Cancels the loads that are not finished yet, waits until all loads stopped running and closes the group.
+		 * If the closing thread is interrupted while waiting, it keeps waiting and its interrupt status is set
+		 * again on return.
+		 */
+		@Override
+		public void close()
+		{
+			if(this.closed) return;
+			
+			this.closed = true;
+			
+			cancel();
+			
+			this.lock.lock();
+			
+			try
+			{
+				// A load that ignores the interrupt still holds its permit, so it has to be awaited.
+				while(this.pending > 0)
+					this.finished.awaitUninterruptibly();
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+		}
+		
+		private void finish(Task<?> task)
+		{
+			this.tasks.remove(task);
+			
+			this.lock.lock();
+			
+			try
+			{
+				if(--this.pending == 0) this.finished.signalAll();
+			}
+			finally
+			{
+				this.lock.unlock();
+			}
+		}
+		
+		/**
+		 * A task of the group. It is finished after the load stopped running and the future is completed,
+		 * so that a load that is cancelled while running is still awaited by {@link Group#join()}.
+		 */
+		private final class Task<T> extends FutureTask<T>
+		{
+			private final AtomicBoolean started = new AtomicBoolean();
+			private final AtomicInteger arrivals = new AtomicInteger(2);
+			
+			private Task(Callable<T> load)
+			{
+				this(new Load<>(load));
+			}
+			
+			private Task(Load<T> load)
+			{
+				super(load);
+				
+				load.task = this;
+			}
+			
+			@Override
+			protected void setException(Throwable e)
+			{
+				if(isCancelled()) return;
+				
+				if(Group.this.failure.compareAndSet(null, e))
+				{
+					for(Task<?> task : Group.this.tasks)
+						if(task != this) task.cancel(true);
+				}
+				
+				super.setException(e);
+			}
+			
+			@Override
+			protected void done()
+			{
+				// A task that is cancelled before it started never runs its load.
+				if(this.started.compareAndSet(false, true)) arrive();
+				
+				arrive();
+			}
+			
+			private void arrive()
+			{
+				if(this.arrivals.decrementAndGet() == 0) finish(this);
+			}
+		}
+		
+		private final class Load<T> implements Callable<T>
+		{
+			private final Callable<T> load;
+			private Task<T> task;
+			
+			private Load(Callable<T> load)
+			{
+				this.load = load;
+			}
+			
+			@Override
+			public T call() throws Exception
+			{
+				if(!this.task.started.compareAndSet(false, true)) return null;
+				
+				try
+				{
+					return runBounded(this.load);
+				}
+				finally
+				{
+					this.task.arrive();
+				}
+			}
+		}
+	}
+}
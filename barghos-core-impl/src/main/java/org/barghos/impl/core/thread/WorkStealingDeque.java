@@ -0,0 +1,111 @@
+package org.barghos.impl.core.thread;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class is a bounded Chase-Lev work stealing deque.
+ * The owning thread pushes and pops at the bottom, other threads steal from the top.
+ * Taken slots are cleared, so finished items are not kept reachable until the ring wraps around.
+ */
+final class WorkStealingDeque<T>
+{
+	private final AtomicReferenceArray<T> items;
+	private final int mask;
+	
+	private final AtomicLong top = new AtomicLong();
+	private volatile long bottom;
+	
+	WorkStealingDeque(int capacity)
+	{
+		if(Integer.bitCount(capacity) != 1) throw new IllegalArgumentException();
+		
+		this.items = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+	
+	/**
+	 * Pushes the item at the bottom. Must only be called by the owning thread.
+	 * 
+	 * @return False if the deque is full.
+	 */
+	boolean push(T item)
+	{
+		long b = this.bottom;
+		long t = this.top.get();
+		
+		if(b - t > this.mask) return false;
+		
+		this.items.set((int)b & this.mask, item);
+		this.bottom = b + 1;
+		
+		return true;
+	}
+	
+	/**
+	 * Pops the item at the bottom. Must only be called by the owning thread.
+	 */
+	T pop()
+	{
+		long b = this.bottom - 1;
+		this.bottom = b;
+		
+		long t = this.top.get();
+		
+		if(t > b)
+		{
+			this.bottom = b + 1;
+			
+			return null;
+		}
+		
+		int index = (int)b & this.mask;
+		
+		T item = this.items.get(index);
+		
+		if(t == b)
+		{
+			if(!this.top.compareAndSet(t, t + 1))
+			{
+				this.bottom = b + 1;
+				
+				// The item was stolen and the thief clears the slot.
+				return null;
+			}
+			
+			this.bottom = b + 1;
+		}
+		
+		// Only the owner writes a slot at or above the top, so the slot can be cleared directly.
+		this.items.set(index, null);
+		
+		return item;
+	}
+	
+	/**
+	 * Steals the item at the top. Can be called by any thread.
+	 */
+	T steal()
+	{
+		long t = this.top.get();
+		long b = this.bottom;
+		
+		if(t >= b) return null;
+		
+		int index = (int)t & this.mask;
+		
+		T item = this.items.get(index);
+		
+		if(!this.top.compareAndSet(t, t + 1)) return null;
+		
+		// The owner may already have pushed a new item into the slot after the top moved on.
+		this.items.compareAndSet(index, item, null);
+		
+		return item;
+	}
+	
+	boolean isEmpty()
+	{
+		return this.top.get() >= this.bottom;
+	}
+}
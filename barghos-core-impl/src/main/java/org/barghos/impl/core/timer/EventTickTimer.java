@@ -0,0 +1,106 @@
+package org.barghos.impl.core.timer;
+
+import java.util.Objects;
+
+import org.barghos.impl.core.metrics.MetricsEvents;
+import org.barghos.impl.core.metrics.TickEvent;
+
+/**
+ * This class decorates a {@link TickTimer} and emits a {@link TickEvent} to the flight recorder for every tick.
+ * The events carry the name of the timer, the running tick number, the number of passed ticks and the
+ * time since the previous tick. Each event is begun at the previous tick, so its start time and duration
+ * in the recording cover the interval between the ticks.
+ */
+public class EventTickTimer implements TickTimer
+{
+	private final TickTimer timer;
+	private final String phase;
+	
+	private long tick;
+	private long lastTickTime;
+	private TickEvent event;
+	
+	public EventTickTimer(TickTimer timer, String phase)
+	{
+		this.timer = Objects.requireNonNull(timer);
+		this.phase = Objects.requireNonNull(phase);
+	}
+	
+	@Override
+	public void start()
+	{
+		this.timer.start();
+		
+		this.lastTickTime = System.nanoTime();
+		this.event = MetricsEvents.beginTick();
+	}
+	
+	@Override
+	public void stop()
+	{
+		this.timer.stop();
+	}
+	
+	@Override
+	public void reset()
+	{
+		this.timer.reset();
+		
+		this.tick = 0l;
+		this.lastTickTime = System.nanoTime();
+		this.event = MetricsEvents.beginTick();
+	}
+	
+	@Override
+	public boolean tick()
+	{
+		if(!this.timer.tick()) return false;
+		
+		int passedTicks = this.timer.getPassedTicks();
+		
+		this.tick += passedTicks;
+		
+		long time = System.nanoTime();
+		
+		MetricsEvents.endTick(this.event, this.phase, this.tick, passedTicks, time - this.lastTickTime);
+		
+		this.lastTickTime = time;
+		this.event = MetricsEvents.beginTick();
+		
+		return true;
+	}
+	
+	@Override
+	public void setTicks(int ticks)
+	{
+		this.timer.setTicks(ticks);
+	}
+	
+	@Override
+	public void setTicks(int ticks, boolean reset)
+	{
+		this.timer.setTicks(ticks, reset);
+	}
+	
+	@Override
+	public int getTicks()
+	{
+		return this.timer.getTicks();
+	}
+	
+	@Override
+	public int getPassedTicks()
+	{
+		return this.timer.getPassedTicks();
+	}
+	
+	/**
+	 * Returns the decorated timer.
+	 * 
+	 * @return The decorated timer.
+	 */
+	public TickTimer getTimer()
+	{
+		return this.timer;
+	}
+}
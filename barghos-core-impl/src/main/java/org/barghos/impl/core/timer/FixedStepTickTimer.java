@@ -0,0 +1,457 @@
+package org.barghos.impl.core.timer;
+
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import org.barghos.impl.core.metrics.LatencyHistogram;
+import org.barghos.impl.core.metrics.Stopwatch;
+
+/**
+ * This class is a fixed timestep tick timer for game and simulation loops.
+ * The logic runs at a fixed number of ticks per second while frames can be rendered at a different,
+ * variable rate. The time between two calls to {@link #tick()} is collected in an accumulator and consumed
+ * in whole steps. The remainder is available as interpolation factor through {@link #getAlpha()}.
+ *
+ * <pre>
+ * timer.start();
+ *
+ * while(running)
+ * {
+ *     if(timer.tick())
+ *         for(int i = 0; i &lt; timer.getPassedTicks(); i++) update();
+ *
+ *     render(timer.getAlpha());
+ *
+ *     timer.waitForNextFrame();
+ * }
+ * </pre>
+ *
+ * <p>
+ * If the loop falls behind, at most {@code maxCatchUpSteps} ticks are passed by a single call to {@link #tick()}.
+ * The remaining backlog is dropped and counted as missed ticks, so a slow update can not cause a spiral of death.
+ *
+ * <p>
+ * The timer measures time in nanoseconds. It is not thread safe and is meant to be driven by the loop thread.
+ */
+public class FixedStepTickTimer implements TickTimer
+{
+	public static final int DEFAULT_MAX_CATCH_UP_STEPS = 5;
+	public static final long DEFAULT_SPIN_THRESHOLD = 200_000l;
+	
+	/**
+	 * The frame rate that renders exactly one frame per tick.
+	 */
+	public static final int FRAME_RATE_TICKS = 0;
+	
+	/**
+	 * The frame rate that does not wait between frames.
+	 */
+	public static final int FRAME_RATE_UNLIMITED = -1;
+	
+	private final LongSupplier timeSupplier;
+	
+	private int ticks;
+	private long stepNanos;
+	
+	private int frameRate = FRAME_RATE_TICKS;
+	private long frameNanos;
+	
+	private int maxCatchUpSteps = DEFAULT_MAX_CATCH_UP_STEPS;
+	
+	private WaitStrategy waitStrategy = WaitStrategy.HYBRID;
+	private long spinThreshold = DEFAULT_SPIN_THRESHOLD;
+	
+	private boolean running;
+	
+	private long lastTime;
+	private long accumulator;
+	private long nextFrameTime;
+	
+	private int passedTicks;
+	private long totalTicks;
+	
+	private long missedTicks;
+	private long overruns;
+	private final LatencyHistogram jitter = new LatencyHistogram(1_000_000_000l, 7, Stopwatch.Resolution.NANOSECONDS);
+	
+	/**
+	 * Creates a new timer with the given number of ticks per second that measures time with {@link System#nanoTime()}.
+	 *
+	 * @param ticks The number of ticks per second.
+	 */
+	public FixedStepTickTimer(int ticks)
+	{
+		this(ticks, Stopwatch.DEFAULT_TIME_SUPPLIER);
+	}
+	
+	/**
+	 * Creates a new timer with the given number of ticks per second.
+	 *
+	 * @param ticks The number of ticks per second.
+	 * @param timeSupplier The time supplier returning nanoseconds.
+	 */
+	public FixedStepTickTimer(int ticks, LongSupplier timeSupplier)
+	{
+		this.timeSupplier = Objects.requireNonNull(timeSupplier);
+		
+		setTicks(ticks);
+	}
+	
+	@Override
+	public void start()
+	{
+		if(this.running) return;
+		
+		this.running = true;
+		
+		long time = this.timeSupplier.getAsLong();
+		
+		this.lastTime = time;
+		this.nextFrameTime = time;
+	}
+	
+	@Override
+	public void stop()
+	{
+		this.running = false;
+		this.passedTicks = 0;
+	}
+	
+	@Override
+	public void reset()
+	{
+		long time = this.timeSupplier.getAsLong();
+		
+		this.lastTime = time;
+		this.nextFrameTime = time;
+		this.accumulator = 0l;
+		this.passedTicks = 0;
+		this.totalTicks = 0l;
+	}
+	
+	/**
+	 * Advances the accumulator by the time passed since the last call and consumes whole steps from it.
+	 * This never blocks.
+	 *
+	 * @return True if at least one tick has passed. The number of ticks is returned by {@link #getPassedTicks()}.
+	 */
+	@Override
+	public boolean tick()
+	{
+		if(!this.running)
+		{
+			this.passedTicks = 0;
+			
+			return false;
+		}
+		
+		long time = this.timeSupplier.getAsLong();
+		
+		this.accumulator += time - this.lastTime;
+		this.lastTime = time;
+		
+		long steps = this.accumulator / this.stepNanos;
+		
+		if(steps > this.maxCatchUpSteps)
+		{
+			long dropped = steps - this.maxCatchUpSteps;
+			
+			this.missedTicks += dropped;
+			this.overruns++;
+			
+			steps = this.maxCatchUpSteps;
+			
+			this.accumulator -= dropped * this.stepNanos;
+		}
+		
+		this.accumulator -= steps * this.stepNanos;
+		
+		this.passedTicks = (int)steps;
+		this.totalTicks += steps;
+		
+		return steps > 0;
+	}
+	
+	@Override
+	public void setTicks(int ticks)
+	{
+		setTicks(ticks, false);
+	}
+	
+	@Override
+	public void setTicks(int ticks, boolean reset)
+	{
+		if(ticks <= 0) throw new IllegalArgumentException();
+		
+		this.ticks = ticks;
+		this.stepNanos = 1_000_000_000l / ticks;
+		
+		if(reset) reset();
+	}
+	
+	@Override
+	public int getTicks()
+	{
+		return this.ticks;
+	}
+	
+	@Override
+	public int getPassedTicks()
+	{
+		return this.passedTicks;
+	}
+	
+	/**
+	 * Returns the total number of ticks passed since the start or the last reset.
+	 *
+	 * @return The total number of ticks.
+	 */
+	public long getTotalTicks()
+	{
+		return this.totalTicks;
+	}
+	
+	/**
+	 * Returns the duration of one tick.
+	 *
+	 * @return The duration of one tick in nanoseconds.
+	 */
+	public long getStepNanos()
+	{
+		return this.stepNanos;
+	}
+	
+	/**
+	 * Returns the fraction of a step that is left in the accumulator after the last call to {@link #tick()}.
+	 * Renderers use it to interpolate between the previous and the current logic state.
+	 *
+	 * @return The interpolation factor between 0 inclusive and 1 exclusive.
+	 */
+	public double getAlpha()
+	{
+		return (double)this.accumulator / this.stepNanos;
+	}
+	
+	/**
+	 * Sets the frame rate used by {@link #waitForNextFrame()}.
+	 *
+	 * @param frameRate The number of frames per second, {@link #FRAME_RATE_TICKS} or {@link #FRAME_RATE_UNLIMITED}.
+	 *
+	 * @return The current timer.
+	 */
+	public FixedStepTickTimer setFrameRate(int frameRate)
+	{
+		if(frameRate < FRAME_RATE_UNLIMITED) throw new IllegalArgumentException();
+		
+		this.frameRate = frameRate;
+		this.frameNanos = frameRate > 0 ? 1_000_000_000l / frameRate : 0l;
+		
+		return this;
+	}
+	
+	public int getFrameRate()
+	{
+		return this.frameRate;
+	}
+	
+	/**
+	 * Sets the maximum number of ticks a single call to {@link #tick()} can pass.
+	 *
+	 * @param maxCatchUpSteps The maximum number of ticks per call.
+	 *
+	 * @return The current timer.
+	 */
+	public FixedStepTickTimer setMaxCatchUpSteps(int maxCatchUpSteps)
+	{
+		if(maxCatchUpSteps < 1) throw new IllegalArgumentException();
+		
+		this.maxCatchUpSteps = maxCatchUpSteps;
+		
+		return this;
+	}
+	
+	public int getMaxCatchUpSteps()
+	{
+		return this.maxCatchUpSteps;
+	}
+	
+	/**
+	 * Sets the strategy used to wait for deadlines.
+	 *
+	 * @param waitStrategy The wait strategy.
+	 * @param spinThreshold The time in nanoseconds before a deadline at which {@link WaitStrategy#HYBRID} starts spinning.
+	 *
+	 * @return The current timer.
+	 */
+	public FixedStepTickTimer setWaitStrategy(WaitStrategy waitStrategy, long spinThreshold)
+	{
+		if(spinThreshold < 0) throw new IllegalArgumentException();
+		
+		this.waitStrategy = Objects.requireNonNull(waitStrategy);
+		this.spinThreshold = spinThreshold;
+		
+		return this;
+	}
+	
+	public WaitStrategy getWaitStrategy()
+	{
+		return this.waitStrategy;
+	}
+	
+	/**
+	 * Returns the time until the next tick is due.
+	 *
+	 * @return The time in nanoseconds or 0 if a tick is already due.
+	 */
+	public long nanosUntilNextTick()
+	{
+		long pending = this.accumulator + (this.timeSupplier.getAsLong() - this.lastTime);
+		
+		return Math.max(0l, this.stepNanos - pending);
+	}
+	
+	/**
+	 * Blocks until the next tick is due.
+	 */
+	public void waitForNextTick()
+	{
+		if(!this.running) return;
+		
+		long deadline = this.lastTime + this.stepNanos - this.accumulator;
+		
+		waitUntil(deadline);
+	}
+	
+	/**
+	 * Blocks until the next frame is due according to the frame rate.
+	 * With {@link #FRAME_RATE_TICKS} this waits for the next tick, with {@link #FRAME_RATE_UNLIMITED}
+	 * this returns immediately.
+	 */
+	public void waitForNextFrame()
+	{
+		if(!this.running) return;
+		
+		if(this.frameRate == FRAME_RATE_UNLIMITED) return;
+		
+		if(this.frameRate == FRAME_RATE_TICKS)
+		{
+			waitForNextTick();
+			
+			return;
+		}
+		
+		long deadline = this.nextFrameTime + this.frameNanos;
+		long time = this.timeSupplier.getAsLong();
+		
+		if(deadline - time < -this.frameNanos)
+		{
+			this.nextFrameTime = time;
+			
+			return;
+		}
+		
+		waitUntil(deadline);
+		
+		this.nextFrameTime = deadline;
+	}
+	
+	private void waitUntil(long deadline)
+	{
+		long time = this.timeSupplier.getAsLong();
+		
+		if(time >= deadline) return;
+		
+		Thread thread = Thread.currentThread();
+		
+		switch(this.waitStrategy)
+		{
+			case SLEEP:
+			{
+				while((deadline - time) > 0 && !thread.isInterrupted())
+				{
+					LockSupport.parkNanos(deadline - time);
+					
+					time = this.timeSupplier.getAsLong();
+				}
+				
+				break;
+			}
+			case SPIN:
+			{
+				while((deadline - time) > 0)
+				{
+					Thread.onSpinWait();
+					
+					time = this.timeSupplier.getAsLong();
+				}
+				
+				break;
+			}
+			case HYBRID:
+			{
+				while((deadline - time) > this.spinThreshold && !thread.isInterrupted())
+				{
+					LockSupport.parkNanos(deadline - time - this.spinThreshold);
+					
+					time = this.timeSupplier.getAsLong();
+				}
+				
+				while((deadline - time) > 0)
+				{
+					Thread.onSpinWait();
+					
+					time = this.timeSupplier.getAsLong();
+				}
+				
+				break;
+			}
+		}
+		
+		this.jitter.record(Math.max(0l, time - deadline));
+	}
+	
+	/**
+	 * Returns the number of ticks that were dropped because more than the maximum number of catch up steps were due.
+	 *
+	 * @return The number of missed ticks.
+	 */
+	public long getMissedTicks()
+	{
+		return this.missedTicks;
+	}
+	
+	/**
+	 * Returns the number of calls to {@link #tick()} that had to drop ticks.
+	 *
+	 * @return The number of overruns.
+	 */
+	public long getOverruns()
+	{
+		return this.overruns;
+	}
+	
+	/**
+	 * Returns the histogram of the delays between the deadlines and the actual wake-ups of the waiting methods
+	 * in nanoseconds. The histogram is owned by the timer and must not be modified.
+	 *
+	 * @return The wake-up jitter histogram.
+	 */
+	public LatencyHistogram getJitter()
+	{
+		return this.jitter;
+	}
+	
+	public void resetStatistics()
+	{
+		this.missedTicks = 0l;
+		this.overruns = 0l;
+		this.jitter.reset();
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "fixedsteptimer(ticks=" + this.ticks + ", frameRate=" + this.frameRate + ", waitStrategy=" + this.waitStrategy.name() + ", totalTicks=" + this.totalTicks + ", missedTicks=" + this.missedTicks + ", overruns=" + this.overruns + ")";
+	}
+}
@@ -0,0 +1,26 @@
+package org.barghos.impl.core.timer;
+
+/**
+ * This enum contains the strategies a {@link FixedStepTickTimer} can use to wait for a deadline.
+ */
+public enum WaitStrategy
+{
+	/**
+	 * Parks the thread with {@link java.util.concurrent.locks.LockSupport#parkNanos(long) LockSupport.parkNanos}
+	 * until the deadline. This uses no CPU time while waiting, but the wake-up jitter depends on the
+	 * timer resolution of the operating system.
+	 */
+	SLEEP,
+	
+	/**
+	 * Spins with {@link Thread#onSpinWait()} until the deadline. This has the lowest jitter but occupies a core.
+	 */
+	SPIN,
+	
+	/**
+	 * Parks the thread until the spin threshold before the deadline and spins for the rest.
+	 * This combines the low CPU usage of {@link #SLEEP} with the low jitter of {@link #SPIN}.
+	 */
+	HYBRID
+	;
+}
@@ -0,0 +1,71 @@
+package org.barghostest.list.floats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.FloatBuffer;
+
+import org.barghos.impl.core.list.floats.LongListF;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class provides component tests for the class {@link LongListF}.
+ */
+class LongListFTest
+{
+	/**
+	 * This test ensures, that the function {@link LongListF#addAll(LongListF)} appends the list to itself
+	 * even if the list has to grow for it.
+	 */
+	@Test
+	void addAll_SelfTest()
+	{
+		try(LongListF list = new LongListF(3))
+		{
+			list.add(1.0f, 2.0f, 3.0f);
+			list.addAll(list);
+			
+			assertEquals(6, list.size());
+			assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f, 1.0f, 2.0f, 3.0f}, list.toArray());
+		}
+	}
+	
+	/**
+	 * This test ensures, that the function {@link LongListF#add(java.lang.foreign.MemorySegment)} appends a
+	 * slice of the list itself even if the list has to grow for it.
+	 */
+	@Test
+	void add_SelfSegmentTest()
+	{
+		try(LongListF list = new LongListF(4))
+		{
+			list.add(1.0f, 2.0f, 3.0f, 4.0f);
+			list.add(list.asSegment().asSlice(Float.BYTES, 2 * Float.BYTES));
+			
+			assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f, 4.0f, 2.0f, 3.0f}, list.toArray());
+		}
+	}
+	
+	/**
+	 * This test ensures, that the function {@link LongListF#writeTo(FloatBuffer)} throws an
+	 * {@link IllegalArgumentException} if the list does not fit into the buffer and writes nothing.
+	 */
+	@Test
+	void writeTo_TooSmallTest()
+	{
+		try(LongListF list = new LongListF())
+		{
+			list.add(1.0f, 2.0f, 3.0f);
+			
+			FloatBuffer buffer = FloatBuffer.allocate(2);
+			
+			assertThrows(IllegalArgumentException.class, () -> list.writeTo(buffer));
+			assertEquals(0, buffer.position());
+			
+			FloatBuffer fitting = FloatBuffer.allocate(3);
+			
+			list.writeTo(fitting);
+			
+			assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f}, fitting.array());
+		}
+	}
+}
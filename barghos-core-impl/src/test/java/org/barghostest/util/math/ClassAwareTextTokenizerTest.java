@@ -0,0 +1,205 @@
+package org.barghostest.util.math;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.barghos.api.core.io.reader.ICharReader;
+import org.barghos.impl.core.io.reader.CharBufferReader;
+import org.barghos.impl.core.io.reader.DefaultCharReader;
+import org.barghos.impl.core.io.reader.JavaReaderWrapper;
+import org.barghos.impl.core.parse.ClassAwareTextTokenizer;
+import org.barghos.impl.core.parse.ClassAwareTextTokenizer.DefaultCharClassifier;
+import org.barghos.impl.core.parse.ClassAwareTextTokenizer.ICharClassifier;
+import org.barghos.impl.core.parse.ClassAwareTextTokenizer.TableCharClassifier;
+import org.barghos.impl.core.parse.TextToken;
+import org.barghos.impl.core.parse.TextTokenCursor;
+import org.junit.jupiter.api.Test;
+
+public class ClassAwareTextTokenizerTest
+{
+	private static final String[] TEXTS = {
+		"",
+		"a",
+		"public class Tokenizer12Test {",
+		"  x1 = (y2+3.5e-4)*z;\n\tfoo_bar  ",
+		"äöü ß € µ²³ 12ab!!",
+		"\r\n\u0000\uFFFF mixed 9\t9",
+	};
+	
+	/**
+	 * The classification of the default classifier before it was backed by a table.
+	 */
+	private static int classifyIndexOf(char c)
+	{
+		if("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".indexOf(c) > -1) return DefaultCharClassifier.CLASS_ALPHABETICAL;
+		if("0123456789".indexOf(c) > -1) return DefaultCharClassifier.CLASS_NUMERAL;
+		if(",;.:-_+*~#'!\"²§³$%&/{([)]=}?\\`´^°<>|@€µ".indexOf(c) > -1) return DefaultCharClassifier.CLASS_SPECIAL;
+		if(" \n\t".indexOf(c) > -1) return DefaultCharClassifier.CLASS_PADDING;
+		
+		return 0;
+	}
+	
+	@Test
+	void defaultClassifier_MatchesIndexOfTest()
+	{
+		DefaultCharClassifier classifier = new DefaultCharClassifier();
+		
+		for(int c = 0; c <= Character.MAX_VALUE; c++)
+			assertEquals(classifyIndexOf((char)c), classifier.classify((char)c), "char " + c);
+	}
+	
+	@Test
+	void tableClassifier_MatchesClassifierTest()
+	{
+		ICharClassifier classifier = c -> Character.isLetter(c) ? 1 : Character.isDigit(c) ? 2 : c % 7 + 3;
+		
+		TableCharClassifier table = new TableCharClassifier(classifier);
+		
+		for(int c = 0; c <= Character.MAX_VALUE; c++)
+			assertEquals(classifier.classify((char)c), table.classify((char)c), "char " + c);
+		
+		TableCharClassifier defaultTable = new TableCharClassifier(new DefaultCharClassifier());
+		
+		for(int c = 0; c <= Character.MAX_VALUE; c++)
+			assertEquals(classifyIndexOf((char)c), defaultTable.classify((char)c), "char " + c);
+	}
+	
+	@Test
+	void tableClassifier_OutOfRangeTest()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new TableCharClassifier(c -> c == 'x' ? 128 : 0));
+		assertThrows(IllegalArgumentException.class, () -> new TableCharClassifier(c -> c == 'x' ? -1 : 0));
+		assertThrows(IllegalArgumentException.class, () -> new TableCharClassifier(null));
+	}
+	
+	@Test
+	void nextToken_ArrayTest()
+	{
+		ClassAwareTextTokenizer tokenizer = new ClassAwareTextTokenizer();
+		
+		for(String text : TEXTS)
+		{
+			List<TextToken> expected = tokens(tokenizer, text);
+			
+			char[] array = ("##" + text + "##").toCharArray();
+			TextTokenCursor cursor = new TextTokenCursor().reset(array, 2, array.length - 2);
+			
+			assertCursor(expected, tokenizer, cursor, 2);
+		}
+	}
+	
+	@Test
+	void nextToken_SequenceTest()
+	{
+		ClassAwareTextTokenizer tokenizer = new ClassAwareTextTokenizer();
+		
+		for(String text : TEXTS)
+		{
+			List<TextToken> expected = tokens(tokenizer, text);
+			
+			TextTokenCursor cursor = new TextTokenCursor().reset(new StringBuilder(text), 0, text.length());
+			
+			assertCursor(expected, tokenizer, cursor, 0);
+		}
+	}
+	
+	@Test
+	void nextToken_ReaderTest()
+	{
+		ClassAwareTextTokenizer tokenizer = new ClassAwareTextTokenizer();
+		TextTokenCursor cursor = new TextTokenCursor();
+		
+		for(String text : TEXTS)
+		{
+			List<TextToken> expected = tokens(tokenizer, text);
+			
+			ICharReader reader = new CharBufferReader(text);
+			
+			cursor.reset();
+			
+			int start = 0;
+			
+			for(TextToken token : expected)
+			{
+				assertTrue(tokenizer.nextToken(reader, cursor));
+				
+				assertEquals(token.text, cursor.getText());
+				assertEquals(token.classification, cursor.getClassification());
+				assertEquals(start, cursor.getStart());
+				assertTrue(cursor.contentEquals(token.text));
+				
+				start += token.text.length();
+			}
+			
+			assertFalse(tokenizer.nextToken(reader, cursor));
+		}
+	}
+	
+	@Test
+	void nextToken_CustomClassifierTest()
+	{
+		ICharClassifier classifier = c -> c == ' ' ? 1 : Character.isUpperCase(c) ? 2 : 3;
+		ClassAwareTextTokenizer tokenizer = new ClassAwareTextTokenizer(classifier);
+		
+		String text = "ABc dEF  ghI";
+		
+		List<TextToken> expected = tokens(tokenizer, text);
+		
+		assertEquals(8, expected.size());
+		
+		assertCursor(expected, tokenizer, new TextTokenCursor().reset(text, 0, text.length()), 0);
+	}
+	
+	@Test
+	void getNextToken_OutOfRangeClassifierTest()
+	{
+		ICharClassifier classifier = c -> c == ' ' ? 1000 : -5;
+		ClassAwareTextTokenizer tokenizer = new ClassAwareTextTokenizer(classifier);
+		
+		List<TextToken> tokens = tokens(tokenizer, "ab cd");
+		
+		assertEquals(3, tokens.size());
+		assertEquals(-5, tokens.get(0).classification);
+		assertEquals(1000, tokens.get(1).classification);
+		
+		assertThrows(IllegalArgumentException.class, () -> tokenizer.nextToken(new TextTokenCursor().reset("ab cd", 0, 5)));
+	}
+	
+	private static void assertCursor(List<TextToken> expected, ClassAwareTextTokenizer tokenizer, TextTokenCursor cursor, int offset)
+	{
+		int start = offset;
+		
+		for(TextToken token : expected)
+		{
+			assertTrue(tokenizer.nextToken(cursor));
+			
+			assertEquals(token.text, cursor.getText());
+			assertEquals(token.classification, cursor.getClassification());
+			assertEquals(start, cursor.getStart());
+			assertEquals(start + token.text.length(), cursor.getEnd());
+			
+			start += token.text.length();
+		}
+		
+		assertFalse(tokenizer.nextToken(cursor));
+	}
+	
+	/**
+	 * Returns the tokens of the text as created by {@link ClassAwareTextTokenizer#getNextToken(ICharReader)}.
+	 */
+	private static List<TextToken> tokens(ClassAwareTextTokenizer tokenizer, String text)
+	{
+		ICharReader reader = new DefaultCharReader(new JavaReaderWrapper(new StringReader(text)));
+		
+		List<TextToken> tokens = new ArrayList<>();
+		
+		TextToken token;
+		while((token = tokenizer.getNextToken(reader)) != null)
+			tokens.add(token);
+		
+		return tokens;
+	}
+}
@@ -0,0 +1,239 @@
+package org.barghos.api.math.matrix;
+
+import static java.lang.foreign.ValueLayout.*;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.FloatBuffer;
+
+import org.barghos.annotation.ExtractionParam;
+import org.barghos.api.core.math.MathUtils;
+import org.barghos.api.core.tuple.floats.ArithmeticOpsBulkF;
+import org.barghos.api.math.vector.Vec3BatchF;
+
+/**
+ * This class provides batched transformations of many three dimensional points or vectors by a
+ * single 4x4 matrix. The matrix is loaded only once per call and the transformations follow
+ * {@link MatUtils4F#transformPoint3(float[], float[], float[])} and
+ * {@link MatUtils4F#transformVec3(float[], float[], float[])}.
+ *
+ * <p>
+ * Interleaved sources like vertex buffers are addressed by an offset and a stride, so the
+ * position or normal attribute of a vertex can be transformed directly in place. Source and
+ * extraction may be the same storage with the same offset and stride. Planar sources
+ * ({@link Vec3BatchF} or separate component arrays) use the vector API if
+ * {@link ArithmeticOpsBulkF#isVectorized()} reports it as available.
+ */
+public final class MatBatchUtils4F
+{
+	private MatBatchUtils4F() { }
+	
+	public static float[] transformPoints3(IMat4RF m, float[] src, int srcOffset, int srcStride, @ExtractionParam float[] res, int resOffset, int resStride, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30(), m.m31(), m.m32(), src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static float[] transformPoints3(float[] m, float[] src, int srcOffset, int srcStride, @ExtractionParam float[] res, int resOffset, int resStride, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], m[12], m[13], m[14], src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static FloatBuffer transformPoints3(IMat4RF m, FloatBuffer src, int srcIndex, int srcStride, @ExtractionParam FloatBuffer res, int resIndex, int resStride, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30(), m.m31(), m.m32(), src, srcIndex, srcStride, res, resIndex, resStride, count);
+	}
+	
+	public static FloatBuffer transformPoints3(float[] m, FloatBuffer src, int srcIndex, int srcStride, @ExtractionParam FloatBuffer res, int resIndex, int resStride, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], m[12], m[13], m[14], src, srcIndex, srcStride, res, resIndex, resStride, count);
+	}
+	
+	public static MemorySegment transformPoints3(IMat4RF m, MemorySegment src, long srcOffset, long srcStride, @ExtractionParam MemorySegment res, long resOffset, long resStride, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30(), m.m31(), m.m32(), src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static MemorySegment transformPoints3(float[] m, MemorySegment src, long srcOffset, long srcStride, @ExtractionParam MemorySegment res, long resOffset, long resStride, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], m[12], m[13], m[14], src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static Vec3BatchF transformPoints3(IMat4RF m, Vec3BatchF src, int srcStart, @ExtractionParam Vec3BatchF res, int resStart, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30(), m.m31(), m.m32(), src, srcStart, res, resStart, count);
+	}
+	
+	public static Vec3BatchF transformPoints3(float[] m, Vec3BatchF src, int srcStart, @ExtractionParam Vec3BatchF res, int resStart, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], m[12], m[13], m[14], src, srcStart, res, resStart, count);
+	}
+	
+	public static void transformPoints3(IMat4RF m, float[] x, float[] y, float[] z, int offset, @ExtractionParam float[] resX, @ExtractionParam float[] resY, @ExtractionParam float[] resZ, int resOffset, int count)
+	{
+		transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), m.m30(), m.m31(), m.m32(), x, y, z, offset, resX, resY, resZ, resOffset, count);
+	}
+	
+	public static void transformPoints3(float[] m, float[] x, float[] y, float[] z, int offset, @ExtractionParam float[] resX, @ExtractionParam float[] resY, @ExtractionParam float[] resZ, int resOffset, int count)
+	{
+		transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], m[12], m[13], m[14], x, y, z, offset, resX, resY, resZ, resOffset, count);
+	}
+	
+	public static float[] transformVecs3(IMat4RF m, float[] src, int srcOffset, int srcStride, @ExtractionParam float[] res, int resOffset, int resStride, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), 0.0f, 0.0f, 0.0f, src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static float[] transformVecs3(float[] m, float[] src, int srcOffset, int srcStride, @ExtractionParam float[] res, int resOffset, int resStride, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], 0.0f, 0.0f, 0.0f, src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static FloatBuffer transformVecs3(IMat4RF m, FloatBuffer src, int srcIndex, int srcStride, @ExtractionParam FloatBuffer res, int resIndex, int resStride, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), 0.0f, 0.0f, 0.0f, src, srcIndex, srcStride, res, resIndex, resStride, count);
+	}
+	
+	public static FloatBuffer transformVecs3(float[] m, FloatBuffer src, int srcIndex, int srcStride, @ExtractionParam FloatBuffer res, int resIndex, int resStride, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], 0.0f, 0.0f, 0.0f, src, srcIndex, srcStride, res, resIndex, resStride, count);
+	}
+	
+	public static MemorySegment transformVecs3(IMat4RF m, MemorySegment src, long srcOffset, long srcStride, @ExtractionParam MemorySegment res, long resOffset, long resStride, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), 0.0f, 0.0f, 0.0f, src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static MemorySegment transformVecs3(float[] m, MemorySegment src, long srcOffset, long srcStride, @ExtractionParam MemorySegment res, long resOffset, long resStride, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], 0.0f, 0.0f, 0.0f, src, srcOffset, srcStride, res, resOffset, resStride, count);
+	}
+	
+	public static Vec3BatchF transformVecs3(IMat4RF m, Vec3BatchF src, int srcStart, @ExtractionParam Vec3BatchF res, int resStart, int count)
+	{
+		return transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), 0.0f, 0.0f, 0.0f, src, srcStart, res, resStart, count);
+	}
+	
+	public static Vec3BatchF transformVecs3(float[] m, Vec3BatchF src, int srcStart, @ExtractionParam Vec3BatchF res, int resStart, int count)
+	{
+		return transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], 0.0f, 0.0f, 0.0f, src, srcStart, res, resStart, count);
+	}
+	
+	public static void transformVecs3(IMat4RF m, float[] x, float[] y, float[] z, int offset, @ExtractionParam float[] resX, @ExtractionParam float[] resY, @ExtractionParam float[] resZ, int resOffset, int count)
+	{
+		transform(m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12(), m.m20(), m.m21(), m.m22(), 0.0f, 0.0f, 0.0f, x, y, z, offset, resX, resY, resZ, resOffset, count);
+	}
+	
+	public static void transformVecs3(float[] m, float[] x, float[] y, float[] z, int offset, @ExtractionParam float[] resX, @ExtractionParam float[] resY, @ExtractionParam float[] resZ, int resOffset, int count)
+	{
+		transform(m[0], m[1], m[2], m[4], m[5], m[6], m[8], m[9], m[10], 0.0f, 0.0f, 0.0f, x, y, z, offset, resX, resY, resZ, resOffset, count);
+	}
+	
+	private static float[] transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, float[] src, int srcOffset, int srcStride, float[] res, int resOffset, int resStride, int count)
+	{
+		int s = srcOffset;
+		int r = resOffset;
+		
+		for(int i = 0; i < count; i++, s += srcStride, r += resStride)
+		{
+			float v0 = src[s + 0];
+			float v1 = src[s + 1];
+			float v2 = src[s + 2];
+			
+			res[r + 0] = MathUtils.fma(a0, v0, MathUtils.fma(b0, v1, MathUtils.fma(c0, v2, t0)));
+			res[r + 1] = MathUtils.fma(a1, v0, MathUtils.fma(b1, v1, MathUtils.fma(c1, v2, t1)));
+			res[r + 2] = MathUtils.fma(a2, v0, MathUtils.fma(b2, v1, MathUtils.fma(c2, v2, t2)));
+		}
+		
+		return res;
+	}
+	
+	private static FloatBuffer transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, FloatBuffer src, int srcIndex, int srcStride, FloatBuffer res, int resIndex, int resStride, int count)
+	{
+		int s = srcIndex;
+		int r = resIndex;
+		
+		for(int i = 0; i < count; i++, s += srcStride, r += resStride)
+		{
+			float v0 = src.get(s + 0);
+			float v1 = src.get(s + 1);
+			float v2 = src.get(s + 2);
+			
+			res.put(r + 0, MathUtils.fma(a0, v0, MathUtils.fma(b0, v1, MathUtils.fma(c0, v2, t0))));
+			res.put(r + 1, MathUtils.fma(a1, v0, MathUtils.fma(b1, v1, MathUtils.fma(c1, v2, t1))));
+			res.put(r + 2, MathUtils.fma(a2, v0, MathUtils.fma(b2, v1, MathUtils.fma(c2, v2, t2))));
+		}
+		
+		return res;
+	}
+	
+	private static MemorySegment transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, MemorySegment src, long srcOffset, long srcStride, MemorySegment res, long resOffset, long resStride, int count)
+	{
+		long s = srcOffset;
+		long r = resOffset;
+		
+		for(int i = 0; i < count; i++, s += srcStride, r += resStride)
+		{
+			float v0 = src.get(JAVA_FLOAT, s + 0);
+			float v1 = src.get(JAVA_FLOAT, s + 4);
+			float v2 = src.get(JAVA_FLOAT, s + 8);
+			
+			res.set(JAVA_FLOAT, r + 0, MathUtils.fma(a0, v0, MathUtils.fma(b0, v1, MathUtils.fma(c0, v2, t0))));
+			res.set(JAVA_FLOAT, r + 4, MathUtils.fma(a1, v0, MathUtils.fma(b1, v1, MathUtils.fma(c1, v2, t1))));
+			res.set(JAVA_FLOAT, r + 8, MathUtils.fma(a2, v0, MathUtils.fma(b2, v1, MathUtils.fma(c2, v2, t2))));
+		}
+		
+		return res;
+	}
+	
+	private static Vec3BatchF transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, Vec3BatchF src, int srcStart, Vec3BatchF res, int resStart, int count)
+	{
+		MemorySegment x = src.xLane(), y = src.yLane(), z = src.zLane();
+		MemorySegment rx = res.xLane(), ry = res.yLane(), rz = res.zLane();
+		
+		int i = 0;
+		
+		if(ArithmeticOpsBulkF.isVectorized())
+		{
+			i = MatVectorKernels4F.transform(a0, a1, a2, b0, b1, b2, c0, c1, c2, t0, t1, t2, x, y, z, srcStart, rx, ry, rz, resStart, count);
+		}
+		
+		for(; i < count; i++)
+		{
+			int s = srcStart + i;
+			int r = resStart + i;
+			
+			float v0 = x.getAtIndex(JAVA_FLOAT, s);
+			float v1 = y.getAtIndex(JAVA_FLOAT, s);
+			float v2 = z.getAtIndex(JAVA_FLOAT, s);
+			
+			rx.setAtIndex(JAVA_FLOAT, r, MathUtils.fma(a0, v0, MathUtils.fma(b0, v1, MathUtils.fma(c0, v2, t0))));
+			ry.setAtIndex(JAVA_FLOAT, r, MathUtils.fma(a1, v0, MathUtils.fma(b1, v1, MathUtils.fma(c1, v2, t1))));
+			rz.setAtIndex(JAVA_FLOAT, r, MathUtils.fma(a2, v0, MathUtils.fma(b2, v1, MathUtils.fma(c2, v2, t2))));
+		}
+		
+		return res;
+	}
+	
+	private static void transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, float[] x, float[] y, float[] z, int offset, float[] resX, float[] resY, float[] resZ, int resOffset, int count)
+	{
+		int i = 0;
+		
+		if(ArithmeticOpsBulkF.isVectorized())
+		{
+			i = MatVectorKernels4F.transform(a0, a1, a2, b0, b1, b2, c0, c1, c2, t0, t1, t2, x, y, z, offset, resX, resY, resZ, resOffset, count);
+		}
+		
+		for(; i < count; i++)
+		{
+			int s = offset + i;
+			int r = resOffset + i;
+			
+			float v0 = x[s];
+			float v1 = y[s];
+			float v2 = z[s];
+			
+			resX[r] = MathUtils.fma(a0, v0, MathUtils.fma(b0, v1, MathUtils.fma(c0, v2, t0)));
+			resY[r] = MathUtils.fma(a1, v0, MathUtils.fma(b1, v1, MathUtils.fma(c1, v2, t1)));
+			resZ[r] = MathUtils.fma(a2, v0, MathUtils.fma(b2, v1, MathUtils.fma(c2, v2, t2)));
+		}
+	}
+}
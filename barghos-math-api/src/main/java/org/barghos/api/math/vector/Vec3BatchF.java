@@ -0,0 +1,694 @@
+package org.barghos.api.math.vector;
+
+import static java.lang.foreign.ValueLayout.*;
+
+import static org.barghos.api.core.tuple.floats.TupMemUtilsF.*;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SegmentAllocator;
+
+import org.barghos.annotation.ExtractionParam;
+import org.barghos.api.core.math.MathUtils;
+import org.barghos.api.core.tuple.floats.ITup3RF;
+import org.barghos.api.core.tuple.floats.ITup3WF;
+
+/**
+ * This class stores a batch of float vectors with three dimensions in structure-of-arrays form.
+ * The x, y and z components of all vectors are kept in three separate contiguous lanes, which can
+ * either be heap memory or off-heap memory.
+ *
+ * <p>
+ * All bulk operations work on a range of vectors given by a start index and a count and never
+ * allocate per element. Operations without suffix modify the batch itself, operations with the
+ * suffix "T" write the result into the given extraction batch. The source and the extraction
+ * ranges may overlap only if they are identical.
+ */
+public final class Vec3BatchF
+{
+	private final MemorySegment x;
+	private final MemorySegment y;
+	private final MemorySegment z;
+	
+	private final int capacity;
+	
+	private Vec3BatchF(MemorySegment x, MemorySegment y, MemorySegment z, int capacity)
+	{
+		this.x = x;
+		this.y = y;
+		this.z = z;
+		
+		this.capacity = capacity;
+	}
+	
+	/**
+	 * Creates a new batch with the given capacity backed by heap arrays.
+	 *
+	 * @param capacity The number of vectors the batch can hold.
+	 *
+	 * @return A new batch.
+	 */
+	public static Vec3BatchF ofHeap(int capacity)
+	{
+		return ofArrays(new float[capacity], new float[capacity], new float[capacity]);
+	}
+	
+	/**
+	 * Creates a new batch that uses the given arrays as component lanes.
+	 * The arrays are not copied and changes are visible in both directions.
+	 *
+	 * @param x The x lane.
+	 * @param y The y lane.
+	 * @param z The z lane.
+	 *
+	 * @return A new batch.
+	 */
+	public static Vec3BatchF ofArrays(float[] x, float[] y, float[] z)
+	{
+		int capacity = Math.min(x.length, Math.min(y.length, z.length));
+		
+		return new Vec3BatchF(MemorySegment.ofArray(x), MemorySegment.ofArray(y), MemorySegment.ofArray(z), capacity);
+	}
+	
+	/**
+	 * Creates a new batch with the given capacity from the given allocator, for example an arena.
+	 * All three lanes are allocated as one block.
+	 *
+	 * @param allocator The allocator to allocate the lanes from.
+	 * @param capacity The number of vectors the batch can hold.
+	 *
+	 * @return A new batch.
+	 */
+	public static Vec3BatchF allocate(SegmentAllocator allocator, int capacity)
+	{
+		long laneSize = JAVA_FLOAT.byteSize() * capacity;
+		
+		MemorySegment block = allocator.allocate(laneSize * 3, JAVA_FLOAT.byteAlignment());
+		
+		return new Vec3BatchF(block.asSlice(0, laneSize), block.asSlice(laneSize, laneSize), block.asSlice(laneSize * 2, laneSize), capacity);
+	}
+	
+	/**
+	 * Creates a new batch that uses the given segments as component lanes.
+	 * The segments are not copied and changes are visible in both directions.
+	 *
+	 * @param x The x lane.
+	 * @param y The y lane.
+	 * @param z The z lane.
+	 *
+	 * @return A new batch.
+	 */
+	public static Vec3BatchF ofSegments(MemorySegment x, MemorySegment y, MemorySegment z)
+	{
+		long capacity = Math.min(x.byteSize(), Math.min(y.byteSize(), z.byteSize())) / JAVA_FLOAT.byteSize();
+		
+		return new Vec3BatchF(x, y, z, (int)Math.min(capacity, Integer.MAX_VALUE));
+	}
+	
+	/**
+	 * Returns the number of vectors the batch can hold.
+	 *
+	 * @return The capacity.
+	 */
+	public int capacity()
+	{
+		return this.capacity;
+	}
+	
+	/**
+	 * Returns the segment of the x lane.
+	 *
+	 * @return The x lane.
+	 */
+	public MemorySegment xLane()
+	{
+		return this.x;
+	}
+	
+	/**
+	 * Returns the segment of the y lane.
+	 *
+	 * @return The y lane.
+	 */
+	public MemorySegment yLane()
+	{
+		return this.y;
+	}
+	
+	/**
+	 * Returns the segment of the z lane.
+	 *
+	 * @return The z lane.
+	 */
+	public MemorySegment zLane()
+	{
+		return this.z;
+	}
+	
+	public float x(int index)
+	{
+		return this.x.getAtIndex(JAVA_FLOAT, index);
+	}
+	
+	public float y(int index)
+	{
+		return this.y.getAtIndex(JAVA_FLOAT, index);
+	}
+	
+	public float z(int index)
+	{
+		return this.z.getAtIndex(JAVA_FLOAT, index);
+	}
+	
+	public <T extends ITup3WF> T get(int index, @ExtractionParam T res)
+	{
+		res.set(this.x.getAtIndex(JAVA_FLOAT, index), this.y.getAtIndex(JAVA_FLOAT, index), this.z.getAtIndex(JAVA_FLOAT, index));
+		
+		return res;
+	}
+	
+	public float[] get(int index, @ExtractionParam float[] res)
+	{
+		res[0] = this.x.getAtIndex(JAVA_FLOAT, index);
+		res[1] = this.y.getAtIndex(JAVA_FLOAT, index);
+		res[2] = this.z.getAtIndex(JAVA_FLOAT, index);
+		
+		return res;
+	}
+	
+	public Vec3BatchF set(int index, ITup3RF v)
+	{
+		return set(index, v.v0(), v.v1(), v.v2());
+	}
+	
+	public Vec3BatchF set(int index, float[] v)
+	{
+		return set(index, v[0], v[1], v[2]);
+	}
+	
+	public Vec3BatchF set(int index, float x, float y, float z)
+	{
+		this.x.setAtIndex(JAVA_FLOAT, index, x);
+		this.y.setAtIndex(JAVA_FLOAT, index, y);
+		this.z.setAtIndex(JAVA_FLOAT, index, z);
+		
+		return this;
+	}
+	
+	/**
+	 * Sets all vectors in the range to the given values.
+	 *
+	 * @param start The index of the first vector.
+	 * @param count The number of vectors.
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 *
+	 * @return The current batch.
+	 */
+	public Vec3BatchF fill(int start, int count, float x, float y, float z)
+	{
+		int end = start + count;
+		
+		for(int i = start; i < end; i++)
+		{
+			this.x.setAtIndex(JAVA_FLOAT, i, x);
+			this.y.setAtIndex(JAVA_FLOAT, i, y);
+			this.z.setAtIndex(JAVA_FLOAT, i, z);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Copies a range of vectors from the given batch into this batch.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param v The source batch.
+	 * @param vStart The index of the first vector in the source batch.
+	 *
+	 * @return The current batch.
+	 */
+	public Vec3BatchF copy(int start, int count, Vec3BatchF v, int vStart)
+	{
+		long size = JAVA_FLOAT.byteSize();
+		
+		MemorySegment.copy(v.x, vStart * size, this.x, start * size, count * size);
+		MemorySegment.copy(v.y, vStart * size, this.y, start * size, count * size);
+		MemorySegment.copy(v.z, vStart * size, this.z, start * size, count * size);
+		
+		return this;
+	}
+	
+	/**
+	 * Loads a range of vectors from an interleaved float array with the given stride in floats.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param src The interleaved source array.
+	 * @param srcOffset The offset of the first vector in the source array.
+	 * @param srcStride The distance between two vectors in the source array in floats.
+	 *
+	 * @return The current batch.
+	 */
+	public Vec3BatchF load(int start, int count, float[] src, int srcOffset, int srcStride)
+	{
+		int end = start + count;
+		int s = srcOffset;
+		
+		for(int i = start; i < end; i++, s += srcStride)
+		{
+			this.x.setAtIndex(JAVA_FLOAT, i, src[s + 0]);
+			this.y.setAtIndex(JAVA_FLOAT, i, src[s + 1]);
+			this.z.setAtIndex(JAVA_FLOAT, i, src[s + 2]);
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Loads a range of vectors from an interleaved segment. The distance between two vectors is
+	 * given by a tuple layout of {@link org.barghos.api.core.tuple.floats.TupMemUtilsF}, for example
+	 * {@link org.barghos.api.core.tuple.floats.TupMemUtilsF#TUP3F_16}.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param src The interleaved source segment.
+	 * @param srcOffset The offset of the first vector in the source segment in bytes.
+	 * @param layout The layout of a single vector in the source segment.
+	 *
+	 * @return The current batch.
+	 */
+	public Vec3BatchF load(int start, int count, MemorySegment src, long srcOffset, MemoryLayout layout)
+	{
+		int end = start + count;
+		long stride = layout.byteSize();
+		long s = srcOffset;
+		
+		for(int i = start; i < end; i++, s += stride)
+		{
+			this.x.setAtIndex(JAVA_FLOAT, i, src.get(JAVA_FLOAT, s + OFFSET_F_X));
+			this.y.setAtIndex(JAVA_FLOAT, i, src.get(JAVA_FLOAT, s + OFFSET_F_Y));
+			this.z.setAtIndex(JAVA_FLOAT, i, src.get(JAVA_FLOAT, s + OFFSET_F_Z));
+		}
+		
+		return this;
+	}
+	
+	/**
+	 * Stores a range of vectors into an interleaved float array with the given stride in floats.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param res The interleaved extraction array.
+	 * @param resOffset The offset of the first vector in the extraction array.
+	 * @param resStride The distance between two vectors in the extraction array in floats.
+	 *
+	 * @return The extraction array.
+	 */
+	public float[] store(int start, int count, @ExtractionParam float[] res, int resOffset, int resStride)
+	{
+		int end = start + count;
+		int r = resOffset;
+		
+		for(int i = start; i < end; i++, r += resStride)
+		{
+			res[r + 0] = this.x.getAtIndex(JAVA_FLOAT, i);
+			res[r + 1] = this.y.getAtIndex(JAVA_FLOAT, i);
+			res[r + 2] = this.z.getAtIndex(JAVA_FLOAT, i);
+		}
+		
+		return res;
+	}
+	
+	/**
+	 * Stores a range of vectors into an interleaved segment. The distance between two vectors is
+	 * given by a tuple layout of {@link org.barghos.api.core.tuple.floats.TupMemUtilsF}.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param res The interleaved extraction segment.
+	 * @param resOffset The offset of the first vector in the extraction segment in bytes.
+	 * @param layout The layout of a single vector in the extraction segment.
+	 *
+	 * @return The extraction segment.
+	 */
+	public MemorySegment store(int start, int count, @ExtractionParam MemorySegment res, long resOffset, MemoryLayout layout)
+	{
+		int end = start + count;
+		long stride = layout.byteSize();
+		long r = resOffset;
+		
+		for(int i = start; i < end; i++, r += stride)
+		{
+			res.set(JAVA_FLOAT, r + OFFSET_F_X, this.x.getAtIndex(JAVA_FLOAT, i));
+			res.set(JAVA_FLOAT, r + OFFSET_F_Y, this.y.getAtIndex(JAVA_FLOAT, i));
+			res.set(JAVA_FLOAT, r + OFFSET_F_Z, this.z.getAtIndex(JAVA_FLOAT, i));
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF add(int start, int count, Vec3BatchF v, int vStart)
+	{
+		return addT(start, count, v, vStart, this, start);
+	}
+	
+	public Vec3BatchF add(int start, int count, float x, float y, float z)
+	{
+		return addT(start, count, x, y, z, this, start);
+	}
+	
+	public Vec3BatchF addT(int start, int count, Vec3BatchF v, int vStart, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, b = vStart + i, r = resStart + i;
+			
+			rx.setAtIndex(JAVA_FLOAT, r, x.getAtIndex(JAVA_FLOAT, a) + vx.getAtIndex(JAVA_FLOAT, b));
+			ry.setAtIndex(JAVA_FLOAT, r, y.getAtIndex(JAVA_FLOAT, a) + vy.getAtIndex(JAVA_FLOAT, b));
+			rz.setAtIndex(JAVA_FLOAT, r, z.getAtIndex(JAVA_FLOAT, a) + vz.getAtIndex(JAVA_FLOAT, b));
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF addT(int start, int count, float x, float y, float z, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment sx = this.x, sy = this.y, sz = this.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, r = resStart + i;
+			
+			rx.setAtIndex(JAVA_FLOAT, r, sx.getAtIndex(JAVA_FLOAT, a) + x);
+			ry.setAtIndex(JAVA_FLOAT, r, sy.getAtIndex(JAVA_FLOAT, a) + y);
+			rz.setAtIndex(JAVA_FLOAT, r, sz.getAtIndex(JAVA_FLOAT, a) + z);
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF sub(int start, int count, Vec3BatchF v, int vStart)
+	{
+		return subT(start, count, v, vStart, this, start);
+	}
+	
+	public Vec3BatchF sub(int start, int count, float x, float y, float z)
+	{
+		return addT(start, count, -x, -y, -z, this, start);
+	}
+	
+	public Vec3BatchF subT(int start, int count, Vec3BatchF v, int vStart, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, b = vStart + i, r = resStart + i;
+			
+			rx.setAtIndex(JAVA_FLOAT, r, x.getAtIndex(JAVA_FLOAT, a) - vx.getAtIndex(JAVA_FLOAT, b));
+			ry.setAtIndex(JAVA_FLOAT, r, y.getAtIndex(JAVA_FLOAT, a) - vy.getAtIndex(JAVA_FLOAT, b));
+			rz.setAtIndex(JAVA_FLOAT, r, z.getAtIndex(JAVA_FLOAT, a) - vz.getAtIndex(JAVA_FLOAT, b));
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF subT(int start, int count, float x, float y, float z, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		return addT(start, count, -x, -y, -z, res, resStart);
+	}
+	
+	public Vec3BatchF mul(int start, int count, Vec3BatchF v, int vStart)
+	{
+		return mulT(start, count, v, vStart, this, start);
+	}
+	
+	public Vec3BatchF mul(int start, int count, float value)
+	{
+		return mulT(start, count, value, value, value, this, start);
+	}
+	
+	public Vec3BatchF mul(int start, int count, float x, float y, float z)
+	{
+		return mulT(start, count, x, y, z, this, start);
+	}
+	
+	public Vec3BatchF mulT(int start, int count, Vec3BatchF v, int vStart, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, b = vStart + i, r = resStart + i;
+			
+			rx.setAtIndex(JAVA_FLOAT, r, x.getAtIndex(JAVA_FLOAT, a) * vx.getAtIndex(JAVA_FLOAT, b));
+			ry.setAtIndex(JAVA_FLOAT, r, y.getAtIndex(JAVA_FLOAT, a) * vy.getAtIndex(JAVA_FLOAT, b));
+			rz.setAtIndex(JAVA_FLOAT, r, z.getAtIndex(JAVA_FLOAT, a) * vz.getAtIndex(JAVA_FLOAT, b));
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF mulT(int start, int count, float value, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		return mulT(start, count, value, value, value, res, resStart);
+	}
+	
+	public Vec3BatchF mulT(int start, int count, float x, float y, float z, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment sx = this.x, sy = this.y, sz = this.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, r = resStart + i;
+			
+			rx.setAtIndex(JAVA_FLOAT, r, sx.getAtIndex(JAVA_FLOAT, a) * x);
+			ry.setAtIndex(JAVA_FLOAT, r, sy.getAtIndex(JAVA_FLOAT, a) * y);
+			rz.setAtIndex(JAVA_FLOAT, r, sz.getAtIndex(JAVA_FLOAT, a) * z);
+		}
+		
+		return res;
+	}
+	
+	/**
+	 * Adds the vectors of the given batch multiplied by the factor to the vectors in the range.
+	 * This is the typical integration step {@code position += velocity * dt}.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param v The batch to multiply and add.
+	 * @param vStart The index of the first vector in the given batch.
+	 * @param factor The factor to multiply the given vectors with.
+	 *
+	 * @return The current batch.
+	 */
+	public Vec3BatchF fma(int start, int count, Vec3BatchF v, int vStart, float factor)
+	{
+		return fmaT(start, count, v, vStart, factor, this, start);
+	}
+	
+	public Vec3BatchF fmaT(int start, int count, Vec3BatchF v, int vStart, float factor, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, b = vStart + i, r = resStart + i;
+			
+			rx.setAtIndex(JAVA_FLOAT, r, x.getAtIndex(JAVA_FLOAT, a) + vx.getAtIndex(JAVA_FLOAT, b) * factor);
+			ry.setAtIndex(JAVA_FLOAT, r, y.getAtIndex(JAVA_FLOAT, a) + vy.getAtIndex(JAVA_FLOAT, b) * factor);
+			rz.setAtIndex(JAVA_FLOAT, r, z.getAtIndex(JAVA_FLOAT, a) + vz.getAtIndex(JAVA_FLOAT, b) * factor);
+		}
+		
+		return res;
+	}
+	
+	/**
+	 * Adds the component-wise product of the vectors of the two given batches to the vectors in
+	 * the range.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param v1 The first factor batch.
+	 * @param v1Start The index of the first vector in the first factor batch.
+	 * @param v2 The second factor batch.
+	 * @param v2Start The index of the first vector in the second factor batch.
+	 *
+	 * @return The current batch.
+	 */
+	public Vec3BatchF fma(int start, int count, Vec3BatchF v1, int v1Start, Vec3BatchF v2, int v2Start)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment ax = v1.x, ay = v1.y, az = v1.z;
+		MemorySegment bx = v2.x, by = v2.y, bz = v2.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int s = start + i, a = v1Start + i, b = v2Start + i;
+			
+			x.setAtIndex(JAVA_FLOAT, s, x.getAtIndex(JAVA_FLOAT, s) + ax.getAtIndex(JAVA_FLOAT, a) * bx.getAtIndex(JAVA_FLOAT, b));
+			y.setAtIndex(JAVA_FLOAT, s, y.getAtIndex(JAVA_FLOAT, s) + ay.getAtIndex(JAVA_FLOAT, a) * by.getAtIndex(JAVA_FLOAT, b));
+			z.setAtIndex(JAVA_FLOAT, s, z.getAtIndex(JAVA_FLOAT, s) + az.getAtIndex(JAVA_FLOAT, a) * bz.getAtIndex(JAVA_FLOAT, b));
+		}
+		
+		return this;
+	}
+	
+	public Vec3BatchF nrm(int start, int count)
+	{
+		return nrmT(start, count, this, start);
+	}
+	
+	/**
+	 * Normalizes the vectors in the range and writes them into the extraction batch.
+	 * Vectors with a length of zero result in zero vectors like in {@link RawVecUtils3F#nrm(float[], float[])}.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param res The extraction batch.
+	 * @param resStart The index of the first vector in the extraction batch.
+	 *
+	 * @return The extraction batch.
+	 */
+	public Vec3BatchF nrmT(int start, int count, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, r = resStart + i;
+			
+			float v0 = x.getAtIndex(JAVA_FLOAT, a);
+			float v1 = y.getAtIndex(JAVA_FLOAT, a);
+			float v2 = z.getAtIndex(JAVA_FLOAT, a);
+			
+			float lenSq = v0 * v0 + v1 * v1 + v2 * v2;
+			float invLength = lenSq == 0.0f ? 0.0f : MathUtils.invSqrt(lenSq);
+			
+			rx.setAtIndex(JAVA_FLOAT, r, v0 * invLength);
+			ry.setAtIndex(JAVA_FLOAT, r, v1 * invLength);
+			rz.setAtIndex(JAVA_FLOAT, r, v2 * invLength);
+		}
+		
+		return res;
+	}
+	
+	/**
+	 * Calculates the dot products of the vectors in the range with the vectors of the given batch.
+	 *
+	 * @param start The index of the first vector in this batch.
+	 * @param count The number of vectors.
+	 * @param v The other batch.
+	 * @param vStart The index of the first vector in the other batch.
+	 * @param res The extraction array for the dot products.
+	 * @param resOffset The offset of the first dot product in the extraction array.
+	 *
+	 * @return The extraction array.
+	 */
+	public float[] dot(int start, int count, Vec3BatchF v, int vStart, @ExtractionParam float[] res, int resOffset)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, b = vStart + i;
+			
+			res[resOffset + i] = x.getAtIndex(JAVA_FLOAT, a) * vx.getAtIndex(JAVA_FLOAT, b)
+							   + y.getAtIndex(JAVA_FLOAT, a) * vy.getAtIndex(JAVA_FLOAT, b)
+							   + z.getAtIndex(JAVA_FLOAT, a) * vz.getAtIndex(JAVA_FLOAT, b);
+		}
+		
+		return res;
+	}
+	
+	public float[] dot(int start, int count, float x, float y, float z, @ExtractionParam float[] res, int resOffset)
+	{
+		MemorySegment sx = this.x, sy = this.y, sz = this.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i;
+			
+			res[resOffset + i] = sx.getAtIndex(JAVA_FLOAT, a) * x + sy.getAtIndex(JAVA_FLOAT, a) * y + sz.getAtIndex(JAVA_FLOAT, a) * z;
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF cross(int start, int count, Vec3BatchF v, int vStart)
+	{
+		return crossT(start, count, v, vStart, this, start);
+	}
+	
+	public Vec3BatchF crossT(int start, int count, Vec3BatchF v, int vStart, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = start + i, b = vStart + i, r = resStart + i;
+			
+			float t1v0 = x.getAtIndex(JAVA_FLOAT, a);
+			float t1v1 = y.getAtIndex(JAVA_FLOAT, a);
+			float t1v2 = z.getAtIndex(JAVA_FLOAT, a);
+			
+			float t2v0 = vx.getAtIndex(JAVA_FLOAT, b);
+			float t2v1 = vy.getAtIndex(JAVA_FLOAT, b);
+			float t2v2 = vz.getAtIndex(JAVA_FLOAT, b);
+			
+			rx.setAtIndex(JAVA_FLOAT, r, t1v1 * t2v2 - t1v2 * t2v1);
+			ry.setAtIndex(JAVA_FLOAT, r, t1v2 * t2v0 - t1v0 * t2v2);
+			rz.setAtIndex(JAVA_FLOAT, r, t1v0 * t2v1 - t1v1 * t2v0);
+		}
+		
+		return res;
+	}
+	
+	public Vec3BatchF lerp(double alpha, int start, int count, Vec3BatchF v, int vStart)
+	{
+		return lerpT(alpha, start, count, v, vStart, this, start);
+	}
+	
+	public Vec3BatchF lerpT(double alpha, int start, int count, Vec3BatchF v, int vStart, @ExtractionParam Vec3BatchF res, int resStart)
+	{
+		MemorySegment x = this.x, y = this.y, z = this.z;
+		MemorySegment vx = v.x, vy = v.y, vz = v.z;
+		MemorySegment rx = res.x, ry = res.y, rz = res.z;
+		
+		float a = (float)alpha;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int s = start + i, b = vStart + i, r = resStart + i;
+			
+			float t1v0 = x.getAtIndex(JAVA_FLOAT, s);
+			float t1v1 = y.getAtIndex(JAVA_FLOAT, s);
+			float t1v2 = z.getAtIndex(JAVA_FLOAT, s);
+			
+			rx.setAtIndex(JAVA_FLOAT, r, t1v0 + a * (vx.getAtIndex(JAVA_FLOAT, b) - t1v0));
+			ry.setAtIndex(JAVA_FLOAT, r, t1v1 + a * (vy.getAtIndex(JAVA_FLOAT, b) - t1v1));
+			rz.setAtIndex(JAVA_FLOAT, r, t1v2 + a * (vz.getAtIndex(JAVA_FLOAT, b) - t1v2));
+		}
+		
+		return res;
+	}
+}
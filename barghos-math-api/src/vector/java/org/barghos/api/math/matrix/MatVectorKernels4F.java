@@ -0,0 +1,71 @@
+package org.barghos.api.math.matrix;
+
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class contains the vector API kernels of {@link MatBatchUtils4F}.
+ * It must only be loaded if {@link org.barghos.api.core.tuple.floats.ArithmeticOpsBulkF#isVectorized()}
+ * returns true. Each kernel processes the largest multiple of the lane count and returns the number
+ * of processed elements, the remainder is handled by the scalar loop of the caller.
+ */
+final class MatVectorKernels4F
+{
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+	
+	private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+	
+	private MatVectorKernels4F() { }
+	
+	static int transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, float[] x, float[] y, float[] z, int offset, float[] resX, float[] resY, float[] resZ, int resOffset, int count)
+	{
+		FloatVector va0 = FloatVector.broadcast(SPECIES, a0), va1 = FloatVector.broadcast(SPECIES, a1), va2 = FloatVector.broadcast(SPECIES, a2);
+		FloatVector vb0 = FloatVector.broadcast(SPECIES, b0), vb1 = FloatVector.broadcast(SPECIES, b1), vb2 = FloatVector.broadcast(SPECIES, b2);
+		FloatVector vc0 = FloatVector.broadcast(SPECIES, c0), vc1 = FloatVector.broadcast(SPECIES, c1), vc2 = FloatVector.broadcast(SPECIES, c2);
+		FloatVector vt0 = FloatVector.broadcast(SPECIES, t0), vt1 = FloatVector.broadcast(SPECIES, t1), vt2 = FloatVector.broadcast(SPECIES, t2);
+		
+		int bound = SPECIES.loopBound(count);
+		
+		for(int i = 0; i < bound; i += SPECIES.length())
+		{
+			FloatVector v0 = FloatVector.fromArray(SPECIES, x, offset + i);
+			FloatVector v1 = FloatVector.fromArray(SPECIES, y, offset + i);
+			FloatVector v2 = FloatVector.fromArray(SPECIES, z, offset + i);
+			
+			va0.fma(v0, vb0.fma(v1, vc0.fma(v2, vt0))).intoArray(resX, resOffset + i);
+			va1.fma(v0, vb1.fma(v1, vc1.fma(v2, vt1))).intoArray(resY, resOffset + i);
+			va2.fma(v0, vb2.fma(v1, vc2.fma(v2, vt2))).intoArray(resZ, resOffset + i);
+		}
+		
+		return bound;
+	}
+	
+	static int transform(float a0, float a1, float a2, float b0, float b1, float b2, float c0, float c1, float c2, float t0, float t1, float t2, MemorySegment x, MemorySegment y, MemorySegment z, int start, MemorySegment resX, MemorySegment resY, MemorySegment resZ, int resStart, int count)
+	{
+		FloatVector va0 = FloatVector.broadcast(SPECIES, a0), va1 = FloatVector.broadcast(SPECIES, a1), va2 = FloatVector.broadcast(SPECIES, a2);
+		FloatVector vb0 = FloatVector.broadcast(SPECIES, b0), vb1 = FloatVector.broadcast(SPECIES, b1), vb2 = FloatVector.broadcast(SPECIES, b2);
+		FloatVector vc0 = FloatVector.broadcast(SPECIES, c0), vc1 = FloatVector.broadcast(SPECIES, c1), vc2 = FloatVector.broadcast(SPECIES, c2);
+		FloatVector vt0 = FloatVector.broadcast(SPECIES, t0), vt1 = FloatVector.broadcast(SPECIES, t1), vt2 = FloatVector.broadcast(SPECIES, t2);
+		
+		int bound = SPECIES.loopBound(count);
+		
+		for(int i = 0; i < bound; i += SPECIES.length())
+		{
+			long s = (start + (long)i) * Float.BYTES;
+			long r = (resStart + (long)i) * Float.BYTES;
+			
+			FloatVector v0 = FloatVector.fromMemorySegment(SPECIES, x, s, ORDER);
+			FloatVector v1 = FloatVector.fromMemorySegment(SPECIES, y, s, ORDER);
+			FloatVector v2 = FloatVector.fromMemorySegment(SPECIES, z, s, ORDER);
+			
+			va0.fma(v0, vb0.fma(v1, vc0.fma(v2, vt0))).intoMemorySegment(resX, r, ORDER);
+			va1.fma(v0, vb1.fma(v1, vc1.fma(v2, vt1))).intoMemorySegment(resY, r, ORDER);
+			va2.fma(v0, vb2.fma(v1, vc2.fma(v2, vt2))).intoMemorySegment(resZ, r, ORDER);
+		}
+		
+		return bound;
+	}
+}
@@ -0,0 +1,82 @@
+package org.barghos.impl.math;
+
+import org.barghos.impl.core.memory.FrameAllocator;
+import org.barghos.impl.core.memory.FrameAllocator.FrameType;
+import org.barghos.impl.math.matrix.Mat4F;
+import org.barghos.impl.math.quaternion.QuatF;
+import org.barghos.impl.math.vector.Vec3F;
+
+/**
+ * This class provides frame temporaries of the float math types from the frame allocator of the current thread.
+ *
+ * <p>
+ * The temporaries are released by {@link FrameAllocator#reset()} or {@link FrameAllocator#reset(long)}
+ * on {@link FrameAllocator#current()} and must not be kept beyond that.
+ */
+public final class FrameTempsF
+{
+	public static final FrameType<Vec3F> VEC3 = FrameType.of(Vec3F::new);
+	public static final FrameType<QuatF> QUAT = FrameType.of(QuatF::new);
+	public static final FrameType<Mat4F> MAT4 = FrameType.of(Mat4F::new);
+	
+	private FrameTempsF() {}
+	
+	/**
+	 * Returns a temporary vector set to zero.
+	 *
+	 * @return The vector.
+	 */
+	public static Vec3F vec3()
+	{
+		return FrameAllocator.current().object(VEC3).set(0.0f, 0.0f, 0.0f);
+	}
+	
+	/**
+	 * Returns a temporary vector set to the given components.
+	 *
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 *
+	 * @return The vector.
+	 */
+	public static Vec3F vec3(float x, float y, float z)
+	{
+		return FrameAllocator.current().object(VEC3).set(x, y, z);
+	}
+	
+	/**
+	 * Returns a temporary quaternion set to identity.
+	 *
+	 * @return The quaternion.
+	 */
+	public static QuatF quat()
+	{
+		return FrameAllocator.current().object(QUAT).set(0.0f, 0.0f, 0.0f, 1.0f);
+	}
+	
+	/**
+	 * Returns a temporary quaternion set to the given components.
+	 *
+	 * @param x The x component.
+	 * @param y The y component.
+	 * @param z The z component.
+	 * @param w The w component.
+	 *
+	 * @return The quaternion.
+	 */
+	public static QuatF quat(float x, float y, float z, float w)
+	{
+		return FrameAllocator.current().object(QUAT).set(x, y, z, w);
+	}
+	
+	/**
+	 * Returns a temporary matrix set to identity.
+	 *
+	 * @return The matrix.
+	 */
+	public static Mat4F mat4()
+	{
+		return FrameAllocator.current().object(MAT4).setIdentity();
+	}
+}
@@ -0,0 +1,914 @@
+package org.barghos.impl.math.bounds;
+
+import java.util.List;
+
+import org.barghos.annotation.ExtractionParam;
+import org.barghos.api.math.bounds.IAabb3RF;
+import org.barghos.api.math.line.IRay3RF;
+
+/**
+ * This class is a static bounding volume hierarchy over axis aligned bounding boxes.
+ *
+ * <p>
+ * The hierarchy is built once with a binned surface area heuristic and stored as flat node arrays.
+ * The bounds of a node are stored in a {@code float[]} with six floats per node and the topology in
+ * an {@code int[]} with two ints per node. The primitives are reordered so that the boxes of a leaf
+ * are contiguous in memory.
+ *
+ * <p>
+ * Queries report the indices of the boxes in the order they were passed to the build method.
+ * Results are reported through reusable sinks or written into caller-provided objects and arrays,
+ * so the traversal itself does not allocate. Queries that are started from within a sink use their own
+ * traversal state. Rays are given as origin and direction like in
+ * {@link RayAabbIntersector3F}. A built hierarchy is immutable and can be queried by several threads
+ * concurrently.
+ */
+public class Bvh3F
+{
+	private static final int BINS = 16;
+	private static final int MAX_LEAF_SIZE = 16;
+	private static final int MIN_LEAF_SIZE = 2;
+	
+	private static final ThreadLocal<Traversal> TRAVERSAL = ThreadLocal.withInitial(Traversal::new);
+	
+	private final float[] nodeBounds;
+	private final int[] nodeInfo;
+	private final int nodeCount;
+	private final int depth;
+	
+	private final float[] primBounds;
+	private final int[] primIndices;
+	private final int primCount;
+	
+	private Bvh3F(float[] nodeBounds, int[] nodeInfo, int nodeCount, int depth, float[] primBounds, int[] primIndices, int primCount)
+	{
+		this.nodeBounds = nodeBounds;
+		this.nodeInfo = nodeInfo;
+		this.nodeCount = nodeCount;
+		this.depth = depth;
+		
+		this.primBounds = primBounds;
+		this.primIndices = primIndices;
+		this.primCount = primCount;
+	}
+	
+	/**
+	 * Builds a new hierarchy over the given boxes.
+	 *
+	 * @param boxes The boxes.
+	 *
+	 * @return The new hierarchy.
+	 */
+	public static Bvh3F build(IAabb3RF[] boxes)
+	{
+		float[] flat = new float[boxes.length * 6];
+		
+		for(int i = 0; i < boxes.length; i++)
+		{
+			copy(boxes[i], flat, i * 6);
+		}
+		
+		return build(flat, boxes.length);
+	}
+	
+	/**
+	 * Builds a new hierarchy over the given boxes.
+	 *
+	 * @param boxes The boxes.
+	 *
+	 * @return The new hierarchy.
+	 */
+	public static Bvh3F build(List<? extends IAabb3RF> boxes)
+	{
+		int count = boxes.size();
+		float[] flat = new float[count * 6];
+		
+		for(int i = 0; i < count; i++)
+		{
+			copy(boxes.get(i), flat, i * 6);
+		}
+		
+		return build(flat, count);
+	}
+	
+	private static void copy(IAabb3RF aabb, float[] res, int offset)
+	{
+		res[offset + 0] = aabb.minX();
+		res[offset + 1] = aabb.minY();
+		res[offset + 2] = aabb.minZ();
+		res[offset + 3] = aabb.maxX();
+		res[offset + 4] = aabb.maxY();
+		res[offset + 5] = aabb.maxZ();
+	}
+	
+	/**
+	 * Builds a new hierarchy over the given boxes. The boxes are stored consecutively in the array as
+	 * {@code minX, minY, minZ, maxX, maxY, maxZ}.
+	 *
+	 * @param boxes The boxes.
+	 * @param count The number of boxes.
+	 *
+	 * @return The new hierarchy.
+	 */
+	public static Bvh3F build(float[] boxes, int count)
+	{
+		return new Builder(boxes, count).build();
+	}
+	
+	/**
+	 * Returns the number of boxes in the hierarchy.
+	 *
+	 * @return The number of boxes.
+	 */
+	public int size()
+	{
+		return this.primCount;
+	}
+	
+	/**
+	 * Returns the number of nodes in the hierarchy.
+	 *
+	 * @return The number of nodes.
+	 */
+	public int nodeCount()
+	{
+		return this.nodeCount;
+	}
+	
+	/**
+	 * Returns the number of levels of the hierarchy.
+	 *
+	 * @return The depth.
+	 */
+	public int depth()
+	{
+		return this.depth;
+	}
+	
+	/**
+	 * Returns the bounds of all boxes in the hierarchy.
+	 *
+	 * @param res The extraction array for the bounds.
+	 *
+	 * @return The extraction array.
+	 */
+	public float[] getBounds(@ExtractionParam float[] res)
+	{
+		if(this.nodeCount == 0)
+		{
+			for(int i = 0; i < 6; i++) res[i] = 0.0f;
+			
+			return res;
+		}
+		
+		System.arraycopy(this.nodeBounds, 0, res, 0, 6);
+		
+		return res;
+	}
+	
+	public int raycast(IRay3RF ray, float maxTime, IRayHitSink sink)
+	{
+		return raycast(ray.originX(), ray.originY(), ray.originZ(), ray.directionX(), ray.directionY(), ray.directionZ(), maxTime, sink);
+	}
+	
+	public int raycast(float[] ray, float maxTime, IRayHitSink sink)
+	{
+		return raycast(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5], maxTime, sink);
+	}
+	
+	/**
+	 * Reports all boxes that are hit by the ray within the given time to the sink.
+	 * The order of the reported boxes is unspecified.
+	 *
+	 * @param originX The x component of the ray origin.
+	 * @param originY The y component of the ray origin.
+	 * @param originZ The z component of the ray origin.
+	 * @param dirX The x component of the ray direction.
+	 * @param dirY The y component of the ray direction.
+	 * @param dirZ The z component of the ray direction.
+	 * @param maxTime The maximum time along the ray.
+	 * @param sink The sink to report the hits to.
+	 *
+	 * @return The number of reported hits.
+	 */
+	public int raycast(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxTime, IRayHitSink sink)
+	{
+		if(this.nodeCount == 0) return 0;
+		
+		float invX = 1.0f / dirX;
+		float invY = 1.0f / dirY;
+		float invZ = 1.0f / dirZ;
+		
+		Traversal traversal = acquire();
+		
+		try
+		{
+			return traverseRaycast(originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, maxTime, sink, traversal.stack);
+		}
+		finally
+		{
+			traversal.inUse = false;
+		}
+	}
+	
+	private int traverseRaycast(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float invX, float invY, float invZ, float maxTime, IRayHitSink sink, int[] stack)
+	{
+		float[] nodeBounds = this.nodeBounds;
+		int[] nodeInfo = this.nodeInfo;
+		float[] primBounds = this.primBounds;
+		
+		int stackSize = 0;
+		int hits = 0;
+		
+		stack[stackSize++] = 0;
+		
+		while(stackSize > 0)
+		{
+			int node = stack[--stackSize];
+			
+			if(slab(nodeBounds, node * 6, originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, maxTime) < 0.0f) continue;
+			
+			int first = nodeInfo[node * 2];
+			int count = nodeInfo[node * 2 + 1];
+			
+			if(count == 0)
+			{
+				stack[stackSize++] = first;
+				stack[stackSize++] = first + 1;
+				
+				continue;
+			}
+			
+			for(int i = first, end = first + count; i < end; i++)
+			{
+				float t = slab(primBounds, i * 6, originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, maxTime);
+				
+				if(t < 0.0f) continue;
+				
+				hits++;
+				
+				if(!sink.hit(this.primIndices[i], t)) return hits;
+			}
+		}
+		
+		return hits;
+	}
+	
+	public boolean raycastNearest(IRay3RF ray, float maxTime, @ExtractionParam RayHit res)
+	{
+		return raycastNearest(ray.originX(), ray.originY(), ray.originZ(), ray.directionX(), ray.directionY(), ray.directionZ(), maxTime, res);
+	}
+	
+	public boolean raycastNearest(float[] ray, float maxTime, @ExtractionParam RayHit res)
+	{
+		return raycastNearest(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5], maxTime, res);
+	}
+	
+	/**
+	 * Finds the box with the nearest entry point along the ray within the given time.
+	 * If the ray starts inside of a box, the entry time of that box is zero.
+	 *
+	 * @param originX The x component of the ray origin.
+	 * @param originY The y component of the ray origin.
+	 * @param originZ The z component of the ray origin.
+	 * @param dirX The x component of the ray direction.
+	 * @param dirY The y component of the ray direction.
+	 * @param dirZ The z component of the ray direction.
+	 * @param maxTime The maximum time along the ray.
+	 * @param res The extraction object for the nearest hit.
+	 *
+	 * @return True if a box was hit.
+	 */
+	public boolean raycastNearest(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxTime, @ExtractionParam RayHit res)
+	{
+		if(this.nodeCount == 0)
+		{
+			res.hit = false;
+			res.index = -1;
+			res.time = maxTime;
+			
+			return false;
+		}
+		
+		Traversal traversal = acquire();
+		
+		try
+		{
+			return traverseRaycastNearest(originX, originY, originZ, dirX, dirY, dirZ, maxTime, res, traversal.stack);
+		}
+		finally
+		{
+			traversal.inUse = false;
+		}
+	}
+	
+	private boolean traverseRaycastNearest(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float maxTime, RayHit res, int[] stack)
+	{
+		res.hit = false;
+		res.index = -1;
+		res.time = maxTime;
+		
+		float invX = 1.0f / dirX;
+		float invY = 1.0f / dirY;
+		float invZ = 1.0f / dirZ;
+		
+		float[] nodeBounds = this.nodeBounds;
+		int[] nodeInfo = this.nodeInfo;
+		float[] primBounds = this.primBounds;
+		
+		float best = maxTime;
+		int bestPrim = -1;
+		
+		if(slab(nodeBounds, 0, originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, best) < 0.0f) return false;
+		
+		int stackSize = 0;
+		
+		stack[stackSize++] = 0;
+		
+		while(stackSize > 0)
+		{
+			int node = stack[--stackSize];
+			
+			int first = nodeInfo[node * 2];
+			int count = nodeInfo[node * 2 + 1];
+			
+			if(count == 0)
+			{
+				float tLeft = slab(nodeBounds, first * 6, originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, best);
+				float tRight = slab(nodeBounds, (first + 1) * 6, originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, best);
+				
+				if(tLeft >= 0.0f && tRight >= 0.0f)
+				{
+					if(tLeft <= tRight)
+					{
+						stack[stackSize++] = first + 1;
+						stack[stackSize++] = first;
+					}
+					else
+					{
+						stack[stackSize++] = first;
+						stack[stackSize++] = first + 1;
+					}
+				}
+				else if(tLeft >= 0.0f)
+				{
+					stack[stackSize++] = first;
+				}
+				else if(tRight >= 0.0f)
+				{
+					stack[stackSize++] = first + 1;
+				}
+				
+				continue;
+			}
+			
+			for(int i = first, end = first + count; i < end; i++)
+			{
+				float t = slab(primBounds, i * 6, originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, best);
+				
+				if(t >= 0.0f && (bestPrim == -1 || t < best))
+				{
+					best = t;
+					bestPrim = i;
+				}
+			}
+		}
+		
+		if(bestPrim == -1) return false;
+		
+		res.hit = true;
+		res.index = this.primIndices[bestPrim];
+		res.time = best;
+		
+		return true;
+	}
+	
+	/**
+	 * Finds the nearest hit for each ray of a batch. The rays are stored consecutively in the array as
+	 * {@code originX, originY, originZ, dirX, dirY, dirZ}. For each ray the index of the nearest box or
+	 * -1 and the entry time or {@code maxTime} are written into the extraction arrays.
+	 *
+	 * @param rays The rays.
+	 * @param rayOffset The offset of the first ray in the array.
+	 * @param count The number of rays.
+	 * @param maxTime The maximum time along the rays.
+	 * @param resIndices The extraction array for the indices of the hit boxes.
+	 * @param resIndicesOffset The offset of the first index in the extraction array.
+	 * @param resTimes The extraction array for the entry times.
+	 * @param resTimesOffset The offset of the first time in the extraction array.
+	 *
+	 * @return The number of rays that hit a box.
+	 */
+	public int raycastNearest(float[] rays, int rayOffset, int count, float maxTime, @ExtractionParam int[] resIndices, int resIndicesOffset, @ExtractionParam float[] resTimes, int resTimesOffset)
+	{
+		if(this.nodeCount == 0)
+		{
+			for(int i = 0; i < count; i++)
+			{
+				resIndices[resIndicesOffset + i] = -1;
+				resTimes[resTimesOffset + i] = maxTime;
+			}
+			
+			return 0;
+		}
+		
+		Traversal traversal = acquire();
+		
+		try
+		{
+			RayHit hit = traversal.hit;
+			int hits = 0;
+			
+			for(int i = 0; i < count; i++)
+			{
+				int r = rayOffset + i * 6;
+				
+				if(traverseRaycastNearest(rays[r], rays[r + 1], rays[r + 2], rays[r + 3], rays[r + 4], rays[r + 5], maxTime, hit, traversal.stack)) hits++;
+				
+				resIndices[resIndicesOffset + i] = hit.index;
+				resTimes[resTimesOffset + i] = hit.time;
+			}
+			
+			return hits;
+		}
+		finally
+		{
+			traversal.inUse = false;
+		}
+	}
+	
+	public int overlap(IAabb3RF aabb, IOverlapSink sink)
+	{
+		return overlap(aabb.minX(), aabb.minY(), aabb.minZ(), aabb.maxX(), aabb.maxY(), aabb.maxZ(), sink);
+	}
+	
+	public int overlap(float[] aabb, IOverlapSink sink)
+	{
+		return overlap(aabb[0], aabb[1], aabb[2], aabb[3], aabb[4], aabb[5], sink);
+	}
+	
+	/**
+	 * Reports all boxes that overlap the given box to the sink. Boxes that only touch count as
+	 * overlapping. The order of the reported boxes is unspecified.
+	 *
+	 * @param minX The x component of the minimum of the box.
+	 * @param minY The y component of the minimum of the box.
+	 * @param minZ The z component of the minimum of the box.
+	 * @param maxX The x component of the maximum of the box.
+	 * @param maxY The y component of the maximum of the box.
+	 * @param maxZ The z component of the maximum of the box.
+	 * @param sink The sink to report the overlapping boxes to.
+	 *
+	 * @return The number of reported boxes.
+	 */
+	public int overlap(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, IOverlapSink sink)
+	{
+		if(this.nodeCount == 0) return 0;
+		
+		Traversal traversal = acquire();
+		
+		try
+		{
+			return traverseOverlap(minX, minY, minZ, maxX, maxY, maxZ, sink, traversal.stack);
+		}
+		finally
+		{
+			traversal.inUse = false;
+		}
+	}
+	
+	private int traverseOverlap(float minX, float minY, float minZ, float maxX, float maxY, float maxZ, IOverlapSink sink, int[] stack)
+	{
+		float[] nodeBounds = this.nodeBounds;
+		int[] nodeInfo = this.nodeInfo;
+		float[] primBounds = this.primBounds;
+		
+		int stackSize = 0;
+		int hits = 0;
+		
+		stack[stackSize++] = 0;
+		
+		while(stackSize > 0)
+		{
+			int node = stack[--stackSize];
+			
+			if(!overlaps(nodeBounds, node * 6, minX, minY, minZ, maxX, maxY, maxZ)) continue;
+			
+			int first = nodeInfo[node * 2];
+			int count = nodeInfo[node * 2 + 1];
+			
+			if(count == 0)
+			{
+				stack[stackSize++] = first;
+				stack[stackSize++] = first + 1;
+				
+				continue;
+			}
+			
+			for(int i = first, end = first + count; i < end; i++)
+			{
+				if(!overlaps(primBounds, i * 6, minX, minY, minZ, maxX, maxY, maxZ)) continue;
+				
+				hits++;
+				
+				if(!sink.overlap(this.primIndices[i])) return hits;
+			}
+		}
+		
+		return hits;
+	}
+	
+	/**
+	 * Returns the traversal state of the current thread. If the state is already in use by a query
+	 * that called into a sink, a new state is returned, so that nested queries don't share the stack.
+	 */
+	private Traversal acquire()
+	{
+		Traversal traversal = TRAVERSAL.get();
+		
+		if(traversal.inUse) traversal = new Traversal();
+		
+		traversal.inUse = true;
+		
+		// The stack never holds more than one pending sibling per level plus the two children of the current node.
+		int required = this.depth + 2;
+		
+		if(traversal.stack.length < required) traversal.stack = new int[required];
+		
+		return traversal;
+	}
+	
+	/**
+	 * Returns the entry time of the ray into the box at the given offset clamped to zero, or -1 if the
+	 * ray misses the box within the range from zero to the maximum time.
+	 */
+	private static float slab(float[] bounds, int offset, float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float invX, float invY, float invZ, float maxTime)
+	{
+		return RayAabbIntersector3F.slab(originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, bounds[offset + 0], bounds[offset + 1], bounds[offset + 2], bounds[offset + 3], bounds[offset + 4], bounds[offset + 5], maxTime);
+	}
+	
+	private static boolean overlaps(float[] bounds, int offset, float minX, float minY, float minZ, float maxX, float maxY, float maxZ)
+	{
+		return bounds[offset + 0] <= maxX && bounds[offset + 3] >= minX
+			&& bounds[offset + 1] <= maxY && bounds[offset + 4] >= minY
+			&& bounds[offset + 2] <= maxZ && bounds[offset + 5] >= minZ;
+	}
+	
+	/**
+	 * This interface receives the boxes hit by a ray.
+	 */
+	@FunctionalInterface
+	public static interface IRayHitSink
+	{
+		/**
+		 * Receives a hit box.
+		 *
+		 * @param index The index of the box as passed to the build method.
+		 * @param time The entry time of the ray into the box. Zero if the ray starts inside of the box.
+		 *
+		 * @return True to continue the query, false to stop it.
+		 */
+		boolean hit(int index, float time);
+	}
+	
+	/**
+	 * This interface receives the boxes overlapping a query box.
+	 */
+	@FunctionalInterface
+	public static interface IOverlapSink
+	{
+		/**
+		 * Receives an overlapping box.
+		 *
+		 * @param index The index of the box as passed to the build method.
+		 *
+		 * @return True to continue the query, false to stop it.
+		 */
+		boolean overlap(int index);
+	}
+	
+	/**
+	 * This class holds the traversal stack and the scratch hit of a query.
+	 */
+	private static final class Traversal
+	{
+		private int[] stack = new int[64];
+		private final RayHit hit = new RayHit();
+		private boolean inUse;
+	}
+	
+	/**
+	 * This class holds the result of a nearest hit query and can be reused for any number of queries.
+	 */
+	public static class RayHit
+	{
+		public boolean hit;
+		public int index = -1;
+		public float time;
+	}
+	
+	/**
+	 * This class contains the state of a single build.
+	 */
+	private static class Builder
+	{
+		private final float[] boxes;
+		private final int count;
+		
+		private final float[] centroids;
+		private final int[] order;
+		
+		private final float[] nodeBounds;
+		private final int[] nodeInfo;
+		private int nodeCount;
+		private int depth;
+		
+		private final int[] binCounts = new int[BINS];
+		private final float[] binBounds = new float[BINS * 6];
+		private final float[] rightAreas = new float[BINS];
+		
+		private Builder(float[] boxes, int count)
+		{
+			this.boxes = boxes;
+			this.count = count;
+			
+			this.centroids = new float[count * 3];
+			this.order = new int[count];
+			
+			for(int i = 0; i < count; i++)
+			{
+				this.order[i] = i;
+				
+				this.centroids[i * 3 + 0] = (boxes[i * 6 + 0] + boxes[i * 6 + 3]) * 0.5f;
+				this.centroids[i * 3 + 1] = (boxes[i * 6 + 1] + boxes[i * 6 + 4]) * 0.5f;
+				this.centroids[i * 3 + 2] = (boxes[i * 6 + 2] + boxes[i * 6 + 5]) * 0.5f;
+			}
+			
+			int maxNodes = Math.max(1, count * 2 - 1);
+			
+			this.nodeBounds = new float[maxNodes * 6];
+			this.nodeInfo = new int[maxNodes * 2];
+		}
+		
+		private Bvh3F build()
+		{
+			if(this.count > 0)
+			{
+				this.nodeCount = 1;
+				
+				split(0, 0, this.count, 1);
+			}
+			
+			float[] primBounds = new float[this.count * 6];
+			
+			for(int i = 0; i < this.count; i++)
+			{
+				System.arraycopy(this.boxes, this.order[i] * 6, primBounds, i * 6, 6);
+			}
+			
+			return new Bvh3F(this.nodeBounds, this.nodeInfo, this.nodeCount, this.depth, primBounds, this.order, this.count);
+		}
+		
+		private void split(int node, int start, int end, int level)
+		{
+			this.depth = Math.max(this.depth, level);
+			
+			float[] boxes = this.boxes;
+			float[] centroids = this.centroids;
+			int[] order = this.order;
+			
+			float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+			float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+			
+			float cMinX = Float.POSITIVE_INFINITY, cMinY = Float.POSITIVE_INFINITY, cMinZ = Float.POSITIVE_INFINITY;
+			float cMaxX = Float.NEGATIVE_INFINITY, cMaxY = Float.NEGATIVE_INFINITY, cMaxZ = Float.NEGATIVE_INFINITY;
+			
+			for(int i = start; i < end; i++)
+			{
+				int b = order[i] * 6;
+				int c = order[i] * 3;
+				
+				minX = Math.min(minX, boxes[b + 0]);
+				minY = Math.min(minY, boxes[b + 1]);
+				minZ = Math.min(minZ, boxes[b + 2]);
+				maxX = Math.max(maxX, boxes[b + 3]);
+				maxY = Math.max(maxY, boxes[b + 4]);
+				maxZ = Math.max(maxZ, boxes[b + 5]);
+				
+				cMinX = Math.min(cMinX, centroids[c + 0]);
+				cMinY = Math.min(cMinY, centroids[c + 1]);
+				cMinZ = Math.min(cMinZ, centroids[c + 2]);
+				cMaxX = Math.max(cMaxX, centroids[c + 0]);
+				cMaxY = Math.max(cMaxY, centroids[c + 1]);
+				cMaxZ = Math.max(cMaxZ, centroids[c + 2]);
+			}
+			
+			int n = node * 6;
+			
+			this.nodeBounds[n + 0] = minX;
+			this.nodeBounds[n + 1] = minY;
+			this.nodeBounds[n + 2] = minZ;
+			this.nodeBounds[n + 3] = maxX;
+			this.nodeBounds[n + 4] = maxY;
+			this.nodeBounds[n + 5] = maxZ;
+			
+			int count = end - start;
+			
+			if(count <= MIN_LEAF_SIZE)
+			{
+				leaf(node, start, count);
+				
+				return;
+			}
+			
+			float[] cMin = { cMinX, cMinY, cMinZ };
+			float[] cMax = { cMaxX, cMaxY, cMaxZ };
+			
+			int bestAxis = -1;
+			int bestSplit = -1;
+			float bestCost = Float.POSITIVE_INFINITY;
+			
+			for(int axis = 0; axis < 3; axis++)
+			{
+				float extent = cMax[axis] - cMin[axis];
+				
+				if(extent <= 0.0f) continue;
+				
+				float scale = BINS / extent;
+				
+				binPrimitives(start, end, axis, cMin[axis], scale);
+				
+				// Sweep from the right to collect the areas of all right partitions.
+				float rMinX = Float.POSITIVE_INFINITY, rMinY = Float.POSITIVE_INFINITY, rMinZ = Float.POSITIVE_INFINITY;
+				float rMaxX = Float.NEGATIVE_INFINITY, rMaxY = Float.NEGATIVE_INFINITY, rMaxZ = Float.NEGATIVE_INFINITY;
+				
+				for(int bin = BINS - 1; bin > 0; bin--)
+				{
+					int o = bin * 6;
+					
+					rMinX = Math.min(rMinX, this.binBounds[o + 0]);
+					rMinY = Math.min(rMinY, this.binBounds[o + 1]);
+					rMinZ = Math.min(rMinZ, this.binBounds[o + 2]);
+					rMaxX = Math.max(rMaxX, this.binBounds[o + 3]);
+					rMaxY = Math.max(rMaxY, this.binBounds[o + 4]);
+					rMaxZ = Math.max(rMaxZ, this.binBounds[o + 5]);
+					
+					this.rightAreas[bin] = area(rMinX, rMinY, rMinZ, rMaxX, rMaxY, rMaxZ);
+				}
+				
+				// Sweep from the left and evaluate the cost of splitting in front of each bin.
+				float lMinX = Float.POSITIVE_INFINITY, lMinY = Float.POSITIVE_INFINITY, lMinZ = Float.POSITIVE_INFINITY;
+				float lMaxX = Float.NEGATIVE_INFINITY, lMaxY = Float.NEGATIVE_INFINITY, lMaxZ = Float.NEGATIVE_INFINITY;
+				int leftCount = 0;
+				
+				for(int bin = 0; bin < BINS - 1; bin++)
+				{
+					int o = bin * 6;
+					
+					lMinX = Math.min(lMinX, this.binBounds[o + 0]);
+					lMinY = Math.min(lMinY, this.binBounds[o + 1]);
+					lMinZ = Math.min(lMinZ, this.binBounds[o + 2]);
+					lMaxX = Math.max(lMaxX, this.binBounds[o + 3]);
+					lMaxY = Math.max(lMaxY, this.binBounds[o + 4]);
+					lMaxZ = Math.max(lMaxZ, this.binBounds[o + 5]);
+					
+					leftCount += this.binCounts[bin];
+					
+					int rightCount = count - leftCount;
+					
+					if(leftCount == 0 || rightCount == 0) continue;
+					
+					float cost = area(lMinX, lMinY, lMinZ, lMaxX, lMaxY, lMaxZ) * leftCount + this.rightAreas[bin + 1] * rightCount;
+					
+					if(cost < bestCost)
+					{
+						bestCost = cost;
+						bestAxis = axis;
+						bestSplit = bin + 1;
+					}
+				}
+			}
+			
+			float leafCost = area(minX, minY, minZ, maxX, maxY, maxZ) * count;
+			
+			int mid;
+			
+			if(bestAxis == -1)
+			{
+				// All centroids are equal, so no split can separate the primitives spatially.
+				if(count <= MAX_LEAF_SIZE)
+				{
+					leaf(node, start, count);
+					
+					return;
+				}
+				
+				mid = (start + end) >>> 1;
+			}
+			else
+			{
+				if(bestCost >= leafCost && count <= MAX_LEAF_SIZE)
+				{
+					leaf(node, start, count);
+					
+					return;
+				}
+				
+				mid = partition(start, end, bestAxis, cMin[bestAxis], BINS / (cMax[bestAxis] - cMin[bestAxis]), bestSplit);
+				
+				if(mid == start || mid == end) mid = (start + end) >>> 1;
+			}
+			
+			int left = this.nodeCount;
+			this.nodeCount += 2;
+			
+			this.nodeInfo[node * 2] = left;
+			this.nodeInfo[node * 2 + 1] = 0;
+			
+			split(left, start, mid, level + 1);
+			split(left + 1, mid, end, level + 1);
+		}
+		
+		private void leaf(int node, int start, int count)
+		{
+			this.nodeInfo[node * 2] = start;
+			this.nodeInfo[node * 2 + 1] = count;
+		}
+		
+		private void binPrimitives(int start, int end, int axis, float cMin, float scale)
+		{
+			for(int bin = 0; bin < BINS; bin++)
+			{
+				int o = bin * 6;
+				
+				this.binCounts[bin] = 0;
+				
+				this.binBounds[o + 0] = Float.POSITIVE_INFINITY;
+				this.binBounds[o + 1] = Float.POSITIVE_INFINITY;
+				this.binBounds[o + 2] = Float.POSITIVE_INFINITY;
+				this.binBounds[o + 3] = Float.NEGATIVE_INFINITY;
+				this.binBounds[o + 4] = Float.NEGATIVE_INFINITY;
+				this.binBounds[o + 5] = Float.NEGATIVE_INFINITY;
+			}
+			
+			for(int i = start; i < end; i++)
+			{
+				int prim = this.order[i];
+				int bin = bin(this.centroids[prim * 3 + axis], cMin, scale);
+				int o = bin * 6;
+				int b = prim * 6;
+				
+				this.binCounts[bin]++;
+				
+				this.binBounds[o + 0] = Math.min(this.binBounds[o + 0], this.boxes[b + 0]);
+				this.binBounds[o + 1] = Math.min(this.binBounds[o + 1], this.boxes[b + 1]);
+				this.binBounds[o + 2] = Math.min(this.binBounds[o + 2], this.boxes[b + 2]);
+				this.binBounds[o + 3] = Math.max(this.binBounds[o + 3], this.boxes[b + 3]);
+				this.binBounds[o + 4] = Math.max(this.binBounds[o + 4], this.boxes[b + 4]);
+				this.binBounds[o + 5] = Math.max(this.binBounds[o + 5], this.boxes[b + 5]);
+			}
+		}
+		
+		private int partition(int start, int end, int axis, float cMin, float scale, int split)
+		{
+			int[] order = this.order;
+			
+			int i = start;
+			int j = end - 1;
+			
+			while(i <= j)
+			{
+				if(bin(this.centroids[order[i] * 3 + axis], cMin, scale) < split)
+				{
+					i++;
+				}
+				else
+				{
+					int t = order[i];
+					order[i] = order[j];
+					order[j] = t;
+					
+					j--;
+				}
+			}
+			
+			return i;
+		}
+		
+		private static int bin(float centroid, float cMin, float scale)
+		{
+			int bin = (int)((centroid - cMin) * scale);
+			
+			return Math.min(bin, BINS - 1);
+		}
+		
+		private static float area(float minX, float minY, float minZ, float maxX, float maxY, float maxZ)
+		{
+			float x = maxX - minX;
+			float y = maxY - minY;
+			float z = maxZ - minZ;
+			
+			return x * y + y * z + z * x;
+		}
+	}
+}
@@ -1,8 +1,56 @@
 package org.barghos.impl.math.bounds;
 
+import org.barghos.annotation.ExtractionParam;
+
 public class RayAabbIntersector3F
 {
+	/**
+	 * The number of floats of a flat result slot written by
+	 * {@link #intersect(float[], int, float[], int, float[], int)}.
+	 */
+	public static final int RESULT_SIZE = 16;
+	
+	/** The offset of the hit flag (1 or 0) in a flat result slot. */
+	public static final int RESULT_HIT = 0;
+	
+	/** The offset of the started-inside flag (1 or 0) in a flat result slot. */
+	public static final int RESULT_STARTED_INSIDE = 1;
+	
+	/** The offset of the entry time in a flat result slot. */
+	public static final int RESULT_ENTRY_TIME = 2;
+	
+	/** The offset of the exit time in a flat result slot. */
+	public static final int RESULT_EXIT_TIME = 3;
+	
+	/** The offset of the three components of the entry point in a flat result slot. */
+	public static final int RESULT_ENTRY_POINT = 4;
+	
+	/** The offset of the three components of the exit point in a flat result slot. */
+	public static final int RESULT_EXIT_POINT = 7;
+	
+	/** The offset of the three components of the entry normal in a flat result slot. */
+	public static final int RESULT_ENTRY_NORMAL = 10;
+	
+	/** The offset of the three components of the exit normal in a flat result slot. */
+	public static final int RESULT_EXIT_NORMAL = 13;
+	
 	public IntersectionData intersect(float[] ray, float[] aabb)
+	{
+		return intersect(ray, aabb, new IntersectionData());
+	}
+	
+	/**
+	 * Intersects the ray with the aabb and writes the result into the given intersection data.
+	 * The arrays of the intersection data are allocated on the first hit and reused afterwards,
+	 * so reusing the same intersection data for many tests does not allocate.
+	 *
+	 * @param ray The ray as origin and direction.
+	 * @param aabb The aabb as minimum and maximum.
+	 * @param res The extraction intersection data.
+	 *
+	 * @return The extraction intersection data.
+	 */
+	public IntersectionData intersect(float[] ray, float[] aabb, @ExtractionParam IntersectionData res)
 	{
 		float rayOriginX = ray[0];
 		float rayOriginY = ray[1];
@@ -17,7 +65,7 @@ public class RayAabbIntersector3F
 		float aabbMaxX = aabb[3];
 		float aabbMaxY = aabb[4];
 		float aabbMaxZ = aabb[5];
-
+		
 		float tEntry;
 		float tExit;
 		
@@ -42,10 +90,10 @@ public class RayAabbIntersector3F
 		}
 		else
 		{
-			if(rayOriginX < aabbMinX || rayOriginX > aabbMaxX) return IntersectionData.createNoHit();
+			if(rayOriginX < aabbMinX || rayOriginX > aabbMaxX) return res.setNoHit();
 			
-			tMinX = Float.NEGATIVE_INFINITY;		
-			tMaxX = Float.POSITIVE_INFINITY;	
+			tMinX = Float.NEGATIVE_INFINITY;
+			tMaxX = Float.POSITIVE_INFINITY;
 		}
 		
 		tEntry = tMinX;
@@ -72,10 +120,10 @@ public class RayAabbIntersector3F
 		}
 		else
 		{
-			if(rayOriginY < aabbMinY || rayOriginY > aabbMaxY) return IntersectionData.createNoHit();
+			if(rayOriginY < aabbMinY || rayOriginY > aabbMaxY) return res.setNoHit();
 			
-			tMinY = Float.NEGATIVE_INFINITY;		
-			tMaxY = Float.POSITIVE_INFINITY;	
+			tMinY = Float.NEGATIVE_INFINITY;
+			tMaxY = Float.POSITIVE_INFINITY;
 		}
 		
 		if(tMinY > tEntry)
@@ -108,10 +156,10 @@ public class RayAabbIntersector3F
 		}
 		else
 		{
-			if(rayOriginZ < aabbMinZ || rayOriginZ > aabbMaxZ) return IntersectionData.createNoHit();
+			if(rayOriginZ < aabbMinZ || rayOriginZ > aabbMaxZ) return res.setNoHit();
 			
-			tMinZ = Float.NEGATIVE_INFINITY;		
-			tMaxZ = Float.POSITIVE_INFINITY;	
+			tMinZ = Float.NEGATIVE_INFINITY;
+			tMaxZ = Float.POSITIVE_INFINITY;
 		}
 		
 		if(tMinZ > tEntry)
@@ -126,57 +174,332 @@ public class RayAabbIntersector3F
 			axisExit = 2;
 		}
 		
-		if(tEntry > tExit || tExit < 0) return IntersectionData.createNoHit();
+		if(tEntry > tExit || tExit < 0) return res.setNoHit();
+		
+		res.ensureArrays();
 		
-		if(tEntry < 0)
+		boolean startedInside = tEntry < 0;
+		
+		if(startedInside) tEntry = 0.0f;
+		
+		res.hit = true;
+		res.startedInside = startedInside;
+		res.entryTime = tEntry;
+		res.exitTime = tExit;
+		
+		setPoint(rayOriginX, rayOriginY, rayOriginZ, rayDirX, rayDirY, rayDirZ, tEntry, res.entryPoint, 0);
+		setPoint(rayOriginX, rayOriginY, rayOriginZ, rayDirX, rayDirY, rayDirZ, tExit, res.exitPoint, 0);
+		
+		if(startedInside)
 		{
-			float[] exitNormal = switch(axisExit) {
-				case 0 -> new float[] { rayDirX > 0 ? 1.0f : -1.0f, 0.0f, 0.0f };
-				case 1 -> new float[] { 0.0f, rayDirY > 0 ? 1.0f : -1.0f, 0.0f };
-				case 2 -> new float[] { 0.0f, 0.0f, rayDirZ > 0 ? 1.0f : -1.0f };
-				default -> throw new AssertionError();
-			};
+			res.entryNormal[0] = 0.0f;
+			res.entryNormal[1] = 0.0f;
+			res.entryNormal[2] = 0.0f;
+		}
+		else
+		{
+			setNormal(axisEntry, rayDirX, rayDirY, rayDirZ, -1.0f, res.entryNormal, 0);
+		}
+		
+		setNormal(axisExit, rayDirX, rayDirY, rayDirZ, 1.0f, res.exitNormal, 0);
+		
+		return res;
+	}
+	
+	/**
+	 * Intersects the ray with the aabb and writes the result into a flat result slot of
+	 * {@link #RESULT_SIZE} floats. The layout of the slot is given by the {@code RESULT_*} offsets.
+	 * On a miss only the hit flag is written.
+	 *
+	 * @param ray The array containing the ray as origin and direction.
+	 * @param rayOffset The offset of the ray in the array.
+	 * @param aabb The array containing the aabb as minimum and maximum.
+	 * @param aabbOffset The offset of the aabb in the array.
+	 * @param res The extraction array.
+	 * @param resOffset The offset of the result slot in the extraction array.
+	 *
+	 * @return True if the ray hits the aabb.
+	 */
+	public boolean intersect(float[] ray, int rayOffset, float[] aabb, int aabbOffset, @ExtractionParam float[] res, int resOffset)
+	{
+		float originX = ray[rayOffset + 0];
+		float originY = ray[rayOffset + 1];
+		float originZ = ray[rayOffset + 2];
+		float dirX = ray[rayOffset + 3];
+		float dirY = ray[rayOffset + 4];
+		float dirZ = ray[rayOffset + 5];
+		
+		float tEntry = Float.NEGATIVE_INFINITY;
+		float tExit = Float.POSITIVE_INFINITY;
+		
+		int axisEntry = 0;
+		int axisExit = 0;
+		
+		for(int axis = 0; axis < 3; axis++)
+		{
+			float origin = axis == 0 ? originX : axis == 1 ? originY : originZ;
+			float dir = axis == 0 ? dirX : axis == 1 ? dirY : dirZ;
 			
-			IntersectionData data = new IntersectionData();
-			data.hit = true;
-			data.startedInside = true;
-			data.entryTime = 0.0f;
-			data.exitTime = tExit;
-			data.entryPoint = new float[] { rayOriginX, rayOriginY, rayOriginZ };
-			data.exitPoint = new float[] { rayOriginX + rayDirX * tExit, rayOriginY + rayDirY * tExit, rayOriginZ + rayDirZ * tExit };
-			data.entryNormal = new float[] { 0.0f, 0.0f, 0.0f };
-			data.exitNormal = exitNormal;
+			float min = aabb[aabbOffset + axis];
+			float max = aabb[aabbOffset + axis + 3];
 			
-			return data;
+			if(dir == 0)
+			{
+				if(origin < min || origin > max)
+				{
+					res[resOffset + RESULT_HIT] = 0.0f;
+					
+					return false;
+				}
+				
+				continue;
+			}
+			
+			float invDir = 1.0f / dir;
+			
+			float tMin = (min - origin) * invDir;
+			float tMax = (max - origin) * invDir;
+			
+			if(tMin > tMax)
+			{
+				float t = tMin;
+				tMin = tMax;
+				tMax = t;
+			}
+			
+			if(tMin > tEntry)
+			{
+				tEntry = tMin;
+				axisEntry = axis;
+			}
+			
+			if(tMax < tExit)
+			{
+				tExit = tMax;
+				axisExit = axis;
+			}
+		}
+		
+		if(tEntry > tExit || tExit < 0)
+		{
+			res[resOffset + RESULT_HIT] = 0.0f;
+			
+			return false;
+		}
+		
+		boolean startedInside = tEntry < 0;
+		
+		if(startedInside) tEntry = 0.0f;
+		
+		res[resOffset + RESULT_HIT] = 1.0f;
+		res[resOffset + RESULT_STARTED_INSIDE] = startedInside ? 1.0f : 0.0f;
+		res[resOffset + RESULT_ENTRY_TIME] = tEntry;
+		res[resOffset + RESULT_EXIT_TIME] = tExit;
+		
+		setPoint(originX, originY, originZ, dirX, dirY, dirZ, tEntry, res, resOffset + RESULT_ENTRY_POINT);
+		setPoint(originX, originY, originZ, dirX, dirY, dirZ, tExit, res, resOffset + RESULT_EXIT_POINT);
+		
+		if(startedInside)
+		{
+			res[resOffset + RESULT_ENTRY_NORMAL + 0] = 0.0f;
+			res[resOffset + RESULT_ENTRY_NORMAL + 1] = 0.0f;
+			res[resOffset + RESULT_ENTRY_NORMAL + 2] = 0.0f;
+		}
+		else
+		{
+			setNormal(axisEntry, dirX, dirY, dirZ, -1.0f, res, resOffset + RESULT_ENTRY_NORMAL);
+		}
+		
+		setNormal(axisExit, dirX, dirY, dirZ, 1.0f, res, resOffset + RESULT_EXIT_NORMAL);
+		
+		return true;
+	}
+	
+	/**
+	 * Tests whether the ray hits the aabb without calculating any further information.
+	 *
+	 * @param ray The ray as origin and direction.
+	 * @param aabb The aabb as minimum and maximum.
+	 *
+	 * @return True if the ray hits the aabb.
+	 */
+	public boolean test(float[] ray, float[] aabb)
+	{
+		return intersectTime(ray, aabb) >= 0.0f;
+	}
+	
+	/**
+	 * Returns the entry time of the ray into the aabb without calculating any further information.
+	 * If the ray starts inside of the aabb the entry time is zero.
+	 *
+	 * @param ray The ray as origin and direction.
+	 * @param aabb The aabb as minimum and maximum.
+	 *
+	 * @return The entry time or -1 if the ray misses the aabb.
+	 */
+	public float intersectTime(float[] ray, float[] aabb)
+	{
+		return slab(ray[0], ray[1], ray[2], ray[3], ray[4], ray[5], 1.0f / ray[3], 1.0f / ray[4], 1.0f / ray[5], aabb[0], aabb[1], aabb[2], aabb[3], aabb[4], aabb[5], Float.POSITIVE_INFINITY);
+	}
+	
+	/**
+	 * Intersects one ray with a packet of aabbs. The aabbs are stored in structure-of-arrays form with
+	 * one array per component. For each aabb the entry time or -1 for a miss is written into the
+	 * extraction array.
+	 *
+	 * @param ray The ray as origin and direction.
+	 * @param minX The x components of the minimums of the aabbs.
+	 * @param minY The y components of the minimums of the aabbs.
+	 * @param minZ The z components of the minimums of the aabbs.
+	 * @param maxX The x components of the maximums of the aabbs.
+	 * @param maxY The y components of the maximums of the aabbs.
+	 * @param maxZ The z components of the maximums of the aabbs.
+	 * @param offset The index of the first aabb.
+	 * @param count The number of aabbs.
+	 * @param res The extraction array for the entry times.
+	 * @param resOffset The offset of the first entry time in the extraction array.
+	 *
+	 * @return The number of hit aabbs.
+	 */
+	public int intersectTimes(float[] ray, float[] minX, float[] minY, float[] minZ, float[] maxX, float[] maxY, float[] maxZ, int offset, int count, @ExtractionParam float[] res, int resOffset)
+	{
+		float originX = ray[0];
+		float originY = ray[1];
+		float originZ = ray[2];
+		float dirX = ray[3];
+		float dirY = ray[4];
+		float dirZ = ray[5];
+		
+		float invX = 1.0f / dirX;
+		float invY = 1.0f / dirY;
+		float invZ = 1.0f / dirZ;
+		
+		int hits = 0;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int a = offset + i;
+			
+			float t = slab(originX, originY, originZ, dirX, dirY, dirZ, invX, invY, invZ, minX[a], minY[a], minZ[a], maxX[a], maxY[a], maxZ[a], Float.POSITIVE_INFINITY);
+			
+			res[resOffset + i] = t;
+			
+			if(t >= 0.0f) hits++;
 		}
 		
-		float[] entryNormal = switch(axisEntry) {
-			case 0 -> new float[] { rayDirX > 0 ? -1.0f : 1.0f, 0.0f, 0.0f };
-			case 1 -> new float[] { 0.0f, rayDirY > 0 ? -1.0f : 1.0f, 0.0f };
-			case 2 -> new float[] { 0.0f, 0.0f, rayDirZ > 0 ? -1.0f : 1.0f };
-			default -> throw new AssertionError();
-		};
-		
-		float[] exitNormal = switch(axisExit) {
-			case 0 -> new float[] { rayDirX > 0 ? 1.0f : -1.0f, 0.0f, 0.0f };
-			case 1 -> new float[] { 0.0f, rayDirY > 0 ? 1.0f : -1.0f, 0.0f };
-			case 2 -> new float[] { 0.0f, 0.0f, rayDirZ > 0 ? 1.0f : -1.0f };
-			default -> throw new AssertionError();
-		};
-		
-		IntersectionData data = new IntersectionData();
-		data.hit = true;
-		data.startedInside = false;
-		data.entryTime = tEntry;
-		data.exitTime = tExit;
-		data.entryPoint = new float[] { rayOriginX + rayDirX * tEntry, rayOriginY + rayDirY * tEntry, rayOriginZ + rayDirZ * tEntry };
-		data.exitPoint = new float[] { rayOriginX + rayDirX * tExit, rayOriginY + rayDirY * tExit, rayOriginZ + rayDirZ * tExit };
-		data.entryNormal = entryNormal;
-		data.exitNormal = exitNormal;
-		
-		return data;
+		return hits;
 	}
 	
+	/**
+	 * Intersects a packet of rays with one aabb. The rays are stored in structure-of-arrays form with
+	 * one array per component. For each ray the entry time or -1 for a miss is written into the
+	 * extraction array.
+	 *
+	 * @param originX The x components of the origins of the rays.
+	 * @param originY The y components of the origins of the rays.
+	 * @param originZ The z components of the origins of the rays.
+	 * @param dirX The x components of the directions of the rays.
+	 * @param dirY The y components of the directions of the rays.
+	 * @param dirZ The z components of the directions of the rays.
+	 * @param offset The index of the first ray.
+	 * @param count The number of rays.
+	 * @param aabb The aabb as minimum and maximum.
+	 * @param res The extraction array for the entry times.
+	 * @param resOffset The offset of the first entry time in the extraction array.
+	 *
+	 * @return The number of rays hitting the aabb.
+	 */
+	public int intersectTimes(float[] originX, float[] originY, float[] originZ, float[] dirX, float[] dirY, float[] dirZ, int offset, int count, float[] aabb, @ExtractionParam float[] res, int resOffset)
+	{
+		float minX = aabb[0];
+		float minY = aabb[1];
+		float minZ = aabb[2];
+		float maxX = aabb[3];
+		float maxY = aabb[4];
+		float maxZ = aabb[5];
+		
+		int hits = 0;
+		
+		for(int i = 0; i < count; i++)
+		{
+			int r = offset + i;
+			
+			float t = slab(originX[r], originY[r], originZ[r], dirX[r], dirY[r], dirZ[r], 1.0f / dirX[r], 1.0f / dirY[r], 1.0f / dirZ[r], minX, minY, minZ, maxX, maxY, maxZ, Float.POSITIVE_INFINITY);
+			
+			res[resOffset + i] = t;
+			
+			if(t >= 0.0f) hits++;
+		}
+		
+		return hits;
+	}
+	
+	/**
+	 * Returns the entry time of the ray into the aabb clamped to zero, or -1 if the ray misses the aabb
+	 * within the range from zero to the maximum time. The inverse direction components are only read
+	 * for non-zero direction components. An axis the ray is parallel to is skipped after its
+	 * containment check, exactly like in {@link #intersect(float[], float[], IntersectionData)}.
+	 */
+	static float slab(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float invX, float invY, float invZ, float minX, float minY, float minZ, float maxX, float maxY, float maxZ, float maxTime)
+	{
+		float tEntry = 0.0f;
+		float tExit = maxTime;
+		
+		if(dirX != 0.0f)
+		{
+			float t1 = (minX - originX) * invX;
+			float t2 = (maxX - originX) * invX;
+			
+			tEntry = Math.max(tEntry, Math.min(t1, t2));
+			tExit = Math.min(tExit, Math.max(t1, t2));
+		}
+		else if(originX < minX || originX > maxX)
+		{
+			return -1.0f;
+		}
+		
+		if(dirY != 0.0f)
+		{
+			float t1 = (minY - originY) * invY;
+			float t2 = (maxY - originY) * invY;
+			
+			tEntry = Math.max(tEntry, Math.min(t1, t2));
+			tExit = Math.min(tExit, Math.max(t1, t2));
+		}
+		else if(originY < minY || originY > maxY)
+		{
+			return -1.0f;
+		}
+		
+		if(dirZ != 0.0f)
+		{
+			float t1 = (minZ - originZ) * invZ;
+			float t2 = (maxZ - originZ) * invZ;
+			
+			tEntry = Math.max(tEntry, Math.min(t1, t2));
+			tExit = Math.min(tExit, Math.max(t1, t2));
+		}
+		else if(originZ < minZ || originZ > maxZ)
+		{
+			return -1.0f;
+		}
+		
+		return tEntry <= tExit ? tEntry : -1.0f;
+	}
+	
+	private static void setPoint(float originX, float originY, float originZ, float dirX, float dirY, float dirZ, float t, float[] res, int offset)
+	{
+		res[offset + 0] = originX + dirX * t;
+		res[offset + 1] = originY + dirY * t;
+		res[offset + 2] = originZ + dirZ * t;
+	}
+	
+	private static void setNormal(int axis, float dirX, float dirY, float dirZ, float sign, float[] res, int offset)
+	{
+		res[offset + 0] = axis == 0 ? (dirX > 0 ? sign : -sign) : 0.0f;
+		res[offset + 1] = axis == 1 ? (dirY > 0 ? sign : -sign) : 0.0f;
+		res[offset + 2] = axis == 2 ? (dirZ > 0 ? sign : -sign) : 0.0f;
+	}
 	
 	public static class IntersectionData
 	{
@@ -196,5 +519,28 @@ public class RayAabbIntersector3F
 			
 			return data;
 		}
+		
+		/**
+		 * Marks the data as no hit. The arrays are kept for reuse.
+		 *
+		 * @return The current data.
+		 */
+		public IntersectionData setNoHit()
+		{
+			this.hit = false;
+			this.startedInside = false;
+			this.entryTime = 0.0f;
+			this.exitTime = 0.0f;
+			
+			return this;
+		}
+		
+		private void ensureArrays()
+		{
+			if(this.entryPoint == null) this.entryPoint = new float[3];
+			if(this.exitPoint == null) this.exitPoint = new float[3];
+			if(this.entryNormal == null) this.entryNormal = new float[3];
+			if(this.exitNormal == null) this.exitNormal = new float[3];
+		}
 	}
 }
@@ -0,0 +1,4687 @@
+package org.barghos.impl.math.matrix;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+
+import org.barghos.annotation.ExtractionParam;
+import org.barghos.api.core.function.floats.IFunc2F;
+import org.barghos.api.core.function.floats.IFunc3F;
+import org.barghos.api.core.function.floats.IFunc4F;
+import org.barghos.api.core.tuple.floats.ITup2RF;
+import org.barghos.api.core.tuple.floats.ITup2WF;
+import org.barghos.api.core.tuple.floats.ITup3RF;
+import org.barghos.api.core.tuple.floats.ITup3WF;
+import org.barghos.api.core.tuple.floats.ITup4RF;
+import org.barghos.api.core.tuple.floats.ITup4WF;
+import org.barghos.api.math.matrix.IMat4RF;
+import org.barghos.api.math.matrix.IMat4WF;
+import org.barghos.api.math.matrix.MatUtils4F;
+
+/**
+ * This class is a flyweight matrix that reads and writes its components directly in a memory segment.
+ *
+ * <p>
+ * The components are stored as consecutive floats at the offset of the view
+ * in the same order as the array of {@link Mat4F}. The view can be pointed
+ * to another segment or offset without allocation, so one instance can walk over an array of matrices in mapped
+ * or native upload memory and modify them in place. Operations returning new instances create heap instances.
+ */
+public class MemMat4F implements IMat4WF
+{
+	public static final MemoryLayout LAYOUT = MemoryLayout.sequenceLayout(SIZE, JAVA_FLOAT);
+	
+	private MemorySegment segment;
+	private long offset;
+	
+	/**
+	 * Creates a new view that is not pointed to any memory yet.
+	 */
+	public MemMat4F()
+	{
+		this.segment = MemorySegment.NULL;
+	}
+	
+	/**
+	 * Creates a new view over the given offset in the segment.
+	 *
+	 * @param segment The segment.
+	 * @param offset The offset in bytes.
+	 */
+	public MemMat4F(MemorySegment segment, long offset)
+	{
+		point(segment, offset);
+	}
+	
+	/**
+	 * Points the view to the given offset in the segment.
+	 *
+	 * @param segment The segment.
+	 * @param offset The offset in bytes.
+	 *
+	 * @return The current view.
+	 */
+	public MemMat4F point(MemorySegment segment, long offset)
+	{
+		this.segment = segment;
+		this.offset = offset;
+		
+		return this;
+	}
+	
+	/**
+	 * Points the view to the given offset in the current segment.
+	 *
+	 * @param offset The offset in bytes.
+	 *
+	 * @return The current view.
+	 */
+	public MemMat4F point(long offset)
+	{
+		this.offset = offset;
+		
+		return this;
+	}
+	
+	/**
+	 * Points the view to the element with the given index in the current segment, assuming the elements
+	 * are packed with the size of {@link #LAYOUT}.
+	 *
+	 * @param index The index of the element.
+	 *
+	 * @return The current view.
+	 */
+	public MemMat4F pointElement(long index)
+	{
+		this.offset = index * LAYOUT.byteSize();
+		
+		return this;
+	}
+	
+	public MemorySegment getSegment()
+	{
+		return this.segment;
+	}
+	
+	public long getOffset()
+	{
+		return this.offset;
+	}
+	
+	private float get(int index)
+	{
+		return this.segment.get(JAVA_FLOAT, this.offset + ((long)index << 2));
+	}
+	
+	private void put(int index, float value)
+	{
+		this.segment.set(JAVA_FLOAT, this.offset + ((long)index << 2), value);
+	}
+	
+	@Override
+	public float m00()
+	{
+		return get(0);
+	}
+
+	@Override
+	public float m01()
+	{
+		return get(1);
+	}
+
+	@Override
+	public float m02()
+	{
+		return get(2);
+	}
+
+	@Override
+	public float m03()
+	{
+		return get(3);
+	}
+
+	@Override
+	public float m10()
+	{
+		return get(4);
+	}
+
+	@Override
+	public float m11()
+	{
+		return get(5);
+	}
+
+	@Override
+	public float m12()
+	{
+		return get(6);
+	}
+
+	@Override
+	public float m13()
+	{
+		return get(7);
+	}
+
+	@Override
+	public float m20()
+	{
+		return get(8);
+	}
+
+	@Override
+	public float m21()
+	{
+		return get(9);
+	}
+
+	@Override
+	public float m22()
+	{
+		return get(10);
+	}
+
+	@Override
+	public float m23()
+	{
+		return get(11);
+	}
+
+	@Override
+	public float m30()
+	{
+		return get(12);
+	}
+
+	@Override
+	public float m31()
+	{
+		return get(13);
+	}
+
+	@Override
+	public float m32()
+	{
+		return get(14);
+	}
+
+	@Override
+	public float m33()
+	{
+		return get(15);
+	}
+
+	@Override
+	public float[] getRow0()
+	{
+		return new float[] {get(0), get(4), get(8), get(12)};
+	}
+
+	@Override
+	public float[] getRow0(float[] res)
+	{
+		res[0] = get(0);
+		res[1] = get(4);
+		res[2] = get(8);
+		res[3] = get(12);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getRow1()
+	{
+		return new float[] {get(1), get(5), get(9), get(13)};
+	}
+
+	@Override
+	public float[] getRow1(float[] res)
+	{
+		res[0] = get(1);
+		res[1] = get(5);
+		res[2] = get(9);
+		res[3] = get(13);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getRow2()
+	{
+		return new float[] {get(2), get(6), get(10), get(14)};
+	}
+
+	@Override
+	public float[] getRow2(float[] res)
+	{
+		res[0] = get(2);
+		res[1] = get(6);
+		res[2] = get(10);
+		res[3] = get(14);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getRow3()
+	{
+		return new float[] {get(3), get(7), get(11), get(15)};
+	}
+
+	@Override
+	public float[] getRow3(float[] res)
+	{
+		res[0] = get(3);
+		res[1] = get(7);
+		res[2] = get(11);
+		res[3] = get(15);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getCol0()
+	{
+		return new float[] {get(0), get(1), get(2), get(3)};
+	}
+
+	@Override
+	public float[] getCol0(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 4);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getCol1()
+	{
+		return new float[] {get(4), get(5), get(6), get(7)};
+	}
+
+	@Override
+	public float[] getCol1(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset + 16, res, 0, 4);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getCol2()
+	{
+		return new float[] {get(8), get(9), get(10), get(11)};
+	}
+
+	@Override
+	public float[] getCol2(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset + 32, res, 0, 4);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getCol3()
+	{
+		return new float[] {get(12), get(13), get(14), get(15)};
+	}
+
+	@Override
+	public float[] getCol3(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset + 48, res, 0, 4);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getRowAt(int row)
+	{
+		return new float[] {get(row), get(4 + row), get(8 + row), get(12 + row)};
+	}
+
+	@Override
+	public float[] getRowAt(int row, float[] res)
+	{
+		res[0] = get(row);
+		res[1] = get(4 + row);
+		res[2] = get(8 + row);
+		res[3] = get(12 + row);
+		
+		return res;
+	}
+
+	@Override
+	public float[] getColAt(int col)
+	{
+		int base = col * 4;
+		
+		return new float[] {get(base), get(base + 1), get(base + 2), get(base + 3)};
+	}
+
+	@Override
+	public float[] getColAt(int col, float[] res)
+	{
+		int base = col * 4;
+		
+		res[0] = get(base);
+		res[1] = get(base + 1);
+		res[2] = get(base + 2);
+		res[3] = get(base + 3);
+		
+		return res;
+	}
+	
+	@Override
+	public float getAt(int row, int col)
+	{
+		return get(col * 4 + row);
+	}
+	
+	@Override
+	public MemMat4F m00(float value)
+	{
+		put(0, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m01(float value)
+	{
+		put(1, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m02(float value)
+	{
+		put(2, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m03(float value)
+	{
+		put(3, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m10(float value)
+	{
+		put(4, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m11(float value)
+	{
+		put(5, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m12(float value)
+	{
+		put(6, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m13(float value)
+	{
+		put(7, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m20(float value)
+	{
+		put(8, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m21(float value)
+	{
+		put(9, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m22(float value)
+	{
+		put(10, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m23(float value)
+	{
+		put(11, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m30(float value)
+	{
+		put(12, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m31(float value)
+	{
+		put(13, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m32(float value)
+	{
+		put(14, value);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F m33(float value)
+	{
+		put(14, value);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRow0(ITup4RF v)
+	{
+		put(0, v.v0());
+		put(4, v.v1());
+		put(8, v.v2());
+		put(12, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(0, v0);
+		put(4, v.v0());
+		put(8, v.v1());
+		put(12, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(0, v.v0());
+		put(4, v1);
+		put(8, v.v1());
+		put(12, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(0, v.v0());
+		put(4, v.v1());
+		put(8, v2);
+		put(12, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(0, v.v0());
+		put(4, v.v1());
+		put(8, v.v2());
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(0, v0);
+		put(4, v1);
+		put(8, v.v0());
+		put(12, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(0, v0);
+		put(4, v.v0());
+		put(8, v2);
+		put(12, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(0, v0);
+		put(4, v.v0());
+		put(8, v.v1());
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(0, v.v0());
+		put(4, v1);
+		put(8, v2);
+		put(12, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(0, v.v0());
+		put(4, v1);
+		put(8, v.v1());
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(0, v.v0());
+		put(4, v.v1());
+		put(8, v2);
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0(float[] v)
+	{
+		put(0, v[0]);
+		put(4, v[1]);
+		put(8, v[2]);
+		put(12, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V1V2V3V0(float[] v, float v0)
+	{
+		put(0, v0);
+		put(4, v[0]);
+		put(8, v[1]);
+		put(12, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V2V3V1(float[] v, float v1)
+	{
+		put(0, v[0]);
+		put(4, v1);
+		put(8, v[1]);
+		put(12, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V1V3V2(float[] v, float v2)
+	{
+		put(0, v[0]);
+		put(4, v[1]);
+		put(8, v2);
+		put(12, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V1V2V3(float[] v, float v3)
+	{
+		put(0, v[0]);
+		put(4, v[1]);
+		put(8, v[2]);
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(0, v0);
+		put(4, v1);
+		put(8, v[0]);
+		put(12, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(0, v0);
+		put(4, v[0]);
+		put(8, v2);
+		put(12, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(0, v0);
+		put(4, v[0]);
+		put(8, v[1]);
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(0, v[0]);
+		put(4, v1);
+		put(8, v2);
+		put(12, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(0, v[0]);
+		put(4, v1);
+		put(8, v[1]);
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(0, v[0]);
+		put(4, v[1]);
+		put(8, v2);
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow0(float v0, float v1, float v2, float v3)
+	{
+		put(0, v0);
+		put(4, v1);
+		put(8, v2);
+		put(12, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1(ITup4RF v)
+	{
+		put(1, v.v0());
+		put(5, v.v1());
+		put(9, v.v2());
+		put(13, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(1, v0);
+		put(5, v.v0());
+		put(9, v.v1());
+		put(13, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(1, v.v0());
+		put(5, v1);
+		put(9, v.v1());
+		put(13, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(1, v.v0());
+		put(5, v.v1());
+		put(9, v2);
+		put(13, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(1, v.v0());
+		put(5, v.v1());
+		put(9, v.v2());
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(1, v0);
+		put(5, v1);
+		put(9, v.v0());
+		put(13, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(1, v0);
+		put(5, v.v0());
+		put(9, v2);
+		put(13, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(1, v0);
+		put(5, v.v0());
+		put(9, v.v1());
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(1, v.v0());
+		put(5, v1);
+		put(9, v2);
+		put(13, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(1, v.v0());
+		put(5, v1);
+		put(9, v.v1());
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(1, v.v0());
+		put(5, v.v1());
+		put(9, v2);
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1(float[] v)
+	{
+		put(1, v[0]);
+		put(5, v[1]);
+		put(9, v[2]);
+		put(13, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V1V2V3V0(float[] v, float v0)
+	{
+		put(1, v0);
+		put(5, v[0]);
+		put(9, v[1]);
+		put(13, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V2V3V1(float[] v, float v1)
+	{
+		put(1, v[0]);
+		put(5, v1);
+		put(9, v[1]);
+		put(13, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V1V3V2(float[] v, float v2)
+	{
+		put(1, v[0]);
+		put(5, v[1]);
+		put(9, v2);
+		put(13, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V1V2V3(float[] v, float v3)
+	{
+		put(1, v[0]);
+		put(5, v[1]);
+		put(9, v[2]);
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(1, v0);
+		put(5, v1);
+		put(9, v[0]);
+		put(13, v[31]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(1, v0);
+		put(5, v[0]);
+		put(9, v2);
+		put(13, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(1, v0);
+		put(5, v[0]);
+		put(9, v[1]);
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(1, v[0]);
+		put(5, v1);
+		put(9, v2);
+		put(13, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(1, v[0]);
+		put(5, v1);
+		put(9, v[1]);
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(1, v[0]);
+		put(5, v[1]);
+		put(9, v2);
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow1(float v0, float v1, float v2, float v3)
+	{
+		put(1, v0);
+		put(5, v1);
+		put(9, v2);
+		put(13, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2(ITup4RF v)
+	{
+		put(2, v.v0());
+		put(6, v.v1());
+		put(10, v.v2());
+		put(14, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(2, v0);
+		put(6, v.v0());
+		put(10, v.v1());
+		put(14, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(2, v.v0());
+		put(6, v1);
+		put(10, v.v1());
+		put(14, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(2, v.v0());
+		put(6, v.v1());
+		put(10, v2);
+		put(14, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(2, v.v0());
+		put(6, v.v1());
+		put(10, v.v2());
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(2, v0);
+		put(6, v1);
+		put(10, v.v0());
+		put(14, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(2, v0);
+		put(6, v.v0());
+		put(10, v2);
+		put(14, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(2, v0);
+		put(6, v.v0());
+		put(10, v.v1());
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(2, v.v0());
+		put(6, v1);
+		put(10, v2);
+		put(14, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(2, v.v0());
+		put(6, v1);
+		put(10, v.v1());
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(2, v.v0());
+		put(6, v.v1());
+		put(10, v2);
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2(float[] v)
+	{
+		put(2, v[0]);
+		put(6, v[1]);
+		put(10, v[2]);
+		put(14, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V1V2V3V0(float[] v, float v0)
+	{
+		put(2, v0);
+		put(6, v[0]);
+		put(10, v[1]);
+		put(14, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V2V3V1(float[] v, float v1)
+	{
+		put(2, v[0]);
+		put(6, v1);
+		put(10, v[1]);
+		put(14, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V1V3V2(float[] v, float v2)
+	{
+		put(2, v[0]);
+		put(6, v[1]);
+		put(10, v2);
+		put(14, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V1V2V3(float[] v, float v3)
+	{
+		put(2, v[0]);
+		put(6, v[1]);
+		put(10, v[2]);
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(2, v0);
+		put(6, v1);
+		put(10, v[0]);
+		put(14, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(2, v0);
+		put(6, v[0]);
+		put(10, v2);
+		put(14, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(2, v0);
+		put(6, v[0]);
+		put(10, v[1]);
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(2, v[0]);
+		put(6, v1);
+		put(10, v2);
+		put(14, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(2, v[0]);
+		put(6, v1);
+		put(10, v[1]);
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(2, v[0]);
+		put(6, v[1]);
+		put(10, v2);
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow2(float v0, float v1, float v2, float v3)
+	{
+		put(2, v0);
+		put(6, v1);
+		put(10, v2);
+		put(14, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3(ITup4RF v)
+	{
+		put(3, v.v0());
+		put(7, v.v1());
+		put(11, v.v2());
+		put(15, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(3, v0);
+		put(7, v.v0());
+		put(11, v.v1());
+		put(15, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(3, v.v0());
+		put(7, v1);
+		put(11, v.v1());
+		put(15, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(3, v.v0());
+		put(7, v.v1());
+		put(11, v2);
+		put(15, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(3, v.v0());
+		put(7, v.v1());
+		put(11, v.v2());
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(3, v0);
+		put(7, v1);
+		put(11, v.v0());
+		put(15, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(3, v0);
+		put(7, v.v0());
+		put(11, v2);
+		put(15, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(3, v0);
+		put(7, v.v0());
+		put(11, v.v1());
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(3, v.v0());
+		put(7, v1);
+		put(11, v2);
+		put(15, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(3, v.v0());
+		put(7, v1);
+		put(11, v.v1());
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(3, v.v0());
+		put(7, v.v1());
+		put(11, v2);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3(float[] v)
+	{
+		put(3, v[0]);
+		put(7, v[1]);
+		put(11, v[2]);
+		put(15, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V1V2V3V0(float[] v, float v0)
+	{
+		put(3, v0);
+		put(7, v[0]);
+		put(11, v[1]);
+		put(15, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V2V3V1(float[] v, float v1)
+	{
+		put(3, v[0]);
+		put(7, v1);
+		put(11, v[1]);
+		put(15, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V1V3V2(float[] v, float v2)
+	{
+		put(3, v[0]);
+		put(7, v[1]);
+		put(11, v2);
+		put(15, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V1V2V3(float[] v, float v3)
+	{
+		put(3, v[0]);
+		put(7, v[1]);
+		put(11, v[2]);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(3, v0);
+		put(7, v1);
+		put(11, v[0]);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(3, v0);
+		put(7, v[0]);
+		put(11, v2);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(3, v0);
+		put(7, v[0]);
+		put(11, v[1]);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(3, v[0]);
+		put(7, v1);
+		put(11, v2);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(3, v[0]);
+		put(7, v1);
+		put(11, v[1]);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(3, v[0]);
+		put(7, v[1]);
+		put(11, v2);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRow3(float v0, float v1, float v2, float v3)
+	{
+		put(3, v0);
+		put(7, v1);
+		put(11, v2);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0(ITup4RF v)
+	{
+		put(0, v.v0());
+		put(1, v.v1());
+		put(2, v.v2());
+		put(3, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(0, v0);
+		put(1, v.v0());
+		put(2, v.v1());
+		put(3, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(0, v.v0());
+		put(1, v1);
+		put(2, v.v1());
+		put(3, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(0, v.v0());
+		put(1, v.v1());
+		put(2, v2);
+		put(3, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(0, v.v0());
+		put(1, v.v1());
+		put(2, v.v2());
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(0, v0);
+		put(1, v1);
+		put(2, v.v0());
+		put(3, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(0, v0);
+		put(1, v.v0());
+		put(2, v2);
+		put(3, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(0, v0);
+		put(1, v.v0());
+		put(2, v.v1());
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(0, v.v0());
+		put(1, v1);
+		put(2, v2);
+		put(3, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(0, v.v0());
+		put(1, v1);
+		put(2, v.v1());
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(0, v.v0());
+		put(1, v.v1());
+		put(2, v2);
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0(float[] v)
+	{
+		put(0, v[0]);
+		put(1, v[1]);
+		put(2, v[2]);
+		put(3, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V1V2V3V0(float[] v, float v0)
+	{
+		put(0, v0);
+		put(1, v[0]);
+		put(2, v[1]);
+		put(3, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V2V3V1(float[] v, float v1)
+	{
+		put(0, v[0]);
+		put(1, v1);
+		put(2, v[1]);
+		put(3, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V1V3V2(float[] v, float v2)
+	{
+		put(0, v[0]);
+		put(1, v[1]);
+		put(2, v2);
+		put(3, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V1V2V3(float[] v, float v3)
+	{
+		put(0, v[0]);
+		put(1, v[1]);
+		put(2, v[2]);
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(0, v0);
+		put(1, v1);
+		put(2, v[0]);
+		put(3, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(0, v0);
+		put(1, v[0]);
+		put(2, v2);
+		put(3, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(0, v0);
+		put(1, v[0]);
+		put(2, v[1]);
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(0, v[0]);
+		put(1, v1);
+		put(2, v2);
+		put(3, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(0, v[0]);
+		put(1, v1);
+		put(2, v[1]);
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(0, v[0]);
+		put(1, v[1]);
+		put(2, v2);
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol0(float v0, float v1, float v2, float v3)
+	{
+		put(0, v0);
+		put(1, v1);
+		put(2, v2);
+		put(3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1(ITup4RF v)
+	{
+		put(4, v.v0());
+		put(5, v.v1());
+		put(6, v.v2());
+		put(7, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(4, v0);
+		put(5, v.v0());
+		put(6, v.v1());
+		put(7, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(4, v.v0());
+		put(5, v1);
+		put(6, v.v1());
+		put(7, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(4, v.v0());
+		put(5, v.v1());
+		put(6, v2);
+		put(7, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(4, v.v0());
+		put(5, v.v1());
+		put(6, v.v2());
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(4, v0);
+		put(5, v1);
+		put(6, v.v0());
+		put(7, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(4, v0);
+		put(5, v.v0());
+		put(6, v2);
+		put(7, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(4, v0);
+		put(5, v.v0());
+		put(6, v.v1());
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(4, v.v0());
+		put(5, v1);
+		put(6, v2);
+		put(7, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(4, v.v0());
+		put(5, v1);
+		put(6, v.v1());
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(4, v.v0());
+		put(5, v.v1());
+		put(6, v2);
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1(float[] v)
+	{
+		put(4, v[0]);
+		put(5, v[1]);
+		put(6, v[2]);
+		put(7, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V1V2V3V0(float[] v, float v0)
+	{
+		put(4, v0);
+		put(5, v[0]);
+		put(6, v[1]);
+		put(7, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V2V3V1(float[] v, float v1)
+	{
+		put(4, v[0]);
+		put(5, v1);
+		put(6, v[1]);
+		put(7, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V1V3V2(float[] v, float v2)
+	{
+		put(4, v[0]);
+		put(5, v[1]);
+		put(6, v2);
+		put(7, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V1V2V3(float[] v, float v3)
+	{
+		put(4, v[0]);
+		put(5, v[1]);
+		put(6, v[2]);
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(4, v0);
+		put(5, v1);
+		put(6, v[0]);
+		put(7, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(4, v0);
+		put(5, v[0]);
+		put(6, v2);
+		put(7, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(4, v0);
+		put(5, v[0]);
+		put(6, v[1]);
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(4, v[0]);
+		put(5, v1);
+		put(6, v2);
+		put(7, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(4, v[0]);
+		put(5, v1);
+		put(6, v[1]);
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(4, v[0]);
+		put(5, v[1]);
+		put(6, v2);
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol1(float v0, float v1, float v2, float v3)
+	{
+		put(4, v0);
+		put(5, v1);
+		put(6, v2);
+		put(7, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2(ITup4RF v)
+	{
+		put(8, v.v0());
+		put(9, v.v1());
+		put(10, v.v2());
+		put(11, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(8, v0);
+		put(9, v.v0());
+		put(10, v.v1());
+		put(11, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(8, v.v0());
+		put(9, v1);
+		put(10, v.v1());
+		put(11, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(8, v.v0());
+		put(9, v.v1());
+		put(10, v2);
+		put(11, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(8, v.v0());
+		put(9, v.v1());
+		put(10, v.v2());
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(8, v0);
+		put(9, v1);
+		put(10, v.v0());
+		put(11, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(8, v0);
+		put(9, v.v0());
+		put(10, v2);
+		put(11, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(8, v0);
+		put(9, v.v0());
+		put(10, v.v1());
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(8, v.v0());
+		put(9, v1);
+		put(10, v2);
+		put(11, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(8, v.v0());
+		put(9, v1);
+		put(10, v.v1());
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(8, v.v0());
+		put(9, v.v1());
+		put(10, v2);
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2(float[] v)
+	{
+		put(8, v[0]);
+		put(9, v[1]);
+		put(10, v[2]);
+		put(11, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V1V2V3V0(float[] v, float v0)
+	{
+		put(8, v0);
+		put(9, v[0]);
+		put(10, v[1]);
+		put(11, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V2V3V1(float[] v, float v1)
+	{
+		put(8, v[0]);
+		put(9, v1);
+		put(10, v[1]);
+		put(11, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V1V3V2(float[] v, float v2)
+	{
+		put(8, v[0]);
+		put(9, v[1]);
+		put(10, v2);
+		put(11, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V1V2V3(float[] v, float v3)
+	{
+		put(8, v[0]);
+		put(9, v[1]);
+		put(10, v[2]);
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(8, v0);
+		put(9, v1);
+		put(10, v[0]);
+		put(11, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(8, v0);
+		put(9, v[0]);
+		put(10, v2);
+		put(11, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(8, v0);
+		put(9, v[0]);
+		put(10, v[1]);
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(8, v[0]);
+		put(9, v1);
+		put(10, v2);
+		put(11, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(8, v[0]);
+		put(9, v1);
+		put(10, v[1]);
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(8, v[0]);
+		put(9, v[1]);
+		put(10, v2);
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol2(float v0, float v1, float v2, float v3)
+	{
+		put(8, v0);
+		put(9, v1);
+		put(10, v2);
+		put(11, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3(ITup4RF v)
+	{
+		put(12, v.v0());
+		put(13, v.v1());
+		put(14, v.v2());
+		put(15, v.v3());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V1V2V3V0(ITup3RF v, float v0)
+	{
+		put(12, v0);
+		put(13, v.v0());
+		put(14, v.v1());
+		put(15, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V2V3V1(ITup3RF v, float v1)
+	{
+		put(12, v.v0());
+		put(13, v1);
+		put(14, v.v1());
+		put(15, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V1V3V2(ITup3RF v, float v2)
+	{
+		put(12, v.v0());
+		put(13, v.v1());
+		put(14, v2);
+		put(15, v.v2());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V1V2V3(ITup3RF v, float v3)
+	{
+		put(12, v.v0());
+		put(13, v.v1());
+		put(14, v.v2());
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V2V3V0V1(ITup2RF v, float v0, float v1)
+	{
+		put(12, v0);
+		put(13, v1);
+		put(14, v.v0());
+		put(15, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V1V3V0V2(ITup2RF v, float v0, float v2)
+	{
+		put(12, v0);
+		put(13, v.v0());
+		put(14, v2);
+		put(15, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V1V2V0V3(ITup2RF v, float v0, float v3)
+	{
+		put(12, v0);
+		put(13, v.v0());
+		put(14, v.v1());
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V3V1V2(ITup2RF v, float v1, float v2)
+	{
+		put(12, v.v0());
+		put(13, v1);
+		put(14, v2);
+		put(15, v.v1());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V2V1V3(ITup2RF v, float v1, float v3)
+	{
+		put(12, v.v0());
+		put(13, v1);
+		put(14, v.v1());
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V1V2V3(ITup2RF v, float v2, float v3)
+	{
+		put(12, v.v0());
+		put(13, v.v1());
+		put(14, v2);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3(float[] v)
+	{
+		put(12, v[0]);
+		put(13, v[1]);
+		put(14, v[2]);
+		put(15, v[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V1V2V3V0(float[] v, float v0)
+	{
+		put(12, v0);
+		put(13, v[0]);
+		put(14, v[1]);
+		put(15, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V2V3V1(float[] v, float v1)
+	{
+		put(12, v[0]);
+		put(13, v1);
+		put(14, v[1]);
+		put(15, v[2]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V1V3V2(float[] v, float v2)
+	{
+		put(12, v[0]);
+		put(13, v[1]);
+		put(14, v2);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V1V2V3(float[] v, float v3)
+	{
+		put(12, v[0]);
+		put(13, v[1]);
+		put(14, v[2]);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V2V3V0V1(float[] v, float v0, float v1)
+	{
+		put(12, v0);
+		put(13, v1);
+		put(14, v[0]);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V1V3V0V2(float[] v, float v0, float v2)
+	{
+		put(12, v0);
+		put(13, v[0]);
+		put(14, v2);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V1V2V0V3(float[] v, float v0, float v3)
+	{
+		put(12, v0);
+		put(13, v[0]);
+		put(14, v[1]);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V3V1V2(float[] v, float v1, float v2)
+	{
+		put(12, v[0]);
+		put(13, v1);
+		put(14, v2);
+		put(15, v[1]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V2V1V3(float[] v, float v1, float v3)
+	{
+		put(12, v[0]);
+		put(13, v1);
+		put(14, v[1]);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3V0V1V2V3(float[] v, float v2, float v3)
+	{
+		put(12, v[0]);
+		put(13, v[1]);
+		put(14, v2);
+		put(15, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setCol3(float v0, float v1, float v2, float v3)
+	{
+		put(12, v0);
+		put(13, v1);
+		put(14, v2);
+		put(15, v3);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRowAt(int row, float[] values)
+	{
+		put(row, values[0]);
+		put(4 + row, values[1]);
+		put(8 + row, values[2]);
+		put(12 + row, values[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRowAt(int row, float v0, float v1, float v2, float v3)
+	{
+		put(row, v0);
+		put(4 + row, v1);
+		put(8 + row, v2);
+		put(12 + row, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setColAt(int col, float[] values)
+	{
+		int base = col * 4;
+		
+		put(base, values[0]);
+		put(base + 1, values[1]);
+		put(base + 2, values[2]);
+		put(base + 3, values[3]);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setColAt(int col, float v0, float v1, float v2, float v3)
+	{
+		int base = col * 4;
+		
+		put(base, v0);
+		put(base + 1, v1);
+		put(base + 2, v2);
+		put(base + 3, v3);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setAt(int row, int col, float value)
+	{
+		put(col * 4 + row, value);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F set(IMat4RF m)
+	{
+		set(m.m00(), m.m01(), m.m02(), m.m03(), m.m10(), m.m11(), m.m12(), m.m13(), m.m20(), m.m21(), m.m22(), m.m23(), m.m30(), m.m31(), m.m32(), m.m33());
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F set(float[] m)
+	{
+		MemorySegment.copy(m, 0, this.segment, JAVA_FLOAT, this.offset, 16);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F set(float m00, float m01, float m02, float m03, float m10, float m11, float m12, float m13, float m20, float m21, float m22, float m23, float m30, float m31, float m32, float m33)
+	{
+		put(0, m00);
+		put(1, m01);
+		put(2, m02);
+		put(3, m03);
+
+		put(4, m10);
+		put(5, m11);
+		put(6, m12);
+		put(7, m13);
+		
+		put(8, m20);
+		put(9, m21);
+		put(10, m22);
+		put(11, m23);
+		
+		put(12, m30);
+		put(13, m31);
+		put(14, m32);
+		put(15, m33);
+		
+		return this;
+	}
+	
+	@Override
+	public float[] toArray()
+	{
+		float[] res = new float[16];
+		
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 16);
+		
+		return res;
+	}
+
+	@Override
+	public float[] toArray(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 16);
+		
+		return res;
+	}
+
+	@Override
+	public float[] toArrayRowMajor()
+	{
+		float[] res = new float[16];
+
+		MatUtils4F.transpose(this, res);
+		
+		return res;
+	}
+
+	@Override
+	public float[] toArrayRowMajor(float[] res)
+	{
+		MatUtils4F.transpose(this, res);
+		
+		return res;
+	}
+
+	@Override
+	public float[] toArrayColumnMajor()
+	{
+		float[] res = new float[16];
+		
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 16);
+		
+		return res;
+	}
+
+	@Override
+	public float[] toArrayColumnMajor(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 16);
+		
+		return res;
+	}
+	
+	@Override
+	public float trace()
+	{
+		return MatUtils4F.trace(this);
+	}
+
+	@Override
+	public float det()
+	{
+		return MatUtils4F.det(this);
+	}
+
+	@Override
+	public MemMat4F invert()
+	{
+		MatUtils4F.invert(this, this);
+		
+		return this;
+	}
+	
+	@Override
+	public Mat4F invertN()
+	{
+		return MatUtils4F.invertFunc(this, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F transpose()
+	{
+		MatUtils4F.transpose(this, this);
+		
+		return this;
+	}
+	
+	@Override
+	public Mat4F transposeN()
+	{
+		return MatUtils4F.transposeFunc(this, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F mul(IMat4RF m)
+	{
+		MatUtils4F.mul(m, this, this);
+		
+		return this;
+	}
+	
+	@Override
+	public Mat4F mulN(IMat4RF m)
+	{
+		return MatUtils4F.mulFunc(m, this, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F rMul(IMat4RF m)
+	{
+		MatUtils4F.mul(this, m, this);
+		
+		return this;
+	}
+	
+	@Override
+	public Mat4F rMulN(IMat4RF m)
+	{
+		return MatUtils4F.mulFunc(this, m, Mat4F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString()
+	{
+		return	"mat4f(" + 
+				get(0) + ", " + get(4) + ", " + get(8) + ", " + get(12) + "\n" +
+				get(1) + ", " + get(5) + ", " + get(9) + ", " + get(13) + "\n" +
+				get(2) + ", " + get(6) + ", " + get(10) + ", " + get(14) + "\n" +
+				get(3) + ", " + get(7) + ", " + get(11) + ", " + get(15) + ")";
+	}
+	
+	public float[] transform2T(boolean isPoint, ITup2RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform2(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transform2T(boolean isPoint, float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform2(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transform2T(boolean isPoint, float v0, float v1, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform2(isPoint, v0, v1, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transform2T(boolean isPoint, ITup2RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transform2(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transform2T(boolean isPoint, float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transform2(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transform2T(boolean isPoint, float v0, float v1, @ExtractionParam T res)
+	{
+		MatUtils4F.transform2(isPoint, v0, v1, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transform2Func(boolean isPoint, ITup2RF v, IFunc2F<T> func)
+	{
+		return MatUtils4F.transform2Func(isPoint, v, this, func);
+	}
+	
+	public <T> T transform2Func(boolean isPoint, float[] v, IFunc2F<T> func)
+	{
+		return MatUtils4F.transform2Func(isPoint, v, this, func);
+	}
+	
+	public <T> T transform2Func(boolean isPoint, float v0, float v1, IFunc2F<T> func)
+	{
+		return MatUtils4F.transform2Func(isPoint, v0, v1, this, func);
+	}
+	
+	public float[] transformPoint2T(ITup2RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformPoint2(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformPoint2T(float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformPoint2(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformPoint2T(float v0, float v1, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformPoint2(v0, v1, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transformPoint2T(ITup2RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformPoint2(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transformPoint2T(float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformPoint2(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transformPoint2T(float v0, float v1, @ExtractionParam T res)
+	{
+		MatUtils4F.transformPoint2(v0, v1, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transformPoint2Func(ITup2RF v, IFunc2F<T> func)
+	{
+		return MatUtils4F.transformPoint2Func(v, this, func);
+	}
+	
+	public <T> T transformPoint2Func(float[] v, IFunc2F<T> func)
+	{
+		return MatUtils4F.transformPoint2Func(v, this, func);
+	}
+	
+	public <T> T transformPoint2Func(float v0, float v1, IFunc2F<T> func)
+	{
+		return MatUtils4F.transformPoint2Func(v0, v1, this, func);
+	}
+	
+	public float[] transformVec2T(ITup2RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformVec2(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformVec2T(float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformVec2(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformVec2T(float v0, float v1, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformVec2(v0, v1, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transformVec2T(ITup2RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformVec2(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transformVec2T(float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformVec2(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup2WF> T transformVec2T(float v0, float v1, @ExtractionParam T res)
+	{
+		MatUtils4F.transformVec2(v0, v1, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transformVec2Func(ITup2RF v, IFunc2F<T> func)
+	{
+		return MatUtils4F.transformVec2Func(v, this, func);
+	}
+	
+	public <T> T transformVec2Func(float[] v, IFunc2F<T> func)
+	{
+		return MatUtils4F.transformVec2Func(v, this, func);
+	}
+	
+	public <T> T transformVec2Func(float v0, float v1, IFunc2F<T> func)
+	{
+		return MatUtils4F.transformVec2Func(v0, v1, this, func);
+	}
+	
+	public float[] transform3T(boolean isPoint, ITup3RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform3(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transform3T(boolean isPoint, float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform3(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transform3T(boolean isPoint, float v0, float v1, float v2, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform3(isPoint, v0, v1, v2, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transform3T(boolean isPoint, ITup3RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transform3(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transform3T(boolean isPoint, float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transform3(isPoint, v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transform3T(boolean isPoint, float v0, float v1, float v2, @ExtractionParam T res)
+	{
+		MatUtils4F.transform3(isPoint, v0, v1, v2, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transform3Func(boolean isPoint, ITup3RF v, IFunc3F<T> func)
+	{
+		return MatUtils4F.transform3Func(isPoint, v, this, func);
+	}
+	
+	public <T> T transform3Func(boolean isPoint, float[] v, IFunc3F<T> func)
+	{
+		return MatUtils4F.transform3Func(isPoint, v, this, func);
+	}
+	
+	public <T> T transform3Func(boolean isPoint, float v0, float v1, float v2, IFunc3F<T> func)
+	{
+		return MatUtils4F.transform3Func(isPoint, v0, v1, v2, this, func);
+	}
+	
+	public float[] transformPoint3T(ITup3RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformPoint3(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformPoint3T(float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformPoint3(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformPoint3T(float v0, float v1, float v2, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformPoint3(v0, v1, v2, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transformPoint3T(ITup3RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformPoint3(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transformPoint3T(float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformPoint3(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transformPoint3T(float v0, float v1, float v2, @ExtractionParam T res)
+	{
+		MatUtils4F.transformPoint3(v0, v1, v2, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transformPoint3Func(ITup3RF v, IFunc3F<T> func)
+	{
+		return MatUtils4F.transformPoint3Func(v, this, func);
+	}
+	
+	public <T> T transformPoint3Func(float[] v, IFunc3F<T> func)
+	{
+		return MatUtils4F.transformPoint3Func(v, this, func);
+	}
+	
+	public <T> T transformPoint3Func(float v0, float v1, float v2, IFunc3F<T> func)
+	{
+		return MatUtils4F.transformPoint3Func(v0, v1, v2, this, func);
+	}
+	
+	public float[] transformVec3T(ITup3RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformVec3(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformVec3T(float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformVec3(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transformVec3T(float v0, float v1, float v2, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transformVec3(v0, v1, v2, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transformVec3T(ITup3RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformVec3(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transformVec3T(float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transformVec3(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup3WF> T transformVec3T(float v0, float v1, float v2, @ExtractionParam T res)
+	{
+		MatUtils4F.transformVec3(v0, v1, v2, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transformVec3Func(ITup3RF v, IFunc3F<T> func)
+	{
+		return MatUtils4F.transformVec3Func(v, this, func);
+	}
+	
+	public <T> T transformVec3Func(float[] v, IFunc3F<T> func)
+	{
+		return MatUtils4F.transformVec3Func(v, this, func);
+	}
+	
+	public <T> T transformVec3Func(float v0, float v1, float v2, IFunc3F<T> func)
+	{
+		return MatUtils4F.transformVec3Func(v0, v1, v2, this, func);
+	}
+	
+	public float[] transform4T(ITup4RF v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform4(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transform4T(float[] v, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform4(v, this, res);
+		
+		return res;
+	}
+	
+	public float[] transform4T(float v0, float v1, float v2, float v3, @ExtractionParam float[] res)
+	{
+		MatUtils4F.transform4(v0, v1, v2, v3, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup4WF> T transform4T(ITup4RF v, @ExtractionParam T res)
+	{
+		MatUtils4F.transform4(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup4WF> T transform4T(float[] v, @ExtractionParam T res)
+	{
+		MatUtils4F.transform4(v, this, res);
+		
+		return res;
+	}
+	
+	public <T extends ITup4WF> T transform4T(float v0, float v1, float v2, float v3, @ExtractionParam T res)
+	{
+		MatUtils4F.transform4(v0, v1, v2, v3, this, res);
+		
+		return res;
+	}
+	
+	public <T> T transform4Func(ITup4RF v, IFunc4F<T> func)
+	{
+		return MatUtils4F.transform4Func(v, this, func);
+	}
+	
+	public <T> T transform4Func(float[] v, IFunc4F<T> func)
+	{
+		return MatUtils4F.transform4Func(v, this, func);
+	}
+	
+	public <T> T transform4Func(float v0, float v1, float v2, float v3, IFunc4F<T> func)
+	{
+		return MatUtils4F.transform4Func(v0, v1, v2, v3, this, func);
+	}
+	
+	@Override
+	public MemMat4F setZero()
+	{
+		put( 0, 0.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 0.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 0.0f);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 0.0f);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setIdentity()
+	{
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setTranslation2(ITup2RF v)
+	{
+		float vX = v.v0();
+		float vY = v.v1();
+		
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, vX);
+		put(13, vY);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setTranslation2(float[] v)
+	{
+		float vX = v[0];
+		float vY = v[1];
+		
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, vX);
+		put(13, vY);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setTranslation2(float vX, float vY)
+	{
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, vX);
+		put(13, vY);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setTranslation3(ITup3RF v)
+	{
+		float vX = v.v0();
+		float vY = v.v1();
+		float vZ = v.v2();
+		
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, vX);
+		put(13, vY);
+		put(14, vZ);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setTranslation3(float[] v)
+	{
+		float vX = v[0];
+		float vY = v[1];
+		float vZ = v[2];
+		
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, vX);
+		put(13, vY);
+		put(14, vZ);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setTranslation3(float vX, float vY, float vZ)
+	{
+		put( 0, 1.0f);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, 1.0f);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, vX);
+		put(13, vY);
+		put(14, vZ);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling2(ITup2RF s)
+	{
+		float sX = s.v0();
+		float sY = s.v1();
+		
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling2(float[] s)
+	{
+		float sX = s[0];
+		float sY = s[1];
+		
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling2(float sX, float sY)
+	{
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, 1.0f);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling3(ITup3RF s)
+	{
+		float sX = s.v0();
+		float sY = s.v1();
+		float sZ = s.v2();
+		
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, sZ);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling3(float[] s)
+	{
+		float sX = s[0];
+		float sY = s[1];
+		float sZ = s[2];
+		
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, sZ);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling3(float sX, float sY, float sZ)
+	{
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, sZ);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling4(ITup4RF s)
+	{
+		float sX = s.v0();
+		float sY = s.v1();
+		float sZ = s.v2();
+		float sW = s.v3();
+		
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, sZ);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, sW);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling4(float[] s)
+	{
+		float sX = s[0];
+		float sY = s[1];
+		float sZ = s[2];
+		float sW = s[3];
+		
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, sZ);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, sW);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setScaling4(float sX, float sY, float sZ, float sW)
+	{
+		put( 0, sX);
+		put( 1, 0.0f);
+		put( 2, 0.0f);
+		put( 3, 0.0f);
+		
+		put( 4, 0.0f);
+		put( 5, sY);
+		put( 6, 0.0f);
+		put( 7, 0.0f);
+		
+		put( 8, 0.0f);
+		put( 9, 0.0f);
+		put(10, sZ);
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, sW);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, ITup3RF v, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, ITup3RF v, float[] w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, float[] v, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, float[] v, float[] w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, float[] v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, float vV0, float vV1, float vV2, float[] w)
+	{
+		MatUtils4F.setBaseChanging(u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(ITup3RF u, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(u, vV0, vV1, vV2, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, ITup3RF v, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, ITup3RF v, float[] w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, float[] v, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, float[] v, float[] w)
+	{
+		MatUtils4F.setBaseChanging(u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, float[] v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, float vV0, float vV1, float vV2, float[] w)
+	{
+		MatUtils4F.setBaseChanging(u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float[] u, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(u, vV0, vV1, vV2, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, ITup3RF v, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, ITup3RF v, float[] w)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, float[] v, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, float[] v, float[] w)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, float[] v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, float[] w)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setBaseChanging(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.setBaseChanging(uV0, uV1, uV2, vV0, vV1, vV2, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRotationByQuat(ITup4RF q)
+	{
+		float qX = q.v0();
+		float qY = q.v1();
+		float qZ = q.v2();
+		float qW = q.v3();
+		
+		put( 0, 1.0f - 2.0f * (qY * qY + qZ * qZ));
+		put( 1, 2.0f * (qX * qY + qZ * qW));
+		put( 2, 2.0f * (qX * qZ - qW * qY));
+		put( 3, 0.0f);
+		
+		put( 4, 2.0f * (qX * qY - qZ * qW));
+		put( 5, 1.0f - 2.0f * (qX * qX + qZ * qZ));
+		put( 6, 2.0f * (qY * qZ + qW * qX));
+		put( 7, 0.0f);
+		
+		put( 8, 2.0f * (qX * qZ + qW * qY));
+		put( 9, 2.0f * (qY * qZ - qW * qX));
+		put(10, 1.0f - 2.0f * (qX * qX + qY * qY));
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationByQuat(float[] q)
+	{
+		float qX = q[0];
+		float qY = q[1];
+		float qZ = q[2];
+		float qW = q[3];
+		
+		put( 0, 1.0f - 2.0f * (qY * qY + qZ * qZ));
+		put( 1, 2.0f * (qX * qY + qZ * qW));
+		put( 2, 2.0f * (qX * qZ - qW * qY));
+		put( 3, 0.0f);
+		
+		put( 4, 2.0f * (qX * qY - qZ * qW));
+		put( 5, 1.0f - 2.0f * (qX * qX + qZ * qZ));
+		put( 6, 2.0f * (qY * qZ + qW * qX));
+		put( 7, 0.0f);
+		
+		put( 8, 2.0f * (qX * qZ + qW * qY));
+		put( 9, 2.0f * (qY * qZ - qW * qX));
+		put(10, 1.0f - 2.0f * (qX * qX + qY * qY));
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationByQuat(float qX, float qY, float qZ, float qW)
+	{
+		put( 0, 1.0f - 2.0f * (qY * qY + qZ * qZ));
+		put( 1, 2.0f * (qX * qY + qZ * qW));
+		put( 2, 2.0f * (qX * qZ - qW * qY));
+		put( 3, 0.0f);
+		
+		put( 4, 2.0f * (qX * qY - qZ * qW));
+		put( 5, 1.0f - 2.0f * (qX * qX + qZ * qZ));
+		put( 6, 2.0f * (qY * qZ + qW * qX));
+		put( 7, 0.0f);
+		
+		put( 8, 2.0f * (qX * qZ + qW * qY));
+		put( 9, 2.0f * (qY * qZ - qW * qX));
+		put(10, 1.0f - 2.0f * (qX * qX + qY * qY));
+		put(11, 0.0f);
+		
+		put(12, 0.0f);
+		put(13, 0.0f);
+		put(14, 0.0f);
+		put(15, 1.0f);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationRad(ITup3RF a, float angle)
+	{
+		MatUtils4F.setRotationRad(a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationRad(float[] a, float angle)
+	{
+		MatUtils4F.setRotationRad(a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationRad(float aV0, float aV1, float aV2, float angle)
+	{
+		MatUtils4F.setRotationRad(aV0, aV1, aV2, angle, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setRotationDeg(ITup3RF a, float angle)
+	{
+		MatUtils4F.setRotationDeg(a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationDeg(float[] a, float angle)
+	{
+		MatUtils4F.setRotationDeg(a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F setRotationDeg(float aV0, float aV1, float aV2, float angle)
+	{
+		MatUtils4F.setRotationDeg(aV0, aV1, aV2, angle, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setPerspective(float fovY, float aspectRatio, float near, float far)
+	{
+		MatUtils4F.setPerspective(fovY, aspectRatio, near, far, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F setOrtho(float left, float right, float bottom, float top, float near, float far)
+	{
+		MatUtils4F.setOrtho(left, right, bottom, top, near, far, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F translate2(ITup2RF v)
+	{
+		MatUtils4F.translate2(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F translate2(float[] v)
+	{
+		MatUtils4F.translate2(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F translate2(float v0, float v1)
+	{
+		MatUtils4F.translate2(this, v0, v1, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F translate2N(ITup2RF v)
+	{
+		return MatUtils4F.translate2Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F translate2N(float[] v)
+	{
+		return MatUtils4F.translate2Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F translate2N(float v0, float v1)
+	{
+		return MatUtils4F.translate2Func(this, v0, v1, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F translate3(ITup3RF v)
+	{
+		MatUtils4F.translate3(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F translate3(float[] v)
+	{
+		MatUtils4F.translate3(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F translate3(float v0, float v1, float v2)
+	{
+		MatUtils4F.translate3(this, v0, v1, v2, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F translate3N(ITup3RF v)
+	{
+		return MatUtils4F.translate3Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F translate3N(float[] v)
+	{
+		return MatUtils4F.translate3Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F translate3N(float v0, float v1, float v2)
+	{
+		return MatUtils4F.translate3Func(this, v0, v1, v2, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F scale2(ITup2RF v)
+	{
+		MatUtils4F.scale2(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F scale2(float[] v)
+	{
+		MatUtils4F.scale2(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F scale2(float v0, float v1)
+	{
+		MatUtils4F.scale2(this, v0, v1, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F scale2N(ITup2RF v)
+	{
+		return MatUtils4F.scale2Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F scale2N(float[] v)
+	{
+		return MatUtils4F.scale2Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F scale2N(float v0, float v1)
+	{
+		return MatUtils4F.scale2Func(this, v0, v1, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F scale3(ITup3RF v)
+	{
+		MatUtils4F.scale3(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F scale3(float[] v)
+	{
+		MatUtils4F.scale3(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F scale3(float v0, float v1, float v2)
+	{
+		MatUtils4F.scale3(this, v0, v1, v2, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F scale3N(ITup3RF v)
+	{
+		return MatUtils4F.scale3Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F scale3N(float[] v)
+	{
+		return MatUtils4F.scale3Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F scale3N(float v0, float v1, float v2)
+	{
+		return MatUtils4F.scale3Func(this, v0, v1, v2, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F scale4(ITup4RF v)
+	{
+		MatUtils4F.scale4(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F scale4(float[] v)
+	{
+		MatUtils4F.scale4(this, v, this);
+		
+		return this;
+	}
+
+	@Override
+	public MemMat4F scale4(float v0, float v1, float v2, float v3)
+	{
+		MatUtils4F.scale4(this, v0, v1, v2, v3, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F scale4N(ITup4RF v)
+	{
+		return MatUtils4F.scale4Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F scale4N(float[] v)
+	{
+		return MatUtils4F.scale4Func(this, v, Mat4F.CTOR);
+	}
+
+	@Override
+	public Mat4F scale4N(float v0, float v1, float v2, float v3)
+	{
+		return MatUtils4F.scale4Func(this, v0, v1, v2, v3, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F baseChange(ITup3RF u, ITup3RF v, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, ITup3RF v, float[] w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, float[] v, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, float[] v, float[] w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, float[] v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, float vV0, float vV1, float vV2, float[] w)
+	{
+		MatUtils4F.baseChange(this, u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(ITup3RF u, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, u, vV0, vV1, vV2, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, ITup3RF v, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, ITup3RF v, float[] w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, float[] v, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, float[] v, float[] w)
+	{
+		MatUtils4F.baseChange(this, u, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, float[] v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, u, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, float vV0, float vV1, float vV2, float[] w)
+	{
+		MatUtils4F.baseChange(this, u, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float[] u, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, u, vV0, vV1, vV2, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, ITup3RF v, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, ITup3RF v, float[] w)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, float[] v, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, float[] v, float[] w)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, v, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, float[] v, float wV0, float wV1, float wV2)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, v, wV0, wV1, wV2, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, float[] w)
+	{
+		MatUtils4F.baseChange(this, uV0, uV1, uV2, vV0, vV1, vV2, w, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F baseChange(float rv0, float rv1, float rv2, float uv0, float uv1, float uv2, float fv0, float fv1, float fv2)
+	{
+		MatUtils4F.baseChange(this, rv0, rv1, rv2, uv0, uv1, uv2, fv0, fv1, fv2, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, ITup3RF v, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, ITup3RF v, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, float[] v, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, float[] v, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, float[] v, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, vV0, vV1, vV2, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, float vV0, float vV1, float vV2, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, vV0, vV1, vV2, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(ITup3RF u, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, vV0, vV1, vV2, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, ITup3RF v, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, ITup3RF v, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, float[] v, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, float[] v, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, float[] v, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, v, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, vV0, vV1, vV2, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, float vV0, float vV1, float vV2, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, vV0, vV1, vV2, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float[] u, float vV0, float vV1, float vV2, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, u, vV0, vV1, vV2, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, ITup3RF v, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, ITup3RF v, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, ITup3RF v, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, v, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, float[] v, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, float[] v, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, v, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, float[] v, float wV0, float wV1, float wV2)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, v, wV0, wV1, wV2, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, ITup3RF w)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, vV0, vV1, vV2, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float uV0, float uV1, float uV2, float vV0, float vV1, float vV2, float[] w)
+	{
+		return MatUtils4F.baseChangeFunc(this, uV0, uV1, uV2, vV0, vV1, vV2, w, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F baseChangeN(float rv0, float rv1, float rv2, float uv0, float uv1, float uv2, float fv0, float fv1, float fv2)
+	{
+		return MatUtils4F.baseChangeFunc(this, rv0, rv1, rv2, uv0, uv1, uv2, fv0, fv1, fv2, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F rotateRad(ITup3RF a, float angle)
+	{
+		MatUtils4F.rotateRad(this, a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F rotateRad(float[] a, float angle)
+	{
+		MatUtils4F.rotateRad(this, a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F rotateRad(float av0, float av1, float av2, float angle)
+	{
+		MatUtils4F.rotateRad(this, av0, av1, av2, angle, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F rotateRadN(ITup3RF a, float angle)
+	{
+		return MatUtils4F.rotateRadFunc(this, a, angle, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F rotateRadN(float[] a, float angle)
+	{
+		return MatUtils4F.rotateRadFunc(this, a, angle, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F rotateRadN(float av0, float av1, float av2, float angle)
+	{
+		return MatUtils4F.rotateRadFunc(this, av0, av1, av2, angle, Mat4F.CTOR);
+	}
+
+	@Override
+	public MemMat4F rotateDeg(ITup3RF a, float angle)
+	{
+		MatUtils4F.rotateDeg(this, a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F rotateDeg(float[] a, float angle)
+	{
+		MatUtils4F.rotateDeg(this, a, angle, this);
+		
+		return this;
+	}
+	
+	@Override
+	public MemMat4F rotateDeg(float av0, float av1, float av2, float angle)
+	{
+		MatUtils4F.rotateDeg(this, av0, av1, av2, angle, this);
+		
+		return this;
+	}
+
+	@Override
+	public Mat4F rotateDegN(ITup3RF a, float angle)
+	{
+		return MatUtils4F.rotateDegFunc(this, a, angle, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F rotateDegN(float[] a, float angle)
+	{
+		return MatUtils4F.rotateDegFunc(this, a, angle, Mat4F.CTOR);
+	}
+	
+	@Override
+	public Mat4F rotateDegN(float av0, float av1, float av2, float angle)
+	{
+		return MatUtils4F.rotateDegFunc(this, av0, av1, av2, angle, Mat4F.CTOR);
+	}
+}
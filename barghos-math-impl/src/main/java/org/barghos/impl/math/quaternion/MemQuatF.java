@@ -0,0 +1,999 @@
+package org.barghos.impl.math.quaternion;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+
+import org.barghos.api.core.math.MathUtils;
+import org.barghos.api.core.tuple.floats.ITup3RF;
+import org.barghos.api.core.tuple.floats.ITup3WF;
+import org.barghos.api.core.tuple.floats.ITup4RF;
+import org.barghos.api.core.tuple.floats.ITupRF;
+import org.barghos.api.core.tuple.floats.TupMemUtilsF;
+import org.barghos.api.math.quaternion.IQuatWF;
+import org.barghos.api.math.quaternion.QuatUtilsF;
+
+/**
+ * This class is a flyweight quaternion that reads and writes its components directly in a memory segment.
+ *
+ * <p>
+ * The components are stored as consecutive floats at the offset of the view
+ * in the order x, y, z, w as described by {@link TupMemUtilsF#TUP4F}. The view can be pointed
+ * to another segment or offset without allocation, so one instance can walk over an array of quaternions in mapped
+ * or native upload memory and modify them in place. Operations returning new instances create heap instances.
+ */
+public class MemQuatF implements IQuatWF
+{
+	public static final MemoryLayout LAYOUT = TupMemUtilsF.TUP4F;
+	
+	private MemorySegment segment;
+	private long offset;
+	
+	/**
+	 * Creates a new view that is not pointed to any memory yet.
+	 */
+	public MemQuatF()
+	{
+		this.segment = MemorySegment.NULL;
+	}
+	
+	/**
+	 * Creates a new view over the given offset in the segment.
+	 *
+	 * @param segment The segment.
+	 * @param offset The offset in bytes.
+	 */
+	public MemQuatF(MemorySegment segment, long offset)
+	{
+		point(segment, offset);
+	}
+	
+	/**
+	 * Points the view to the given offset in the segment.
+	 *
+	 * @param segment The segment.
+	 * @param offset The offset in bytes.
+	 *
+	 * @return The current view.
+	 */
+	public MemQuatF point(MemorySegment segment, long offset)
+	{
+		this.segment = segment;
+		this.offset = offset;
+		
+		return this;
+	}
+	
+	/**
+	 * Points the view to the given offset in the current segment.
+	 *
+	 * @param offset The offset in bytes.
+	 *
+	 * @return The current view.
+	 */
+	public MemQuatF point(long offset)
+	{
+		this.offset = offset;
+		
+		return this;
+	}
+	
+	/**
+	 * Points the view to the element with the given index in the current segment, assuming the elements
+	 * are packed with the size of {@link #LAYOUT}.
+	 *
+	 * @param index The index of the element.
+	 *
+	 * @return The current view.
+	 */
+	public MemQuatF pointElement(long index)
+	{
+		this.offset = index * LAYOUT.byteSize();
+		
+		return this;
+	}
+	
+	public MemorySegment getSegment()
+	{
+		return this.segment;
+	}
+	
+	public long getOffset()
+	{
+		return this.offset;
+	}
+	
+	private float get(int index)
+	{
+		return this.segment.get(JAVA_FLOAT, this.offset + ((long)index << 2));
+	}
+	
+	private void put(int index, float value)
+	{
+		this.segment.set(JAVA_FLOAT, this.offset + ((long)index << 2), value);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float x()
+	{
+		return get(0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float y()
+	{
+		return get(1);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float z()
+	{
+		return get(2);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float w()
+	{
+		return get(3);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float v0()
+	{
+		return get(0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float v1()
+	{
+		return get(1);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float v2()
+	{
+		return get(2);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float v3()
+	{
+		return get(3);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float at(int index)
+	{
+		return get(index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF x(float x)
+	{
+		put(0, x);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF y(float y)
+	{
+		put(1, y);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF z(float z)
+	{
+		put(2, z);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF w(float w)
+	{
+		put(3, w);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF v0(float v0)
+	{
+		put(0, v0);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF v1(float v1)
+	{
+		put(1, v1);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF v2(float v2)
+	{
+		put(2, v2);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF v3(float v3)
+	{
+		put(3, v3);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF set(ITup4RF t)
+	{
+		set(t.v0(), t.v1(), t.v2(), t.v3());
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF set(ITupRF t)
+	{
+		set(t.at(0), t.at(1), t.at(2), t.at(3));
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF set(float[] values)
+	{
+		MemorySegment.copy(values, 0, this.segment, JAVA_FLOAT, this.offset, 4);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF set(float x, float y, float z, float w)
+	{
+		put(0, x);
+		put(1, y);
+		put(2, z);
+		put(3, w);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF at(int index, float value)
+	{
+		put(index, value);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF setFromAxisAngle(float ax, float ay, float az, float angle)
+	{
+		float halfAngle = angle * 0.5f;
+		float sinHalfAngle = MathUtils.sin(halfAngle);
+		
+		float x_ = ax * sinHalfAngle;
+		float y_ = ay * sinHalfAngle;
+		float z_ = az * sinHalfAngle;
+		float w_ = MathUtils.cos(halfAngle);
+		
+		float invLength = MathUtils.invSqrt(x_ * x_ + y_ * y_ + z_ * z_ + w_ * w_);
+
+		return set(x_ * invLength, y_ * invLength, z_ * invLength, w_ * invLength);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float[] toArray()
+	{
+		return toArray(new float[4]);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] toArray(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 4);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString()
+	{
+		return "quatf(x=" + get(0) + ", y=" + get(1) + ", z=" + get(2) + "; w=" + get(3) + ")";
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(get(0), get(1), get(2), get(3));
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(obj == null) return false;
+		if(obj == this) return true;
+		
+		if(obj instanceof ITup4RF t)
+		{
+			return equals(t);
+		}
+		
+		return false;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF conjugate()
+	{
+		QuatUtilsF.conj(this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF conjugateN()
+	{
+		return QuatUtilsF.conjFunc(this, QuatF.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] conjugateT(float[] res)
+	{
+		QuatUtilsF.conj(this, res);
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T conjugateT(T res)
+	{
+		QuatUtilsF.conj(this, res);
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF inverse()
+	{
+		QuatUtilsF.inv(this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public QuatF inverseN()
+	{
+		return QuatUtilsF.invFunc(this, QuatF.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float[] inverseT(float[] res)
+	{
+		QuatUtilsF.inv(this, res);
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T inverseT(T res)
+	{
+		QuatUtilsF.inv(this, res);
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF normalize()
+	{
+		QuatUtilsF.nrm(this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF normalizeN()
+	{
+		return QuatUtilsF.nrmFunc(this, QuatF.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] normalizeT(float[] res)
+	{
+		QuatUtilsF.nrm(this, res);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T normalizeT(T res)
+	{
+		QuatUtilsF.nrm(this, res);
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float length()
+	{
+		return QuatUtilsF.len(this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float lengthSquared()
+	{
+		return QuatUtilsF.lenSq(this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float lengthReciprocal()
+	{
+		return QuatUtilsF.lenRc(this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float dot(ITup4RF q)
+	{
+		return QuatUtilsF.dot(this, q);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float dot(float[] q)
+	{
+		return QuatUtilsF.dot(this, q);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float dot(float x, float y, float z, float w)
+	{
+		return QuatUtilsF.dot(this, x, y, z, w);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF mul(ITup4RF q)
+	{
+		float w_ = get(3) * q.v3() - get(0) * q.v0() - get(1) * q.v1() - get(2) * q.v2(); // w * w' - v * v'
+		
+		float x_ = get(3) * q.v0() + q.v3() * get(0) + get(1) * q.v2() - get(2) * q.v1(); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q.v1() + q.v3() * get(1) + get(2) * q.v0() - get(0) * q.v2(); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q.v2() + q.v3() * get(2) + get(0) * q.v1() - get(1) * q.v0(); // s * v'.z + s' * v.z + (V x V').z
+		
+		put(0, x_);
+		put(1, y_);
+		put(2, z_);
+		put(3, w_);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF mul(float[] q)
+	{
+		float w_ = get(3) * q[3] - get(0) * q[0] - get(1) * q[1] - get(2) * q[2]; // w * w' - v * v'
+		
+		float x_ = get(3) * q[0] + q[3] * get(0) + get(1) * q[2] - get(2) * q[1]; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q[1] + q[3] * get(1) + get(2) * q[0] - get(0) * q[2]; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q[2] + q[3] * get(2) + get(0) * q[1] - get(1) * q[0]; // s * v'.z + s' * v.z + (V x V').z
+		
+		put(0, x_);
+		put(1, y_);
+		put(2, z_);
+		put(3, w_);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF mul(float x, float y, float z, float w)
+	{
+		float w_ = get(3) * w - get(0) * x - get(1) * y - get(2) * z; // w * w' - v * v'
+		
+		float x_ = get(3) * x + w * get(0) + get(1) * z - get(2) * y; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * y + w * get(1) + get(2) * x - get(0) * z; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * z + w * get(2) + get(0) * y - get(1) * x; // s * v'.z + s' * v.z + (V x V').z
+		
+		put(0, x_);
+		put(1, y_);
+		put(2, z_);
+		put(3, w_);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF mulN(ITup4RF q)
+	{
+		float w_ = get(3) * q.v3() - get(0) * q.v0() - get(1) * q.v1() - get(2) * q.v2(); // w * w' - v * v'
+		
+		float x_ = get(3) * q.v0() + q.v3() * get(0) + get(1) * q.v2() - get(2) * q.v1(); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q.v1() + q.v3() * get(1) + get(2) * q.v0() - get(0) * q.v2(); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q.v2() + q.v3() * get(2) + get(0) * q.v1() - get(1) * q.v0(); // s * v'.z + s' * v.z + (V x V').z
+		
+		return new QuatF(x_, y_, z_, w_);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF mulN(float[] q)
+	{
+		float w_ = get(3) * q[3] - get(0) * q[0] - get(1) * q[1] - get(2) * q[2]; // w * w' - v * v'
+		
+		float x_ = get(3) * q[0] + q[3] * get(0) + get(1) * q[2] - get(2) * q[1]; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q[1] + q[3] * get(1) + get(2) * q[0] - get(0) * q[2]; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q[2] + q[3] * get(2) + get(0) * q[1] - get(1) * q[0]; // s * v'.z + s' * v.z + (V x V').z
+		
+		return new QuatF(x_, y_, z_, w_);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF mulN(float x, float y, float z, float w)
+	{
+		float w_ = get(3) * w - get(0) * x - get(1) * y - get(2) * z; // w * w' - v * v'
+		
+		float x_ = get(3) * x + w * get(0) + get(1) * z - get(2) * y; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * y + w * get(1) + get(2) * x - get(0) * z; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * z + w * get(2) + get(0) * y - get(1) * x; // s * v'.z + s' * v.z + (V x V').z
+		
+		return new QuatF(x_, y_, z_, w_);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T mulT(ITup4RF q, T res)
+	{
+		float w_ = get(3) * q.v3() - get(0) * q.v0() - get(1) * q.v1() - get(2) * q.v2(); // w * w' - v * v'
+		
+		float x_ = get(3) * q.v0() + q.v3() * get(0) + get(1) * q.v2() - get(2) * q.v1(); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q.v1() + q.v3() * get(1) + get(2) * q.v0() - get(0) * q.v2(); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q.v2() + q.v3() * get(2) + get(0) * q.v1() - get(1) * q.v0(); // s * v'.z + s' * v.z + (V x V').z
+		
+		res.set(x_, y_, z_, w_);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T mulT(float[] q, T res)
+	{
+		float w_ = get(3) * q[3] - get(0) * q[0] - get(1) * q[1] - get(2) * q[2]; // w * w' - v * v'
+		
+		float x_ = get(3) * q[0] + q[3] * get(0) + get(1) * q[2] - get(2) * q[1]; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q[1] + q[3] * get(1) + get(2) * q[0] - get(0) * q[2]; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q[2] + q[3] * get(2) + get(0) * q[1] - get(1) * q[0]; // s * v'.z + s' * v.z + (V x V').z
+		
+		res.set(x_, y_, z_, w_);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T mulT(float x, float y, float z, float w, T res)
+	{
+		float w_ = get(3) * w - get(0) * x - get(1) * y - get(2) * z; // w * w' - v * v'
+		
+		float x_ = get(3) * x + w * get(0) + get(1) * z - get(2) * y; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * y + w * get(1) + get(2) * x - get(0) * z; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * z + w * get(2) + get(0) * y - get(1) * x; // s * v'.z + s' * v.z + (V x V').z
+		
+		res.set(x_, y_, z_, w_);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] mulT(ITup4RF q, float[] res)
+	{
+		float w_ = get(3) * q.v3() - get(0) * q.v0() - get(1) * q.v1() - get(2) * q.v2(); // w * w' - v * v'
+		
+		float x_ = get(3) * q.v0() + q.v3() * get(0) + get(1) * q.v2() - get(2) * q.v1(); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q.v1() + q.v3() * get(1) + get(2) * q.v0() - get(0) * q.v2(); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q.v2() + q.v3() * get(2) + get(0) * q.v1() - get(1) * q.v0(); // s * v'.z + s' * v.z + (V x V').z
+		
+		res[0] = x_;
+		res[1] = y_;
+		res[2] = z_;
+		res[3] = w_;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] mulT(float[] q, float[] res)
+	{
+		float w_ = get(3) * q[3] - get(0) * q[0] - get(1) * q[1] - get(2) * q[2]; // w * w' - v * v'
+		
+		float x_ = get(3) * q[0] + q[3] * get(0) + get(1) * q[2] - get(2) * q[1]; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * q[1] + q[3] * get(1) + get(2) * q[0] - get(0) * q[2]; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * q[2] + q[3] * get(2) + get(0) * q[1] - get(1) * q[0]; // s * v'.z + s' * v.z + (V x V').z
+		
+		res[0] = x_;
+		res[1] = y_;
+		res[2] = z_;
+		res[3] = w_;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] mulT(float x, float y, float z, float w, float[] res)
+	{
+		float w_ = get(3) * w - get(0) * x - get(1) * y - get(2) * z; // w * w' - v * v'
+		
+		float x_ = get(3) * x + w * get(0) + get(1) * z - get(2) * y; // s * v'.x + s' * v.x + (V x V').x
+		float y_ = get(3) * y + w * get(1) + get(2) * x - get(0) * z; // s * v'.y + s' * v.y + (V x V').y
+		float z_ = get(3) * z + w * get(2) + get(0) * y - get(1) * x; // s * v'.z + s' * v.z + (V x V').z
+		
+		res[0] = x_;
+		res[1] = y_;
+		res[2] = z_;
+		res[3] = w_;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF rMul(ITup4RF q)
+	{
+		float w_ = q.v3() * get(3) - q.v0() * get(0) - q.v1() * get(1) - q.v2() * get(2); // w * w' - v * v'
+		
+		float x_ = q.v3() * get(0) + get(3) * q.v0() + q.v1() * get(2) - q.v2() * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q.v3() * get(1) + get(3) * q.v1() + q.v2() * get(0) - q.v0() * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q.v3() * get(2) + get(3) * q.v2() + q.v0() * get(1) - q.v1() * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		put(0, x_);
+		put(1, y_);
+		put(2, z_);
+		put(3, w_);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF rMul(float[] q)
+	{
+		float w_ = q[3] * get(3) - q[0] * get(0) - q[1] * get(1) - q[2] * get(2); // w * w' - v * v'
+		
+		float x_ = q[3] * get(0) + get(3) * q[0] + q[1] * get(2) - q[2] * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q[3] * get(1) + get(3) * q[1] + q[2] * get(0) - q[0] * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q[3] * get(2) + get(3) * q[2] + q[0] * get(1) - q[1] * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		put(0, x_);
+		put(1, y_);
+		put(2, z_);
+		put(3, w_);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemQuatF rMul(float x, float y, float z, float w)
+	{
+		float w_ = w * get(3) - x * get(0) - y * get(1) - z * get(2); // w * w' - v * v'
+		
+		float x_ = w * get(0) + get(3) * x + y * get(2) - z * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = w * get(1) + get(3) * y + z * get(0) - x * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = w * get(2) + get(3) * z + x * get(1) - y * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		put(0, x_);
+		put(1, y_);
+		put(2, z_);
+		put(3, w_);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF rMulN(ITup4RF q)
+	{
+		float w_ = q.v3() * get(3) - q.v0() * get(0) - q.v1() * get(1) - q.v2() * get(2); // w * w' - v * v'
+		
+		float x_ = q.v3() * get(0) + get(3) * q.v0() + q.v1() * get(2) - q.v2() * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q.v3() * get(1) + get(3) * q.v1() + q.v2() * get(0) - q.v0() * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q.v3() * get(2) + get(3) * q.v2() + q.v0() * get(1) - q.v1() * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		return new QuatF(x_, y_, z_, w_);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF rMulN(float[] q)
+	{
+		float w_ = q[3] * get(3) - q[0] * get(0) - q[1] * get(1) - q[2] * get(2); // w * w' - v * v'
+		
+		float x_ = q[3] * get(0) + get(3) * q[0] + q[1] * get(2) - q[2] * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q[3] * get(1) + get(3) * q[1] + q[2] * get(0) - q[0] * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q[3] * get(2) + get(3) * q[2] + q[0] * get(1) - q[1] * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		return new QuatF(x_, y_, z_, w_);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QuatF rMulN(float x, float y, float z, float w)
+	{
+		float w_ = w * get(3) - x * get(0) - y * get(1) - z * get(2); // w * w' - v * v'
+		
+		float x_ = w * get(0) + get(3) * x + y * get(2) - z * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = w * get(1) + get(3) * y + z * get(0) - x * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = w * get(2) + get(3) * z + x * get(1) - y * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		return new QuatF(x_, y_, z_, w_);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float[] rMulT(ITup4RF q, float[] res)
+	{
+		float w_ = q.v3() * get(3) - q.v0() * get(0) - q.v1() * get(1) - q.v2() * get(2); // w * w' - v * v'
+		
+		float x_ = q.v3() * get(0) + get(3) * q.v0() + q.v1() * get(2) - q.v2() * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q.v3() * get(1) + get(3) * q.v1() + q.v2() * get(0) - q.v0() * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q.v3() * get(2) + get(3) * q.v2() + q.v0() * get(1) - q.v1() * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		res[0] = x_;
+		res[1] = y_;
+		res[2] = z_;
+		res[3] = w_;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] rMulT(float[] q, float[] res)
+	{
+		float w_ = q[3] * get(3) - q[0] * get(0) - q[1] * get(1) - q[2] * get(2); // w * w' - v * v'
+		
+		float x_ = q[3] * get(0) + get(3) * q[0] + q[1] * get(2) - q[2] * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q[3] * get(1) + get(3) * q[1] + q[2] * get(0) - q[0] * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q[3] * get(2) + get(3) * q[2] + q[0] * get(1) - q[1] * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		res[0] = x_;
+		res[1] = y_;
+		res[2] = z_;
+		res[3] = w_;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] rMulT(float x, float y, float z, float w, float[] res)
+	{
+		float w_ = w * get(3) - x * get(0) - y * get(1) - z * get(2); // w * w' - v * v'
+		
+		float x_ = w * get(0) + get(3) * x + y * get(2) - z * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = w * get(1) + get(3) * y + z * get(0) - x * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = w * get(2) + get(3) * z + x * get(1) - y * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		res[0] = x_;
+		res[1] = y_;
+		res[2] = z_;
+		res[3] = w_;
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T rMulT(ITup4RF q, T res)
+	{
+		float w_ = q.v3() * get(3) - q.v0() * get(0) - q.v1() * get(1) - q.v2() * get(2); // w * w' - v * v'
+		
+		float x_ = q.v3() * get(0) + get(3) * q.v0() + q.v1() * get(2) - q.v2() * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q.v3() * get(1) + get(3) * q.v1() + q.v2() * get(0) - q.v0() * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q.v3() * get(2) + get(3) * q.v2() + q.v0() * get(1) - q.v1() * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		res.set(x_, y_, z_, w_);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T rMulT(float[] q, T res)
+	{
+		float w_ = q[3] * get(3) - q[0] * get(0) - q[1] * get(1) - q[2] * get(2); // w * w' - v * v'
+		
+		float x_ = q[3] * get(0) + get(3) * q[0] + q[1] * get(2) - q[2] * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = q[3] * get(1) + get(3) * q[1] + q[2] * get(0) - q[0] * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = q[3] * get(2) + get(3) * q[2] + q[0] * get(1) - q[1] * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		res.set(x_, y_, z_, w_);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends IQuatWF> T rMulT(float x, float y, float z, float w, T res)
+	{
+		float w_ = w * get(3) - x * get(0) - y * get(1) - z * get(2); // w * w' - v * v'
+		
+		float x_ = w * get(0) + get(3) * x + y * get(2) - z * get(1); // s * v'.x + s' * v.x + (V x V').x
+		float y_ = w * get(1) + get(3) * y + z * get(0) - x * get(2); // s * v'.y + s' * v.y + (V x V').y
+		float z_ = w * get(2) + get(3) * z + x * get(1) - y * get(0); // s * v'.z + s' * v.z + (V x V').z
+		
+		res.set(x_, y_, z_, w_);
+		
+		return res;
+	}
+
+	
+	/** {@inheritDoc} */
+	@Override
+	public float[] transformT(ITup3RF v, float[] res)
+	{
+		float tx = 2.0f * (get(1) * v.v2() - get(2) * v.v1());
+		float ty = 2.0f * (get(2) * v.v0() - get(0) * v.v2());
+		float tz = 2.0f * (get(0) * v.v1() - get(1) * v.v0());
+		
+		float rv0 = v.v0() + get(3) * tx + (get(1) * tz - get(2) * ty);
+		float rv1 = v.v1() + get(3) * ty + (get(2) * tx - get(0) * tz);
+		float rv2 = v.v2() + get(3) * tz + (get(0) * ty - get(1) * tx);
+		
+		res[0] = rv0;
+		res[1] = rv1;
+		res[2] = rv2;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] transformT(float[] v, float[] res)
+	{
+		float tx = 2.0f * (get(1) * v[2] - get(2) * v[1]);
+		float ty = 2.0f * (get(2) * v[0] - get(0) * v[2]);
+		float tz = 2.0f * (get(0) * v[1] - get(1) * v[0]);
+		
+		float rv0 = v[0] + get(3) * tx + (get(1) * tz - get(2) * ty);
+		float rv1 = v[1] + get(3) * ty + (get(2) * tx - get(0) * tz);
+		float rv2 = v[2] + get(3) * tz + (get(0) * ty - get(1) * tx);
+		
+		res[0] = rv0;
+		res[1] = rv1;
+		res[2] = rv2;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] transformT(float v0, float v1, float v2, float[] res)
+	{
+		float tx = 2.0f * (get(1) * v2 - get(2) * v1);
+		float ty = 2.0f * (get(2) * v0 - get(0) * v2);
+		float tz = 2.0f * (get(0) * v1 - get(1) * v0);
+		
+		float rv0 = v0 + get(3) * tx + (get(1) * tz - get(2) * ty);
+		float rv1 = v1 + get(3) * ty + (get(2) * tx - get(0) * tz);
+		float rv2 = v2 + get(3) * tz + (get(0) * ty - get(1) * tx);
+		
+		res[0] = rv0;
+		res[1] = rv1;
+		res[2] = rv2;
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends ITup3WF> T transformT(ITup3RF v, T res)
+	{
+		float tx = 2.0f * (get(1) * v.v2() - get(2) * v.v1());
+		float ty = 2.0f * (get(2) * v.v0() - get(0) * v.v2());
+		float tz = 2.0f * (get(0) * v.v1() - get(1) * v.v0());
+		
+		float rv0 = v.v0() + get(3) * tx + (get(1) * tz - get(2) * ty);
+		float rv1 = v.v1() + get(3) * ty + (get(2) * tx - get(0) * tz);
+		float rv2 = v.v2() + get(3) * tz + (get(0) * ty - get(1) * tx);
+		
+		res.set(rv0, rv1, rv2);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends ITup3WF> T transformT(float[] v, T res)
+	{
+		float tx = 2.0f * (get(1) * v[2] - get(2) * v[1]);
+		float ty = 2.0f * (get(2) * v[0] - get(0) * v[2]);
+		float tz = 2.0f * (get(0) * v[1] - get(1) * v[0]);
+		
+		float rv0 = v[0] + get(3) * tx + (get(1) * tz - get(2) * ty);
+		float rv1 = v[1] + get(3) * ty + (get(2) * tx - get(0) * tz);
+		float rv2 = v[2] + get(3) * tz + (get(0) * ty - get(1) * tx);
+		
+		res.set(rv0, rv1, rv2);
+		
+		return res;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends ITup3WF> T transformT(float v0, float v1, float v2, T res)
+	{
+		float tx = 2.0f * (get(1) * v2 - get(2) * v1);
+		float ty = 2.0f * (get(2) * v0 - get(0) * v2);
+		float tz = 2.0f * (get(0) * v1 - get(1) * v0);
+		
+		float rv0 = v0 + get(3) * tx + (get(1) * tz - get(2) * ty);
+		float rv1 = v1 + get(3) * ty + (get(2) * tx - get(0) * tz);
+		float rv2 = v2 + get(3) * tz + (get(0) * ty - get(1) * tx);
+		
+		res.set(rv0, rv1, rv2);
+		
+		return res;
+	}
+}
@@ -0,0 +1,1116 @@
+package org.barghos.impl.math.vector;
+
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.util.Objects;
+
+import org.barghos.api.core.tuple.floats.ITup3RF;
+import org.barghos.api.core.tuple.floats.ITup3WF;
+import org.barghos.api.core.tuple.floats.ITupRF;
+import org.barghos.api.core.tuple.floats.TupMemUtilsF;
+import org.barghos.api.math.vector.IVec3WF;
+import org.barghos.api.math.vector.VecUtils3F;
+
+/**
+ * This class is a flyweight vector that reads and writes its components directly in a memory segment.
+ *
+ * <p>
+ * The components are stored as consecutive floats at the offset of the view
+ * as described by {@link TupMemUtilsF#TUP3F}. The view can be pointed
+ * to another segment or offset without allocation, so one instance can walk over an array of vectors in mapped
+ * or native upload memory and modify them in place. Operations returning new instances create heap instances.
+ */
+public class MemVec3F implements IVec3WF
+{
+	public static final MemoryLayout LAYOUT = TupMemUtilsF.TUP3F;
+	
+	private MemorySegment segment;
+	private long offset;
+	
+	/**
+	 * Creates a new view that is not pointed to any memory yet.
+	 */
+	public MemVec3F()
+	{
+		this.segment = MemorySegment.NULL;
+	}
+	
+	/**
+	 * Creates a new view over the given offset in the segment.
+	 *
+	 * @param segment The segment.
+	 * @param offset The offset in bytes.
+	 */
+	public MemVec3F(MemorySegment segment, long offset)
+	{
+		point(segment, offset);
+	}
+	
+	/**
+	 * Points the view to the given offset in the segment.
+	 *
+	 * @param segment The segment.
+	 * @param offset The offset in bytes.
+	 *
+	 * @return The current view.
+	 */
+	public MemVec3F point(MemorySegment segment, long offset)
+	{
+		this.segment = segment;
+		this.offset = offset;
+		
+		return this;
+	}
+	
+	/**
+	 * Points the view to the given offset in the current segment.
+	 *
+	 * @param offset The offset in bytes.
+	 *
+	 * @return The current view.
+	 */
+	public MemVec3F point(long offset)
+	{
+		this.offset = offset;
+		
+		return this;
+	}
+	
+	/**
+	 * Points the view to the element with the given index in the current segment, assuming the elements
+	 * are packed with the size of {@link #LAYOUT}.
+	 *
+	 * @param index The index of the element.
+	 *
+	 * @return The current view.
+	 */
+	public MemVec3F pointElement(long index)
+	{
+		this.offset = index * LAYOUT.byteSize();
+		
+		return this;
+	}
+	
+	public MemorySegment getSegment()
+	{
+		return this.segment;
+	}
+	
+	public long getOffset()
+	{
+		return this.offset;
+	}
+	
+	private float get(int index)
+	{
+		return this.segment.get(JAVA_FLOAT, this.offset + ((long)index << 2));
+	}
+	
+	private void put(int index, float value)
+	{
+		this.segment.set(JAVA_FLOAT, this.offset + ((long)index << 2), value);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float x()
+	{
+		return get(0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float y()
+	{
+		return get(1);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float z()
+	{
+		return get(2);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float v0()
+	{
+		return get(0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float v1()
+	{
+		return get(1);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float v2()
+	{
+		return get(2);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float at(int index)
+	{
+		return get(index);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F x(float x)
+	{
+		put(0, x);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F y(float y)
+	{
+		put(1, y);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F z(float z)
+	{
+		put(2, z);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public ITup3WF v0(float v0)
+	{
+		put(0, v0);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ITup3WF v1(float v1)
+	{
+		put(1, v1);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ITup3WF v2(float v2)
+	{
+		put(2, v2);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F set(ITup3RF v)
+	{
+		set(v.v0(), v.v1(), v.v2());
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F set(ITupRF v)
+	{
+		set(v.at(0), v.at(1), v.at(2));
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F set(float[] v)
+	{
+		MemorySegment.copy(v, 0, this.segment, JAVA_FLOAT, this.offset, 3);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F set(float x, float y, float z)
+	{
+		put(0, x);
+		put(1, y);
+		put(2, z);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F at(int index, float value)
+	{
+		put(index, value);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] toArray()
+	{
+		return toArray(new float[3]);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float[] toArray(float[] res)
+	{
+		MemorySegment.copy(this.segment, JAVA_FLOAT, this.offset, res, 0, 3);
+		
+		return res;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public String toString()
+	{
+		return "vec3f(x=" + get(0) + ", y=" + get(1) + ", z=" + get(2) + ")";
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(get(0), get(1), get(2));
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(obj == null) return false;
+		if(obj == this) return true;
+		
+		if(obj instanceof ITup3RF v)
+		{
+			return equals(v);
+		}
+		
+		return false;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F add(ITup3RF v)
+	{
+		VecUtils3F.add(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F add(ITupRF v)
+	{
+		VecUtils3F.add(this, v, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F add(float[] v)
+	{
+		VecUtils3F.add(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F add(float value)
+	{
+		VecUtils3F.add(this, value, value, value, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F add(float x, float y, float z)
+	{
+		VecUtils3F.add(this, x, y, z, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F addN(ITup3RF v)
+	{
+		return VecUtils3F.addFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F addN(ITupRF v)
+	{
+		return VecUtils3F.addFunc(this, v, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F addN(float[] v)
+	{
+		return VecUtils3F.addFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F addN(float value)
+	{
+		return VecUtils3F.addFunc(this, value, value, value, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F addN(float x, float y, float z)
+	{
+		return VecUtils3F.addFunc(this, x, y, z, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F sub(ITup3RF v)
+	{
+		VecUtils3F.sub(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F sub(ITupRF v)
+	{
+		VecUtils3F.sub(this, v, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F sub(float[] v)
+	{
+		VecUtils3F.sub(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F sub(float value)
+	{
+		VecUtils3F.sub(this, value, value, value, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F sub(float x, float y, float z)
+	{
+		VecUtils3F.sub(this, x, y, z, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F subN(ITup3RF v)
+	{
+		return VecUtils3F.subFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F subN(ITupRF v)
+	{
+		return VecUtils3F.subFunc(this, v, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F subN(float[] v)
+	{
+		return VecUtils3F.subFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F subN(float value)
+	{
+		return VecUtils3F.subFunc(this, value, value, value, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F subN(float x, float y, float z)
+	{
+		return VecUtils3F.subFunc(this, x, y, z, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revSub(ITup3RF v)
+	{
+		VecUtils3F.sub(v, this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revSub(ITupRF v)
+	{
+		VecUtils3F.sub(v, this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revSub(float[] v)
+	{
+		VecUtils3F.sub(v, this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revSub(float value)
+	{
+		VecUtils3F.sub(value, value, value, this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revSub(float x, float y, float z)
+	{
+		VecUtils3F.sub(x, y, z, this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revSubN(ITup3RF v)
+	{
+		return VecUtils3F.subFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revSubN(ITupRF v)
+	{
+		return VecUtils3F.subFunc(v, this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revSubN(float[] v)
+	{
+		return VecUtils3F.subFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revSubN(float value)
+	{
+		return VecUtils3F.subFunc(value, value, value, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revSubN(float x, float y, float z)
+	{
+		return VecUtils3F.subFunc(x, y, z, this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F mul(ITup3RF v)
+	{
+		VecUtils3F.mul(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F mul(ITupRF v)
+	{
+		VecUtils3F.mul(this, v, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F mul(float[] v)
+	{
+		VecUtils3F.mul(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F mul(float value)
+	{
+		VecUtils3F.mul(this, value, value, value, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F mul(float x, float y, float z)
+	{
+		VecUtils3F.mul(this, x, y, z, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F mulN(ITup3RF v)
+	{
+		return VecUtils3F.mulFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F mulN(ITupRF v)
+	{
+		return VecUtils3F.mulFunc(this, v, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F mulN(float[] v)
+	{
+		return VecUtils3F.mulFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F mulN(float value)
+	{
+		return VecUtils3F.mulFunc(this, value, value, value, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F mulN(float x, float y, float z)
+	{
+		return VecUtils3F.mulFunc(this, x, y, z, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F div(ITup3RF v)
+	{
+		VecUtils3F.div(this, v, this);
+		
+		return this;
+	}
+
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F div(ITupRF v)
+	{
+		VecUtils3F.div(this, v, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F div(float[] v)
+	{
+		VecUtils3F.div(this, v, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F div(float value)
+	{
+		VecUtils3F.div(this, value, value, value, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F div(float x, float y, float z)
+	{
+		VecUtils3F.div(this, x, y, z, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F divN(ITup3RF v)
+	{
+		return VecUtils3F.divFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F divN(ITupRF v)
+	{
+		return VecUtils3F.divFunc(this, v, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F divN(float[] v)
+	{
+		return VecUtils3F.divFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F divN(float value)
+	{
+		return VecUtils3F.divFunc(this, value, value, value, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F divN(float x, float y, float z)
+	{
+		return VecUtils3F.divFunc(this, x, y, z, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revDiv(ITup3RF v)
+	{
+		VecUtils3F.div(v, this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revDiv(ITupRF v)
+	{
+		VecUtils3F.div(v, this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revDiv(float[] v)
+	{
+		VecUtils3F.div(v, this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revDiv(float value)
+	{
+		VecUtils3F.div(value, value, value, this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revDiv(float x, float y, float z)
+	{
+		VecUtils3F.div(x, y, z, this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revDivN(ITup3RF v)
+	{
+		return VecUtils3F.divFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revDivN(ITupRF v)
+	{
+		return VecUtils3F.divFunc(v, this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revDivN(float[] v)
+	{
+		return VecUtils3F.divFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revDivN(float value)
+	{
+		return VecUtils3F.divFunc(value, value, value, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revDivN(float x, float y, float z)
+	{
+		return VecUtils3F.divFunc(x, y, z, this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float length()
+	{
+		return VecUtils3F.len(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float length(ITup3RF v)
+	{
+		return VecUtils3F.lenTo(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float length(ITupRF v)
+	{
+		return VecUtils3F.lenTo(this, v);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float length(float[] v)
+	{
+		return VecUtils3F.lenTo(this, v);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float length(float x, float y, float z)
+	{
+		return VecUtils3F.lenTo(this, x, y, z);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float reciprocalLength()
+	{
+		return VecUtils3F.lenRc(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float reciprocalLength(ITup3RF v)
+	{
+		return VecUtils3F.lenRcTo(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float reciprocalLength(ITupRF v)
+	{
+		return VecUtils3F.lenRcTo(this, v);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float reciprocalLength(float[] v)
+	{
+		return VecUtils3F.lenRcTo(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float reciprocalLength(float x, float y, float z)
+	{
+		return VecUtils3F.lenRcTo(this, x, y, z);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float squaredLength()
+	{
+		return VecUtils3F.lenSq(this);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float squaredLength(ITup3RF v)
+	{
+		return VecUtils3F.lenSqTo(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float squaredLength(ITupRF v)
+	{
+		return VecUtils3F.lenSqTo(this, v);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float squaredLength(float[] v)
+	{
+		return VecUtils3F.lenSqTo(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float squaredLength(float x, float y, float z)
+	{
+		return VecUtils3F.lenSqTo(this, x, y, z);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float dot(ITup3RF v)
+	{
+		return VecUtils3F.dot(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float dot(ITupRF v)
+	{
+		return VecUtils3F.dot(this, v);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public float dot(float[] v)
+	{
+		return VecUtils3F.dot(this, v);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public float dot(float x, float y, float z)
+	{
+		return VecUtils3F.dot(this, x, y, z);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F negate()
+	{
+		VecUtils3F.neg(this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F negateN()
+	{
+		return VecUtils3F.negFunc(this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F reciprocal()
+	{
+		VecUtils3F.rec(this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F reciprocalN()
+	{
+		return VecUtils3F.recFunc(this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F normalize()
+	{
+		VecUtils3F.nrm(this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F normalizeN()
+	{
+		return VecUtils3F.nrmFunc(this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F abs()
+	{
+		VecUtils3F.abs(this, this);
+		
+		return this;
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F absN()
+	{
+		return VecUtils3F.absFunc(this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F signum()
+	{
+		VecUtils3F.signum(this, this);
+		
+		return this;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F signumN()
+	{
+		return VecUtils3F.signumFunc(this, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F cross(ITup3RF v)
+	{
+		return VecUtils3F.cross(this, v, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F cross(ITupRF v)
+	{
+		return VecUtils3F.cross(this, v, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F cross(float[] v)
+	{
+		return VecUtils3F.cross(this, v, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F cross(float x, float y, float z)
+	{
+		return VecUtils3F.cross(this, x, y, z, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F crossN(ITup3RF v)
+	{
+		return VecUtils3F.crossFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F crossN(ITupRF v)
+	{
+		return VecUtils3F.crossFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F crossN(float[] v)
+	{
+		return VecUtils3F.crossFunc(this, v, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F crossN(float x, float y, float z)
+	{
+		return VecUtils3F.crossFunc(this, x, y, z, Vec3F.CTOR);
+	}
+	
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revCross(ITup3RF v)
+	{
+		return VecUtils3F.cross(v, this, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revCross(ITupRF v)
+	{
+		return VecUtils3F.cross(v, this, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revCross(float[] v)
+	{
+		return VecUtils3F.cross(v, this, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public MemVec3F revCross(float x, float y, float z)
+	{
+		return VecUtils3F.cross(x, y, z, this, this);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revCrossN(ITup3RF v)
+	{
+		return VecUtils3F.crossFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revCrossN(ITupRF v)
+	{
+		return VecUtils3F.crossFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revCrossN(float[] v)
+	{
+		return VecUtils3F.crossFunc(v, this, Vec3F.CTOR);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Vec3F revCrossN(float x, float y, float z)
+	{
+		return VecUtils3F.crossFunc(x, y, z, this, Vec3F.CTOR);
+	}
+}
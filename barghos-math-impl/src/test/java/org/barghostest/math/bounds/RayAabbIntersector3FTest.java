@@ -0,0 +1,80 @@
+package org.barghostest.math.bounds;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.barghos.impl.math.bounds.RayAabbIntersector3F;
+import org.barghos.impl.math.bounds.RayAabbIntersector3F.IntersectionData;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class provides component tests for the class {@link RayAabbIntersector3F}.
+ */
+class RayAabbIntersector3FTest
+{
+	/**
+	 * This test ensures, that the functions {@link RayAabbIntersector3F#test(float[], float[])},
+	 * {@link RayAabbIntersector3F#intersectTime(float[], float[])} and both packet variants agree with
+	 * {@link RayAabbIntersector3F#intersect(float[], float[])} for rays lying on a face plane of the aabb
+	 * and for aabbs of zero thickness.
+	 */
+	@Test
+	void fastPath_BoundaryTest()
+	{
+		RayAabbIntersector3F intersector = new RayAabbIntersector3F();
+		
+		float[][] rays = {
+			{0, 0, 1, 1, 0, 0},
+			{0, 0, 0, 1, 0, 0},
+			{0, 0, 1.0001f, 1, 0, 0},
+			{1.5f, 0, 1, 0, 0, 0},
+			{1.5f, 1, 0.5f, 0, 0, -1},
+			{0, -1, 1, 1, 1, 0}
+		};
+		
+		float[][] aabbs = {
+			{1, -1, 0, 2, 1, 1},
+			{1, -1, 1, 2, 1, 1},
+			{1, -1, -1, 2, 1, 0}
+		};
+		
+		IntersectionData data = new IntersectionData();
+		
+		for(float[] ray : rays)
+		{
+			for(float[] aabb : aabbs)
+			{
+				intersector.intersect(ray, aabb, data);
+				
+				float expected = data.hit ? data.entryTime : -1.0f;
+				
+				assertEquals(data.hit, intersector.test(ray, aabb));
+				assertEquals(expected, intersector.intersectTime(ray, aabb));
+				
+				float[] res = new float[1];
+				
+				assertEquals(data.hit ? 1 : 0, intersector.intersectTimes(ray, new float[] {aabb[0]}, new float[] {aabb[1]}, new float[] {aabb[2]}, new float[] {aabb[3]}, new float[] {aabb[4]}, new float[] {aabb[5]}, 0, 1, res, 0));
+				assertEquals(expected, res[0]);
+				
+				assertEquals(data.hit ? 1 : 0, intersector.intersectTimes(new float[] {ray[0]}, new float[] {ray[1]}, new float[] {ray[2]}, new float[] {ray[3]}, new float[] {ray[4]}, new float[] {ray[5]}, 0, 1, aabb, res, 0));
+				assertEquals(expected, res[0]);
+			}
+		}
+	}
+	
+	/**
+	 * This test ensures, that a ray lying on the maximum face plane of the aabb with a zero direction
+	 * component on that axis is reported as hit by all functions.
+	 */
+	@Test
+	void intersectTime_OnMaxPlaneTest()
+	{
+		RayAabbIntersector3F intersector = new RayAabbIntersector3F();
+		
+		float[] ray = {0, 0, 1, 1, 0, 0};
+		
+		assertTrue(intersector.intersect(ray, new float[] {1, -1, 0, 2, 1, 1}).hit);
+		assertTrue(intersector.test(ray, new float[] {1, -1, 0, 2, 1, 1}));
+		assertEquals(1.0f, intersector.intersectTime(ray, new float[] {1, -1, 0, 2, 1, 1}));
+		assertEquals(1.0f, intersector.intersectTime(ray, new float[] {1, -1, 1, 2, 1, 1}));
+	}
+}
@@ -0,0 +1,552 @@
+package org.barghos.pool;
+
+import java.lang.reflect.Constructor;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This instance pool can be shared between threads without locking.
+ * Every thread owns a small local cache of instances. {@link #get()} and {@link #store(Object...)}
+ * only touch the local cache of the calling thread as long as it is neither empty nor full.
+ * A full local cache spills half of its instances as one batch into a free slot of a shared table,
+ * and an empty local cache refills itself with the batch of a full slot. The slots are claimed with
+ * a compare-and-set on their state and their arrays are reused, so moving batches does not allocate.
+ *
+ * <p>
+ * The number of instances in the shared table is bounded by the capacity of the pool.
+ * If both the local cache and the shared table are full, {@link #store(Object...)} rejects further
+ * instances and leaves them to the garbage collector. They are not counted in its return value.
+ *
+ * <p>
+ * {@link #size()}, {@link #reduce()} and {@link #clear()} only see the shared table and the local cache
+ * of the calling thread. Instances in the local caches of other threads are not visible to them.
+ *
+ * @param <T> The type of the elements stored in the pool.
+ */
+public class ConcurrentPool<T> implements Pool<T>
+{
+	/**
+	 * The default number of instances a local cache can hold.
+	 */
+	public static final int DEFAULT_LOCAL_CAPACITY = 32;
+	
+	/**
+	 * The default number of instances the shared table can hold.
+	 */
+	public static final int DEFAULT_CAPACITY = 4096;
+	
+	/**
+	 * The state of a slot that is claimed by a thread moving a batch into or out of it.
+	 */
+	private static final int BUSY = -1;
+	
+	/**
+	 * This member contains the batches of the shared table. The array of a slot is created on its first use.
+	 */
+	private final Object[][] batches;
+	
+	/**
+	 * This member contains the states of the slots: 0 if the slot is free, {@link #BUSY} if it is claimed
+	 * or the number of instances in its batch.
+	 */
+	private final AtomicIntegerArray states;
+	
+	/**
+	 * This member contains the number of used slots in the upper and the number of instances in the lower 32 bits.
+	 * Both are reserved together before a batch is moved into a slot.
+	 */
+	private final AtomicLong shared = new AtomicLong();
+	
+	/**
+	 * This member contains the local caches of the threads.
+	 */
+	private final ThreadLocal<LocalCache<T>> local;
+	
+	/**
+	 * This member contains the maximum number of instances in the shared table.
+	 */
+	private final int capacity;
+	
+	/**
+	 * This member contains the maximum number of instances in a local cache.
+	 */
+	private final int localCapacity;
+	
+	/**
+	 * This member contains the maximum number of instances in one batch, which is half of a local cache.
+	 */
+	private final int batchSize;
+	
+	/**
+	 * This member contains the supplier used to create new instances if a instance is requested and the pool is empty.
+	 */
+	private final Supplier<? extends T> supplier;
+	
+	/**
+	 * This member contains the hook applied to every stored instance or null.
+	 */
+	private final Consumer<? super T> reset;
+	
+	/**
+	 * This member contains the name of the pooled type used by {@link #toString()}.
+	 */
+	private final String name;
+	
+	/**
+	 * This member contains the number of instances that should always be present in the shared table.
+	 */
+	private volatile int ensuredSize = 0;
+	
+	/**
+	 * This member contains the number of calls to {@link #get()} that had to create a new instance.
+	 */
+	private final LongAdder missCount = new LongAdder();
+	
+	/**
+	 * Creates a new Pool of the given type with the default capacities.
+	 * <br><br><b><u>Important:</u></b> The class needs a public default constructor for being instanced by the pool.
+	 *
+	 * @param clazz The class of the used type.
+	 */
+	public ConcurrentPool(Class<? extends T> clazz)
+	{
+		this(clazz, DEFAULT_CAPACITY, DEFAULT_LOCAL_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new Pool of the given type with the given capacities.
+	 * <br><br><b><u>Important:</u></b> The class needs a public default constructor for being instanced by the pool.
+	 *
+	 * @param clazz The class of the used type.
+	 * @param capacity The maximum number of instances in the shared table.
+	 * @param localCapacity The maximum number of instances in the local cache of each thread.
+	 */
+	public ConcurrentPool(Class<? extends T> clazz, int capacity, int localCapacity)
+	{
+		this(constructorSupplier(clazz), null, capacity, localCapacity, clazz.getCanonicalName());
+	}
+	
+	/**
+	 * Creates a new Pool that creates new instances with the given supplier and has the default capacities.
+	 * 
+	 * @param supplier The supplier of new instances.
+	 */
+	public ConcurrentPool(Supplier<? extends T> supplier)
+	{
+		this(supplier, null, DEFAULT_CAPACITY, DEFAULT_LOCAL_CAPACITY);
+	}
+	
+	/**
+	 * Creates a new Pool that creates new instances with the given supplier
+	 * and applies the reset hook to every instance stored in the pool.
+	 * The reset hook is called by the storing thread.
+	 * 
+	 * @param supplier The supplier of new instances.
+	 * @param reset The hook applied to the stored instances or null.
+	 * @param capacity The maximum number of instances in the shared table.
+	 * @param localCapacity The maximum number of instances in the local cache of each thread.
+	 */
+	public ConcurrentPool(Supplier<? extends T> supplier, Consumer<? super T> reset, int capacity, int localCapacity)
+	{
+		this(supplier, reset, capacity, localCapacity, "supplier");
+	}
+	
+	private ConcurrentPool(Supplier<? extends T> supplier, Consumer<? super T> reset, int capacity, int localCapacity, String name)
+	{
+		if(supplier == null) throw new IllegalArgumentException();
+		if(capacity < 0) throw new IllegalArgumentException();
+		if(localCapacity < 2) throw new IllegalArgumentException();
+		
+		this.supplier = supplier;
+		this.reset = reset;
+		this.name = name;
+		this.capacity = capacity;
+		this.localCapacity = localCapacity;
+		this.batchSize = localCapacity >> 1;
+		this.local = ThreadLocal.withInitial(() -> new LocalCache<>(localCapacity));
+		
+		int slotCount = (capacity + this.batchSize - 1) / this.batchSize;
+		
+		this.batches = new Object[slotCount][];
+		this.states = new AtomicIntegerArray(slotCount);
+	}
+	
+	/**
+	 * Looks up the public default constructor of the class once and wraps it into a supplier.
+	 */
+	private static <T> Supplier<T> constructorSupplier(Class<T> clazz)
+	{
+		Constructor<T> constructor;
+		
+		try
+		{
+			constructor = clazz.getConstructor();
+		}
+		catch(NoSuchMethodException e)
+		{
+			throw new IllegalArgumentException(e);
+		}
+		
+		return () -> {
+			try
+			{
+				return constructor.newInstance();
+			}
+			catch (Exception e)
+			{
+				throw new Error(e);
+			}
+		};
+	}
+	
+	@Override
+	public T get()
+	{
+		LocalCache<T> cache = this.local.get();
+		
+		if(cache.size == 0 && !refill(cache))
+		{
+			this.missCount.increment();
+			
+			return getNew();
+		}
+		
+		return cache.pop();
+	}
+	
+	@Override
+	public long getMissCount()
+	{
+		return this.missCount.sum();
+	}
+	
+	@Override
+	public int store(@SuppressWarnings("unchecked") T... t)
+	{
+		LocalCache<T> cache = this.local.get();
+		
+		int count = 0;
+		
+		for(int i = 0; i < t.length; i++)
+		{
+			if(t[i] == null) continue;
+			
+			if(cache.size == this.localCapacity && !spill(cache)) continue;
+			
+			if(this.reset != null) this.reset.accept(t[i]);
+			
+			cache.push(t[i]);
+			
+			count++;
+		}
+		
+		return count;
+	}
+	
+	@Override
+	public T getNew()
+	{
+		return this.supplier.get();
+	}
+	
+	@Override
+	public void ensure(int count)
+	{
+		if(count < 0) throw new IllegalArgumentException();
+		if(count == 0) return;
+		
+		count = Math.min(count, this.capacity);
+		
+		this.ensuredSize = count;
+		
+		int needed = count - sharedSize();
+		
+		if(needed > 0) prewarm(needed);
+	}
+	
+	/**
+	 * Adds the given number of new instances to the shared table in batches
+	 * without changing the amount of instances kept by {@link #reduce()}.
+	 * The pre-warming stops early if the capacity of the pool is reached.
+	 * 
+	 * @param count The number of new instances.
+	 */
+	public void prewarm(int count)
+	{
+		if(count < 0) throw new IllegalArgumentException();
+		
+		LocalCache<T> cache = this.local.get();
+		Object[] items = new Object[this.batchSize];
+		
+		while(count > 0)
+		{
+			int length = Math.min(count, this.batchSize);
+			
+			for(int i = 0; i < length; i++)
+				items[i] = this.supplier.get();
+			
+			// A partial batch first tops up another partial batch, so they do not use up the slots.
+			int merged = length < this.batchSize ? merge(items, length) : 0;
+			
+			if(merged < length && !put(cache, items, merged, length - merged)) return;
+			
+			count -= length;
+		}
+	}
+	
+	@Override
+	public void reduce()
+	{
+		LocalCache<T> cache = this.local.get();
+		int ensured = this.ensuredSize;
+		
+		while(sharedSize() > ensured)
+		{
+			if(take(cache, null) == 0) return;
+		}
+	}
+	
+	@Override
+	public void clear()
+	{
+		LocalCache<T> cache = this.local.get();
+		
+		cache.clear();
+		
+		while(take(cache, null) > 0);
+	}
+	
+	@Override
+	public int size()
+	{
+		return sharedSize() + this.local.get().size;
+	}
+	
+	/**
+	 * Returns the maximum number of instances in the shared table.
+	 *
+	 * @return The capacity of the pool.
+	 */
+	public int capacity()
+	{
+		return this.capacity;
+	}
+	
+	/**
+	 * Returns the maximum number of instances in the local cache of each thread.
+	 *
+	 * @return The capacity of a local cache.
+	 */
+	public int localCapacity()
+	{
+		return this.localCapacity;
+	}
+	
+	private int sharedSize()
+	{
+		return (int)this.shared.get();
+	}
+	
+	/**
+	 * Moves the upper half of the full local cache to the shared table.
+	 * 
+	 * @return False if the shared table has no room for them and the local cache is still full.
+	 */
+	private boolean spill(LocalCache<T> cache)
+	{
+		int count = this.batchSize;
+		int offset = cache.size - count;
+		
+		if(!put(cache, cache.items, offset, count)) return false;
+		
+		Arrays.fill(cache.items, offset, cache.size, null);
+		cache.size = offset;
+		
+		return true;
+	}
+	
+	/**
+	 * Fills the empty local cache with one batch from the shared table.
+	 *
+	 * @return True if a batch was available.
+	 */
+	private boolean refill(LocalCache<T> cache)
+	{
+		cache.size = take(cache, cache.items);
+		
+		return cache.size > 0;
+	}
+	
+	/**
+	 * Copies the instances as one batch into a free slot of the shared table.
+	 * The search for a free slot starts at the last slot used by the local cache.
+	 * 
+	 * @return False if the shared table has no room for them.
+	 */
+	private boolean put(LocalCache<T> cache, Object[] items, int offset, int count)
+	{
+		if(!reserve(count, 1)) return false;
+		
+		int slotCount = this.batches.length;
+		
+		// The reservation guarantees that a free slot exists.
+		for(int i = cache.slot;; i = i + 1 == slotCount ? 0 : i + 1)
+		{
+			if(this.states.get(i) != 0 || !this.states.compareAndSet(i, 0, BUSY)) continue;
+			
+			Object[] batch = this.batches[i];
+			
+			if(batch == null)
+			{
+				batch = new Object[this.batchSize];
+				
+				this.batches[i] = batch;
+			}
+			
+			System.arraycopy(items, offset, batch, 0, count);
+			
+			this.states.set(i, count);
+			
+			cache.slot = i;
+			
+			return true;
+		}
+	}
+	
+	/**
+	 * Copies as many of the instances as fit into a partial batch of the shared table.
+	 * 
+	 * @return The number of copied instances.
+	 */
+	private int merge(Object[] items, int count)
+	{
+		for(int i = 0; i < this.batches.length; i++)
+		{
+			int size = this.states.get(i);
+			
+			if(size <= 0 || size >= this.batchSize || !this.states.compareAndSet(i, size, BUSY)) continue;
+			
+			int merged = Math.min(count, this.batchSize - size);
+			
+			if(!reserve(merged, 0))
+			{
+				this.states.set(i, size);
+				
+				return 0;
+			}
+			
+			System.arraycopy(items, 0, this.batches[i], size, merged);
+			
+			this.states.set(i, size + merged);
+			
+			return merged;
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Removes one batch from the shared table and copies its instances to the start of the given array.
+	 * The search for a full slot starts at the last slot used by the local cache.
+	 * 
+	 * @param res The array receiving the instances or null to drop them.
+	 * 
+	 * @return The number of instances in the batch or 0 if no batch was available.
+	 */
+	private int take(LocalCache<T> cache, Object[] res)
+	{
+		if(sharedSize() == 0) return 0;
+		
+		int slotCount = this.batches.length;
+		
+		for(int n = 0, i = cache.slot; n < slotCount; n++, i = i + 1 == slotCount ? 0 : i + 1)
+		{
+			int count = this.states.get(i);
+			
+			if(count <= 0 || !this.states.compareAndSet(i, count, BUSY)) continue;
+			
+			Object[] batch = this.batches[i];
+			
+			if(res != null) System.arraycopy(batch, 0, res, 0, count);
+			
+			Arrays.fill(batch, 0, count, null);
+			
+			this.states.set(i, 0);
+			this.shared.addAndGet(-((1l << 32) + count));
+			
+			cache.slot = i;
+			
+			return count;
+		}
+		
+		return 0;
+	}
+	
+	/**
+	 * Reserves the given number of slots and room for the given number of instances in the shared table.
+	 */
+	private boolean reserve(int count, int slots)
+	{
+		long state;
+		do
+		{
+			state = this.shared.get();
+			
+			if((int)(state >>> 32) + slots > this.batches.length || (int)state + count > this.capacity) return false;
+		}
+		while(!this.shared.compareAndSet(state, state + ((long)slots << 32) + count));
+		
+		return true;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "concurrentpool(class=" + this.name + ", size=" + sharedSize() + ", capacity=" + this.capacity + ", localCapacity=" + this.localCapacity + ", ensuredSize=" + this.ensuredSize + ")";
+	}
+	
+	/**
+	 * The local cache of one thread. It is only accessed by its owning thread.
+	 * It doesn't reference the pool, so the thread local value doesn't keep a discarded pool reachable.
+	 */
+	private static final class LocalCache<T>
+	{
+		private final Object[] items;
+		private int size;
+		
+		/**
+		 * The slot of the shared table used last by this cache.
+		 */
+		private int slot;
+		
+		private LocalCache(int capacity)
+		{
+			this.items = new Object[capacity];
+		}
+		
+		private void push(T t)
+		{
+			this.items[this.size++] = t;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private T pop()
+		{
+			T t = (T)this.items[--this.size];
+			this.items[this.size] = null;
+			
+			return t;
+		}
+		
+		private void clear()
+		{
+			Arrays.fill(this.items, 0, this.size, null);
+			this.size = 0;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package org.barghos.pool;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This class is an implementation of {@link PoolFactory} that creates instances of {@link ConcurrentPool}.
+ * The pools created by this factory can be shared between threads.
+ */
+public class ConcurrentPoolFactory implements PoolFactory
+{
+	/**
+	 * Returns the shared instance of {@link ConcurrentPoolFactory} that creates pools with the default capacities.
+	 * 
+	 * @return The shared instance of {@link ConcurrentPoolFactory}.
+	 */
+	public static ConcurrentPoolFactory get()
+	{
+		return Holder.INSTANCE;
+	}
+	
+	/**
+	 * This member contains the maximum number of instances in the shared table of the created pools.
+	 */
+	private final int capacity;
+	
+	/**
+	 * This member contains the maximum number of instances in the local caches of the created pools.
+	 */
+	private final int localCapacity;
+	
+	/**
+	 * Creates a new factory for pools with the given capacities.
+	 * 
+	 * @param capacity The maximum number of instances in the shared table of the created pools.
+	 * @param localCapacity The maximum number of instances in the local cache of each thread of the created pools.
+	 */
+	public ConcurrentPoolFactory(int capacity, int localCapacity)
+	{
+		if(capacity < 0) throw new IllegalArgumentException();
+		if(localCapacity < 2) throw new IllegalArgumentException();
+		
+		this.capacity = capacity;
+		this.localCapacity = localCapacity;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T> Pool<T> create(Class<? extends T> clazz)
+	{
+		return new ConcurrentPool<T>(clazz, this.capacity, this.localCapacity);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T> Pool<T> create(Supplier<? extends T> supplier, Consumer<? super T> reset)
+	{
+		return new ConcurrentPool<T>(supplier, reset, this.capacity, this.localCapacity);
+	}
+	
+	/**
+	 * The shared instance is created by the class loader on first access, which makes the lazy initialization thread safe.
+	 */
+	private static class Holder
+	{
+		private static final ConcurrentPoolFactory INSTANCE = new ConcurrentPoolFactory(ConcurrentPool.DEFAULT_CAPACITY, ConcurrentPool.DEFAULT_LOCAL_CAPACITY);
+	}
+}
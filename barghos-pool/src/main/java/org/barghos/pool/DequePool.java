@@ -26,12 +26,23 @@ public class DequePool<T> implements Pool<T>
 	 */
 	private int ensuredSize = 0;
 	
+	/**
+	 * This member contains the number of calls to {@link #get()} that had to create a new instance.
+	 */
+	private long missCount;
+	
 	/**
 	 * This member contains the class from the type that this pool contains.
 	 * It is used to create new instances if a instance is requested and the pool is empty.
 	 */
 	private Class<? extends T> clazz;
 	
+	/**
+	 * This member contains the default constructor of {@link #clazz}.
+	 * It is looked up on the first call to {@link #getNew()} and cached afterwards.
+	 */
+	private Constructor<? extends T> constructor;
+	
 	/**
 	 * Creates a new Pool of the given type.
 	 * The class of the type is required for creating new instances if the pool is empty.
@@ -71,9 +82,17 @@ public class DequePool<T> implements Pool<T>
 			return this.store.pop();
 		}
 		
+		this.missCount++;
+		
 		return getNew();
 	}
 	
+	@Override
+	public long getMissCount()
+	{
+		return this.missCount;
+	}
+	
 	@Override
 	public int store(@SuppressWarnings("unchecked") T... t)
 	{
@@ -100,7 +119,14 @@ public class DequePool<T> implements Pool<T>
 	{
 		try
 		{
-			Constructor<? extends T> c = this.clazz.getConstructor();
+			Constructor<? extends T> c = this.constructor;
+			
+			if(c == null)
+			{
+				c = this.clazz.getConstructor();
+				
+				this.constructor = c;
+			}
 			
 			return c.newInstance();
 		}
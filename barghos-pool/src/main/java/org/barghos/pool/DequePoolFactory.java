@@ -32,11 +32,6 @@ package org.barghos.pool;
  */
 public class DequePoolFactory implements PoolFactory
 {
-	/**
-	 * This static variable stores the singleton instance of {@link DequePoolFactory}
-	 */
-	private static DequePoolFactory INSTANCE;
-	
 	/**
 	 * Returns the singleton instance of {@link DequePoolFactory}.
 	 * If the instance is not created yet, the call to this function will create it.
@@ -47,9 +42,7 @@ public class DequePoolFactory implements PoolFactory
 	 */
 	public static DequePoolFactory get()
 	{
-		if(INSTANCE == null) INSTANCE = new DequePoolFactory();
-		
-		return INSTANCE;
+		return Holder.INSTANCE;
 	}
 	
 	/**
@@ -64,4 +57,16 @@ public class DequePoolFactory implements PoolFactory
 	{
 		return new DequePool<T>(clazz);
 	}
+	
+	/**
+	 * This class holds the singleton instance. It is initialized by the class loader on first access,
+	 * which makes the lazy initialization thread safe.
+	 */
+	private static class Holder
+	{
+		/**
+		 * This static variable stores the singleton instance of {@link DequePoolFactory}
+		 */
+		private static final DequePoolFactory INSTANCE = new DequePoolFactory();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,282 @@
+package org.barghos.pool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class decorates another {@link Pool} and counts how it is used.
+ * The counters are striped {@link LongAdder LongAdders}, so the decorator adds no contention
+ * between threads sharing a concurrent pool. {@link #statistics()} can be polled from any thread,
+ * for example a monitoring thread, without blocking the pool.
+ * 
+ * <p>
+ * The misses are counted by the decorated pool itself, see {@link Pool#getMissCount()}, so {@link #get()}
+ * only adds one counter increment to the call. If the decorated pool doesn't count its misses, the decorator
+ * counts a miss whenever the pool is empty before {@link #get()}, which is only an estimate under contention.
+ * The size is tracked as an estimate from the accepted stores and the hits. After {@link #ensure(int)},
+ * {@link #reduce()} and {@link #clear()} it is re-synchronized with the size of the decorated pool.
+ * 
+ * @param <T> The type of the elements stored in the pool.
+ */
+public class InstrumentedPool<T> implements Pool<T>
+{
+	/**
+	 * This member contains the decorated pool.
+	 */
+	private final Pool<T> pool;
+	
+	/**
+	 * The counters are cumulative since the creation of the decorator. The values at the last reset are
+	 * kept in the base members and subtracted from the snapshots.
+	 */
+	private final LongAdder gets = new LongAdder();
+	private final LongAdder stores = new LongAdder();
+	private final LongAdder rejectedStores = new LongAdder();
+	
+	/**
+	 * This member contains the instances the decorated pool accepted in {@link #store(Object...)}.
+	 */
+	private final LongAdder acceptedStores = new LongAdder();
+	
+	/**
+	 * This member contains the misses counted by the decorator, or null if the decorated pool counts its misses.
+	 */
+	private final LongAdder misses;
+	
+	private final AtomicLong highWaterMark = new AtomicLong();
+	
+	/**
+	 * This member contains the miss count of the decorated pool when the decorator was created.
+	 */
+	private final long initialMisses;
+	
+	/**
+	 * This member contains the size of the pool minus the accepted stores plus the hits at the last
+	 * re-synchronization. The estimated size is this base plus the accepted stores minus the hits.
+	 */
+	private volatile long sizeBase;
+	
+	private long getsBase;
+	private long missesBase;
+	private long storesBase;
+	private long rejectedStoresBase;
+	
+	/**
+	 * Creates a new decorator for the given pool.
+	 * 
+	 * @param pool The pool to decorate.
+	 */
+	public InstrumentedPool(Pool<T> pool)
+	{
+		if(pool == null) throw new IllegalArgumentException();
+		
+		this.pool = pool;
+		this.initialMisses = pool.getMissCount();
+		this.misses = this.initialMisses < 0 ? new LongAdder() : null;
+		
+		int size = pool.size();
+		
+		this.sizeBase = size;
+		this.highWaterMark.set(size);
+	}
+	
+	/**
+	 * Returns the decorated pool.
+	 * 
+	 * @return The decorated pool.
+	 */
+	public Pool<T> getPool()
+	{
+		return this.pool;
+	}
+	
+	@Override
+	public T get()
+	{
+		this.gets.increment();
+		
+		if(this.misses != null && this.pool.size() == 0) this.misses.increment();
+		
+		return this.pool.get();
+	}
+	
+	@Override
+	public T getNew()
+	{
+		return this.pool.getNew();
+	}
+	
+	/**
+	 * Returns the miss count of the decorated pool. If the decorated pool doesn't count its misses,
+	 * the misses counted by the decorator since its creation are returned instead.
+	 * 
+	 * @return The number of misses.
+	 */
+	@Override
+	public long getMissCount()
+	{
+		if(this.misses != null) return this.misses.sum();
+		
+		return this.pool.getMissCount();
+	}
+	
+	@Override
+	public int store(@SuppressWarnings("unchecked") T... instances)
+	{
+		int count = 0;
+		
+		for(int i = 0; i < instances.length; i++)
+			if(instances[i] != null) count++;
+		
+		int stored = this.pool.store(instances);
+		
+		this.stores.add(count);
+		
+		if(stored < count) this.rejectedStores.add(count - stored);
+		
+		if(stored > 0)
+		{
+			this.acceptedStores.add(stored);
+			
+			updateHighWaterMark(estimateSize());
+		}
+		
+		return stored;
+	}
+	
+	@Override
+	public void ensure(int count)
+	{
+		this.pool.ensure(count);
+		
+		resync();
+	}
+	
+	@Override
+	public void reduce()
+	{
+		this.pool.reduce();
+		
+		resync();
+	}
+	
+	@Override
+	public void clear()
+	{
+		this.pool.clear();
+		
+		resync();
+	}
+	
+	@Override
+	public int size()
+	{
+		return this.pool.size();
+	}
+	
+	/**
+	 * Returns a snapshot of the counters. This can be called from any thread.
+	 * The counters are read one after another, so a snapshot taken while the pool is in use
+	 * is not an atomic view of all counters.
+	 * 
+	 * @return The snapshot of the counters.
+	 */
+	public PoolStatistics statistics()
+	{
+		return snapshot(false);
+	}
+	
+	/**
+	 * Returns a snapshot of the counters and resets the cumulative counters afterwards.
+	 * The size and the high-water mark are kept.
+	 * 
+	 * @return The snapshot of the counters before the reset.
+	 */
+	public PoolStatistics statisticsThenReset()
+	{
+		return snapshot(true);
+	}
+	
+	/**
+	 * Resets the high-water mark to the current estimated size.
+	 */
+	public void resetHighWaterMark()
+	{
+		this.highWaterMark.set(estimateSize());
+	}
+	
+	private synchronized PoolStatistics snapshot(boolean reset)
+	{
+		long gets = this.gets.sum();
+		long misses = misses();
+		long stores = this.stores.sum();
+		long rejectedStores = this.rejectedStores.sum();
+		
+		long size = estimateSize();
+		
+		// A concurrent store may not have raised the high-water mark yet.
+		updateHighWaterMark(size);
+		
+		PoolStatistics statistics = new PoolStatistics(gets - this.getsBase, misses - this.missesBase, stores - this.storesBase, rejectedStores - this.rejectedStoresBase, size, this.highWaterMark.get());
+		
+		if(reset)
+		{
+			this.getsBase = gets;
+			this.missesBase = misses;
+			this.storesBase = stores;
+			this.rejectedStoresBase = rejectedStores;
+		}
+		
+		return statistics;
+	}
+	
+	/**
+	 * Returns the misses since the creation of the decorator.
+	 */
+	private long misses()
+	{
+		if(this.misses != null) return this.misses.sum();
+		
+		return this.pool.getMissCount() - this.initialMisses;
+	}
+	
+	/**
+	 * Returns the estimated size from the size base, the accepted stores and the hits, which are the gets that
+	 * were not misses. The base is read before the counters, so a concurrent re-synchronization is never
+	 * combined with counters older than the ones it was computed from.
+	 */
+	private long estimateSize()
+	{
+		long sizeBase = this.sizeBase;
+		
+		long accepted = this.acceptedStores.sum();
+		long hits = Math.max(0, this.gets.sum() - misses());
+		
+		return Math.max(0, sizeBase + accepted - hits);
+	}
+	
+	/**
+	 * Sets the size base from the absolute size of the decorated pool, so that the estimated size matches the pool
+	 * again. Operations running concurrently only affect the estimate until the next re-synchronization.
+	 */
+	private synchronized void resync()
+	{
+		long accepted = this.acceptedStores.sum();
+		long hits = Math.max(0, this.gets.sum() - misses());
+		
+		this.sizeBase = this.pool.size() - accepted + hits;
+		
+		updateHighWaterMark(estimateSize());
+	}
+	
+	private void updateHighWaterMark(long size)
+	{
+		if(size > this.highWaterMark.get()) this.highWaterMark.accumulateAndGet(size, Math::max);
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "instrumentedpool(pool=" + this.pool + ", statistics=" + statistics() + ")";
+	}
+}
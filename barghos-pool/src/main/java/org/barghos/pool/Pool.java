@@ -15,6 +15,18 @@ public interface Pool<T>
 	 */
 	T get();
 	
+	/**
+	 * Returns the number of calls to {@link #get()} that had to create a new instance because the pool was empty.
+	 * Calls to {@link #getNew()} are not counted.
+	 * Pools that don't count their misses return -1, which is the default.
+	 * 
+	 * @return The number of misses since the creation of the pool or -1 if the misses are unknown.
+	 */
+	default long getMissCount()
+	{
+		return -1;
+	}
+	
 	/**
 	 * Returns always a new instance.
 	 * 
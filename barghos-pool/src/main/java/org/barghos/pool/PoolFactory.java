@@ -1,5 +1,8 @@
 package org.barghos.pool;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * This interface represents a pool factory.
  * A pool factory is typically used to create all necessary instances of instance pools.
@@ -16,4 +19,34 @@ public interface PoolFactory
 	 * @return A new instance of a pool.
 	 */
 	<T> Pool<T> create(Class<? extends T> clazz);
+	
+	/**
+	 * Creates a new instance of a Pool that creates new instances with the given supplier.
+	 * 
+	 * @param <T> The type the new Pool should contain.
+	 * 
+	 * @param supplier The supplier of new instances, for example {@code Vec3F::new}.
+	 * 
+	 * @return A new instance of a pool.
+	 */
+	default <T> Pool<T> create(Supplier<? extends T> supplier)
+	{
+		return create(supplier, null);
+	}
+	
+	/**
+	 * Creates a new instance of a Pool that creates new instances with the given supplier
+	 * and applies the reset hook to every instance stored in the pool.
+	 * 
+	 * @param <T> The type the new Pool should contain.
+	 * 
+	 * @param supplier The supplier of new instances, for example {@code Vec3F::new}.
+	 * @param reset The hook applied to the stored instances or null.
+	 * 
+	 * @return A new instance of a pool.
+	 */
+	default <T> Pool<T> create(Supplier<? extends T> supplier, Consumer<? super T> reset)
+	{
+		return new SupplierPool<T>(supplier, reset);
+	}
 }
\ No newline at end of file
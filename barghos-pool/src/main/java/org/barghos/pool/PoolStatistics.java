@@ -0,0 +1,78 @@
+package org.barghos.pool;
+
+/**
+ * This class is an immutable snapshot of the counters of an {@link InstrumentedPool}.
+ * The counters are cumulative since the creation of the pool or the last reset.
+ */
+public final class PoolStatistics
+{
+	/**
+	 * The number of calls to {@link Pool#get()}.
+	 */
+	public final long gets;
+	
+	/**
+	 * The number of calls to {@link Pool#get()} that had to create a new instance because the pool was empty.
+	 * Direct calls to {@link Pool#getNew()} are not counted.
+	 */
+	public final long misses;
+	
+	/**
+	 * The number of non-null instances passed to {@link Pool#store(Object...)}.
+	 */
+	public final long stores;
+	
+	/**
+	 * The number of non-null instances passed to {@link Pool#store(Object...)} that the pool did not accept.
+	 */
+	public final long rejectedStores;
+	
+	/**
+	 * The estimated number of instances in the pool.
+	 */
+	public final long size;
+	
+	/**
+	 * The highest number of instances in the pool observed so far.
+	 */
+	public final long highWaterMark;
+	
+	/**
+	 * Creates a new snapshot with the given counters. Snapshots are usually taken with
+	 * {@link InstrumentedPool#statistics()}. This constructor allows to create them for other pools or for tests.
+	 * 
+	 * @param gets The number of calls to {@link Pool#get()}.
+	 * @param misses The number of calls to {@link Pool#get()} that had to create a new instance.
+	 * @param stores The number of non-null instances passed to {@link Pool#store(Object...)}.
+	 * @param rejectedStores The number of stored instances the pool did not accept.
+	 * @param size The estimated number of instances in the pool.
+	 * @param highWaterMark The highest number of instances in the pool observed so far.
+	 */
+	public PoolStatistics(long gets, long misses, long stores, long rejectedStores, long size, long highWaterMark)
+	{
+		this.gets = gets;
+		this.misses = misses;
+		this.stores = stores;
+		this.rejectedStores = rejectedStores;
+		this.size = size;
+		this.highWaterMark = highWaterMark;
+	}
+	
+	/**
+	 * Returns the fraction of {@link Pool#get()} calls that were served from the pool.
+	 * 
+	 * @return The hit rate between 0 and 1, or 0 if there were no calls.
+	 */
+	public double hitRate()
+	{
+		if(this.gets == 0) return 0.0;
+		
+		return (double)Math.max(0, this.gets - this.misses) / this.gets;
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "poolstatistics(gets=" + this.gets + ", misses=" + this.misses + ", stores=" + this.stores + ", rejectedStores=" + this.rejectedStores + ", size=" + this.size + ", highWaterMark=" + this.highWaterMark + ")";
+	}
+}
@@ -0,0 +1,186 @@
+package org.barghos.pool;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This instance pool utilizes a {@link ArrayDeque} as internal list and creates new instances
+ * with a {@link Supplier} like {@code Vec3F::new} instead of reflection.
+ * Optionally a reset hook can be given that is applied to every instance stored in the pool.
+ * 
+ * @param <T> The type of the elements stored in the pool.
+ */
+public class SupplierPool<T> implements Pool<T>
+{
+	/**
+	 * This member contains the internal list of instances.
+	 */
+	private final Deque<T> store = new ArrayDeque<>();
+	
+	/**
+	 * This member contains the supplier used to create new instances if a instance is requested and the pool is empty.
+	 */
+	private final Supplier<? extends T> supplier;
+	
+	/**
+	 * This member contains the hook applied to every stored instance or null.
+	 */
+	private final Consumer<? super T> reset;
+	
+	/**
+	 * This member contains the number of instances that should always be present in the pool.
+	 */
+	private int ensuredSize = 0;
+	
+	/**
+	 * This member contains the number of calls to {@link #get()} that had to create a new instance.
+	 */
+	private long missCount;
+	
+	/**
+	 * Creates a new Pool that creates new instances with the given supplier.
+	 * 
+	 * @param supplier The supplier of new instances.
+	 */
+	public SupplierPool(Supplier<? extends T> supplier)
+	{
+		this(supplier, null);
+	}
+	
+	/**
+	 * Creates a new Pool that creates new instances with the given supplier
+	 * and applies the reset hook to every instance stored in the pool.
+	 * 
+	 * @param supplier The supplier of new instances.
+	 * @param reset The hook applied to the stored instances or null.
+	 */
+	public SupplierPool(Supplier<? extends T> supplier, Consumer<? super T> reset)
+	{
+		if(supplier == null) throw new IllegalArgumentException();
+		
+		this.supplier = supplier;
+		this.reset = reset;
+	}
+	
+	/**
+	 * Creates a new Pool that creates new instances with the given supplier
+	 * and applies the reset hook to every instance stored in the pool.
+	 * The pool is pre-warmed with the given number of instances.
+	 * 
+	 * @param supplier The supplier of new instances.
+	 * @param reset The hook applied to the stored instances or null.
+	 * @param size The number of initial entries to pregenerate.
+	 */
+	public SupplierPool(Supplier<? extends T> supplier, Consumer<? super T> reset, int size)
+	{
+		this(supplier, reset);
+		
+		ensure(size);
+	}
+	
+	@Override
+	public T get()
+	{
+		T t = this.store.poll();
+		
+		if(t != null) return t;
+		
+		this.missCount++;
+		
+		return this.supplier.get();
+	}
+	
+	@Override
+	public long getMissCount()
+	{
+		return this.missCount;
+	}
+	
+	@Override
+	public int store(@SuppressWarnings("unchecked") T... t)
+	{
+		int count = 0;
+		
+		for(int i = 0; i < t.length; i++)
+		{
+			if(t[i] != null)
+			{
+				if(this.reset != null) this.reset.accept(t[i]);
+				
+				this.store.push(t[i]);
+				
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	@Override
+	public T getNew()
+	{
+		return this.supplier.get();
+	}
+	
+	@Override
+	public void ensure(int count)
+	{
+		if(count < 0) throw new IllegalArgumentException();
+		if(count == 0) return;
+		
+		this.ensuredSize = count;
+		
+		int size = this.store.size();
+		
+		if(count <= size) return;
+		
+		prewarm(count - size);
+	}
+	
+	/**
+	 * Adds the given number of new instances to the pool in one go
+	 * without changing the amount of instances kept by {@link #reduce()}.
+	 * 
+	 * @param count The number of new instances.
+	 */
+	public void prewarm(int count)
+	{
+		if(count < 0) throw new IllegalArgumentException();
+		
+		for(int i = 0; i < count; i++)
+		{
+			this.store.push(this.supplier.get());
+		}
+	}
+	
+	@Override
+	public void reduce()
+	{
+		int amountToReduce = this.store.size() - this.ensuredSize;
+		
+		if(amountToReduce <= 0) return;
+		
+		for(int i = 0; i < amountToReduce; i++)
+			this.store.pop();
+	}
+	
+	@Override
+	public void clear()
+	{
+		this.store.clear();
+	}
+	
+	@Override
+	public int size()
+	{
+		return this.store.size();
+	}
+	
+	@Override
+	public String toString()
+	{
+		return "supplierpool(size=" + this.store.size() + ", ensuredSize=" + this.ensuredSize + ")";
+	}
+}
@@ -0,0 +1,110 @@
+package org.barghostest.pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.barghos.pool.ConcurrentPool;
+import org.barghos.pool.ConcurrentPoolFactory;
+import org.barghos.pool.Pool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class provides component tests for the class {@link ConcurrentPoolFactory}
+ */
+class ConcurrentPoolFactoryTest
+{
+	/**
+	 * This test ensures, that the function {@link ConcurrentPoolFactory#get()}
+	 * returns the same shared instance on every call.
+	 */
+	@Test
+	void getSingletonTest()
+	{
+		ConcurrentPoolFactory f = ConcurrentPoolFactory.get();
+		
+		assertNotNull(f);
+		assertSame(f, ConcurrentPoolFactory.get());
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPoolFactory#get()}
+	 * returns the same shared instance to threads racing for the first access.
+	 */
+	@Test
+	void getSingleton_ConcurrentTest() throws InterruptedException
+	{
+		ConcurrentPoolFactory[] results = new ConcurrentPoolFactory[4];
+		Thread[] threads = new Thread[results.length];
+		
+		for(int i = 0; i < threads.length; i++)
+		{
+			int index = i;
+			
+			threads[i] = new Thread(() -> results[index] = ConcurrentPoolFactory.get());
+		}
+		
+		for(Thread thread : threads)
+			thread.start();
+		
+		for(Thread thread : threads)
+			thread.join();
+		
+		for(ConcurrentPoolFactory f : results)
+			assertSame(ConcurrentPoolFactory.get(), f);
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPoolFactory#create(Class)}
+	 * creates an instance of {@link ConcurrentPool} with the default capacities.
+	 */
+	@Test
+	void createTest()
+	{
+		Pool<TestClass> p = ConcurrentPoolFactory.get().create(TestClass.class);
+		
+		assertTrue(p instanceof ConcurrentPool);
+		assertEquals(ConcurrentPool.DEFAULT_CAPACITY, ((ConcurrentPool<TestClass>)p).capacity());
+		assertEquals(ConcurrentPool.DEFAULT_LOCAL_CAPACITY, ((ConcurrentPool<TestClass>)p).localCapacity());
+		assertNotNull(p.get());
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPoolFactory#create(java.util.function.Supplier, java.util.function.Consumer)}
+	 * creates an instance of {@link ConcurrentPool} with the capacities of the factory and the reset hook.
+	 */
+	@Test
+	void create_SupplierTest()
+	{
+		Pool<TestClass> p = new ConcurrentPoolFactory(8, 4).create(TestClass::new, t -> t.value = 0);
+		
+		assertTrue(p instanceof ConcurrentPool);
+		assertEquals(8, ((ConcurrentPool<TestClass>)p).capacity());
+		assertEquals(4, ((ConcurrentPool<TestClass>)p).localCapacity());
+		
+		TestClass t = new TestClass();
+		t.value = 1;
+		
+		p.store(t);
+		
+		assertSame(t, p.get());
+		assertEquals(0, t.value);
+	}
+	
+	/**
+	 * This test ensures, that the constructor {@link ConcurrentPoolFactory#ConcurrentPoolFactory(int, int)}
+	 * throws an {@link IllegalArgumentException} for invalid capacities.
+	 */
+	@Test
+	void ctor_InvalidTest()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentPoolFactory(-1, 4));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentPoolFactory(8, 1));
+	}
+	
+	/**
+	 * This is a test class.
+	 */
+	public static class TestClass
+	{
+		public int value;
+	}
+}
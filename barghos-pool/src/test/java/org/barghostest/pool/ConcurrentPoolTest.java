@@ -0,0 +1,294 @@
+package org.barghostest.pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.barghos.pool.ConcurrentPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class provides component tests for the class {@link ConcurrentPool}.
+ */
+class ConcurrentPoolTest
+{
+	/**
+	 * This test ensures, that the constructor {@link ConcurrentPool#ConcurrentPool(Class)}
+	 * doesn't fail and the pool size is 0 after creation.
+	 */
+	@Test
+	void ctorTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass.class);
+		
+		assertEquals(0, pool.size());
+		assertEquals(ConcurrentPool.DEFAULT_CAPACITY, pool.capacity());
+		assertEquals(ConcurrentPool.DEFAULT_LOCAL_CAPACITY, pool.localCapacity());
+	}
+	
+	/**
+	 * This test ensures, that the constructors throw an {@link IllegalArgumentException}
+	 * for a negative capacity or a local capacity below 2.
+	 */
+	@Test
+	void ctor_InvalidTest()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentPool<>(TestClass::new, null, -1, 4));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentPool<>(TestClass::new, null, 16, 1));
+		assertThrows(IllegalArgumentException.class, () -> new ConcurrentPool<TestClass>(null, null, 16, 4));
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPool#get()}
+	 * creates a new instance and counts a miss if there are no stored instances in the pool.
+	 */
+	@Test
+	void get_NewTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass.class);
+		
+		assertNotNull(pool.get());
+		assertEquals(0, pool.size());
+		assertEquals(1, pool.getMissCount());
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPool#get()}
+	 * returns the stored instances in reverse order without counting a miss.
+	 */
+	@Test
+	void get_StoredTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new);
+		
+		TestClass t1 = new TestClass();
+		TestClass t2 = new TestClass();
+		
+		pool.store(t1, t2);
+		
+		assertSame(t2, pool.get());
+		assertSame(t1, pool.get());
+		assertEquals(0, pool.getMissCount());
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPool#getNew()}
+	 * returns a new instance and does not count a miss.
+	 */
+	@Test
+	void getNewTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new);
+		
+		TestClass t = new TestClass();
+		
+		pool.store(t);
+		
+		assertNotSame(t, pool.getNew());
+		assertEquals(1, pool.size());
+		assertEquals(0, pool.getMissCount());
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPool#store(Object...)}
+	 * skips null values and applies the reset hook to the stored instances.
+	 */
+	@Test
+	void store_WithNullTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, t -> t.value = 0, 16, 4);
+		
+		TestClass t1 = new TestClass();
+		TestClass t3 = new TestClass();
+		
+		t1.value = 1;
+		t3.value = 3;
+		
+		assertEquals(2, pool.store(t1, null, t3));
+		assertEquals(2, pool.size());
+		
+		assertSame(t3, pool.get());
+		assertSame(t1, pool.get());
+		
+		assertEquals(0, t1.value);
+		assertEquals(0, t3.value);
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPool#store(Object...)}
+	 * rejects instances if the local cache and the shared table are full.
+	 */
+	@Test
+	void store_CapacityTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, null, 4, 4);
+		
+		TestClass[] instances = new TestClass[10];
+		
+		for(int i = 0; i < instances.length; i++)
+			instances[i] = new TestClass();
+		
+		// Four instances in the full local cache and four in the full shared table.
+		assertEquals(8, pool.store(instances));
+		assertEquals(8, pool.size());
+		
+		assertEquals(0, pool.store(new TestClass()));
+		assertEquals(8, pool.size());
+	}
+	
+	/**
+	 * This test ensures, that the instances spilled from the local cache of one thread
+	 * are handed out by {@link ConcurrentPool#get()} in another thread.
+	 */
+	@Test
+	void store_SpillTest() throws InterruptedException
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, null, 16, 4);
+		
+		Set<TestClass> stored = Collections.newSetFromMap(new IdentityHashMap<>());
+		
+		for(int i = 0; i < 6; i++)
+		{
+			TestClass t = new TestClass();
+			
+			stored.add(t);
+			pool.store(t);
+		}
+		
+		// The fifth store spilled two instances to the shared table.
+		assertEquals(6, pool.size());
+		
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		
+		Thread thread = new Thread(() -> {
+			try
+			{
+				assertEquals(2, pool.size());
+				
+				assertTrue(stored.contains(pool.get()));
+				assertTrue(stored.contains(pool.get()));
+				
+				assertEquals(0, pool.size());
+				assertFalse(stored.contains(pool.get()));
+				assertEquals(1, pool.getMissCount());
+			}
+			catch(Throwable t)
+			{
+				failure.set(t);
+			}
+		});
+		
+		thread.start();
+		thread.join();
+		
+		if(failure.get() != null) fail(failure.get());
+		
+		assertEquals(4, pool.size());
+	}
+	
+	/**
+	 * This test ensures, that the spilled batches can be moved between the threads repeatedly
+	 * without losing or duplicating instances.
+	 */
+	@Test
+	void store_SpillRepeatedTest() throws InterruptedException
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, null, 64, 4);
+		
+		TestClass[] instances = new TestClass[32];
+		
+		for(int i = 0; i < instances.length; i++)
+			instances[i] = new TestClass();
+		
+		for(int round = 0; round < 10; round++)
+		{
+			assertEquals(32, pool.store(instances));
+			
+			Thread thread = new Thread(() -> {
+				for(int i = 0; i < instances.length; i++)
+					instances[i] = pool.get();
+			});
+			
+			thread.start();
+			thread.join();
+			
+			Set<TestClass> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+			
+			for(TestClass t : instances)
+				unique.add(t);
+			
+			assertEquals(32, unique.size());
+			
+			pool.clear();
+		}
+	}
+	
+	/**
+	 * This test ensures, that the method {@link ConcurrentPool#ensure(int)}
+	 * fills the shared table to the given size without exceeding the capacity.
+	 */
+	@Test
+	void ensureTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, null, 16, 4);
+		
+		pool.ensure(7);
+		
+		assertEquals(7, pool.size());
+		
+		pool.ensure(100);
+		
+		assertEquals(16, pool.size());
+		
+		assertThrows(IllegalArgumentException.class, () -> pool.ensure(-1));
+	}
+	
+	/**
+	 * This test ensures, that the function {@link ConcurrentPool#reduce()}
+	 * removes batches from the shared table down to the ensured size.
+	 */
+	@Test
+	void reduceTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, null, 16, 4);
+		
+		pool.ensure(4);
+		pool.prewarm(8);
+		
+		assertEquals(12, pool.size());
+		
+		pool.reduce();
+		
+		assertEquals(4, pool.size());
+	}
+	
+	/**
+	 * This test ensures, that the method {@link ConcurrentPool#clear()}
+	 * removes all instances from the shared table and the local cache.
+	 */
+	@Test
+	void clearTest()
+	{
+		ConcurrentPool<TestClass> pool = new ConcurrentPool<>(TestClass::new, null, 16, 4);
+		
+		pool.prewarm(6);
+		pool.store(new TestClass(), new TestClass());
+		
+		assertEquals(8, pool.size());
+		
+		pool.clear();
+		
+		assertEquals(0, pool.size());
+	}
+	
+	/**
+	 * This is a test class.
+	 */
+	public static class TestClass
+	{
+		public int value;
+	}
+}
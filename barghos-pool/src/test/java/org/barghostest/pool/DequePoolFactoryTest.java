@@ -31,6 +31,33 @@ class DequePoolFactoryTest
 		assertSame(f, DequePoolFactory.get());
 	}
 	
+	/**
+	 * This test ensures, that the function {@link DequePoolFactory#get()}
+	 * returns the same singleton instance to threads racing for the first access.
+	 */
+	@Test
+	void getSingleton_ConcurrentTest() throws InterruptedException
+	{
+		DequePoolFactory[] results = new DequePoolFactory[4];
+		Thread[] threads = new Thread[results.length];
+		
+		for(int i = 0; i < threads.length; i++)
+		{
+			int index = i;
+			
+			threads[i] = new Thread(() -> results[index] = DequePoolFactory.get());
+		}
+		
+		for(Thread thread : threads)
+			thread.start();
+		
+		for(Thread thread : threads)
+			thread.join();
+		
+		for(DequePoolFactory f : results)
+			assertSame(DequePoolFactory.get(), f);
+	}
+	
 	/**
 	 * This test ensures, that the function {@link DequePoolFactory#create(Class)}
 	 * creates an instance of {@link DequePool} for the spezified type.
@@ -0,0 +1,162 @@
+package org.barghostest.pool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.barghos.pool.ConcurrentPool;
+import org.barghos.pool.InstrumentedPool;
+import org.barghos.pool.Pool;
+import org.barghos.pool.PoolStatistics;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class provides component tests for the class {@link InstrumentedPool}.
+ */
+class InstrumentedPoolTest
+{
+	/**
+	 * This test ensures, that the statistics count the gets, misses and stores of the decorated pool
+	 * and that the estimated size never exceeds the high-water mark.
+	 */
+	@Test
+	void statisticsTest()
+	{
+		InstrumentedPool<TestClass> pool = new InstrumentedPool<>(new ConcurrentPool<>(TestClass::new, null, 16, 4));
+		
+		pool.store(new TestClass(), new TestClass(), new TestClass());
+		pool.get();
+		pool.get();
+		pool.get();
+		pool.get();
+		
+		PoolStatistics statistics = pool.statistics();
+		
+		assertEquals(4, statistics.gets);
+		assertEquals(1, statistics.misses);
+		assertEquals(3, statistics.stores);
+		assertEquals(0, statistics.size);
+		assertEquals(3, statistics.highWaterMark);
+	}
+	
+	/**
+	 * This test ensures, that the functions {@link InstrumentedPool#ensure(int)} and {@link InstrumentedPool#clear()}
+	 * set the estimated size to the absolute size of the decorated pool.
+	 */
+	@Test
+	void resyncTest()
+	{
+		InstrumentedPool<TestClass> pool = new InstrumentedPool<>(new ConcurrentPool<>(TestClass::new, null, 16, 4));
+		
+		pool.ensure(5);
+		
+		assertEquals(5, pool.statistics().size);
+		assertEquals(5, pool.statistics().highWaterMark);
+		
+		pool.store(new TestClass());
+		pool.get();
+		
+		assertEquals(5, pool.statistics().size);
+		assertEquals(6, pool.statistics().highWaterMark);
+		
+		pool.clear();
+		
+		assertEquals(0, pool.statistics().size);
+		
+		pool.store(new TestClass(), new TestClass());
+		
+		assertEquals(2, pool.statistics().size);
+		assertEquals(6, pool.statistics().highWaterMark);
+	}
+	
+	/**
+	 * This test ensures, that a pool without a miss count returns -1 from {@link Pool#getMissCount()}
+	 * and that the decorator counts the misses of such a pool itself.
+	 */
+	@Test
+	void getMissCount_UnknownTest()
+	{
+		SimplePool pool = new SimplePool();
+		
+		assertEquals(-1, pool.getMissCount());
+		
+		InstrumentedPool<TestClass> instrumented = new InstrumentedPool<>(pool);
+		
+		instrumented.get();
+		instrumented.store(new TestClass());
+		instrumented.get();
+		
+		assertEquals(1, instrumented.getMissCount());
+		assertEquals(1, instrumented.statistics().misses);
+		assertEquals(0, instrumented.statistics().size);
+	}
+	
+	/**
+	 * A pool that relies on the default implementation of {@link Pool#getMissCount()}.
+	 */
+	private static class SimplePool implements Pool<TestClass>
+	{
+		private final Deque<TestClass> store = new ArrayDeque<>();
+		
+		@Override
+		public TestClass get()
+		{
+			TestClass t = this.store.poll();
+			
+			return t != null ? t : getNew();
+		}
+		
+		@Override
+		public TestClass getNew()
+		{
+			return new TestClass();
+		}
+		
+		@Override
+		public void ensure(int count)
+		{
+			while(this.store.size() < count) this.store.push(getNew());
+		}
+		
+		@Override
+		public int store(TestClass... instances)
+		{
+			int count = 0;
+			
+			for(TestClass instance : instances)
+			{
+				if(instance == null) continue;
+				
+				this.store.push(instance);
+				count++;
+			}
+			
+			return count;
+		}
+		
+		@Override
+		public int size()
+		{
+			return this.store.size();
+		}
+		
+		@Override
+		public void reduce()
+		{
+		}
+		
+		@Override
+		public void clear()
+		{
+			this.store.clear();
+		}
+	}
+	
+	/**
+	 * This is a test class.
+	 */
+	public static class TestClass
+	{
+	}
+}